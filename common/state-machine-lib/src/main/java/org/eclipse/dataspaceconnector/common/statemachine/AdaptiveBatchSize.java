@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.statemachine;
+
+/**
+ * Batch size used by a {@link StateProcessorImpl} to fetch entities, adapted on every iteration within the configured bounds.
+ * <p>
+ * A full batch means that more entities are likely waiting, so the size is doubled as long as the batch has been processed
+ * within the target time. A batch that took longer than the target is resized to the amount of entities that can be
+ * processed in the target time, based on the observed per-entity latency, so that a slow state does not starve the others.
+ * A partially filled batch halves the size, down to the minimum.
+ * When minimum and maximum are equal the batch size is fixed.
+ */
+public class AdaptiveBatchSize {
+
+    private final int minimum;
+    private final int maximum;
+    private final long targetMillis;
+    private volatile int current;
+
+    public AdaptiveBatchSize(int minimum, int maximum, long targetMillis) {
+        if (minimum < 1 || maximum < minimum) {
+            throw new IllegalArgumentException(String.format("Invalid batch size bounds [%s, %s]", minimum, maximum));
+        }
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.targetMillis = targetMillis;
+        this.current = minimum;
+    }
+
+    /**
+     * Returns a fixed batch size.
+     */
+    public static AdaptiveBatchSize fixed(int size) {
+        return new AdaptiveBatchSize(size, size, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the size of the next batch.
+     */
+    public int get() {
+        return current;
+    }
+
+    /**
+     * Updates the batch size with the outcome of the last batch.
+     *
+     * @param fetched the number of entities that were fetched with the current batch size
+     * @param elapsedMillis the time spent processing them
+     */
+    public void update(int fetched, long elapsedMillis) {
+        if (minimum == maximum) {
+            return;
+        }
+
+        var size = current;
+        if (fetched > 0 && elapsedMillis > targetMillis) {
+            var perEntityMillis = (double) elapsedMillis / fetched;
+            size = (int) (targetMillis / perEntityMillis);
+        } else if (fetched >= size) {
+            size = size > maximum / 2 ? maximum : size * 2;
+        } else {
+            size = Math.max(fetched, size / 2);
+        }
+        current = Math.max(minimum, Math.min(maximum, size));
+    }
+}
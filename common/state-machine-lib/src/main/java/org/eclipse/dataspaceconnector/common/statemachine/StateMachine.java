@@ -23,55 +23,69 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
 
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * The wait can be interrupted by calling {@link #wakeUp()}, e.g. when new entities are stored or new commands are enqueued,
+ * so that they get processed immediately instead of at the end of the wait period.
+ * <p>
+ * With more than one partition, one loop runs per partition on its own thread, and every loop runs its own instance of
+ * the partitioned processors, which fetch and process only the entities of their partition, so that the partitions
+ * never wait for each other. The other processors run on the loop of the first partition.
  */
 public class StateMachine {
 
-    private final List<StateProcessor> processors = new ArrayList<>();
-    private final ExecutorService executor;
+    private final List<List<StateProcessor>> processors = new ArrayList<>();
+    private final List<IntFunction<StateProcessor>> partitionedProcessors = new ArrayList<>();
+    private final List<Semaphore> wakeUps = new ArrayList<>();
     private final AtomicBoolean active = new AtomicBoolean();
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
+    private int partitions = 1;
     private int shutdownTimeout = 10;
+    private ExecutorService executor;
 
     private StateMachine(String name, Monitor monitor, WaitStrategy waitStrategy) {
         this.name = name;
         this.monitor = monitor;
         this.waitStrategy = waitStrategy;
-        this.executor = Executors.newSingleThreadExecutor(r -> {
-            var thread = Executors.defaultThreadFactory().newThread(r);
-            thread.setName("StateMachine-" + name);
-            return thread;
-        });
     }
 
     /**
-     * Start the loop that will run processors until it's stopped
+     * Start the loops that will run processors until they're stopped
      *
-     * @return a future that will complete when the loop stops
+     * @return a future that will complete when the loops stop
      */
     public Future<?> start() {
         active.set(true);
-        return executor.submit(loop());
+        var loops = new ArrayList<CompletableFuture<Void>>();
+        for (var partition = 0; partition < partitions; partition++) {
+            loops.add(CompletableFuture.runAsync(loop(partition), executor));
+        }
+        return CompletableFuture.allOf(loops.toArray(CompletableFuture[]::new));
     }
 
     /**
-     * Stop the loop gracefully
+     * Stop the loops gracefully
      *
-     * @return a future that will complete when the loop is fully stopped.
+     * @return a future that will complete when the loops are fully stopped.
      *         The content of the future will be true if stop happened before the timeout, false elsewhere.
      */
     public CompletableFuture<Boolean> stop() {
         active.set(false);
+        wakeUp();
+        executor.shutdown();
 
         return CompletableFuture.supplyAsync(() -> {
             try {
@@ -83,6 +97,18 @@ public class StateMachine {
         });
     }
 
+    /**
+     * Signals the loops that there could be entities to process. If a loop is waiting it starts a new iteration immediately,
+     * if it's running the current iteration it will start the next one without waiting.
+     */
+    public void wakeUp() {
+        for (var partitionWakeUps : wakeUps) {
+            if (partitionWakeUps.availablePermits() == 0) {
+                partitionWakeUps.release();
+            }
+        }
+    }
+
     /**
      * Tells if the loop is active and running
      *
@@ -92,16 +118,19 @@ public class StateMachine {
         return active.get();
     }
 
-    private Runnable loop() {
+    private Runnable loop(int partition) {
+        var partitionProcessors = processors.get(partition);
+        var partitionWakeUps = wakeUps.get(partition);
         return () -> {
             while (active.get()) {
                 try {
-                    var processed = processors.stream()
+                    partitionWakeUps.drainPermits();
+                    var processed = partitionProcessors.stream()
                             .mapToLong(StateProcessor::process)
                             .sum();
 
                     if (processed == 0) {
-                        Thread.sleep(waitStrategy.waitForMillis());
+                        partitionWakeUps.tryAcquire(waitStrategy.waitForMillis(), MILLISECONDS);
                     }
                     waitStrategy.success();
                 } catch (Error | InterruptedException e) {
@@ -123,6 +152,7 @@ public class StateMachine {
     public static class Builder {
 
         private final StateMachine loop;
+        private final List<StateProcessor> processors = new ArrayList<>();
 
         private Builder(String name, Monitor monitor, WaitStrategy waitStrategy) {
             this.loop = new StateMachine(name, monitor, waitStrategy);
@@ -132,8 +162,28 @@ public class StateMachine {
             return new Builder(name, monitor, waitStrategy);
         }
 
+        /**
+         * Adds a processor that runs on the loop of the first partition.
+         */
         public Builder processor(StateProcessor processor) {
-            loop.processors.add(processor);
+            processors.add(processor);
+            return this;
+        }
+
+        /**
+         * Adds a processor that runs on every partition. The factory is called with every partition, from 0 to
+         * {@code partitions - 1}, and the returned processor must only process the entities of that partition.
+         */
+        public Builder partitionedProcessor(IntFunction<StateProcessor> processorFactory) {
+            loop.partitionedProcessors.add(processorFactory);
+            return this;
+        }
+
+        /**
+         * The number of partitions, i.e. of loops running in parallel.
+         */
+        public Builder partitions(int partitions) {
+            loop.partitions = partitions;
             return this;
         }
 
@@ -143,6 +193,28 @@ public class StateMachine {
         }
 
         public StateMachine build() {
+            if (loop.partitions < 1) {
+                throw new IllegalArgumentException("Partitions must be at least 1, was " + loop.partitions);
+            }
+            for (var partition = 0; partition < loop.partitions; partition++) {
+                var partitionProcessors = new ArrayList<StateProcessor>();
+                for (var factory : loop.partitionedProcessors) {
+                    partitionProcessors.add(factory.apply(partition));
+                }
+                if (partition == 0) {
+                    partitionProcessors.addAll(processors);
+                }
+                loop.processors.add(partitionProcessors);
+                loop.wakeUps.add(new Semaphore(0));
+            }
+            var threadName = "StateMachine-" + loop.name;
+            var partitioned = loop.partitions > 1;
+            var threads = new AtomicInteger();
+            loop.executor = Executors.newFixedThreadPool(loop.partitions, r -> {
+                var thread = Executors.defaultThreadFactory().newThread(r);
+                thread.setName(partitioned ? threadName + "-" + threads.getAndIncrement() : threadName);
+                return thread;
+            });
             return loop;
         }
     }
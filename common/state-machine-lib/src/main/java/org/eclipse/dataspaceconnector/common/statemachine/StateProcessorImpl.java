@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.common.statemachine;
 
 import java.util.Collection;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -27,25 +28,75 @@ import java.util.function.Supplier;
  * the scope of the function.
  * The run method returns the processed state count, this is used by the state machine to decide
  * to apply the wait strategy or not.
+ * <p>
+ * When built with an {@link AdaptiveBatchSize}, the supplier is asked for a number of entities that is adapted
+ * on every run according to the size of the supplied batch and to the time spent processing it.
+ * <p>
+ * To process entities in parallel, a {@link StateMachine} with partitions runs one processor per partition, each of them
+ * supplied with the entities of its partition only.
  *
  * @param <T> the entity that is processed
  */
 public class StateProcessorImpl<T> implements StateProcessor {
 
-    private final Supplier<Collection<T>> entities;
-    private final Function<T, Boolean> process;
     private final Predicate<Boolean> isProcessed = it -> it;
+    private Function<Integer, Collection<T>> entities;
+    private Function<T, Boolean> process;
+    private AdaptiveBatchSize batchSize;
 
     public StateProcessorImpl(Supplier<Collection<T>> entitiesSupplier, Function<T, Boolean> process) {
-        this.entities = entitiesSupplier;
+        this.entities = size -> entitiesSupplier.get();
         this.process = process;
     }
 
+    private StateProcessorImpl() {
+    }
+
     @Override
     public Long process() {
-        return entities.get().stream()
+        var start = System.currentTimeMillis();
+        var batch = entities.apply(batchSize != null ? batchSize.get() : null);
+
+        var processed = batch.stream()
                 .map(process)
                 .filter(isProcessed)
                 .count();
+
+        if (batchSize != null) {
+            batchSize.update(batch.size(), System.currentTimeMillis() - start);
+        }
+        return processed;
+    }
+
+    public static class Builder<T> {
+
+        private final StateProcessorImpl<T> processor;
+
+        private Builder(Function<Integer, Collection<T>> entities, Function<T, Boolean> process) {
+            processor = new StateProcessorImpl<>();
+            processor.entities = entities;
+            processor.process = process;
+            processor.batchSize = AdaptiveBatchSize.fixed(1);
+        }
+
+        /**
+         * Create a builder for a processor that fetches batches of entities.
+         *
+         * @param entities function that returns at most the requested number of entities
+         * @param process the process to apply on every entity
+         */
+        public static <T> Builder<T> newInstance(Function<Integer, Collection<T>> entities, Function<T, Boolean> process) {
+            return new Builder<>(entities, process);
+        }
+
+        public Builder<T> batchSize(AdaptiveBatchSize batchSize) {
+            processor.batchSize = batchSize;
+            return this;
+        }
+
+        public StateProcessorImpl<T> build() {
+            Objects.requireNonNull(processor.batchSize, "batchSize");
+            return processor;
+        }
     }
 }
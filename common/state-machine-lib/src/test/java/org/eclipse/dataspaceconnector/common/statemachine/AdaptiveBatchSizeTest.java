@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.statemachine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveBatchSizeTest {
+
+    @Test
+    void shouldStartFromTheMinimum() {
+        var batchSize = new AdaptiveBatchSize(5, 100, 1000);
+
+        assertThat(batchSize.get()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldGrowUpToTheMaximumWhenBatchesAreFull() {
+        var batchSize = new AdaptiveBatchSize(5, 30, 1000);
+
+        batchSize.update(5, 10);
+        assertThat(batchSize.get()).isEqualTo(10);
+        batchSize.update(10, 10);
+        assertThat(batchSize.get()).isEqualTo(20);
+        batchSize.update(20, 10);
+        assertThat(batchSize.get()).isEqualTo(30);
+        batchSize.update(30, 10);
+        assertThat(batchSize.get()).isEqualTo(30);
+    }
+
+    @Test
+    void shouldShrinkDownToTheMinimumWhenBatchesArePartiallyFilled() {
+        var batchSize = new AdaptiveBatchSize(5, 40, 1000);
+        batchSize.update(5, 10);
+        batchSize.update(10, 10);
+        batchSize.update(20, 10);
+
+        batchSize.update(3, 10);
+        assertThat(batchSize.get()).isEqualTo(20);
+        batchSize.update(0, 10);
+        assertThat(batchSize.get()).isEqualTo(10);
+        batchSize.update(0, 10);
+        assertThat(batchSize.get()).isEqualTo(5);
+        batchSize.update(0, 10);
+        assertThat(batchSize.get()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldFitTheTargetTimeWhenBatchesAreSlow() {
+        var batchSize = new AdaptiveBatchSize(1, 100, 1000);
+        batchSize.update(1, 1);
+        batchSize.update(2, 1);
+        batchSize.update(4, 1);
+        batchSize.update(8, 1);
+
+        batchSize.update(16, 4000);
+
+        assertThat(batchSize.get()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldNotChangeWhenFixed() {
+        var batchSize = AdaptiveBatchSize.fixed(5);
+
+        batchSize.update(5, 1);
+        batchSize.update(0, 100_000);
+
+        assertThat(batchSize.get()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldNotAcceptInvalidBounds() {
+        assertThatThrownBy(() -> new AdaptiveBatchSize(0, 10, 1000)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveBatchSize(10, 5, 1000)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
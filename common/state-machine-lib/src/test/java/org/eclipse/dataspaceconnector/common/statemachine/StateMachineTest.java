@@ -6,6 +6,7 @@ import org.eclipse.dataspaceconnector.spi.retry.WaitStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -91,6 +92,77 @@ class StateMachineTest {
         verify(waitStrategy, atLeastOnce()).success();
     }
 
+    @Test
+    void shouldStartNewIterationImmediatelyWhenWokenUp() throws InterruptedException {
+        var firstIteration = new CountDownLatch(1);
+        var secondIteration = new CountDownLatch(2);
+        var processor = mock(StateProcessor.class);
+        when(processor.process()).thenAnswer(i -> {
+            firstIteration.countDown();
+            secondIteration.countDown();
+            return 0L;
+        });
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachine.Builder.newInstance("test", monitor, waitStrategy)
+                .processor(processor)
+                .build();
+
+        stateMachine.start();
+        assertThat(firstIteration.await(1, SECONDS)).isTrue();
+
+        stateMachine.wakeUp();
+
+        assertThat(secondIteration.await(1, SECONDS)).isTrue();
+        assertThat(stateMachine.stop()).succeedsWithin(2, SECONDS);
+    }
+
+    @Test
+    void shouldRunPartitionedProcessorsOnIndependentLoops() throws InterruptedException {
+        var allRunning = new CountDownLatch(3);
+        var threads = ConcurrentHashMap.<String>newKeySet();
+        var partitions = ConcurrentHashMap.<Integer>newKeySet();
+        var stateMachine = StateMachine.Builder.newInstance("test", monitor, waitStrategy)
+                .partitions(3)
+                .partitionedProcessor(partition -> () -> {
+                    partitions.add(partition);
+                    threads.add(Thread.currentThread().getName());
+                    allRunning.countDown();
+                    // a loop does not wait for the others, so all of them can be in an iteration at the same time
+                    await(allRunning);
+                    return 0L;
+                })
+                .shutdownTimeout(1)
+                .build();
+
+        stateMachine.start();
+
+        assertThat(allRunning.await(1, SECONDS)).isTrue();
+        assertThat(partitions).containsExactlyInAnyOrder(0, 1, 2);
+        assertThat(threads).containsExactlyInAnyOrder("StateMachine-test-0", "StateMachine-test-1", "StateMachine-test-2");
+        assertThat(stateMachine.stop()).succeedsWithin(2, SECONDS);
+    }
+
+    @Test
+    void shouldRunOtherProcessorsOnTheFirstPartitionOnly() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        var threads = ConcurrentHashMap.<String>newKeySet();
+        var stateMachine = StateMachine.Builder.newInstance("test", monitor, waitStrategy)
+                .partitions(2)
+                .processor(() -> {
+                    threads.add(Thread.currentThread().getName());
+                    latch.countDown();
+                    return 0L;
+                })
+                .shutdownTimeout(1)
+                .build();
+
+        stateMachine.start();
+
+        assertThat(latch.await(1, SECONDS)).isTrue();
+        assertThat(stateMachine.stop()).succeedsWithin(2, SECONDS);
+        assertThat(threads).containsExactly("StateMachine-test-0");
+    }
+
     @Test
     void shouldExitWithAnExceptionIfProcessorExitsWithAnUnrecoverableError() {
         var processor = mock(StateProcessor.class);
@@ -122,4 +194,12 @@ class StateMachineTest {
         assertThat(stateMachine.isActive()).isTrue();
         verify(waitStrategy).retryInMillis();
     }
-}
\ No newline at end of file
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
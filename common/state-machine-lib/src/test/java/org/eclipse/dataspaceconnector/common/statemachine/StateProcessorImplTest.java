@@ -2,6 +2,8 @@ package org.eclipse.dataspaceconnector.common.statemachine;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,4 +27,20 @@ class StateProcessorImplTest {
 
         assertThat(count).isEqualTo(0);
     }
+
+    @Test
+    void shouldFetchEntitiesWithTheAdaptedBatchSize() {
+        var requested = new ArrayList<Integer>();
+        var processor = StateProcessorImpl.Builder.<String>newInstance(max -> {
+            requested.add(max);
+            return Collections.nCopies(max, "any");
+        }, string -> true).batchSize(new AdaptiveBatchSize(2, 8, 10_000)).build();
+
+        processor.process();
+        processor.process();
+        processor.process();
+        processor.process();
+
+        assertThat(requested).containsExactly(2, 4, 8, 8);
+    }
 }
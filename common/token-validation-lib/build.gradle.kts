@@ -24,6 +24,7 @@ val nimbusVersion: String by project
 dependencies {
     api(project(":spi:core-spi"))
 
+    implementation(project(":common:util"))
     implementation("com.nimbusds:nimbus-jose-jwt:${nimbusVersion}")
     testImplementation("org.mockito:mockito-core:${mockitoVersion}")
 }
@@ -18,48 +18,69 @@ import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
-import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.dataspaceconnector.common.collection.LruCache;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.iam.PublicKeyResolver;
 import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 
+import java.security.PublicKey;
 import java.text.ParseException;
+import java.time.Clock;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+/**
+ * Validates tokens by verifying their signature and checking the registered rules.
+ * <p>
+ * Tokens whose signature was verified are cached until they expire, so that a token presented
+ * repeatedly is parsed and verified once. A cached token is only used if its public key still resolves to the key that
+ * verified it, so that a rotated or revoked key is not trusted. The rules are checked on every validation, as they depend on the time and on
+ * the additional information of the request. The verifiers are cached per key id and algorithm, and rebuilt when the
+ * resolved public key changes.
+ */
 public class TokenValidationServiceImpl implements TokenValidationService {
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+    private static final long MAX_CACHE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
 
     private final PublicKeyResolver publicKeyResolver;
     private final TokenValidationRulesRegistry rulesRegistry;
+    private final Clock clock;
+    private final Map<String, VerifiedToken> verifiedTokens;
+    private final Map<String, CachedVerifier> verifiers;
 
     public TokenValidationServiceImpl(PublicKeyResolver publicKeyResolver, TokenValidationRulesRegistry rulesRegistry) {
+        this(publicKeyResolver, rulesRegistry, DEFAULT_CACHE_SIZE, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a service caching up to the given number of verified tokens and verifiers, the caches are disabled if it is 0.
+     */
+    public TokenValidationServiceImpl(PublicKeyResolver publicKeyResolver, TokenValidationRulesRegistry rulesRegistry, int cacheSize, Clock clock) {
         this.publicKeyResolver = publicKeyResolver;
         this.rulesRegistry = rulesRegistry;
+        this.clock = clock;
+        verifiedTokens = Collections.synchronizedMap(new LruCache<>(cacheSize));
+        verifiers = Collections.synchronizedMap(new LruCache<>(cacheSize));
     }
 
     @Override
     public Result<ClaimToken> validate(TokenRepresentation tokenRepresentation) {
         var token = tokenRepresentation.getToken();
         var additional = tokenRepresentation.getAdditional();
-        JWTClaimsSet claimsSet;
         try {
-            var signedJwt = SignedJWT.parse(token);
-            var publicKeyId = signedJwt.getHeader().getKeyID();
-            var verifierCreationResult = createVerifier(signedJwt.getHeader(), publicKeyId);
-
-            if (verifierCreationResult.failed()) {
-                return Result.failure(verifierCreationResult.getFailureMessages());
+            var verificationResult = verify(token);
+            if (verificationResult.failed()) {
+                return Result.failure(verificationResult.getFailureMessages());
             }
 
-            if (!signedJwt.verify(verifierCreationResult.getContent())) {
-                return Result.failure("Token verification failed");
-            }
-
-            claimsSet = signedJwt.getJWTClaimsSet();
+            var signedJwt = verificationResult.getContent();
+            var claimsSet = signedJwt.getJWTClaimsSet();
 
             var errors = rulesRegistry.getRules().stream()
                     .map(r -> r.checkRule(signedJwt, additional))
@@ -87,15 +108,81 @@ public class TokenValidationServiceImpl implements TokenValidationService {
         }
     }
 
-    private Result<JWSVerifier> createVerifier(JWSHeader header, String publicKeyId) {
+    /**
+     * Parses the token and verifies its signature, unless it was verified before with the same public key and has not
+     * expired yet.
+     */
+    private Result<SignedJWT> verify(String token) throws ParseException, JOSEException {
+        var cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (clock.millis() < cached.expiresAt && cached.publicKey.equals(publicKeyResolver.resolveKey(cached.publicKeyId))) {
+                return Result.success(cached.jwt);
+            }
+            verifiedTokens.remove(token);
+        }
+
+        var signedJwt = SignedJWT.parse(token);
+        var publicKeyId = signedJwt.getHeader().getKeyID();
         var publicKey = publicKeyResolver.resolveKey(publicKeyId);
         if (publicKey == null) {
             return Result.failure("Failed to resolve public key with id: " + publicKeyId);
         }
+
+        var verifierCreationResult = createVerifier(signedJwt.getHeader(), publicKeyId, publicKey);
+        if (verifierCreationResult.failed()) {
+            return Result.failure(verifierCreationResult.getFailureMessages());
+        }
+
+        if (!signedJwt.verify(verifierCreationResult.getContent())) {
+            return Result.failure("Token verification failed");
+        }
+
+        // tokens without expiration are verified every time
+        var expiration = signedJwt.getJWTClaimsSet().getExpirationTime();
+        var now = clock.millis();
+        if (expiration != null && expiration.getTime() > now) {
+            var expiresAt = Math.min(expiration.getTime(), now + MAX_CACHE_TTL_MILLIS);
+            verifiedTokens.put(token, new VerifiedToken(signedJwt, publicKeyId, publicKey, expiresAt));
+        }
+        return Result.success(signedJwt);
+    }
+
+    private Result<JWSVerifier> createVerifier(JWSHeader header, String publicKeyId, PublicKey publicKey) {
+        var verifierId = publicKeyId + "#" + header.getAlgorithm().getName();
+        var cached = verifiers.get(verifierId);
+        if (cached != null && cached.publicKey.equals(publicKey)) {
+            return Result.success(cached.verifier);
+        }
         try {
-            return Result.success(new DefaultJWSVerifierFactory().createJWSVerifier(header, publicKey));
+            var verifier = new DefaultJWSVerifierFactory().createJWSVerifier(header, publicKey);
+            verifiers.put(verifierId, new CachedVerifier(publicKey, verifier));
+            return Result.success(verifier);
         } catch (JOSEException e) {
             return Result.failure("Failed to create verifier");
         }
     }
+
+    private static class VerifiedToken {
+        private final SignedJWT jwt;
+        private final String publicKeyId;
+        private final PublicKey publicKey;
+        private final long expiresAt;
+
+        VerifiedToken(SignedJWT jwt, String publicKeyId, PublicKey publicKey, long expiresAt) {
+            this.jwt = jwt;
+            this.publicKeyId = publicKeyId;
+            this.publicKey = publicKey;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class CachedVerifier {
+        private final PublicKey publicKey;
+        private final JWSVerifier verifier;
+
+        CachedVerifier(PublicKey publicKey, JWSVerifier verifier) {
+            this.publicKey = publicKey;
+            this.verifier = verifier;
+        }
+    }
 }
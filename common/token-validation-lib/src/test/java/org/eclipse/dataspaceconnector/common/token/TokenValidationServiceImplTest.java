@@ -31,12 +31,18 @@ import org.junit.jupiter.api.Test;
 
 import java.security.PrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class TokenValidationServiceImplTest {
@@ -46,21 +52,27 @@ class TokenValidationServiceImplTest {
     private TokenValidationRule ruleMock;
     private Date now;
     private String publicKeyId;
+    private PublicKeyResolver resolver;
+    private TokenValidationRulesRegistry rulesRegistry;
+    private AtomicInteger resolutions;
+    private RSAPublicKey publicKey;
 
     @BeforeEach
     public void setUp() throws JOSEException {
         key = testKey();
         ruleMock = mock(TokenValidationRule.class);
-        var publicKey = (RSAPublicKey) key.toPublicKey();
+        publicKey = (RSAPublicKey) key.toPublicKey();
         publicKeyId = UUID.randomUUID().toString();
-        var resolver = new PublicKeyResolver() {
+        resolutions = new AtomicInteger();
+        resolver = new PublicKeyResolver() {
             @Override
             public @Nullable
             RSAPublicKey resolveKey(String id) {
+                resolutions.incrementAndGet();
                 return id.equals(publicKeyId) ? publicKey : null;
             }
         };
-        var rulesRegistry = new TokenValidationRulesRegistryImpl();
+        rulesRegistry = new TokenValidationRulesRegistryImpl();
         rulesRegistry.addRule(ruleMock);
         tokenValidationService = new TokenValidationServiceImpl(resolver, rulesRegistry);
         now = new Date();
@@ -103,6 +115,65 @@ class TokenValidationServiceImplTest {
         assertThat(result.getFailureMessages()).containsExactly("Rule validation failed!");
     }
 
+    @Test
+    void validationSuccess_verifiedTokenIsCached() throws JOSEException {
+        var claims = createClaims(new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1)));
+        when(ruleMock.checkRule(any(), any())).thenReturn(Result.success(null));
+        var token = createJwt(publicKeyId, claims, key.toPrivateKey());
+
+        var first = tokenValidationService.validate(token);
+        var second = tokenValidationService.validate(token);
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.succeeded()).isTrue();
+        assertThat(second.getContent().getClaims()).isEqualTo(first.getContent().getClaims());
+        assertThat(resolutions).hasValue(2);
+        verify(ruleMock, times(2)).checkRule(any(), any());
+    }
+
+    @Test
+    void validationFailure_cachedTokenIsVerifiedAgainWhenKeyRotated() throws JOSEException {
+        var claims = createClaims(new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1)));
+        when(ruleMock.checkRule(any(), any())).thenReturn(Result.success(null));
+        var token = createJwt(publicKeyId, claims, key.toPrivateKey());
+
+        var first = tokenValidationService.validate(token);
+        publicKey = (RSAPublicKey) testKey().toPublicKey();
+        var second = tokenValidationService.validate(token);
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.failed()).isTrue();
+        assertThat(second.getFailureMessages()).containsExactly("Token verification failed");
+    }
+
+    @Test
+    void validationSuccess_expiredCacheEntryIsVerifiedAgain() throws JOSEException {
+        var clock = mock(Clock.class);
+        var start = Instant.now();
+        when(clock.millis()).thenReturn(start.toEpochMilli(), start.plusSeconds(120).toEpochMilli());
+        var service = new TokenValidationServiceImpl(resolver, rulesRegistry, 10, clock);
+        var claims = createClaims(Date.from(start.plusSeconds(60)));
+        when(ruleMock.checkRule(any(), any())).thenReturn(Result.success(null));
+        var token = createJwt(publicKeyId, claims, key.toPrivateKey());
+
+        service.validate(token);
+        service.validate(token);
+
+        assertThat(resolutions).hasValue(2);
+    }
+
+    @Test
+    void validationFailure_failedVerificationIsNotCached() throws JOSEException {
+        var claims = createClaims(new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1)));
+        var token = createJwt("unknown-key", claims, key.toPrivateKey());
+
+        tokenValidationService.validate(token);
+        var result = tokenValidationService.validate(token);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(resolutions).hasValue(2);
+    }
+
     private JWTClaimsSet createClaims(Date exp) {
         return new JWTClaimsSet.Builder()
                 .claim("foo", "bar")
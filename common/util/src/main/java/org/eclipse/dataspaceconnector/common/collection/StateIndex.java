@@ -0,0 +1,196 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.common.collection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Holds stateful entities by id and indexes them by state, ordered by state timestamp (oldest first).
+ * <p>
+ * Lookups by id are O(1) and a state transition is an O(log n) removal and re-insertion in the per-state ordered sets.
+ * Reads never block: they are served by concurrent collections and may observe an entity that is being moved to another
+ * state, in which case it is skipped. Writes on the same id are serialized on one of a fixed set of lock stripes, so
+ * writes on different entities can proceed concurrently.
+ *
+ * @param <T> the entity type
+ */
+public class StateIndex<T> {
+    private static final int STRIPES = 64;
+
+    private final Function<T, String> idFunction;
+    private final ToIntFunction<T> stateFunction;
+    private final ToLongFunction<T> timestampFunction;
+    private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final Map<Integer, NavigableSet<Key>> states = new ConcurrentHashMap<>();
+    private final Object[] stripes = new Object[STRIPES];
+
+    /**
+     * Constructor.
+     *
+     * @param idFunction returns the id of an entity.
+     * @param stateFunction returns the state of an entity.
+     * @param timestampFunction returns the timestamp of the last state change of an entity.
+     */
+    public StateIndex(Function<T, String> idFunction, ToIntFunction<T> stateFunction, ToLongFunction<T> timestampFunction) {
+        this.idFunction = idFunction;
+        this.stateFunction = stateFunction;
+        this.timestampFunction = timestampFunction;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    /**
+     * Returns the entity with the given id or null if it does not exist.
+     */
+    public T get(String id) {
+        var entry = entries.get(id);
+        return entry != null ? entry.entity : null;
+    }
+
+    /**
+     * Inserts or replaces an entity, indexing it with its current state and state timestamp.
+     *
+     * @return the replaced entity, or null if it did not exist.
+     */
+    public T put(T entity) {
+        var id = idFunction.apply(entity);
+        var key = new Key(stateFunction.applyAsInt(entity), timestampFunction.applyAsLong(entity), id);
+        synchronized (stripeFor(id)) {
+            states.computeIfAbsent(key.state, s -> new ConcurrentSkipListSet<>()).add(key);
+            var previous = entries.put(id, new Entry<>(key, entity));
+            if (previous != null && !previous.key.equals(key)) {
+                states.get(previous.key.state).remove(previous.key);
+            }
+            return previous != null ? previous.entity : null;
+        }
+    }
+
+    /**
+     * Removes an entity.
+     *
+     * @return the removed entity, or null if it did not exist.
+     */
+    public T remove(String id) {
+        synchronized (stripeFor(id)) {
+            var previous = entries.remove(id);
+            if (previous == null) {
+                return null;
+            }
+            states.get(previous.key.state).remove(previous.key);
+            return previous.entity;
+        }
+    }
+
+    /**
+     * Returns at most {@code max} entities in the given state, oldest state timestamp first.
+     */
+    public List<T> nextForState(int state, int max) {
+        return nextForState(state, max, id -> true);
+    }
+
+    /**
+     * Returns at most {@code max} entities in the given state whose id matches the filter, oldest state timestamp first.
+     */
+    public List<T> nextForState(int state, int max, Predicate<String> idFilter) {
+        var keys = states.get(state);
+        if (keys == null) {
+            return Collections.emptyList();
+        }
+        var result = new ArrayList<T>(Math.min(max, 64));
+        for (var key : keys) {
+            if (result.size() >= max) {
+                break;
+            }
+            if (!idFilter.test(key.id)) {
+                continue;
+            }
+            var entry = entries.get(key.id);
+            if (entry != null && entry.key.equals(key)) {
+                result.add(entry.entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all the entities.
+     */
+    public Stream<T> values() {
+        return entries.values().stream().map(entry -> entry.entity);
+    }
+
+    private Object stripeFor(String id) {
+        return stripes[Math.floorMod(id.hashCode(), STRIPES)];
+    }
+
+    private static class Entry<T> {
+        private final Key key;
+        private final T entity;
+
+        Entry(Key key, T entity) {
+            this.key = key;
+            this.entity = entity;
+        }
+    }
+
+    private static class Key implements Comparable<Key> {
+        private static final Comparator<Key> ORDER = Comparator.<Key>comparingLong(k -> k.timestamp).thenComparing(k -> k.id);
+
+        private final int state;
+        private final long timestamp;
+        private final String id;
+
+        Key(int state, long timestamp, String id) {
+            this.state = state;
+            this.timestamp = timestamp;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var key = (Key) o;
+            return state == key.state && timestamp == key.timestamp && id.equals(key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(state, timestamp, id);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.common.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StateIndexTest {
+    private StateIndex<Entity> index;
+
+    @Test
+    void verifyPutAndGet() {
+        var entity = new Entity("id", 1, 100);
+
+        assertThat(index.put(entity)).isNull();
+
+        assertThat(index.get("id")).isSameAs(entity);
+        assertThat(index.get("unknown")).isNull();
+    }
+
+    @Test
+    void verifyNextForStateIsOrderedByTimestamp() {
+        index.put(new Entity("a", 1, 300));
+        index.put(new Entity("b", 1, 100));
+        index.put(new Entity("c", 1, 200));
+        index.put(new Entity("d", 2, 50));
+
+        assertThat(index.nextForState(1, 2)).extracting(Entity::getId).containsExactly("b", "c");
+        assertThat(index.nextForState(1, 10)).extracting(Entity::getId).containsExactly("b", "c", "a");
+        assertThat(index.nextForState(3, 10)).isEmpty();
+    }
+
+    @Test
+    void verifyNextForStateFiltersById() {
+        index.put(new Entity("a", 1, 100));
+        index.put(new Entity("b", 1, 200));
+        index.put(new Entity("c", 1, 300));
+        index.put(new Entity("d", 1, 400));
+
+        assertThat(index.nextForState(1, 2, id -> !id.equals("b"))).extracting(Entity::getId).containsExactly("a", "c");
+    }
+
+    @Test
+    void verifyTransitionMovesEntityToTheNewState() {
+        var previous = new Entity("a", 1, 100);
+        index.put(previous);
+
+        assertThat(index.put(new Entity("a", 2, 200))).isSameAs(previous);
+
+        assertThat(index.nextForState(1, 10)).isEmpty();
+        assertThat(index.nextForState(2, 10)).extracting(Entity::getId).containsExactly("a");
+    }
+
+    @Test
+    void verifyRemove() {
+        var entity = new Entity("a", 1, 100);
+        index.put(entity);
+
+        assertThat(index.remove("a")).isSameAs(entity);
+
+        assertThat(index.get("a")).isNull();
+        assertThat(index.nextForState(1, 10)).isEmpty();
+        assertThat(index.values()).isEmpty();
+        assertThat(index.remove("a")).isNull();
+    }
+
+    @Test
+    void verifyConcurrentTransitionsKeepTheIndexConsistent() {
+        var futures = new ArrayList<CompletableFuture<Void>>();
+        IntStream.range(0, 8).forEach(thread -> futures.add(CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 1000; i++) {
+                index.put(new Entity("id-" + (i % 50), i % 3, i));
+            }
+        })));
+
+        assertThat(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))).succeedsWithin(10, TimeUnit.SECONDS);
+        var indexed = new ArrayList<Entity>();
+        for (int state = 0; state < 3; state++) {
+            indexed.addAll(index.nextForState(state, 100));
+        }
+        assertThat(indexed).hasSize(50).containsExactlyInAnyOrderElementsOf(index.values().collect(toList()));
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new StateIndex<>(Entity::getId, Entity::getState, Entity::getTimestamp);
+    }
+
+    private static class Entity {
+        private final String id;
+        private final int state;
+        private final long timestamp;
+
+        Entity(String id, int state, long timestamp) {
+            this.id = id;
+            this.state = state;
+            this.timestamp = timestamp;
+        }
+
+        String getId() {
+            return id;
+        }
+
+        int getState() {
+            return state;
+        }
+
+        long getTimestamp() {
+            return timestamp;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import okhttp3.OkHttpClient;
 import org.eclipse.dataspaceconnector.core.base.CommandHandlerRegistryImpl;
 import org.eclipse.dataspaceconnector.core.base.RemoteMessageDispatcherRegistryImpl;
 import org.eclipse.dataspaceconnector.core.executor.NoopExecutorInstrumentation;
+import org.eclipse.dataspaceconnector.core.metrics.NoopMetricsInstrumentation;
 import org.eclipse.dataspaceconnector.core.health.HealthCheckServiceConfiguration;
 import org.eclipse.dataspaceconnector.core.health.HealthCheckServiceImpl;
 import org.eclipse.dataspaceconnector.spi.EdcException;
@@ -29,6 +30,7 @@ import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistr
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.system.BaseExtension;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
@@ -81,6 +83,11 @@ public class CoreServicesExtension implements ServiceExtension {
      */
     @Inject(required = false)
     private ExecutorInstrumentation executorInstrumentation;
+    /**
+     * An optional instrumentation for application metrics. Used by the optional {@code micrometer} module.
+     */
+    @Inject(required = false)
+    private MetricsInstrumentation metricsInstrumentation;
 
     private HealthCheckServiceImpl healthCheckService;
 
@@ -95,6 +102,7 @@ public class CoreServicesExtension implements ServiceExtension {
         addRetryPolicy(context);
         registerParser(context);
         var executorInstrumentation = registerExecutorInstrumentation(context);
+        registerMetricsInstrumentation(context);
         var config = getHealthCheckConfig(context);
 
         // health check service
@@ -175,4 +183,9 @@ public class CoreServicesExtension implements ServiceExtension {
         return executorInstrumentationImpl;
     }
 
+    private void registerMetricsInstrumentation(ServiceExtensionContext context) {
+        // Register MetricsInstrumentation with default noop implementation if none available
+        context.registerService(MetricsInstrumentation.class, ofNullable(this.metricsInstrumentation).orElse(new NoopMetricsInstrumentation()));
+    }
+
 }
@@ -21,8 +21,10 @@ import org.eclipse.dataspaceconnector.contract.negotiation.ProviderContractNegot
 import org.eclipse.dataspaceconnector.contract.observe.ContractNegotiationObservableImpl;
 import org.eclipse.dataspaceconnector.contract.offer.ContractDefinitionServiceImpl;
 import org.eclipse.dataspaceconnector.contract.offer.ContractOfferServiceImpl;
+import org.eclipse.dataspaceconnector.contract.offer.PolicyDecisionCache;
 import org.eclipse.dataspaceconnector.contract.policy.PolicyEngineImpl;
 import org.eclipse.dataspaceconnector.contract.validation.ContractValidationServiceImpl;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.command.BoundedCommandQueue;
 import org.eclipse.dataspaceconnector.spi.command.CommandHandlerRegistry;
@@ -44,18 +46,39 @@ import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.dataspaceconnector.spi.system.CoreExtension;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.command.ContractNegotiationCommand;
+import org.jetbrains.annotations.Nullable;
 
 @Provides({ContractOfferService.class, PolicyEngine.class, ParticipantAgentService.class, ContractValidationService.class,
         ConsumerContractNegotiationManager.class, ProviderContractNegotiationManager.class})
 @CoreExtension
 public class ContractServiceExtension implements ServiceExtension {
 
+    @EdcSetting
+    public static final String NEGOTIATION_STATE_MACHINE_PARTITIONS = "edc.negotiation.state-machine.partitions";
+    @EdcSetting
+    public static final String NEGOTIATION_STATE_MACHINE_BATCH_SIZE_MIN = "edc.negotiation.state-machine.batch-size.min";
+    @EdcSetting
+    public static final String NEGOTIATION_STATE_MACHINE_BATCH_SIZE_MAX = "edc.negotiation.state-machine.batch-size.max";
+    @EdcSetting
+    public static final String NEGOTIATION_STATE_MACHINE_BATCH_TARGET_MILLIS = "edc.negotiation.state-machine.batch-target-millis";
+    @EdcSetting
+    public static final String POLICY_DECISION_CACHE_SIZE = "edc.contract.policy-decision-cache.size";
+    @EdcSetting
+    public static final String POLICY_DECISION_CACHE_TTL_MILLIS = "edc.contract.policy-decision-cache.ttl-millis";
+
     private static final long DEFAULT_ITERATION_WAIT = 5000; // millis
+    private static final int DEFAULT_PARTITIONS = 1;
+    private static final int DEFAULT_BATCH_SIZE_MIN = 5;
+    private static final int DEFAULT_BATCH_SIZE_MAX = 100;
+    private static final long DEFAULT_BATCH_TARGET_MILLIS = 1000;
+    private static final int DEFAULT_POLICY_DECISION_CACHE_SIZE = 10_000;
+    private static final long DEFAULT_POLICY_DECISION_CACHE_TTL_MILLIS = 30_000;
     private Monitor monitor;
     private ConsumerContractNegotiationManagerImpl consumerNegotiationManager;
     private ProviderContractNegotiationManagerImpl providerNegotiationManager;
@@ -113,7 +136,7 @@ public class ContractServiceExtension implements ServiceExtension {
         var policyEngine = new PolicyEngineImpl();
         context.registerService(PolicyEngine.class, policyEngine);
 
-        var definitionService = new ContractDefinitionServiceImpl(monitor, contractDefinitionStore, policyEngine);
+        var definitionService = new ContractDefinitionServiceImpl(monitor, contractDefinitionStore, policyEngine, createPolicyDecisionCache(context));
         var contractOfferService = new ContractOfferServiceImpl(agentService, definitionService, assetIndex);
         context.registerService(ContractDefinitionService.class, definitionService);
 
@@ -128,11 +151,21 @@ public class ContractServiceExtension implements ServiceExtension {
         CommandRunner<ContractNegotiationCommand> commandRunner = new CommandRunner<>(commandHandlerRegistry, monitor);
 
         var telemetry = context.getTelemetry();
+        var partitions = context.getSetting(NEGOTIATION_STATE_MACHINE_PARTITIONS, DEFAULT_PARTITIONS);
+        var minBatchSize = context.getSetting(NEGOTIATION_STATE_MACHINE_BATCH_SIZE_MIN, DEFAULT_BATCH_SIZE_MIN);
+        var maxBatchSize = context.getSetting(NEGOTIATION_STATE_MACHINE_BATCH_SIZE_MAX, DEFAULT_BATCH_SIZE_MAX);
+        var batchTargetMillis = context.getSetting(NEGOTIATION_STATE_MACHINE_BATCH_TARGET_MILLIS, DEFAULT_BATCH_TARGET_MILLIS);
+        var metrics = context.getService(MetricsInstrumentation.class);
         var observable = new ContractNegotiationObservableImpl();
         context.registerService(ContractNegotiationObservable.class, observable);
 
         consumerNegotiationManager = ConsumerContractNegotiationManagerImpl.Builder.newInstance()
                 .waitStrategy(waitStrategy)
+                .partitions(partitions)
+                .batchSize(minBatchSize)
+                .maxBatchSize(maxBatchSize)
+                .batchTargetMillis(batchTargetMillis)
+                .metrics(metrics)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .validationService(validationService)
@@ -145,6 +178,11 @@ public class ContractServiceExtension implements ServiceExtension {
 
         providerNegotiationManager = ProviderContractNegotiationManagerImpl.Builder.newInstance()
                 .waitStrategy(waitStrategy)
+                .partitions(partitions)
+                .batchSize(minBatchSize)
+                .maxBatchSize(maxBatchSize)
+                .batchTargetMillis(batchTargetMillis)
+                .metrics(metrics)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .validationService(validationService)
@@ -159,6 +197,18 @@ public class ContractServiceExtension implements ServiceExtension {
         context.registerService(ProviderContractNegotiationManager.class, providerNegotiationManager);
     }
 
+    /**
+     * Creates the cache of the policy decisions of the contract definitions, or returns null if it is disabled by a TTL of 0.
+     */
+    @Nullable
+    private PolicyDecisionCache createPolicyDecisionCache(ServiceExtensionContext context) {
+        var ttlMillis = context.getSetting(POLICY_DECISION_CACHE_TTL_MILLIS, DEFAULT_POLICY_DECISION_CACHE_TTL_MILLIS);
+        if (ttlMillis <= 0) {
+            return null;
+        }
+        return new PolicyDecisionCache(context.getSetting(POLICY_DECISION_CACHE_SIZE, DEFAULT_POLICY_DECISION_CACHE_SIZE), ttlMillis);
+    }
+
     private void registerTypes(ServiceExtensionContext context) {
         var typeManager = context.getTypeManager();
         typeManager.registerTypes(ContractNegotiation.class);
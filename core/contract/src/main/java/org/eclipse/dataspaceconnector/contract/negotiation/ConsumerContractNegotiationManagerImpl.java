@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.contract.negotiation;
 
 import io.opentelemetry.extension.annotations.WithSpan;
+import org.eclipse.dataspaceconnector.common.statemachine.AdaptiveBatchSize;
 import org.eclipse.dataspaceconnector.common.statemachine.StateMachine;
 import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorImpl;
 import org.eclipse.dataspaceconnector.contract.common.ContractId;
@@ -31,6 +32,7 @@ import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistr
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.retry.WaitStrategy;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.agreement.ContractAgreement;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.agreement.ContractAgreementRequest;
@@ -70,6 +72,9 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
     private ContractValidationService validationService;
 
     private int batchSize = 5;
+    private int maxBatchSize = 5;
+    private long batchTargetMillis = 1000;
+    private int partitions = 1;
     private WaitStrategy waitStrategy = () -> 5000L;  // default wait five seconds
 
     private RemoteMessageDispatcherRegistry dispatcherRegistry;
@@ -79,6 +84,7 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
     private CommandRunner<ContractNegotiationCommand> commandRunner;
     private CommandProcessor<ContractNegotiationCommand> commandProcessor;
     private Telemetry telemetry;
+    private MetricsInstrumentation metrics;
     private Monitor monitor;
     private StateMachine stateMachine;
 
@@ -86,10 +92,11 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
 
     public void start() {
         stateMachine = StateMachine.Builder.newInstance("consumer-contract-negotiation", monitor, waitStrategy)
-                .processor(processNegotiationsInState(INITIAL, this::processInitial))
-                .processor(processNegotiationsInState(CONSUMER_OFFERING, this::processConsumerOffering))
-                .processor(processNegotiationsInState(CONSUMER_APPROVING, this::processConsumerApproving))
-                .processor(processNegotiationsInState(DECLINING, this::processDeclining))
+                .partitions(partitions)
+                .partitionedProcessor(partition -> processNegotiationsInState(INITIAL, this::processInitial, partition))
+                .partitionedProcessor(partition -> processNegotiationsInState(CONSUMER_OFFERING, this::processConsumerOffering, partition))
+                .partitionedProcessor(partition -> processNegotiationsInState(CONSUMER_APPROVING, this::processConsumerApproving, partition))
+                .partitionedProcessor(partition -> processNegotiationsInState(DECLINING, this::processDeclining, partition))
                 .processor(onCommands(this::processCommand))
                 .build();
 
@@ -105,6 +112,7 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
     @Override
     public void enqueueCommand(ContractNegotiationCommand command) {
         commandQueue.enqueue(command);
+        wakeUp();
     }
 
     /**
@@ -129,6 +137,7 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
         negotiation.addContractOffer(contractOffer.getContractOffer());
         negotiation.transitionInitial();
         negotiationStore.save(negotiation);
+        wakeUp();
         observable.invokeForEach(l -> l.requesting(negotiation));
 
         monitor.debug(String.format("[Consumer] ContractNegotiation initiated. %s is now in state %s.",
@@ -172,12 +181,14 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
             negotiation.setErrorDetail(result.getFailureMessages().get(0));
             negotiation.transitionDeclining();
             negotiationStore.save(negotiation);
+            wakeUp();
             observable.invokeForEach(l -> l.declining(negotiation));
         } else {
             // Offer has been approved.
             monitor.debug("[Consumer] Contract offer received. Will be approved.");
             negotiation.transitionApproving();
             negotiationStore.save(negotiation);
+            wakeUp();
             observable.invokeForEach(l -> l.consumerApproving(negotiation));
         }
 
@@ -222,6 +233,7 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
             negotiation.setErrorDetail("Contract rejected."); //TODO set error detail
             negotiation.transitionDeclining();
             negotiationStore.save(negotiation);
+            wakeUp();
             observable.invokeForEach(l -> l.declining(negotiation));
             monitor.debug(String.format("[Consumer] ContractNegotiation %s is now in state %s.",
                     negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
@@ -509,12 +521,28 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
         };
     }
 
-    private StateProcessorImpl<ContractNegotiation> processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function) {
-        return new StateProcessorImpl<>(() -> negotiationStore.nextForState(state.code(), batchSize), telemetry.contextPropagationMiddleware(function));
+    private void wakeUp() {
+        if (stateMachine != null) {
+            stateMachine.wakeUp();
+        }
+    }
+
+    private StateProcessorImpl<ContractNegotiation> processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function, int partition) {
+        return StateProcessorImpl.Builder.newInstance(max -> negotiationStore.nextForState(state.code(), max, partition, partitions), telemetry.contextPropagationMiddleware(function))
+                .batchSize(batchSize(state.name(), partition))
+                .build();
     }
 
     private StateProcessorImpl<ContractNegotiationCommand> onCommands(Function<ContractNegotiationCommand, Boolean> process) {
-        return new StateProcessorImpl<>(() -> commandQueue.dequeue(5), process);
+        return StateProcessorImpl.Builder.newInstance(max -> commandQueue.dequeue(max), process)
+                .batchSize(batchSize("COMMANDS", 0))
+                .build();
+    }
+
+    private AdaptiveBatchSize batchSize(String processor, int partition) {
+        var adaptiveBatchSize = new AdaptiveBatchSize(batchSize, Math.max(batchSize, maxBatchSize), batchTargetMillis);
+        metrics.gauge("edc.statemachine.batch.size", adaptiveBatchSize::get, "statemachine", "consumer-contract-negotiation", "processor", processor, "partition", String.valueOf(partition));
+        return adaptiveBatchSize;
     }
 
     private boolean processCommand(ContractNegotiationCommand command) {
@@ -530,6 +558,7 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
         private Builder() {
             manager = new ConsumerContractNegotiationManagerImpl();
             manager.telemetry = new Telemetry(); // default noop implementation
+            manager.metrics = MetricsInstrumentation.NOOP;
         }
 
         public static Builder newInstance() {
@@ -551,6 +580,21 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
             return this;
         }
 
+        public Builder maxBatchSize(int maxBatchSize) {
+            manager.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder batchTargetMillis(long batchTargetMillis) {
+            manager.batchTargetMillis = batchTargetMillis;
+            return this;
+        }
+
+        public Builder partitions(int partitions) {
+            manager.partitions = partitions;
+            return this;
+        }
+
         public Builder waitStrategy(WaitStrategy waitStrategy) {
             manager.waitStrategy = waitStrategy;
             return this;
@@ -576,6 +620,11 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
             return this;
         }
 
+        public Builder metrics(MetricsInstrumentation metrics) {
+            manager.metrics = metrics;
+            return this;
+        }
+
         public Builder observable(ContractNegotiationObservable observable) {
             manager.observable = observable;
             return this;
@@ -594,6 +643,7 @@ public class ConsumerContractNegotiationManagerImpl implements ConsumerContractN
             Objects.requireNonNull(manager.commandRunner, "commandRunner");
             Objects.requireNonNull(manager.observable, "observable");
             Objects.requireNonNull(manager.telemetry, "telemetry");
+            Objects.requireNonNull(manager.metrics, "metrics");
             Objects.requireNonNull(manager.negotiationStore, "store");
             manager.commandProcessor = new CommandProcessor<>(manager.commandQueue, manager.commandRunner, manager.monitor);
 
@@ -16,6 +16,7 @@
 package org.eclipse.dataspaceconnector.contract.negotiation;
 
 import io.opentelemetry.extension.annotations.WithSpan;
+import org.eclipse.dataspaceconnector.common.statemachine.AdaptiveBatchSize;
 import org.eclipse.dataspaceconnector.common.statemachine.StateMachine;
 import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorImpl;
 import org.eclipse.dataspaceconnector.contract.common.ContractId;
@@ -32,6 +33,7 @@ import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistr
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.retry.WaitStrategy;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.agreement.ContractAgreement;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.agreement.ContractAgreementRequest;
@@ -65,6 +67,9 @@ import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiati
 public class ProviderContractNegotiationManagerImpl implements ProviderContractNegotiationManager {
 
     private int batchSize = 5;
+    private int maxBatchSize = 5;
+    private long batchTargetMillis = 1000;
+    private int partitions = 1;
     private WaitStrategy waitStrategy = () -> 5000L;  // default wait five seconds
 
     private ContractNegotiationStore negotiationStore;
@@ -76,6 +81,7 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
     private CommandProcessor<ContractNegotiationCommand> commandProcessor;
     private Monitor monitor;
     private Telemetry telemetry;
+    private MetricsInstrumentation metrics;
     private StateMachine stateMachine;
 
     private ProviderContractNegotiationManagerImpl() {
@@ -87,9 +93,10 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
 
     public void start() {
         stateMachine = StateMachine.Builder.newInstance("provider-contract-negotiation", monitor, waitStrategy)
-                .processor(processNegotiationsInState(PROVIDER_OFFERING, this::processProviderOffering))
-                .processor(processNegotiationsInState(DECLINING, this::processDeclining))
-                .processor(processNegotiationsInState(CONFIRMING, this::processConfirming))
+                .partitions(partitions)
+                .partitionedProcessor(partition -> processNegotiationsInState(PROVIDER_OFFERING, this::processProviderOffering, partition))
+                .partitionedProcessor(partition -> processNegotiationsInState(DECLINING, this::processDeclining, partition))
+                .partitionedProcessor(partition -> processNegotiationsInState(CONFIRMING, this::processConfirming, partition))
                 .processor(onCommands(this::processCommand))
                 .build();
 
@@ -105,6 +112,7 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
     @Override
     public void enqueueCommand(ContractNegotiationCommand command) {
         commandQueue.enqueue(command);
+        wakeUp();
     }
 
     /**
@@ -229,6 +237,7 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
             negotiation.setErrorDetail(result.getFailureMessages().get(0));
             negotiation.transitionDeclining();
             negotiationStore.save(negotiation);
+            wakeUp();
             observable.invokeForEach(l -> l.declining(negotiation));
 
             monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
@@ -240,6 +249,7 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
         // negotiation.addContractOffer(result.getValidatedOffer()); TODO
         negotiation.transitionConfirming();
         negotiationStore.save(negotiation);
+        wakeUp();
         observable.invokeForEach(l -> l.confirming(negotiation));
         monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
@@ -267,18 +277,35 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
         monitor.debug("[Provider] Contract offer has been approved by consumer.");
         negotiation.transitionConfirming();
         negotiationStore.save(negotiation);
+        wakeUp();
         observable.invokeForEach(l -> l.confirming(negotiation));
         monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
         return NegotiationResult.success(negotiation);
     }
 
-    private StateProcessorImpl<ContractNegotiation> processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function) {
-        return new StateProcessorImpl<>(() -> negotiationStore.nextForState(state.code(), batchSize), telemetry.contextPropagationMiddleware(function));
+    private void wakeUp() {
+        if (stateMachine != null) {
+            stateMachine.wakeUp();
+        }
+    }
+
+    private StateProcessorImpl<ContractNegotiation> processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function, int partition) {
+        return StateProcessorImpl.Builder.newInstance(max -> negotiationStore.nextForState(state.code(), max, partition, partitions), telemetry.contextPropagationMiddleware(function))
+                .batchSize(batchSize(state.name(), partition))
+                .build();
     }
 
     private StateProcessorImpl<ContractNegotiationCommand> onCommands(Function<ContractNegotiationCommand, Boolean> process) {
-        return new StateProcessorImpl<>(() -> commandQueue.dequeue(5), process);
+        return StateProcessorImpl.Builder.newInstance(max -> commandQueue.dequeue(max), process)
+                .batchSize(batchSize("COMMANDS", 0))
+                .build();
+    }
+
+    private AdaptiveBatchSize batchSize(String processor, int partition) {
+        var adaptiveBatchSize = new AdaptiveBatchSize(batchSize, Math.max(batchSize, maxBatchSize), batchTargetMillis);
+        metrics.gauge("edc.statemachine.batch.size", adaptiveBatchSize::get, "statemachine", "provider-contract-negotiation", "processor", processor, "partition", String.valueOf(partition));
+        return adaptiveBatchSize;
     }
 
     private boolean processCommand(ContractNegotiationCommand command) {
@@ -475,6 +502,7 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
         private Builder() {
             manager = new ProviderContractNegotiationManagerImpl();
             manager.telemetry = new Telemetry(); // default noop implementation
+            manager.metrics = MetricsInstrumentation.NOOP;
         }
 
         public static Builder newInstance() {
@@ -496,6 +524,21 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
             return this;
         }
 
+        public Builder maxBatchSize(int maxBatchSize) {
+            manager.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder batchTargetMillis(long batchTargetMillis) {
+            manager.batchTargetMillis = batchTargetMillis;
+            return this;
+        }
+
+        public Builder partitions(int partitions) {
+            manager.partitions = partitions;
+            return this;
+        }
+
         public Builder waitStrategy(WaitStrategy waitStrategy) {
             manager.waitStrategy = waitStrategy;
             return this;
@@ -521,6 +564,11 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
             return this;
         }
 
+        public Builder metrics(MetricsInstrumentation metrics) {
+            manager.metrics = metrics;
+            return this;
+        }
+
         public Builder observable(ContractNegotiationObservable observable) {
             manager.observable = observable;
             return this;
@@ -539,6 +587,7 @@ public class ProviderContractNegotiationManagerImpl implements ProviderContractN
             Objects.requireNonNull(manager.commandRunner, "commandRunner");
             Objects.requireNonNull(manager.observable, "observable");
             Objects.requireNonNull(manager.telemetry, "telemetry");
+            Objects.requireNonNull(manager.metrics, "metrics");
             Objects.requireNonNull(manager.negotiationStore, "store");
             manager.commandProcessor = new CommandProcessor<>(manager.commandQueue, manager.commandRunner, manager.monitor);
 
@@ -34,11 +34,22 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
     private final PolicyEngine policyEngine;
     private final Monitor monitor;
     private final ContractDefinitionStore definitionStore;
+    private final PolicyDecisionCache decisionCache;
 
     public ContractDefinitionServiceImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine) {
+        this(monitor, contractDefinitionStore, policyEngine, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param decisionCache caches the policy decisions per agent and definition, null to evaluate the policies on every request.
+     */
+    public ContractDefinitionServiceImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, @Nullable PolicyDecisionCache decisionCache) {
         this.monitor = monitor;
         this.definitionStore = contractDefinitionStore;
         this.policyEngine = policyEngine;
+        this.decisionCache = decisionCache;
     }
 
     @NotNull
@@ -59,10 +70,17 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
         return null;
     }
 
+    private boolean evaluatePolicies(ContractDefinition definition, ParticipantAgent agent) {
+        if (decisionCache == null) {
+            return evaluateDefinitionPolicies(definition, agent);
+        }
+        return decisionCache.evaluate(agent, definition, () -> evaluateDefinitionPolicies(definition, agent));
+    }
+
     /**
      * Determines the applicability of a definition to an agent by evaluating the union of its access control and usage policies.
      */
-    private boolean evaluatePolicies(ContractDefinition definition, ParticipantAgent agent) {
+    private boolean evaluateDefinitionPolicies(ContractDefinition definition, ParticipantAgent agent) {
         var accessResult = policyEngine.evaluate(definition.getAccessPolicy(), agent);
         if (accessResult.failed()) {
             monitor.info(format("Problem evaluating access control policy for %s: \n%s", definition.getId(), String.join("\n", accessResult.getFailureMessages())));
@@ -16,20 +16,28 @@ package org.eclipse.dataspaceconnector.contract.offer;
 
 import org.eclipse.dataspaceconnector.contract.common.ContractId;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
+import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
 import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgentService;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractDefinitionService;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferQuery;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferService;
+import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 import org.jetbrains.annotations.NotNull;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
  * Implementation of the {@link ContractOfferService}.
+ * <p>
+ * Offers are produced lazily, so that a query with an offset and a limit only fetches the assets that are needed to fill
+ * the requested page. A limit of 0 means that all the offers are returned.
  */
 public class ContractOfferServiceImpl implements ContractOfferService {
     private final ParticipantAgentService agentService;
@@ -48,8 +56,8 @@ public class ContractOfferServiceImpl implements ContractOfferService {
         var agent = agentService.createFor(query.getClaimToken());
         var definitions = definitionService.definitionsFor(agent);
 
-        return definitions.flatMap(definition -> {
-            var assets = assetIndex.queryAssets(definition.getSelectorExpression());
+        var offers = definitions.flatMap(definition -> {
+            var assets = assetIndex.queryAssets(selectorExpression(definition, query.getCriteria()));
             return assets.map(asset -> ContractOffer.Builder.newInstance()
                     .id(ContractId.createContractId(definition.getId()))
                     .policy(definition.getContractPolicy())
@@ -59,6 +67,28 @@ public class ContractOfferServiceImpl implements ContractOfferService {
                     .consumer(uri("urn:connector:consumer"))
                     .build());
         });
+
+        if (query.getOffset() > 0) {
+            offers = offers.skip(query.getOffset());
+        }
+        if (query.getLimit() > 0) {
+            offers = offers.limit(query.getLimit());
+        }
+        return offers;
+    }
+
+    /**
+     * Narrows the selector expression of the definition with the criteria of the query, if any.
+     */
+    private AssetSelectorExpression selectorExpression(ContractDefinition definition, List<Criterion> criteria) {
+        var expression = definition.getSelectorExpression();
+        if (criteria == null || criteria.isEmpty()) {
+            return expression;
+        }
+
+        var combined = new ArrayList<>(expression.getCriteria());
+        combined.addAll(criteria);
+        return AssetSelectorExpression.Builder.newInstance().criteria(combined).build();
     }
 
     /**
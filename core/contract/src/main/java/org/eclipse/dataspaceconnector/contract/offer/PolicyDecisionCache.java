@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contract.offer;
+
+import org.eclipse.dataspaceconnector.common.collection.LruCache;
+import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgent;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Caches whether the policies of a {@link ContractDefinition} are satisfied by a {@link ParticipantAgent}, so that repeated
+ * catalog, negotiation and artifact requests of the same participant do not evaluate the same policies again.
+ * <p>
+ * Decisions are keyed on the claims and attributes of the agent and on the id of the definition. The claims that change with
+ * every token of the same participant, such as its expiry or identifier, are left out of the key, otherwise no decision would
+ * be reused across requests. A decision is only reused
+ * for the same definition instance it was taken for: when a definition is saved or updated in the
+ * {@link org.eclipse.dataspaceconnector.spi.contract.offer.store.ContractDefinitionStore}, the store returns a new instance
+ * and the previous decision is ignored. Decisions expire after a time-to-live, which bounds how long a decision that depends
+ * on time or on external state can be reused, and the least recently used ones are evicted when the cache is full.
+ */
+public class PolicyDecisionCache {
+    private static final Set<String> TOKEN_CLAIMS = Set.of("exp", "iat", "nbf", "jti");
+
+    private final Map<Key, Decision> decisions;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    /**
+     * Constructor.
+     *
+     * @param size the maximum number of cached decisions.
+     * @param ttlMillis the time after which a decision expires.
+     */
+    public PolicyDecisionCache(int size, long ttlMillis) {
+        this(size, ttlMillis, Clock.systemUTC());
+    }
+
+    PolicyDecisionCache(int size, long ttlMillis, Clock clock) {
+        decisions = Collections.synchronizedMap(new LruCache<>(size));
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached decision for the agent and definition, evaluating and caching it if it is missing or expired.
+     */
+    public boolean evaluate(ParticipantAgent agent, ContractDefinition definition, BooleanSupplier evaluation) {
+        var key = new Key(agent, definition.getId());
+        var now = clock.millis();
+        var decision = decisions.get(key);
+        if (decision != null && decision.definition == definition && decision.expiresAt > now) {
+            return decision.satisfied;
+        }
+        var satisfied = evaluation.getAsBoolean();
+        decisions.put(key, new Decision(definition, satisfied, now + ttlMillis));
+        return satisfied;
+    }
+
+    private static class Key {
+        private final Map<String, String> claims;
+        private final Map<String, String> attributes;
+        private final String definitionId;
+        private final int hashCode;
+
+        Key(ParticipantAgent agent, String definitionId) {
+            claims = agent.getClaims().entrySet().stream()
+                    .filter(claim -> !TOKEN_CLAIMS.contains(claim.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            attributes = agent.getAttributes();
+            this.definitionId = definitionId;
+            hashCode = Objects.hash(claims, attributes, definitionId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var key = (Key) o;
+            return hashCode == key.hashCode && definitionId.equals(key.definitionId) && claims.equals(key.claims) && attributes.equals(key.attributes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static class Decision {
+        private final ContractDefinition definition;
+        private final boolean satisfied;
+        private final long expiresAt;
+
+        Decision(ContractDefinition definition, boolean satisfied, long expiresAt) {
+            this.definition = definition;
+            this.satisfied = satisfied;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
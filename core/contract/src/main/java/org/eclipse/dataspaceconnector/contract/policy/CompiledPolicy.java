@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contract.policy;
+
+import org.eclipse.dataspaceconnector.policy.model.Rule;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyContext;
+import org.eclipse.dataspaceconnector.spi.contract.policy.RuleFunction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A policy whose rules and constraints have been bound to the functions that evaluate them, see {@link PolicyCompiler}.
+ * Evaluation has the same semantics as the {@link org.eclipse.dataspaceconnector.policy.engine.PolicyEvaluator}.
+ * A compiled policy holds no evaluation state, so it can be evaluated concurrently.
+ */
+class CompiledPolicy {
+    private final List<CompiledRule> rules;
+
+    CompiledPolicy(List<CompiledRule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Evaluates the policy.
+     *
+     * @return the description of the problems, empty if the policy is satisfied.
+     */
+    List<String> evaluate(PolicyContext context) {
+        List<String> problems = null;
+        for (var rule : rules) {
+            var problem = rule.evaluate(context);
+            if (problem != null) {
+                if (problems == null) {
+                    problems = new ArrayList<>();
+                }
+                problems.add(problem);
+            }
+        }
+        return problems == null ? List.of() : problems;
+    }
+
+    @FunctionalInterface
+    interface CompiledConstraint {
+        Boolean evaluate(PolicyContext context);
+    }
+
+    /**
+     * Thrown by a {@link CompiledConstraint} that cannot be evaluated. The rule holding the constraint fails with the
+     * exception message as its problem, whether it is a permission, a prohibition or a duty.
+     */
+    static class EvaluationException extends EdcException {
+        EvaluationException(String message) {
+            super(message);
+        }
+    }
+
+    static class CompiledRule {
+        private final Rule rule;
+        private final boolean prohibition;
+        private final List<RuleFunction<Rule>> ruleFunctions;
+        private final List<CompiledConstraint> constraints;
+        private final List<CompiledRule> duties;
+
+        CompiledRule(Rule rule, boolean prohibition, List<RuleFunction<Rule>> ruleFunctions, List<CompiledConstraint> constraints, List<CompiledRule> duties) {
+            this.rule = rule;
+            this.prohibition = prohibition;
+            this.ruleFunctions = ruleFunctions;
+            this.constraints = constraints;
+            this.duties = duties;
+        }
+
+        /**
+         * Returns the description of the problem, or null if the rule is satisfied.
+         */
+        String evaluate(PolicyContext context) {
+            for (var function : ruleFunctions) {
+                if (function.evaluate(rule, context) == prohibition) {
+                    return "Evalution failed for: " + rule;
+                }
+            }
+            for (var duty : duties) {
+                var problem = duty.evaluateConstraints(context);
+                if (problem != null) {
+                    return problem;
+                }
+            }
+            return evaluateConstraints(context);
+        }
+
+        private String evaluateConstraints(PolicyContext context) {
+            var valid = true;
+            for (var constraint : constraints) {
+                boolean result;
+                try {
+                    result = constraint.evaluate(context);
+                } catch (EvaluationException e) {
+                    context.reportProblem(e.getMessage());
+                    return e.getMessage();
+                }
+                if (result == prohibition) {
+                    valid = false;
+                }
+            }
+            return valid ? null : rule.toString();
+        }
+    }
+}
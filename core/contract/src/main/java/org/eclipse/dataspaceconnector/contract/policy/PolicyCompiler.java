@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contract.policy;
+
+import org.eclipse.dataspaceconnector.common.collection.LruCache;
+import org.eclipse.dataspaceconnector.policy.model.AndConstraint;
+import org.eclipse.dataspaceconnector.policy.model.AtomicConstraint;
+import org.eclipse.dataspaceconnector.policy.model.Constraint;
+import org.eclipse.dataspaceconnector.policy.model.Duty;
+import org.eclipse.dataspaceconnector.policy.model.Expression;
+import org.eclipse.dataspaceconnector.policy.model.LiteralExpression;
+import org.eclipse.dataspaceconnector.policy.model.Operator;
+import org.eclipse.dataspaceconnector.policy.model.OrConstraint;
+import org.eclipse.dataspaceconnector.policy.model.Permission;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.policy.model.Prohibition;
+import org.eclipse.dataspaceconnector.policy.model.Rule;
+import org.eclipse.dataspaceconnector.policy.model.XoneConstraint;
+import org.eclipse.dataspaceconnector.spi.contract.policy.AtomicConstraintFunction;
+import org.eclipse.dataspaceconnector.spi.contract.policy.RuleFunction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Compiles policies against a fixed set of rule and constraint functions and caches the compiled policies by identity.
+ * <p>
+ * The functions are resolved once per rule type when the compiler is created and once per atomic constraint when a policy is
+ * compiled, so evaluating a {@link CompiledPolicy} does not need to build an evaluator or look up any function.
+ * A compiler is immutable apart from its cache: when functions are registered, a new compiler must be created.
+ */
+class PolicyCompiler {
+    private final Map<Class<? extends Rule>, Map<String, AtomicConstraintFunction<Rule>>> constraintFunctions = new HashMap<>();
+    private final Map<Class<? extends Rule>, List<RuleFunction<Rule>>> ruleFunctions = new HashMap<>();
+    private final Map<PolicyKey, CompiledPolicy> cache;
+
+    PolicyCompiler(List<PolicyEngineImpl.ConstraintFunctionEntry<Rule>> constraintFunctionEntries,
+                   List<PolicyEngineImpl.RuleFunctionEntry<Rule>> ruleFunctionEntries, int cacheSize) {
+        for (var ruleType : List.of(Permission.class, Prohibition.class, Duty.class)) {
+            var functions = new HashMap<String, AtomicConstraintFunction<Rule>>();
+            constraintFunctionEntries.stream()
+                    .filter(entry -> ruleType(entry.type) == ruleType)
+                    .forEach(entry -> functions.put(entry.key, entry.function));
+            constraintFunctions.put(ruleType, functions);
+
+            ruleFunctions.put(ruleType, ruleFunctionEntries.stream()
+                    .filter(entry -> ruleType(entry.type) == ruleType)
+                    .map(entry -> entry.function)
+                    .collect(toList()));
+        }
+        cache = Collections.synchronizedMap(new LruCache<>(cacheSize));
+    }
+
+    /**
+     * Returns the compiled policy, compiling it if it is not cached yet.
+     */
+    CompiledPolicy compile(Policy policy) {
+        var key = new PolicyKey(policy);
+        var compiled = cache.get(key);
+        if (compiled == null) {
+            compiled = new CompiledPolicy(compileRules(policy));
+            cache.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    private List<CompiledPolicy.CompiledRule> compileRules(Policy policy) {
+        var rules = new ArrayList<CompiledPolicy.CompiledRule>();
+        policy.getPermissions().forEach(permission -> {
+            var duties = permission.getDuties() == null ? List.<CompiledPolicy.CompiledRule>of() : permission.getDuties().stream()
+                    .map(duty -> compileRule(duty, Duty.class, List.of(), List.of()))
+                    .collect(toList());
+            rules.add(compileRule(permission, Permission.class, ruleFunctions.get(Permission.class), duties));
+        });
+        policy.getProhibitions().forEach(prohibition -> rules.add(compileRule(prohibition, Prohibition.class, ruleFunctions.get(Prohibition.class), List.of())));
+        policy.getObligations().forEach(duty -> rules.add(compileRule(duty, Duty.class, ruleFunctions.get(Duty.class), List.of())));
+        return rules;
+    }
+
+    private CompiledPolicy.CompiledRule compileRule(Rule rule, Class<? extends Rule> ruleType, List<RuleFunction<Rule>> functions, List<CompiledPolicy.CompiledRule> duties) {
+        var constraintCompiler = new ConstraintCompiler(rule, constraintFunctions.get(ruleType));
+        var constraints = rule.getConstraints().stream()
+                .map(constraint -> constraint.accept(constraintCompiler))
+                .collect(toList());
+        return new CompiledPolicy.CompiledRule(rule, ruleType == Prohibition.class, functions, constraints, duties);
+    }
+
+    /**
+     * Maps a function registration type to the kind of rule it applies to, or null if it does not apply to any.
+     */
+    private static Class<? extends Rule> ruleType(Class<? extends Rule> type) {
+        if (Duty.class.isAssignableFrom(type)) {
+            return Duty.class;
+        } else if (Permission.class.isAssignableFrom(type)) {
+            return Permission.class;
+        } else if (Prohibition.class.isAssignableFrom(type)) {
+            return Prohibition.class;
+        }
+        return null;
+    }
+
+    /**
+     * Compiles the constraints of a rule, resolving the constraint functions for the type of the rule.
+     */
+    private static class ConstraintCompiler implements Constraint.Visitor<CompiledPolicy.CompiledConstraint>, Expression.Visitor<Object> {
+        private final Rule rule;
+        private final Map<String, AtomicConstraintFunction<Rule>> functions;
+
+        ConstraintCompiler(Rule rule, Map<String, AtomicConstraintFunction<Rule>> functions) {
+            this.rule = rule;
+            this.functions = functions;
+        }
+
+        @Override
+        public CompiledPolicy.CompiledConstraint visitAndConstraint(AndConstraint constraint) {
+            var constraints = compileAll(constraint.getConstraints());
+            return context -> {
+                for (var compiled : constraints) {
+                    if (!compiled.evaluate(context)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        @Override
+        public CompiledPolicy.CompiledConstraint visitOrConstraint(OrConstraint constraint) {
+            var constraints = compileAll(constraint.getConstraints());
+            return context -> {
+                for (var compiled : constraints) {
+                    if (compiled.evaluate(context)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        @Override
+        public CompiledPolicy.CompiledConstraint visitXoneConstraint(XoneConstraint constraint) {
+            var constraints = compileAll(constraint.getConstraints());
+            return context -> {
+                int count = 0;
+                for (var compiled : constraints) {
+                    if (compiled.evaluate(context)) {
+                        count++;
+                        if (count > 1) {
+                            return false;
+                        }
+                    }
+                }
+                return count == 1;
+            };
+        }
+
+        @Override
+        public CompiledPolicy.CompiledConstraint visitAtomicConstraint(AtomicConstraint constraint) {
+            var rightValue = constraint.getRightExpression().accept(this);
+            var leftRawValue = constraint.getLeftExpression().accept(this);
+            var operator = constraint.getOperator();
+            if (leftRawValue instanceof String) {
+                var function = functions.get(leftRawValue);
+                if (function != null) {
+                    return context -> function.evaluate(operator, rightValue, rule, context);
+                }
+            }
+
+            var result = evaluate(operator, leftRawValue, rightValue);
+            if (result == null) {
+                var problem = "Unsupported operator " + operator + " for: " + constraint;
+                return context -> {
+                    throw new CompiledPolicy.EvaluationException(problem);
+                };
+            }
+            return context -> result;
+        }
+
+        /**
+         * Evaluates a constraint that has no function bound to it, returns null if the operator is not supported.
+         */
+        private static Boolean evaluate(Operator operator, Object leftRawValue, Object rightValue) {
+            switch (operator) {
+                case EQ:
+                case IN:
+                    return Objects.equals(leftRawValue, rightValue);
+                case NEQ:
+                    return !Objects.equals(leftRawValue, rightValue);
+                default:
+                    return null;
+            }
+        }
+
+        @Override
+        public Object visitLiteralExpression(LiteralExpression expression) {
+            return expression.getValue();
+        }
+
+        private List<CompiledPolicy.CompiledConstraint> compileAll(List<Constraint> constraints) {
+            return constraints.stream().map(constraint -> constraint.accept(this)).collect(toList());
+        }
+    }
+
+    /**
+     * Identity key, since the policy hash code and equality are computed on the whole policy tree.
+     */
+    private static class PolicyKey {
+        private final Policy policy;
+
+        PolicyKey(Policy policy) {
+            this.policy = policy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PolicyKey && ((PolicyKey) o).policy == policy;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(policy);
+        }
+    }
+}
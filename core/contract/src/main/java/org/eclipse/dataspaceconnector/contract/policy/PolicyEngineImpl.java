@@ -13,12 +13,7 @@
  */
 package org.eclipse.dataspaceconnector.contract.policy;
 
-import org.eclipse.dataspaceconnector.policy.engine.PolicyEvaluator;
-import org.eclipse.dataspaceconnector.policy.engine.RuleProblem;
-import org.eclipse.dataspaceconnector.policy.model.Duty;
-import org.eclipse.dataspaceconnector.policy.model.Permission;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
-import org.eclipse.dataspaceconnector.policy.model.Prohibition;
 import org.eclipse.dataspaceconnector.policy.model.Rule;
 import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgent;
 import org.eclipse.dataspaceconnector.spi.contract.policy.AtomicConstraintFunction;
@@ -27,20 +22,40 @@ import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyEngine;
 import org.eclipse.dataspaceconnector.spi.contract.policy.RuleFunction;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * Default implementation of the policy engine.
+ * <p>
+ * Policies are compiled against the registered functions on their first evaluation and the compiled form is cached by policy
+ * identity, so that policies that are evaluated repeatedly, such as the ones of the contract definitions, are not walked
+ * and bound to the functions on every evaluation. Registering a function invalidates all the compiled policies.
  */
 public class PolicyEngineImpl implements PolicyEngine {
-    private List<ConstraintFunctionEntry<Rule>> constraintFunctions = new ArrayList<>();
-    private List<RuleFunctionEntry<Rule>> ruleFunctions = new ArrayList<>();
-    private List<BiFunction<Policy, PolicyContext, Boolean>> preValidators = new ArrayList<>();
-    private List<BiFunction<Policy, PolicyContext, Boolean>> postValidators = new ArrayList<>();
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private final List<ConstraintFunctionEntry<Rule>> constraintFunctions = new CopyOnWriteArrayList<>();
+    private final List<RuleFunctionEntry<Rule>> ruleFunctions = new CopyOnWriteArrayList<>();
+    private final List<BiFunction<Policy, PolicyContext, Boolean>> preValidators = new CopyOnWriteArrayList<>();
+    private final List<BiFunction<Policy, PolicyContext, Boolean>> postValidators = new CopyOnWriteArrayList<>();
+    private final int cacheSize;
+    private volatile PolicyCompiler compiler;
+
+    public PolicyEngineImpl() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param cacheSize the maximum number of compiled policies that are cached.
+     */
+    public PolicyEngineImpl(int cacheSize) {
+        this.cacheSize = cacheSize;
+        compiler = newCompiler();
+    }
 
     @Override
     public Result<Policy> evaluate(Policy policy, ParticipantAgent agent) {
@@ -52,31 +67,8 @@ public class PolicyEngineImpl implements PolicyEngine {
             }
         }
 
-        var evalBuilder = PolicyEvaluator.Builder.newInstance();
-
-        ruleFunctions.forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            }
-        });
-
-        constraintFunctions.forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
-            }
-        });
-
-        var evaluator = evalBuilder.build();
-        var result = evaluator.evaluate(policy);
-        if (result.valid()) {
+        var problems = compiler.compile(policy).evaluate(context);
+        if (problems.isEmpty()) {
             for (BiFunction<Policy, PolicyContext, Boolean> validator : postValidators) {
                 if (!validator.apply(policy, context)) {
                     return Result.failure(context.hasProblems() ? context.getProblems() : List.of("Post-validator failed: " + validator.getClass().getName()));
@@ -84,7 +76,7 @@ public class PolicyEngineImpl implements PolicyEngine {
             }
             return Result.success(policy);
         } else {
-            return Result.failure(result.getProblems().stream().map(RuleProblem::getDescription).collect(toList()));
+            return Result.failure(problems);
         }
     }
 
@@ -92,12 +84,14 @@ public class PolicyEngineImpl implements PolicyEngine {
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(Class<R> type, String key, AtomicConstraintFunction<R> function) {
         constraintFunctions.add(new ConstraintFunctionEntry(type, key, function));
+        compiler = newCompiler();
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(Class<R> type, RuleFunction<R> function) {
         ruleFunctions.add(new RuleFunctionEntry(type, function));
+        compiler = newCompiler();
     }
 
     @Override
@@ -110,7 +104,11 @@ public class PolicyEngineImpl implements PolicyEngine {
         postValidators.add(validator);
     }
 
-    private static class ConstraintFunctionEntry<R extends Rule> {
+    private PolicyCompiler newCompiler() {
+        return new PolicyCompiler(constraintFunctions, ruleFunctions, cacheSize);
+    }
+
+    static class ConstraintFunctionEntry<R extends Rule> {
         Class<R> type;
         String key;
         AtomicConstraintFunction<R> function;
@@ -122,7 +120,7 @@ public class PolicyEngineImpl implements PolicyEngine {
         }
     }
 
-    private static class RuleFunctionEntry<R extends Rule> {
+    static class RuleFunctionEntry<R extends Rule> {
         Class<R> type;
         RuleFunction<R> function;
 
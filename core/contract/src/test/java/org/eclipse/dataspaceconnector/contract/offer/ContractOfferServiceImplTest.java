@@ -23,16 +23,19 @@ import org.eclipse.dataspaceconnector.spi.contract.offer.ContractDefinitionServi
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferQuery;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferService;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -88,4 +91,48 @@ class ContractOfferServiceImplTest {
         verify(contractDefinitionService).definitionsFor(isA(ParticipantAgent.class));
         verify(assetIndex).queryAssets(isA(AssetSelectorExpression.class));
     }
+
+    @Test
+    void queryContractOffers_shouldReturnRequestedPage() {
+        var contractDefinition = ContractDefinition.Builder.newInstance()
+                .id("1")
+                .accessPolicy(Policy.Builder.newInstance().build())
+                .contractPolicy(Policy.Builder.newInstance().build())
+                .selectorExpression(AssetSelectorExpression.SELECT_ALL)
+                .build();
+
+        when(agentService.createFor(isA(ClaimToken.class))).thenReturn(new ParticipantAgent(emptyMap(), emptyMap()));
+        when(contractDefinitionService.definitionsFor(isA(ParticipantAgent.class))).thenReturn(Stream.of(contractDefinition));
+        var assetStream = Stream.of("1", "2", "3", "4").map(id -> Asset.Builder.newInstance().id(id).build());
+        when(assetIndex.queryAssets(isA(AssetSelectorExpression.class))).thenReturn(assetStream);
+
+        var query = ContractOfferQuery.builder().claimToken(ClaimToken.Builder.newInstance().build()).offset(1).limit(2).build();
+
+        assertThat(contractOfferService.queryContractOffers(query))
+                .extracting(offer -> offer.getAsset().getId())
+                .containsExactly("2", "3");
+    }
+
+    @Test
+    void queryContractOffers_shouldNarrowSelectorWithQueryCriteria() {
+        var contractDefinition = ContractDefinition.Builder.newInstance()
+                .id("1")
+                .accessPolicy(Policy.Builder.newInstance().build())
+                .contractPolicy(Policy.Builder.newInstance().build())
+                .selectorExpression(AssetSelectorExpression.Builder.newInstance().whenEquals("type", "file").build())
+                .build();
+
+        when(agentService.createFor(isA(ClaimToken.class))).thenReturn(new ParticipantAgent(emptyMap(), emptyMap()));
+        when(contractDefinitionService.definitionsFor(isA(ParticipantAgent.class))).thenReturn(Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(AssetSelectorExpression.class))).thenReturn(Stream.empty());
+
+        var query = ContractOfferQuery.builder()
+                .claimToken(ClaimToken.Builder.newInstance().build())
+                .criterion(new Criterion("name", "=", "test"))
+                .build();
+
+        assertThat(contractOfferService.queryContractOffers(query)).isEmpty();
+        verify(assetIndex).queryAssets(argThat((AssetSelectorExpression expression) -> expression.getCriteria()
+                .equals(List.of(new Criterion("type", "=", "file"), new Criterion("name", "=", "test")))));
+    }
 }
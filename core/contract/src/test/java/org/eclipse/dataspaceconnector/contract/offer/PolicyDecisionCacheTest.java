@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contract.offer;
+
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgent;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PolicyDecisionCacheTest {
+
+    private final Clock clock = mock(Clock.class);
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private PolicyDecisionCache cache;
+
+    @Test
+    void verifyDecisionIsReusedForTheSameAgent() {
+        var definition = createDefinition("1");
+
+        assertThat(cache.evaluate(agent("eu"), definition, this::evaluate)).isTrue();
+        assertThat(cache.evaluate(agent("eu"), definition, this::evaluate)).isTrue();
+
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @Test
+    void verifyDecisionIsNotReusedForAnotherAgent() {
+        var definition = createDefinition("1");
+
+        cache.evaluate(agent("eu"), definition, this::evaluate);
+        cache.evaluate(agent("us"), definition, this::evaluate);
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void verifyDecisionIsNotReusedForAnUpdatedDefinition() {
+        cache.evaluate(agent("eu"), createDefinition("1"), this::evaluate);
+        cache.evaluate(agent("eu"), createDefinition("1"), this::evaluate);
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void verifyDecisionExpires() {
+        var definition = createDefinition("1");
+
+        cache.evaluate(agent("eu"), definition, this::evaluate);
+        when(clock.millis()).thenReturn(1000L);
+        cache.evaluate(agent("eu"), definition, this::evaluate);
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void verifyDecisionIsReusedForAnotherTokenOfTheSameAgent() {
+        var definition = createDefinition("1");
+
+        cache.evaluate(new ParticipantAgent(Map.of("region", "eu", "exp", "100", "iat", "10", "jti", "a"), Map.of()), definition, this::evaluate);
+        cache.evaluate(new ParticipantAgent(Map.of("region", "eu", "exp", "200", "iat", "20", "jti", "b"), Map.of()), definition, this::evaluate);
+
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        cache = new PolicyDecisionCache(10, 1000, clock);
+    }
+
+    private boolean evaluate() {
+        evaluations.incrementAndGet();
+        return true;
+    }
+
+    private ParticipantAgent agent(String region) {
+        return new ParticipantAgent(Map.of("region", region), Map.of());
+    }
+
+    private ContractDefinition createDefinition(String id) {
+        return ContractDefinition.Builder.newInstance()
+                .id(id)
+                .accessPolicy(Policy.Builder.newInstance().build())
+                .contractPolicy(Policy.Builder.newInstance().build())
+                .selectorExpression(AssetSelectorExpression.SELECT_ALL)
+                .build();
+    }
+}
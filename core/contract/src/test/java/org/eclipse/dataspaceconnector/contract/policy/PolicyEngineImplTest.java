@@ -23,9 +23,12 @@ import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.policy.model.Operator.EQ;
+import static org.eclipse.dataspaceconnector.policy.model.Operator.GT;
 
 class PolicyEngineImplTest {
     private PolicyEngineImpl policyEngine;
@@ -113,6 +116,52 @@ class PolicyEngineImplTest {
         assertThat(result.succeeded()).isFalse();
     }
 
+    @Test
+    void validateCompiledPolicyIsEvaluatedForEveryAgent() {
+        policyEngine.registerFunction(Permission.class, "region", (op, rv, permission, context) -> rv.equals(context.getParticipantAgent().getClaims().get("region")));
+
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(new LiteralExpression("region")).operator(EQ).rightExpression(new LiteralExpression("eu")).build();
+        var permission = Permission.Builder.newInstance().constraint(constraint).build();
+        var policy = Policy.Builder.newInstance().permission(permission).build();
+
+        assertThat(policyEngine.evaluate(policy, new ParticipantAgent(Map.of("region", "eu"), emptyMap())).succeeded()).isTrue();
+        assertThat(policyEngine.evaluate(policy, new ParticipantAgent(Map.of("region", "us"), emptyMap())).succeeded()).isFalse();
+    }
+
+    @Test
+    void validateFunctionRegistrationInvalidatesCompiledPolicies() {
+        var left = new LiteralExpression("foo");
+        var right = new LiteralExpression("bar");
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(left).operator(EQ).rightExpression(right).build();
+        var permission = Permission.Builder.newInstance().constraint(constraint).build();
+        var policy = Policy.Builder.newInstance().permission(permission).build();
+        var agent = new ParticipantAgent(emptyMap(), emptyMap());
+
+        // without a function, the literal values are compared
+        assertThat(policyEngine.evaluate(policy, agent).succeeded()).isFalse();
+
+        policyEngine.registerFunction(Permission.class, "foo", (op, rv, duty, context) -> true);
+
+        assertThat(policyEngine.evaluate(policy, agent).succeeded()).isTrue();
+    }
+
+    @Test
+    void validateUnsupportedOperatorFailsPermissionAndProhibition() {
+        var agent = new ParticipantAgent(emptyMap(), emptyMap());
+        var constraint = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("foo")).operator(GT).rightExpression(new LiteralExpression("bar")).build();
+        var permissionPolicy = Policy.Builder.newInstance().permission(Permission.Builder.newInstance().constraint(constraint).build()).build();
+        var prohibitionPolicy = Policy.Builder.newInstance().prohibition(Prohibition.Builder.newInstance().constraint(constraint).build()).build();
+
+        var permissionResult = policyEngine.evaluate(permissionPolicy, agent);
+        var prohibitionResult = policyEngine.evaluate(prohibitionPolicy, agent);
+
+        assertThat(permissionResult.failed()).isTrue();
+        assertThat(permissionResult.getFailureMessages()).anySatisfy(message -> assertThat(message).startsWith("Unsupported operator GT"));
+        assertThat(prohibitionResult.failed()).isTrue();
+        assertThat(prohibitionResult.getFailureMessages()).anySatisfy(message -> assertThat(message).startsWith("Unsupported operator GT"));
+    }
+
     @BeforeEach
     void setUp() {
         policyEngine = new PolicyEngineImpl();
@@ -26,12 +26,13 @@ import okhttp3.EventListener;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.system.BaseExtension;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
 @BaseExtension
-@Provides({EventListener.class, ExecutorInstrumentation.class, MeterRegistry.class})
+@Provides({EventListener.class, ExecutorInstrumentation.class, MetricsInstrumentation.class, MeterRegistry.class})
 public class MicrometerExtension implements ServiceExtension {
 
     @EdcSetting
@@ -64,6 +65,8 @@ public class MicrometerExtension implements ServiceExtension {
             return; // metrics disabled
         }
 
+        context.registerService(MetricsInstrumentation.class, new MicrometerMetricsInstrumentation(registry));
+
         if (enableSystemMetrics) {
             enableSystemMetrics(registry);
         }
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.metrics.micrometer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * {@link MetricsInstrumentation} that records the application metrics in a Micrometer {@link MeterRegistry}.
+ */
+public class MicrometerMetricsInstrumentation implements MetricsInstrumentation {
+    private final MeterRegistry registry;
+
+    public MicrometerMetricsInstrumentation(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void gauge(String name, Supplier<Number> value, String... tags) {
+        Gauge.builder(name, value).tags(tags).register(registry);
+    }
+
+    @Override
+    public void counter(String name, double amount, String... tags) {
+        registry.counter(name, tags).increment(amount);
+    }
+
+    @Override
+    public void timer(String name, Duration duration, String... tags) {
+        registry.timer(name, tags).record(duration);
+    }
+
+    @Override
+    public void summary(String name, double amount, String... tags) {
+        registry.summary(name, tags).record(amount);
+    }
+}
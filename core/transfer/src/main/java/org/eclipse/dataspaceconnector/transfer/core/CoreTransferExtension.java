@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.transfer.core;
 
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.command.BoundedCommandQueue;
 import org.eclipse.dataspaceconnector.spi.command.CommandHandlerRegistry;
 import org.eclipse.dataspaceconnector.spi.command.CommandRunner;
@@ -22,6 +23,7 @@ import org.eclipse.dataspaceconnector.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.CoreExtension;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
@@ -57,7 +59,20 @@ import org.eclipse.dataspaceconnector.transfer.core.transfer.TransferProcessMana
         TransferProcessObservable.class, DataOperatorRegistry.class, DataFlowManager.class, ProvisionManager.class,
         EndpointDataReferenceReceiverRegistry.class, EndpointDataReferenceTransformer.class})
 public class CoreTransferExtension implements ServiceExtension {
+    @EdcSetting
+    public static final String TRANSFER_STATE_MACHINE_PARTITIONS = "edc.transfer.state-machine.partitions";
+    @EdcSetting
+    public static final String TRANSFER_STATE_MACHINE_BATCH_SIZE_MIN = "edc.transfer.state-machine.batch-size.min";
+    @EdcSetting
+    public static final String TRANSFER_STATE_MACHINE_BATCH_SIZE_MAX = "edc.transfer.state-machine.batch-size.max";
+    @EdcSetting
+    public static final String TRANSFER_STATE_MACHINE_BATCH_TARGET_MILLIS = "edc.transfer.state-machine.batch-target-millis";
+
     private static final long DEFAULT_ITERATION_WAIT = 5000; // millis
+    private static final int DEFAULT_PARTITIONS = 1;
+    private static final int DEFAULT_BATCH_SIZE_MIN = 5;
+    private static final int DEFAULT_BATCH_SIZE_MAX = 100;
+    private static final long DEFAULT_BATCH_TARGET_MILLIS = 1000;
 
     @Inject
     private TransferProcessStore transferProcessStore;
@@ -115,6 +130,11 @@ public class CoreTransferExtension implements ServiceExtension {
 
         processManager = TransferProcessManagerImpl.Builder.newInstance()
                 .waitStrategy(waitStrategy)
+                .partitions(context.getSetting(TRANSFER_STATE_MACHINE_PARTITIONS, DEFAULT_PARTITIONS))
+                .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE_MIN, DEFAULT_BATCH_SIZE_MIN))
+                .maxBatchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE_MAX, DEFAULT_BATCH_SIZE_MAX))
+                .batchTargetMillis(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_TARGET_MILLIS, DEFAULT_BATCH_TARGET_MILLIS))
+                .metrics(context.getService(MetricsInstrumentation.class))
                 .manifestGenerator(manifestGenerator)
                 .dataFlowManager(dataFlowManager)
                 .provisionManager(provisionManager)
@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.transfer.core.transfer;
 
 import io.opentelemetry.extension.annotations.WithSpan;
+import org.eclipse.dataspaceconnector.common.statemachine.AdaptiveBatchSize;
 import org.eclipse.dataspaceconnector.common.statemachine.StateMachine;
 import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorImpl;
 import org.eclipse.dataspaceconnector.spi.command.CommandProcessor;
@@ -25,6 +26,7 @@ import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.retry.WaitStrategy;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferInitiateResult;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
@@ -74,14 +76,21 @@ import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferP
  * <br/>
  * The transfer manager performs continual iterations, which seek to advance the state of transfer processes, including recovery, in a FIFO state-based ordering.
  * Each iteration will seek to transition a set number of processes for each state to avoid situations where an excessive number of processes in one state block progress of
- * processes in other states.
+ * processes in other states. The number of processes fetched for each state is adapted between {@code batchSize} and {@code maxBatchSize} according to the backlog and to
+ * the processing time observed on the previous iterations (cf {@link AdaptiveBatchSize}).
  * <br/>
  * If no processes need to be transitioned, the transfer manager will wait according to the the defined {@link WaitStrategy} before conducting the next iteration.
  * A wait strategy may implement a backoff scheme.
+ * <br/>
+ * When configured with more than one partition, the processes are partitioned by process id and every partition runs its own loop that fetches
+ * and processes the processes of the partition, so that a single process is never handled by two threads at the same time.
  */
 public class TransferProcessManagerImpl implements TransferProcessManager {
 
     private int batchSize = 5;
+    private int maxBatchSize = 5;
+    private long batchTargetMillis = 1000;
+    private int partitions = 1;
     private WaitStrategy waitStrategy = () -> 5000L;  // default wait five seconds
     private ResourceManifestGenerator manifestGenerator;
     private ProvisionManager provisionManager;
@@ -97,6 +106,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
     private CommandProcessor<TransferProcessCommand> commandProcessor;
     private Monitor monitor;
     private Telemetry telemetry;
+    private MetricsInstrumentation metrics;
     private StateMachine stateMachine;
 
     private TransferProcessManagerImpl() {
@@ -104,12 +114,13 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
 
     public void start() {
         stateMachine = StateMachine.Builder.newInstance("transfer-process", monitor, waitStrategy)
-                .processor(processTransfersInState(INITIAL, this::processInitial))
-                .processor(processTransfersInState(PROVISIONED, this::processProvisioned))
-                .processor(processTransfersInState(REQUESTED_ACK, this::processAckRequested))
-                .processor(processTransfersInState(IN_PROGRESS, this::processInProgress))
-                .processor(processTransfersInState(DEPROVISIONING_REQ, this::processDeprovisioningRequest))
-                .processor(processTransfersInState(DEPROVISIONED, this::processDeprovisioned))
+                .partitions(partitions)
+                .partitionedProcessor(partition -> processTransfersInState(INITIAL, this::processInitial, partition))
+                .partitionedProcessor(partition -> processTransfersInState(PROVISIONED, this::processProvisioned, partition))
+                .partitionedProcessor(partition -> processTransfersInState(REQUESTED_ACK, this::processAckRequested, partition))
+                .partitionedProcessor(partition -> processTransfersInState(IN_PROGRESS, this::processInProgress, partition))
+                .partitionedProcessor(partition -> processTransfersInState(DEPROVISIONING_REQ, this::processDeprovisioningRequest, partition))
+                .partitionedProcessor(partition -> processTransfersInState(DEPROVISIONED, this::processDeprovisioned, partition))
                 .processor(onCommands(this::processCommand))
                 .build();
         stateMachine.start();
@@ -143,6 +154,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
     @Override
     public void enqueueCommand(TransferProcessCommand command) {
         commandQueue.enqueue(command);
+        wakeUp();
     }
 
     void onProvisionComplete(String processId, List<ProvisionResponse> responses) {
@@ -172,7 +184,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
                             dataDestination.setKeyName(keyName);
                         }
 
-                        transferProcess.getDataRequest().updateDestination(dataDestination);
+                        transferProcess.updateDestination(dataDestination);
                     }
 
                     return destinationResource;
@@ -184,6 +196,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
         }
 
         transferProcessStore.update(transferProcess);
+        wakeUp();
     }
 
     void onDeprovisionComplete(String processId) {
@@ -202,6 +215,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
 
         transferProcess.transitionDeprovisioned();
         transferProcessStore.update(transferProcess);
+        wakeUp();
         observable.invokeForEach(l -> l.deprovisioned(transferProcess));
     }
 
@@ -214,6 +228,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
 
         transferProcess.transitionRequestAck();
         transferProcessStore.update(transferProcess);
+        wakeUp();
     }
 
     private TransferInitiateResult initiateRequest(TransferProcess.Type type, DataRequest dataRequest) {
@@ -230,16 +245,33 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
         }
         transferProcessStore.create(process);
         observable.invokeForEach(l -> l.created(process));
+        wakeUp();
         return TransferInitiateResult.success(process.getId());
     }
 
-    private StateProcessorImpl<TransferProcess> processTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
+    private void wakeUp() {
+        if (stateMachine != null) {
+            stateMachine.wakeUp();
+        }
+    }
+
+    private StateProcessorImpl<TransferProcess> processTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function, int partition) {
         var functionWithTraceContext = telemetry.contextPropagationMiddleware(function);
-        return new StateProcessorImpl<>(() -> transferProcessStore.nextForState(state.code(), batchSize), functionWithTraceContext);
+        return StateProcessorImpl.Builder.newInstance(max -> transferProcessStore.nextForState(state.code(), max, partition, partitions), functionWithTraceContext)
+                .batchSize(batchSize(state.name(), partition))
+                .build();
     }
 
     private StateProcessorImpl<TransferProcessCommand> onCommands(Function<TransferProcessCommand, Boolean> process) {
-        return new StateProcessorImpl<>(() -> commandQueue.dequeue(5), process);
+        return StateProcessorImpl.Builder.newInstance(max -> commandQueue.dequeue(max), process)
+                .batchSize(batchSize("COMMANDS", 0))
+                .build();
+    }
+
+    private AdaptiveBatchSize batchSize(String processor, int partition) {
+        var adaptiveBatchSize = new AdaptiveBatchSize(batchSize, Math.max(batchSize, maxBatchSize), batchTargetMillis);
+        metrics.gauge("edc.statemachine.batch.size", adaptiveBatchSize::get, "statemachine", "transfer-process", "processor", processor, "partition", String.valueOf(partition));
+        return adaptiveBatchSize;
     }
 
     private boolean processCommand(TransferProcessCommand command) {
@@ -416,6 +448,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
 
                         transferProcess.transitionInProgressOrStreaming();
                         transferProcessStore.update(transferProcess);
+                        wakeUp();
                         observable.invokeForEach(l -> l.inProgress(transferProcess));
                     }
                 });
@@ -427,6 +460,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
         private Builder() {
             manager = new TransferProcessManagerImpl();
             manager.telemetry = new Telemetry(); // default noop implementation
+            manager.metrics = MetricsInstrumentation.NOOP;
         }
 
         public static Builder newInstance() {
@@ -438,6 +472,21 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
             return this;
         }
 
+        public Builder maxBatchSize(int size) {
+            manager.maxBatchSize = size;
+            return this;
+        }
+
+        public Builder batchTargetMillis(long millis) {
+            manager.batchTargetMillis = millis;
+            return this;
+        }
+
+        public Builder partitions(int partitions) {
+            manager.partitions = partitions;
+            return this;
+        }
+
         public Builder waitStrategy(WaitStrategy waitStrategy) {
             manager.waitStrategy = waitStrategy;
             return this;
@@ -478,6 +527,11 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
             return this;
         }
 
+        public Builder metrics(MetricsInstrumentation metrics) {
+            manager.metrics = metrics;
+            return this;
+        }
+
         public Builder vault(Vault vault) {
             manager.vault = vault;
             return this;
@@ -519,6 +573,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager {
             Objects.requireNonNull(manager.statusCheckerRegistry, "StatusCheckerRegistry cannot be null!");
             Objects.requireNonNull(manager.observable, "Observable cannot be null");
             Objects.requireNonNull(manager.telemetry, "Telemetry cannot be null");
+            Objects.requireNonNull(manager.metrics, "Metrics cannot be null");
             Objects.requireNonNull(manager.transferProcessStore, "Store cannot be null");
             manager.commandProcessor = new CommandProcessor<>(manager.commandQueue, manager.commandRunner, manager.monitor);
 
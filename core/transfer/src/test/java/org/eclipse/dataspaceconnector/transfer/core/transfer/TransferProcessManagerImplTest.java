@@ -125,7 +125,7 @@ class TransferProcessManagerImplTest {
             return null;
         }).when(provisionManager).provision(any(TransferProcess.class));
 
-        when(store.nextForState(eq(INITIAL.code()), anyInt())).thenReturn(List.of(process));
+        when(store.nextForState(eq(INITIAL.code()), anyInt(), anyInt(), anyInt())).thenReturn(List.of(process));
 
         store.update(process);
         doNothing().when(store).update(process);
@@ -135,7 +135,7 @@ class TransferProcessManagerImplTest {
         assertThat(cdl.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
         assertThat(process.getState()).describedAs("State should be PROVISIONING").isEqualTo(TransferProcessStates.PROVISIONING.code());
         verify(provisionManager, atLeastOnce()).provision(any(TransferProcess.class));
-        verify(store, atLeastOnce()).nextForState(eq(INITIAL.code()), anyInt());
+        verify(store, atLeastOnce()).nextForState(eq(INITIAL.code()), anyInt(), anyInt(), anyInt());
         verify(store, atLeastOnce()).update(process);
     }
 
@@ -150,7 +150,7 @@ class TransferProcessManagerImplTest {
             return null;
         }).when(dispatcherRegistry).send(eq(Object.class), any(), any());
 
-        when(store.nextForState(eq(PROVISIONED.code()), anyInt())).thenReturn(List.of(process));
+        when(store.nextForState(eq(PROVISIONED.code()), anyInt(), anyInt(), anyInt())).thenReturn(List.of(process));
         doNothing().when(store).update(process);
 
         manager.start();
@@ -158,7 +158,7 @@ class TransferProcessManagerImplTest {
         assertThat(cdl.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
         assertThat(process.getState()).describedAs("State should be REQUESTED").isEqualTo(TransferProcessStates.REQUESTED.code());
         verify(dispatcherRegistry, atLeastOnce()).send(any(), any(), any());
-        verify(store, atLeastOnce()).nextForState(eq(INITIAL.code()), anyInt());
+        verify(store, atLeastOnce()).nextForState(eq(INITIAL.code()), anyInt(), anyInt(), anyInt());
         verify(store, atLeastOnce()).update(process);
     }
 
@@ -170,7 +170,7 @@ class TransferProcessManagerImplTest {
 
         var cdl = new CountDownLatch(1);
 
-        when(store.nextForState(eq(REQUESTED_ACK.code()), anyInt())).thenReturn(List.of(process));
+        when(store.nextForState(eq(REQUESTED_ACK.code()), anyInt(), anyInt(), anyInt())).thenReturn(List.of(process));
 
         store.update(process);
         doAnswer(i -> {
@@ -182,7 +182,7 @@ class TransferProcessManagerImplTest {
 
         assertThat(cdl.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
         assertThat(process.getState()).describedAs("State should be IN_PROGRESS").isEqualTo(IN_PROGRESS.code());
-        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt());
+        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt(), anyInt(), anyInt());
         verify(store, atLeastOnce()).update(process);
     }
 
@@ -197,7 +197,7 @@ class TransferProcessManagerImplTest {
 
         var cdl = new CountDownLatch(1);
 
-        when(store.nextForState(eq(REQUESTED_ACK.code()), anyInt())).thenReturn(List.of(process));
+        when(store.nextForState(eq(REQUESTED_ACK.code()), anyInt(), anyInt(), anyInt())).thenReturn(List.of(process));
 
         doAnswer(i -> {
             cdl.countDown();
@@ -208,7 +208,7 @@ class TransferProcessManagerImplTest {
 
         assertThat(cdl.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
         assertThat(process.getState()).describedAs("State should be STREAMING").isEqualTo(TransferProcessStates.STREAMING.code());
-        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt());
+        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt(), anyInt(), anyInt());
         verify(store, atLeastOnce()).update(process);
     }
 
@@ -219,9 +219,9 @@ class TransferProcessManagerImplTest {
 
         var cdl = new CountDownLatch(1);
 
-        when(store.nextForState(eq(REQUESTED_ACK.code()), anyInt())).thenReturn(List.of(process));
+        when(store.nextForState(eq(REQUESTED_ACK.code()), anyInt(), anyInt(), anyInt())).thenReturn(List.of(process));
 
-        when(store.nextForState(anyInt(), anyInt())).thenAnswer(i -> {
+        when(store.nextForState(anyInt(), anyInt(), anyInt(), anyInt())).thenAnswer(i -> {
             cdl.countDown();
             return emptyList();
         });
@@ -234,7 +234,7 @@ class TransferProcessManagerImplTest {
 
         assertThat(cdl.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
         assertThat(process.getState()).describedAs("State should be REQUESTED_ACK").isEqualTo(REQUESTED_ACK.code());
-        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt());
+        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt(), anyInt(), anyInt());
         verify(store, atLeastOnce()).update(process);
     }
 
@@ -247,7 +247,7 @@ class TransferProcessManagerImplTest {
 
         var cdl = new CountDownLatch(1);
 
-        when(store.nextForState(eq(IN_PROGRESS.code()), anyInt()))
+        when(store.nextForState(eq(IN_PROGRESS.code()), anyInt(), anyInt(), anyInt()))
                 .thenReturn(List.of(process)).thenReturn(emptyList());
         doAnswer(i -> {
             cdl.countDown();
@@ -261,7 +261,7 @@ class TransferProcessManagerImplTest {
         assertThat(cdl.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
         assertThat(process.getState()).describedAs("State should be COMPLETED").isEqualTo(TransferProcessStates.COMPLETED.code());
         verify(statusCheckerRegistry, atLeastOnce()).resolve(any());
-        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt());
+        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt(), anyInt(), anyInt());
         verify(store, atLeastOnce()).update(process);
     }
 
@@ -274,7 +274,7 @@ class TransferProcessManagerImplTest {
 
         var cdl = new CountDownLatch(1);
 
-        when(store.nextForState(eq(IN_PROGRESS.code()), anyInt())).thenReturn(List.of(process));
+        when(store.nextForState(eq(IN_PROGRESS.code()), anyInt(), anyInt(), anyInt())).thenReturn(List.of(process));
 
         store.update(process);
         doAnswer(i -> {
@@ -289,7 +289,7 @@ class TransferProcessManagerImplTest {
         assertThat(cdl.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
         assertThat(process.getState()).describedAs("State should be COMPLETED").isEqualTo(TransferProcessStates.COMPLETED.code());
         verify(statusCheckerRegistry, atLeastOnce()).resolve(any());
-        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt());
+        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt(), anyInt(), anyInt());
         verify(store, atLeastOnce()).update(process);
     }
 
@@ -302,8 +302,8 @@ class TransferProcessManagerImplTest {
 
         var cdl = new CountDownLatch(1);
 
-        when(store.nextForState(eq(IN_PROGRESS.code()), anyInt())).thenReturn(List.of(process));
-        when(store.nextForState(anyInt(), anyInt())).thenAnswer(i -> {
+        when(store.nextForState(eq(IN_PROGRESS.code()), anyInt(), anyInt(), anyInt())).thenReturn(List.of(process));
+        when(store.nextForState(anyInt(), anyInt(), anyInt(), anyInt())).thenAnswer(i -> {
             cdl.countDown();
             return emptyList();
         });
@@ -314,7 +314,7 @@ class TransferProcessManagerImplTest {
 
         assertThat(cdl.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
         assertThat(process.getState()).describedAs("State should be IN_PROGRESS").isEqualTo(IN_PROGRESS.code());
-        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt());
+        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt(), anyInt(), anyInt());
     }
 
     @Test
@@ -326,8 +326,8 @@ class TransferProcessManagerImplTest {
 
         var cdl = new CountDownLatch(1);
 
-        when(store.nextForState(eq(IN_PROGRESS.code()), anyInt())).thenReturn(List.of(process));
-        when(store.nextForState(anyInt(), anyInt())).thenAnswer(i -> {
+        when(store.nextForState(eq(IN_PROGRESS.code()), anyInt(), anyInt(), anyInt())).thenReturn(List.of(process));
+        when(store.nextForState(anyInt(), anyInt(), anyInt(), anyInt())).thenAnswer(i -> {
             cdl.countDown();
             return emptyList();
         });
@@ -339,7 +339,7 @@ class TransferProcessManagerImplTest {
 
         assertThat(cdl.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
         assertThat(process.getState()).describedAs("State should be IN_PROGRESS").isEqualTo(IN_PROGRESS.code());
-        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt());
+        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt(), anyInt(), anyInt());
     }
 
     @Test
@@ -351,7 +351,7 @@ class TransferProcessManagerImplTest {
 
         var cdl = new CountDownLatch(1);
 
-        when(store.nextForState(eq(IN_PROGRESS.code()), anyInt())).thenReturn(List.of(process));
+        when(store.nextForState(eq(IN_PROGRESS.code()), anyInt(), anyInt(), anyInt())).thenReturn(List.of(process));
 
         doAnswer(i -> {
             cdl.countDown();
@@ -365,7 +365,7 @@ class TransferProcessManagerImplTest {
         assertThat(cdl.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
         assertThat(process.getState()).describedAs("State should be COMPLETED").isEqualTo(TransferProcessStates.COMPLETED.code());
         verify(statusCheckerRegistry, atLeastOnce()).resolve(any());
-        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt());
+        verify(store, atLeastOnce()).nextForState(anyInt(), anyInt(), anyInt(), anyInt());
         verify(store, atLeastOnce()).update(process);
     }
 
@@ -35,8 +35,10 @@ import org.eclipse.dataspaceconnector.ids.spi.IdsType;
 import org.eclipse.dataspaceconnector.ids.spi.transform.TransformerRegistry;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
+import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
 import org.eclipse.dataspaceconnector.spi.message.MessageContext;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.message.RemoteMessage;
 import org.glassfish.jersey.media.multipart.ContentDisposition;
 import org.jetbrains.annotations.NotNull;
@@ -91,7 +93,7 @@ abstract class IdsMultipartSender<M extends RemoteMessage, R> implements IdsMess
 
     /**
      * Builds and sends the IDS multipart request. Reads header and payload as {@link InputStream}
-     * from the multipart response.
+     * from the multipart response. The token is obtained without blocking the calling thread.
      *
      * @param request the request.
      * @param context the message context.
@@ -100,7 +102,11 @@ abstract class IdsMultipartSender<M extends RemoteMessage, R> implements IdsMess
     @Override
     public CompletableFuture<R> send(M request, MessageContext context) {
         // Get Dynamic Attribute Token
-        var tokenResult = identityService.obtainClientCredentials(TOKEN_SCOPE);
+        return identityService.obtainClientCredentialsAsync(TOKEN_SCOPE)
+                .thenCompose(tokenResult -> sendRequest(request, tokenResult));
+    }
+
+    private CompletableFuture<R> sendRequest(M request, Result<TokenRepresentation> tokenResult) {
         if (tokenResult.failed()) {
             String message = "Failed to obtain token: " + String.join(",", tokenResult.getFailureMessages());
             monitor.severe(message);
@@ -35,6 +35,7 @@ import java.text.SimpleDateFormat;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.eclipse.dataspaceconnector.common.testfixtures.TestUtils.getFreePort;
@@ -85,7 +86,9 @@ abstract class AbstractMultipartDispatcherIntegrationTest {
         var claimToken = ClaimToken.Builder.newInstance().claim("key", "value").build();
         identityService = mock(IdentityService.class);
         when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(tokenResult));
+        when(identityService.obtainClientCredentialsAsync(any())).thenReturn(CompletableFuture.completedFuture(Result.success(tokenResult)));
         when(identityService.verifyJwtToken(any(TokenRepresentation.class))).thenReturn(Result.success(claimToken));
+        when(identityService.verifyJwtTokenAsync(any(TokenRepresentation.class))).thenReturn(CompletableFuture.completedFuture(Result.success(claimToken)));
 
         extension.registerSystemExtension(ServiceExtension.class,
                 new IdsApiMultipartDispatcherV1IntegrationTestServiceExtension(ASSETS, identityService));
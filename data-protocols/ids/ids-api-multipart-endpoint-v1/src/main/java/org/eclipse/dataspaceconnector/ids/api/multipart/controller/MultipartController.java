@@ -15,6 +15,7 @@
 
 package org.eclipse.dataspaceconnector.ids.api.multipart.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.fraunhofer.iais.eis.Connector;
@@ -24,8 +25,11 @@ import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.dataspaceconnector.ids.api.multipart.handler.Handler;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartRequest;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartResponse;
@@ -79,28 +83,37 @@ public class MultipartController {
         this.identityService = Objects.requireNonNull(identityService);
     }
 
+    /**
+     * Handles a multipart request. The request thread is released while the token is verified, as the verification may
+     * require calls to remote services.
+     */
     @POST
-    public Response request(@FormDataParam(HEADER) InputStream headerInputStream,
-                            @FormDataParam(PAYLOAD) String payload) {
+    public void request(@FormDataParam(HEADER) InputStream headerInputStream,
+                        @FormDataParam(PAYLOAD) String payload,
+                        @Suspended AsyncResponse response) {
         if (headerInputStream == null) {
-            return Response.ok(createFormDataMultiPart(malformedMessage(null, connectorId))).build();
+            response.resume(Response.ok(createFormDataMultiPart(malformedMessage(null, connectorId))).build());
+            return;
         }
 
         Message header;
         try {
             header = objectMapper.readValue(headerInputStream, Message.class);
         } catch (IOException e) {
-            return Response.ok(createFormDataMultiPart(malformedMessage(null, connectorId))).build();
+            response.resume(Response.ok(createFormDataMultiPart(malformedMessage(null, connectorId))).build());
+            return;
         }
 
         if (header == null) {
-            return Response.ok(createFormDataMultiPart(malformedMessage(null, connectorId))).build();
+            response.resume(Response.ok(createFormDataMultiPart(malformedMessage(null, connectorId))).build());
+            return;
         }
 
         DynamicAttributeToken dynamicAttributeToken = header.getSecurityToken();
         if (dynamicAttributeToken == null || dynamicAttributeToken.getTokenValue() == null) {
             monitor.warning("MultipartController: Token is missing in header");
-            return Response.ok(createFormDataMultiPart(notAuthenticated(header, connectorId))).build();
+            response.resume(Response.ok(createFormDataMultiPart(notAuthenticated(header, connectorId))).build());
+            return;
         }
 
         Map<String, Object> additional = new HashMap<>();
@@ -117,8 +130,20 @@ public class MultipartController {
                 .additional(additional)
                 .build();
 
-        Result<ClaimToken> verificationResult = identityService.verifyJwtToken(tokenRepresentation);
+        identityService.verifyJwtTokenAsync(tokenRepresentation).whenComplete((verificationResult, throwable) -> {
+            if (throwable != null) {
+                response.resume(throwable);
+                return;
+            }
+            try {
+                response.resume(handle(header, payload, verificationResult));
+            } catch (Exception e) {
+                response.resume(e);
+            }
+        });
+    }
 
+    private Response handle(Message header, String payload, Result<ClaimToken> verificationResult) {
         if (verificationResult.failed()) {
             monitor.warning(format("MultipartController: Token validation failed %s", verificationResult.getFailure().getMessages()));
             return Response.ok(createFormDataMultiPart(notAuthenticated(header, connectorId))).build();
@@ -161,12 +186,21 @@ public class MultipartController {
         }
 
         if (payload != null) {
-            multiPart.bodyPart(new FormDataBodyPart(PAYLOAD, toJson(payload), MediaType.APPLICATION_JSON_TYPE));
+            multiPart.bodyPart(new FormDataBodyPart(PAYLOAD, toJsonStream(payload), MediaType.APPLICATION_JSON_TYPE));
         }
 
         return multiPart;
     }
 
+    /**
+     * Serializes the object directly to the response stream while it is written, so that large payloads like the data
+     * catalog are never buffered as a whole in memory.
+     */
+    private StreamingOutput toJsonStream(Object object) {
+        var writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return output -> writer.writeValue(output, object);
+    }
+
     private byte[] toJson(Object object) {
         try {
             return objectMapper.writeValueAsBytes(object);
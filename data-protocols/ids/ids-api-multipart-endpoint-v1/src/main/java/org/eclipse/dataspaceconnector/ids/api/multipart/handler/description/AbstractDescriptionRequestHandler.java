@@ -66,6 +66,10 @@ abstract class AbstractDescriptionRequestHandler<T, S> implements DescriptionReq
             return createBadParametersErrorMultipartResponse(connectorId, descriptionRequestMessage);
         }
 
+        if (!isValidRequest(descriptionRequestMessage)) {
+            return createBadParametersErrorMultipartResponse(connectorId, descriptionRequestMessage);
+        }
+
         var result = transformerRegistry.transform(uri, IdsId.class);
         if (result.failed()) {
             monitor.warning(
@@ -82,7 +86,7 @@ abstract class AbstractDescriptionRequestHandler<T, S> implements DescriptionReq
             return createBadParametersErrorMultipartResponse(connectorId, descriptionRequestMessage);
         }
 
-        T retrievedObject = retrieveObject(idsId, verificationResult);
+        T retrievedObject = retrieveObject(idsId, verificationResult, descriptionRequestMessage);
         if (retrievedObject == null) {
             return createNotFoundErrorMultipartResponse(connectorId, descriptionRequestMessage);
         }
@@ -110,5 +114,19 @@ abstract class AbstractDescriptionRequestHandler<T, S> implements DescriptionReq
                 .build();
     }
 
+    /**
+     * Validates the request specific properties of the message, returns false if the request has bad parameters.
+     */
+    protected boolean isValidRequest(@NotNull DescriptionRequestMessage descriptionRequestMessage) {
+        return true;
+    }
+
+    /**
+     * Retrieves the requested object, handlers that need the properties of the request message can override this method.
+     */
+    protected T retrieveObject(@NotNull IdsId idsId, @NotNull Result<ClaimToken> verificationResult, @NotNull DescriptionRequestMessage descriptionRequestMessage) {
+        return retrieveObject(idsId, verificationResult);
+    }
+
     protected abstract T retrieveObject(@NotNull IdsId idsId, @NotNull Result<ClaimToken> verificationResult);
 }
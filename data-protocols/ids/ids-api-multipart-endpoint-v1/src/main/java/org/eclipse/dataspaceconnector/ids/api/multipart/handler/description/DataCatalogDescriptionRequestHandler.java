@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.ids.api.multipart.handler.description;
 
+import de.fraunhofer.iais.eis.DescriptionRequestMessage;
 import de.fraunhofer.iais.eis.ResourceCatalog;
 import org.eclipse.dataspaceconnector.ids.spi.IdsId;
 import org.eclipse.dataspaceconnector.ids.spi.IdsType;
@@ -25,6 +26,14 @@ import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
 import org.jetbrains.annotations.NotNull;
 
+import static org.eclipse.dataspaceconnector.ids.spi.IdsConstants.CATALOG_LIMIT_PROPERTY;
+import static org.eclipse.dataspaceconnector.ids.spi.IdsConstants.CATALOG_OFFSET_PROPERTY;
+
+/**
+ * Handles data catalog description requests. The {@link org.eclipse.dataspaceconnector.ids.spi.IdsConstants#CATALOG_OFFSET_PROPERTY}
+ * and {@link org.eclipse.dataspaceconnector.ids.spi.IdsConstants#CATALOG_LIMIT_PROPERTY} properties of the request message
+ * can be used to request a page of the catalog instead of the whole catalog.
+ */
 public class DataCatalogDescriptionRequestHandler extends AbstractDescriptionRequestHandler<Catalog, ResourceCatalog> {
     private final CatalogService dataCatalogService;
 
@@ -43,7 +52,39 @@ public class DataCatalogDescriptionRequestHandler extends AbstractDescriptionReq
         this.dataCatalogService = dataCatalogService;
     }
 
+    @Override
+    protected boolean isValidRequest(@NotNull DescriptionRequestMessage descriptionRequestMessage) {
+        return pageProperty(descriptionRequestMessage, CATALOG_OFFSET_PROPERTY) >= 0 && pageProperty(descriptionRequestMessage, CATALOG_LIMIT_PROPERTY) >= 0;
+    }
+
+    @Override
+    protected Catalog retrieveObject(@NotNull IdsId idsId, @NotNull Result<ClaimToken> verificationResult, @NotNull DescriptionRequestMessage descriptionRequestMessage) {
+        var offset = pageProperty(descriptionRequestMessage, CATALOG_OFFSET_PROPERTY);
+        var limit = pageProperty(descriptionRequestMessage, CATALOG_LIMIT_PROPERTY);
+        return dataCatalogService.getDataCatalog(verificationResult, offset, limit);
+    }
+
     protected Catalog retrieveObject(@NotNull IdsId idsId, @NotNull Result<ClaimToken> verificationResult) {
         return dataCatalogService.getDataCatalog(verificationResult);
     }
+
+    /**
+     * Returns the value of a paging property, 0 if it is not set and -1 if it is not a valid number.
+     */
+    private long pageProperty(DescriptionRequestMessage message, String name) {
+        var properties = message.getProperties();
+        var value = properties != null ? properties.get(name) : null;
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            return Math.max(((Number) value).longValue(), -1);
+        }
+        try {
+            return Math.max(Long.parseLong(value.toString()), -1);
+        } catch (NumberFormatException e) {
+            monitor.warning(String.format("Invalid value for %s: %s", name, value));
+            return -1;
+        }
+    }
 }
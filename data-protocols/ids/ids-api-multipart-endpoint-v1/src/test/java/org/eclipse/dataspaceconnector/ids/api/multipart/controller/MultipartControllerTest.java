@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart.controller;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import de.fraunhofer.iais.eis.DescriptionRequestMessageBuilder;
+import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.MessageProcessedNotificationMessageBuilder;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.dataspaceconnector.ids.api.multipart.handler.Handler;
+import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartResponse;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.glassfish.jersey.media.multipart.FormDataMultiPart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MultipartControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final IdentityService identityService = mock(IdentityService.class);
+    private final Handler handler = mock(Handler.class);
+    private final AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    private final CompletableFuture<Result<ClaimToken>> verification = new CompletableFuture<>();
+    private MultipartController controller;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.setDateFormat(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX"));
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        when(identityService.verifyJwtTokenAsync(any())).thenReturn(verification);
+        when(handler.canHandle(any())).thenReturn(true);
+        controller = new MultipartController(mock(Monitor.class), "connector", objectMapper, identityService, List.of(handler));
+    }
+
+    @Test
+    void request_resumesWithHandlerResponseOnceVerified() throws Exception {
+        var claimToken = ClaimToken.Builder.newInstance().build();
+        when(handler.handleRequest(any(), any())).thenReturn(MultipartResponse.Builder.newInstance()
+                .header(new MessageProcessedNotificationMessageBuilder().build())
+                .build());
+
+        controller.request(header(), null, asyncResponse);
+
+        verify(asyncResponse, never()).resume(any(Object.class));
+        verify(handler, never()).handleRequest(any(), any());
+
+        verification.complete(Result.success(claimToken));
+
+        assertThat(headerOf(resumedResponse())).contains("MessageProcessedNotificationMessage");
+        verify(handler).handleRequest(any(), any());
+    }
+
+    @Test
+    void request_resumesWithNotAuthenticatedWhenVerificationFails() throws Exception {
+        controller.request(header(), null, asyncResponse);
+
+        verification.complete(Result.failure("invalid token"));
+
+        assertThat(headerOf(resumedResponse())).contains("RejectionMessage").contains("NOT_AUTHENTICATED");
+        verify(handler, never()).handleRequest(any(), any());
+    }
+
+    @Test
+    void request_resumesWithErrorWhenVerificationThrows() throws Exception {
+        var error = new EdcException("verification error");
+
+        controller.request(header(), null, asyncResponse);
+        verification.completeExceptionally(error);
+
+        verify(asyncResponse).resume(error);
+        verify(handler, never()).handleRequest(any(), any());
+    }
+
+    @Test
+    void request_resumesWithErrorWhenHandlerThrows() throws Exception {
+        var error = new EdcException("handler error");
+        when(handler.handleRequest(any(), any())).thenThrow(error);
+
+        controller.request(header(), null, asyncResponse);
+        verification.complete(Result.success(ClaimToken.Builder.newInstance().build()));
+
+        verify(asyncResponse).resume(error);
+    }
+
+    private ByteArrayInputStream header() throws Exception {
+        var message = new DescriptionRequestMessageBuilder()
+                ._securityToken_(new DynamicAttributeTokenBuilder()._tokenValue_("token").build())
+                ._issuerConnector_(URI.create("issuerConnector"))
+                .build();
+        return new ByteArrayInputStream(objectMapper.writeValueAsBytes(message));
+    }
+
+    private Response resumedResponse() {
+        var captor = ArgumentCaptor.forClass(Object.class);
+        verify(asyncResponse).resume(captor.capture());
+        assertThat(captor.getValue()).isInstanceOf(Response.class);
+        return (Response) captor.getValue();
+    }
+
+    private String headerOf(Response response) {
+        var multiPart = (FormDataMultiPart) response.getEntity();
+        return new String((byte[]) multiPart.getField("header").getEntity(), StandardCharsets.UTF_8);
+    }
+}
@@ -42,14 +42,18 @@ public class CatalogServiceImpl implements CatalogService {
     }
 
     /**
-     * Provides the dataCatalog object, which may be used by the IDS self-description of the connector.
+     * Provides a page of the dataCatalog object, which may be used by the IDS self-description of the connector.
      *
      * @return data catalog
      */
     @Override
     @NotNull
-    public Catalog getDataCatalog(Result<ClaimToken> verificationResult) {
-        var query = ContractOfferQuery.Builder.newInstance().claimToken(verificationResult.getContent()).build();
+    public Catalog getDataCatalog(Result<ClaimToken> verificationResult, long offset, long limit) {
+        var query = ContractOfferQuery.Builder.newInstance()
+                .claimToken(verificationResult.getContent())
+                .offset(offset)
+                .limit(limit)
+                .build();
         var offerStream = contractOfferService.queryContractOffers(query);
 
         return Catalog.Builder.newInstance().id(dataCatalogId).contractOffers(offerStream.collect(toList())).build();
@@ -25,9 +25,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -68,4 +70,14 @@ class CatalogServiceImplTest {
         verify(contractOfferService).queryContractOffers(any(ContractOfferQuery.class));
     }
 
+    @Test
+    void getDataCatalog_shouldQueryRequestedPage() {
+        var verificationResult = Result.success(ClaimToken.Builder.newInstance().build());
+        when(contractOfferService.queryContractOffers(any(ContractOfferQuery.class))).thenReturn(Stream.empty());
+
+        var result = dataCatalogService.getDataCatalog(verificationResult, 10, 5);
+
+        assertThat(result.getContractOffers()).isEmpty();
+        verify(contractOfferService).queryContractOffers(argThat(query -> query.getOffset() == 10 && query.getLimit() == 5));
+    }
 }
@@ -16,4 +16,6 @@ package org.eclipse.dataspaceconnector.ids.spi;
 
 public interface IdsConstants {
     String IDS_WEBHOOK_ADDRESS_PROPERTY = "idsWebhookAddress";
+    String CATALOG_OFFSET_PROPERTY = "catalogOffset";
+    String CATALOG_LIMIT_PROPERTY = "catalogLimit";
 }
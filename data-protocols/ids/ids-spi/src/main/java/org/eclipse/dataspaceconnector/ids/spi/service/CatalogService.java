@@ -16,5 +16,17 @@ public interface CatalogService {
      * @return data catalog
      */
     @NotNull
-    Catalog getDataCatalog(Result<ClaimToken> verificationResult);
+    default Catalog getDataCatalog(Result<ClaimToken> verificationResult) {
+        return getDataCatalog(verificationResult, 0, 0);
+    }
+
+    /**
+     * Provides a page of the data catalog
+     *
+     * @param offset number of contract offers to skip
+     * @param limit maximum number of contract offers to return, 0 returns all of them
+     * @return data catalog containing the requested page of contract offers
+     */
+    @NotNull
+    Catalog getDataCatalog(Result<ClaimToken> verificationResult, long offset, long limit);
 }
@@ -117,8 +117,22 @@ public class CosmosContractNegotiationStore implements ContractNegotiationStore
 
     @Override
     public @NotNull List<ContractNegotiation> nextForState(int state, int max) {
+        return invokeNextForState(state, max, connectorId);
+    }
+
+    /**
+     * Filters the negotiations of the partition in the stored procedure, so that only them are leased.
+     */
+    @Override
+    public @NotNull List<ContractNegotiation> nextForState(int state, int max, int partition, int partitions) {
+        if (partitions == 1) {
+            return nextForState(state, max);
+        }
+        return invokeNextForState(state, max, connectorId, partition, partitions);
+    }
 
-        String rawJson = with(retryPolicy).get(() -> cosmosDbApi.invokeStoredProcedure(NEXT_FOR_STATE_SPROC_NAME, partitionKey, state, max, connectorId));
+    private List<ContractNegotiation> invokeNextForState(Object... args) {
+        String rawJson = with(retryPolicy).get(() -> cosmosDbApi.invokeStoredProcedure(NEXT_FOR_STATE_SPROC_NAME, partitionKey, args));
         if (StringUtils.isNullOrEmpty(rawJson)) {
             return Collections.emptyList();
         }
@@ -119,6 +119,19 @@ class CosmosContractNegotiationStoreTest {
         verifyNoMoreInteractions(cosmosDbApi);
     }
 
+    @Test
+    void nextForState_partition() {
+        var state = ContractNegotiationStates.CONFIRMED;
+        when(cosmosDbApi.invokeStoredProcedure("nextForState", PARTITION_KEY, state.code(), 100, "test-connector", 1, 4))
+                .thenReturn("[]");
+
+        var result = store.nextForState(state.code(), 100, 1, 4);
+
+        assertThat(result).isEmpty();
+        verify(cosmosDbApi).invokeStoredProcedure("nextForState", PARTITION_KEY, state.code(), 100, "test-connector", 1, 4);
+        verifyNoMoreInteractions(cosmosDbApi);
+    }
+
     @Test
     void findAll_noQuerySpec() {
 
@@ -17,16 +17,24 @@
  * This SPROC will only return items that are not yet leased, or where the lease has expired. Thus, two subsequent calls with identical parameters
  * will yield different results.
  *
+ * If a number of partitions is given, only the documents whose id belongs to the given partition are returned and leased,
+ * the partition of an id being the non-negative remainder of its Java String hash code divided by the number of
+ * partitions. Up to limit * partitions documents are then read to fill the batch.
+ *
  * @param state the desired state
  * @param limit the batch size
  * @param connectorId The name of the calling runtime
+ * @param partition the partition of the documents, optional
+ * @param partitions the number of partitions, optional
  */
 
-function nextForState(state, limit, connectorId) {
+function nextForState(state, limit, connectorId, partition, partitions) {
     var context = getContext();
     var collection = context.getCollection();
     var collectionLink = collection.getSelfLink();
     var response = context.getResponse();
+    var partitionCount = partitions ? parseInt(partitions, 10) : 1;
+    var batchSize = parseInt(limit, 10);
 
 
     // first query
@@ -37,7 +45,7 @@ function nextForState(state, limit, connectorId) {
                 'name': '@state', 'value': parseInt(state, 10)
             },
             {
-                'name': '@limit', 'value': parseInt(limit, 10)
+                'name': '@limit', 'value': batchSize * partitionCount
             },
             {
                 'name': '@leaser', 'value': connectorId
@@ -59,6 +67,12 @@ function nextForState(state, limit, connectorId) {
 
         console.log("found " + items.length + " documents!")
 
+        if (partitionCount > 1) {
+            items = items.filter(function (item) {
+                return partitionOf(item.id, partitionCount) === parseInt(partition, 10);
+            }).slice(0, batchSize);
+        }
+
         // add lock to all items
         for (var i = 0; i < items.length; i++) {
             lease(items[i], connectorId)
@@ -68,6 +82,15 @@ function nextForState(state, limit, connectorId) {
 
     if (!accept) throw "Unable to read document details, abort ";
 
+    // same as Math.floorMod(id.hashCode(), partitions) in Java
+    function partitionOf(id, partitions) {
+        var hash = 0;
+        for (var i = 0; i < id.length; i++) {
+            hash = ((hash << 5) - hash + id.charCodeAt(i)) | 0;
+        }
+        return ((hash % partitions) + partitions) % partitions;
+    }
+
     function lease(document, connectorId) {
         document.lease = {
             leasedBy: connectorId,
@@ -112,10 +112,25 @@ public class CosmosTransferProcessStore implements TransferProcessStore {
 
     @Override
     public @NotNull List<TransferProcess> nextForState(int state, int max) {
+        return invokeNextForState(max, state, max, leaseHolderName);
+    }
+
+    /**
+     * Filters the processes of the partition in the stored procedure, so that only them are leased.
+     */
+    @Override
+    public @NotNull List<TransferProcess> nextForState(int state, int max, int partition, int partitions) {
+        if (partitions == 1) {
+            return nextForState(state, max);
+        }
+        return invokeNextForState(max, state, max, leaseHolderName, partition, partitions);
+    }
+
+    private List<TransferProcess> invokeNextForState(int max, Object... args) {
         tracingOptions.setMaxBufferedItemCount(max);
 
         var rawJson = with(Fallback.of((String) null), rateLimitRetry, generalRetry)
-                .get(() -> cosmosDbApi.invokeStoredProcedure(NEXT_FOR_STATE_S_PROC_NAME, partitionKey, state, max, leaseHolderName));
+                .get(() -> cosmosDbApi.invokeStoredProcedure(NEXT_FOR_STATE_S_PROC_NAME, partitionKey, args));
 
         if (rawJson == null) {
             return Collections.emptyList();
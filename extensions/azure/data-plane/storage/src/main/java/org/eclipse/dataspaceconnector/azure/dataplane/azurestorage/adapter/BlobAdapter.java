@@ -17,6 +17,7 @@ import com.azure.storage.blob.specialized.BlockBlobClient;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.List;
 
 /**
  * Adapter over {@link BlockBlobClient} in order to support mocking.
@@ -26,6 +27,21 @@ public interface BlobAdapter {
 
     InputStream openInputStream();
 
+    /**
+     * Reads the given range of the blob content.
+     */
+    byte[] read(long offset, long length);
+
+    /**
+     * Uploads a block that becomes part of the blob once it is committed.
+     */
+    void stageBlock(String blockId, byte[] content);
+
+    /**
+     * Replaces the blob content with the given staged blocks, in order.
+     */
+    void commitBlockList(List<String> blockIds);
+
     String getBlobName();
 
     long getBlobSize();
@@ -13,10 +13,15 @@
  */
 package org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.adapter;
 
+import com.azure.storage.blob.models.BlobRange;
 import com.azure.storage.blob.specialized.BlockBlobClient;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.List;
 
 /**
  * Implementation of {@link BlobAdapter} using a {@link BlockBlobClient}.
@@ -38,6 +43,25 @@ public class DefaultBlobAdapter implements BlobAdapter {
         return client.openInputStream();
     }
 
+    @Override
+    public byte[] read(long offset, long length) {
+        try (var stream = client.openInputStream(new BlobRange(offset, length), null)) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    @Override
+    public void stageBlock(String blockId, byte[] content) {
+        client.stageBlock(blockId, new ByteArrayInputStream(content), content.length);
+    }
+
+    @Override
+    public void commitBlockList(List<String> blockIds) {
+        client.commitBlockList(blockIds, /* overwrite = */ true);
+    }
+
     @Override
     public String getBlobName() {
         return client.getBlobName();
@@ -16,19 +16,27 @@ package org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.pipeline;
 import org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.adapter.BlobAdapterFactory;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.ParallelSink;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.SegmentedDataSink;
 import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
 
 /**
  * Writes data into an Azure storage container.
+ * <p>
+ * Large parts that support random access are written as separate blocks that are staged in parallel and then committed
+ * as the block list of the blob.
  */
-public class AzureStorageDataSink extends ParallelSink {
+public class AzureStorageDataSink extends ParallelSink implements SegmentedDataSink {
     private String accountName;
     private String containerName;
     private String sharedKey;
@@ -58,6 +66,29 @@ public class AzureStorageDataSink extends ParallelSink {
         return TransferResult.success();
     }
 
+    @Override
+    public SegmentWriter openSegmentWriter(DataSource.Part part) {
+        var adapter = blobAdapterFactory.getBlobAdapter(accountName, containerName, part.name(), sharedKey);
+        return new SegmentWriter() {
+            @Override
+            public void write(int index, long offset, byte[] content) {
+                adapter.stageBlock(blockId(index), content);
+            }
+
+            @Override
+            public void commit(int count) {
+                adapter.commitBlockList(IntStream.range(0, count).mapToObj(AzureStorageDataSink::blockId).collect(toList()));
+            }
+        };
+    }
+
+    /**
+     * Block ids must be Base64 encoded and have the same length for all the blocks of a blob.
+     */
+    private static String blockId(int index) {
+        return Base64.getEncoder().encodeToString(format("%08d", index).getBytes(UTF_8));
+    }
+
     @NotNull
     private TransferResult getTransferResult(Exception e, String logMessage, Object... args) {
         String message = format(logMessage, args);
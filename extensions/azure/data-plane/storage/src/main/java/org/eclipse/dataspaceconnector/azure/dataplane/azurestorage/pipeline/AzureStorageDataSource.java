@@ -142,6 +142,16 @@ public class AzureStorageDataSource implements DataSource {
         public InputStream openStream() {
             return adapter.openInputStream();
         }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return true;
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            return adapter.read(offset, bytes);
+        }
     }
 
 }
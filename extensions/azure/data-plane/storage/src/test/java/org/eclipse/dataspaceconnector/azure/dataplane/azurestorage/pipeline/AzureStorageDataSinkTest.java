@@ -10,6 +10,7 @@ import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -27,7 +28,9 @@ import static org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.pipeli
 import static org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.pipeline.AzureStorageTestFixtures.createContainerName;
 import static org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.pipeline.AzureStorageTestFixtures.createRequest;
 import static org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.pipeline.AzureStorageTestFixtures.createSharedKey;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -114,6 +117,20 @@ class AzureStorageDataSinkTest {
         assertThatTransferPartsFails(part, "Error transferring blob for %s on account %s", blobName, accountName);
     }
 
+    @Test
+    void openSegmentWriter_stagesAndCommitsBlocks() throws Exception {
+        var writer = dataSink.openSegmentWriter(part);
+
+        writer.write(1, 5, "world".getBytes(UTF_8));
+        writer.write(0, 0, "hello".getBytes(UTF_8));
+        writer.commit(2);
+
+        var blockIds = ArgumentCaptor.forClass(String.class);
+        verify(destination, times(2)).stageBlock(blockIds.capture(), any());
+        assertThat(blockIds.getAllValues()).doesNotHaveDuplicates().allSatisfy(id -> assertThat(id).hasSameSizeAs(blockIds.getValue()));
+        verify(destination).commitBlockList(List.of(blockIds.getAllValues().get(1), blockIds.getAllValues().get(0)));
+    }
+
     private void assertThatTransferPartsFails(Part part, String logMessage, Object... args) {
         String message = format(logMessage, args);
         var result = dataSink.transferParts(List.of(part));
@@ -22,6 +22,10 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -60,6 +64,7 @@ public class AzureStorageTestFixtures {
         final String content = faker.lorem().sentence();
         final long length = faker.random().nextLong(1_000_000_000_000_000L);
         final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Map<String, byte[]> stagedBlocks = new ConcurrentHashMap<>();
 
         @Override
         public OutputStream getOutputStream() {
@@ -71,6 +76,22 @@ public class AzureStorageTestFixtures {
             return new ByteArrayInputStream(content.getBytes(UTF_8));
         }
 
+        @Override
+        public byte[] read(long offset, long length) {
+            return Arrays.copyOfRange(content.getBytes(UTF_8), (int) offset, (int) (offset + length));
+        }
+
+        @Override
+        public void stageBlock(String blockId, byte[] content) {
+            stagedBlocks.put(blockId, content);
+        }
+
+        @Override
+        public void commitBlockList(List<String> blockIds) {
+            out.reset();
+            blockIds.forEach(blockId -> out.writeBytes(stagedBlocks.get(blockId)));
+        }
+
         @Override
         public String getBlobName() {
             return name;
@@ -27,6 +27,7 @@ import org.eclipse.dataspaceconnector.spi.WebService;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
@@ -52,6 +53,7 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
     private static final int DEFAULT_QUEUE_LENGTH = 50;
     private static final int DEFAULT_BATCH_SIZE = 1;
     private static final int DEFAULT_RETRY_TIMEOUT_MILLIS = 2000;
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 10;
     private LoaderManager loaderManager;
     private PartitionManager partitionManager;
     private PartitionConfiguration partitionManagerConfig;
@@ -71,6 +73,8 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
     private FederatedCacheNodeDirectory directory;
     @Inject
     private RetryPolicy<Object> retryPolicy;
+    @Inject
+    private MetricsInstrumentation metrics;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
@@ -129,6 +133,7 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
                 .batchSize(partitionManagerConfig.getLoaderBatchSize(DEFAULT_BATCH_SIZE))
                 .waitStrategy(() -> partitionManagerConfig.getLoaderRetryTimeout(DEFAULT_RETRY_TIMEOUT_MILLIS))
                 .monitor(monitor)
+                .metrics(metrics)
                 .build();
     }
 
@@ -144,7 +149,8 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
                 new DefaultWorkItemQueue(partitionManagerConfig.getWorkItemQueueSize(10)),
                 workItems -> createCrawler(workItems, context, protocolAdapterRegistry, updateResponseQueue),
                 partitionManagerConfig.getNumCrawlers(DEFAULT_NUM_CRAWLERS),
-                nodes);
+                nodes,
+                metrics);
     }
 
 
@@ -162,6 +168,8 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
                 .errorReceiver(getErrorWorkItemConsumer(context, workItems))
                 .protocolAdapters(protocolAdapters)
                 .workQueuePollTimeout(() -> Duration.ofMillis(2000 + ThreadLocalRandom.current().nextInt(3000)))
+                .maxConcurrentRequests(partitionManagerConfig.getMaxConcurrentRequests(DEFAULT_MAX_CONCURRENT_REQUESTS))
+                .metrics(metrics)
                 .build();
     }
 
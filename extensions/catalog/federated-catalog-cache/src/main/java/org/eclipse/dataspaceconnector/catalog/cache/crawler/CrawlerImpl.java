@@ -11,12 +11,16 @@ import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateRequest;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateResponse;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
@@ -24,7 +28,16 @@ import java.util.function.Supplier;
 import static java.lang.String.format;
 import static net.jodah.failsafe.Failsafe.with;
 
+/**
+ * Takes work items from the {@link WorkItemQueue} and sends an update request to the node of each of them, through
+ * every {@link NodeQueryAdapter} registered for its protocol.
+ * <p>
+ * Requests are sent asynchronously, so that a single crawler has several nodes in flight; their number is bounded by
+ * the maximum number of concurrent requests, beyond which the crawler stops taking work items until a node has
+ * responded. The work item queue is thread-safe, so crawlers share it without locking it.
+ */
 public class CrawlerImpl implements Crawler {
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 10;
 
     private final NodeQueryAdapterRegistry catalogQueryAdapterRegistry;
     private final Monitor monitor;
@@ -35,10 +48,21 @@ public class CrawlerImpl implements Crawler {
     private final AtomicBoolean isActive;
     private final String crawlerId;
     private final CrawlerErrorHandler errorHandler;
+    private final Semaphore requestPermits;
+    private final MetricsInstrumentation metrics;
+    private final AtomicBoolean isStarted = new AtomicBoolean();
+    private final CountDownLatch finished = new CountDownLatch(1);
 
     CrawlerImpl(WorkItemQueue workItemQueue, Monitor monitor, BlockingQueue<UpdateResponse> responseQueue,
                 RetryPolicy<Object> updateResponseEnqueueRetryPolicy, NodeQueryAdapterRegistry catalogQueryAdapterRegistry,
                 Supplier<Duration> workQueuePollTimeout, CrawlerErrorHandler errorHandler) {
+        this(workItemQueue, monitor, responseQueue, updateResponseEnqueueRetryPolicy, catalogQueryAdapterRegistry, workQueuePollTimeout, errorHandler,
+                DEFAULT_MAX_CONCURRENT_REQUESTS, MetricsInstrumentation.NOOP);
+    }
+
+    CrawlerImpl(WorkItemQueue workItemQueue, Monitor monitor, BlockingQueue<UpdateResponse> responseQueue,
+                RetryPolicy<Object> updateResponseEnqueueRetryPolicy, NodeQueryAdapterRegistry catalogQueryAdapterRegistry,
+                Supplier<Duration> workQueuePollTimeout, CrawlerErrorHandler errorHandler, int maxConcurrentRequests, MetricsInstrumentation metrics) {
         this.workItemQueue = workItemQueue;
         this.catalogQueryAdapterRegistry = catalogQueryAdapterRegistry;
         this.monitor = monitor;
@@ -46,6 +70,8 @@ public class CrawlerImpl implements Crawler {
         this.updateResponseEnqueueRetryPolicy = updateResponseEnqueueRetryPolicy;
         this.workQueuePollTimeout = workQueuePollTimeout;
         this.errorHandler = errorHandler;
+        this.metrics = metrics;
+        requestPermits = new Semaphore(maxConcurrentRequests);
         isActive = new AtomicBoolean(true);
         crawlerId = format("\"Crawler-%s\"", UUID.randomUUID());
     }
@@ -53,70 +79,89 @@ public class CrawlerImpl implements Crawler {
 
     @Override
     public void run() {
-
-        while (isActive.get()) {
-            workItemQueue.lock();
-            try {
-
-                WorkItem item = null;
-                try {
-                    item = workItemQueue.poll(workQueuePollTimeout.get().toMillis(), TimeUnit.MILLISECONDS);
-                } catch (InterruptedException e) {
-                    monitor.warning(e.getMessage());
-                }
-
-                if (item != null) {
-                    monitor.debug(format("%s: WorkItem acquired", crawlerId));
-
-                    // search for an adapter
-                    var adapters = catalogQueryAdapterRegistry.findForProtocol(item.getProtocol());
-
-                    if (adapters.isEmpty()) {
-                        // otherwise error out the workitem
-                        handleError(item, String.format("%s: No Adapter found for protocol [%s :: %s]", crawlerId, item.getProtocol(), item.getUrl()));
-                    } else {
-                        // if the adapters are found, use them to send the update request
-                        WorkItem finalItem = item;
-                        for (NodeQueryAdapter a : adapters) {
-                            a.sendRequest(new UpdateRequest(finalItem.getUrl()))
-                                    // the following happens on a different thread
-                                    .whenComplete((updateResponse, throwable) -> {
-                                        if (throwable != null) {
-                                            handleError(finalItem, throwable.getMessage());
-                                        } else {
-                                            handleResponse(updateResponse);
-                                        }
-                                    });
-                        }
-
-                    }
+        isStarted.set(true);
+        try {
+            while (isActive.get()) {
+                var timeout = workQueuePollTimeout.get().toMillis();
+                // wait for a free request slot before taking a work item, so that the items that cannot be sent yet
+                // stay in the queue for the other crawlers
+                if (!requestPermits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                    continue;
                 }
-
-            } catch (Throwable thr) {
-                //runnables that run on an executor may swallow the exception
-                monitor.severe(format("Unexpected exception happened during in crawler %s", crawlerId), thr);
-                throw new EdcException(thr);
-            } finally {
-                workItemQueue.unlock();
-                try {
-                    Thread.sleep(5); //yield
-                } catch (InterruptedException ignored) {
-                    monitor.debug("interrupted during yielding");
+                var item = workItemQueue.poll(timeout, TimeUnit.MILLISECONDS);
+                if (item == null) {
+                    requestPermits.release();
+                    continue;
                 }
+                monitor.debug(format("%s: WorkItem acquired", crawlerId));
+                crawl(item).whenComplete((v, throwable) -> requestPermits.release());
             }
+        } catch (InterruptedException e) {
+            monitor.debug(format("%s: interrupted, stopping", crawlerId));
+            Thread.currentThread().interrupt();
+        } catch (Throwable thr) {
+            //runnables that run on an executor may swallow the exception
+            monitor.severe(format("Unexpected exception happened during in crawler %s", crawlerId), thr);
+            throw new EdcException(thr);
+        } finally {
+            finished.countDown();
         }
     }
 
     @Override
     public boolean join(long timeout, TimeUnit unit) {
         isActive.set(false);
+        if (!isStarted.get()) {
+            return true;
+        }
         try {
-            return workItemQueue.tryLock(timeout, unit);
-        } finally {
-            workItemQueue.unlock();
+            return finished.await(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
     }
 
+    /**
+     * Sends the update requests for the work item and returns a future completing once they have all completed.
+     */
+    private CompletableFuture<Void> crawl(WorkItem item) {
+        // search for an adapter
+        var adapters = catalogQueryAdapterRegistry.findForProtocol(item.getProtocol());
+
+        if (adapters.isEmpty()) {
+            // otherwise error out the workitem
+            handleError(item, String.format("%s: No Adapter found for protocol [%s :: %s]", crawlerId, item.getProtocol(), item.getUrl()));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // if the adapters are found, use them to send the update request
+        var requests = new CompletableFuture<?>[adapters.size()];
+        var i = 0;
+        for (NodeQueryAdapter a : adapters) {
+            var start = System.nanoTime();
+            CompletableFuture<UpdateResponse> request;
+            try {
+                request = a.sendRequest(new UpdateRequest(item.getUrl()));
+            } catch (Exception e) {
+                request = CompletableFuture.failedFuture(e);
+            }
+            requests[i++] = request
+                    // the following happens on a different thread
+                    .whenComplete((updateResponse, throwable) -> {
+                        var duration = Duration.ofNanos(System.nanoTime() - start);
+                        if (throwable != null) {
+                            metrics.timer("edc.catalog.cache.crawler.request.duration", duration, "protocol", String.valueOf(item.getProtocol()), "outcome", "failure");
+                            handleError(item, throwable.getMessage());
+                        } else {
+                            metrics.timer("edc.catalog.cache.crawler.request.duration", duration, "protocol", String.valueOf(item.getProtocol()), "outcome", "success");
+                            handleResponse(updateResponse);
+                        }
+                    });
+        }
+        return CompletableFuture.allOf(requests).handle((v, throwable) -> null);
+    }
+
     private void handleError(@Nullable WorkItem errorWorkItem, String message) {
         monitor.severe(message);
 
@@ -127,6 +172,10 @@ public class CrawlerImpl implements Crawler {
     }
 
     private void handleResponse(UpdateResponse updateResponse) {
+        var catalog = updateResponse.getCatalog();
+        if (catalog != null && catalog.getContractOffers() != null) {
+            metrics.counter("edc.catalog.cache.crawler.offers", catalog.getContractOffers().size());
+        }
         var offered = with(updateResponseEnqueueRetryPolicy).get(() -> updateResponseQueue.offer(updateResponse));
         if (!offered) {
             monitor.severe(crawlerId + ": Inserting update-response into queue failed due to timeout!");
@@ -142,6 +191,8 @@ public class CrawlerImpl implements Crawler {
         private WorkItemQueue workItems;
         private Supplier<Duration> workQueuePollTimeout;
         private CrawlerErrorHandler errorHandler;
+        private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+        private MetricsInstrumentation metrics = MetricsInstrumentation.NOOP;
 
         private Builder() {
         }
@@ -185,12 +236,29 @@ public class CrawlerImpl implements Crawler {
             return this;
         }
 
+        /**
+         * The maximum number of nodes the crawler queries at the same time.
+         */
+        public Builder maxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        public Builder metrics(MetricsInstrumentation metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         public CrawlerImpl build() {
             Objects.requireNonNull(workItems);
             Objects.requireNonNull(queue);
             Objects.requireNonNull(adapters);
+            Objects.requireNonNull(metrics);
+            if (maxConcurrentRequests <= 0) {
+                throw new IllegalArgumentException("Max concurrent requests must be positive!");
+            }
 
-            return new CrawlerImpl(workItems, monitor, queue, retryPolicy, adapters, workQueuePollTimeout, errorHandler);
+            return new CrawlerImpl(workItems, monitor, queue, retryPolicy, adapters, workQueuePollTimeout, errorHandler, maxConcurrentRequests, metrics);
         }
     }
 }
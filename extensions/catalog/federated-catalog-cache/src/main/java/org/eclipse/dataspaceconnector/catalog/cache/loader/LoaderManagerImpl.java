@@ -5,37 +5,50 @@ import org.eclipse.dataspaceconnector.catalog.spi.LoaderManager;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateResponse;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.retry.WaitStrategy;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.ReentrantLock;
 
 import static java.lang.String.format;
 
+/**
+ * Takes the update responses out of the queue in batches and forwards them to the {@link Loader}s.
+ * <p>
+ * A batch is loaded as soon as it is full, or once the time given by the {@link WaitStrategy} has elapsed since its
+ * first response was taken, whichever comes first, so that the responses do not wait for the batch to fill up when
+ * only a few nodes were updated.
+ */
 public class LoaderManagerImpl implements LoaderManager {
     private static final int DEFAULT_BATCH_SIZE = 5;
     private static final int DEFAULT_WAIT_TIME_MILLIS = 2000;
     private final List<Loader> loaders;
     private final AtomicBoolean isRunning;
-    private final ReentrantLock lock;
     private final int batchSize;
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
+    private final MetricsInstrumentation metrics;
     private BlockingQueue<UpdateResponse> queue;
     private ExecutorService executor;
 
     protected LoaderManagerImpl(List<Loader> loaders, int batchSize, WaitStrategy waitStrategy, Monitor monitor) {
+        this(loaders, batchSize, waitStrategy, monitor, MetricsInstrumentation.NOOP);
+    }
+
+    protected LoaderManagerImpl(List<Loader> loaders, int batchSize, WaitStrategy waitStrategy, Monitor monitor, MetricsInstrumentation metrics) {
         this.loaders = loaders;
         this.batchSize = batchSize;
         this.waitStrategy = waitStrategy;
         this.monitor = monitor;
+        this.metrics = metrics;
         isRunning = new AtomicBoolean(false);
-        lock = new ReentrantLock();
     }
 
     public int getBatchSize() {
@@ -64,44 +77,60 @@ public class LoaderManagerImpl implements LoaderManager {
     }
 
     private void beginDequeue() {
-        while (isRunning.get()) {
-            boolean isBatchFull = true;
-            try {
-                lock.lock();
-                isBatchFull = queue.size() >= batchSize;
-
-                if (isBatchFull) {
-                    var batch = new ArrayList<UpdateResponse>(batchSize);
-                    // take the elements out of the queue and forward to loaders
-                    queue.drainTo(batch, batchSize);
-                    monitor.debug(format("LoaderManager: batch full, begin loading (%s items, %s workers)", batchSize, loaders.size()));
-                    loaders.forEach(l -> l.load(batch));
-                    monitor.debug("LoaderManager: loading complete");
+        try {
+            while (isRunning.get()) {
+                // block until there is something to load, stop() interrupts the wait
+                var batch = new ArrayList<UpdateResponse>(batchSize);
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - batch.size());
+
+                if (batch.size() < batchSize) {
+                    fillUntil(batch, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitStrategy.retryInMillis()));
                 }
-                // else wait and retry on next iteration
-            } finally {
-                if (!isBatchFull) {
-                    //monitor.debug(format("LoaderManager: batch not full (%s/%s), yield", queue.size(), batchSize));
-                    try {
-                        long l = waitStrategy.retryInMillis();
-                        Thread.sleep(l);
-                    } catch (InterruptedException e) {
-                        isRunning.set(false);
-                    }
-                } else {
-                    waitStrategy.success();
-                }
-                lock.unlock();
+
+                load(batch);
+                waitStrategy.success();
+            }
+        } catch (InterruptedException e) {
+            isRunning.set(false);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Adds the responses arriving before the deadline to the batch, until it is full.
+     */
+    private void fillUntil(List<UpdateResponse> batch, long deadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            var remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
             }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
         }
     }
 
+    private void load(List<UpdateResponse> batch) {
+        monitor.debug(format("LoaderManager: begin loading (%s/%s items, %s workers)", batch.size(), batchSize, loaders.size()));
+        var start = System.nanoTime();
+        loaders.forEach(l -> l.load(batch));
+        metrics.timer("edc.catalog.cache.loader.duration", Duration.ofNanos(System.nanoTime() - start));
+        metrics.summary("edc.catalog.cache.loader.batch.size", batch.size());
+        monitor.debug("LoaderManager: loading complete");
+    }
+
 
     public static final class Builder {
         private List<Loader> loaders;
         private int batchSize = DEFAULT_BATCH_SIZE;
         private WaitStrategy waitStrategy = () -> DEFAULT_WAIT_TIME_MILLIS;
         private Monitor monitor;
+        private MetricsInstrumentation metrics = MetricsInstrumentation.NOOP;
 
         private Builder() {
         }
@@ -126,17 +155,26 @@ public class LoaderManagerImpl implements LoaderManager {
             return this;
         }
 
+        /**
+         * Gives the maximum time, in milliseconds, a batch that is not full waits for more responses before it is loaded.
+         */
         public Builder waitStrategy(WaitStrategy waitStrategy) {
             this.waitStrategy = waitStrategy;
             return this;
         }
 
+        public Builder metrics(MetricsInstrumentation metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         public LoaderManagerImpl build() {
             Objects.requireNonNull(loaders);
-            if (batchSize < 0) {
-                throw new IllegalArgumentException("Batch Size cannot be negative!");
+            Objects.requireNonNull(metrics);
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch Size must be positive!");
             }
-            return new LoaderManagerImpl(loaders, batchSize, waitStrategy, monitor);
+            return new LoaderManagerImpl(loaders, batchSize, waitStrategy, monitor, metrics);
         }
     }
 }
@@ -6,6 +6,7 @@ import org.eclipse.dataspaceconnector.catalog.spi.WorkItem;
 import org.eclipse.dataspaceconnector.catalog.spi.WorkItemQueue;
 import org.eclipse.dataspaceconnector.catalog.spi.model.ExecutionPlan;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -15,8 +16,14 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+/**
+ * Runs a fixed number of {@link Crawler}s, each on its own thread, and feeds them the workload on every run of the
+ * {@link ExecutionPlan}. The crawlers send their requests asynchronously, so a few of them are enough to query many
+ * nodes at the same time.
+ */
 public class PartitionManagerImpl implements PartitionManager {
     private final Monitor monitor;
+    private final MetricsInstrumentation metrics;
     private final Function<WorkItemQueue, Crawler> crawlerGenerator;
     private final List<Crawler> crawlers;
     private final WorkItemQueue workQueue;
@@ -34,7 +41,19 @@ public class PartitionManagerImpl implements PartitionManager {
      * @param workloadSource   A fixed list of {@link WorkItem} instances that need to be processed on every execution run. This list is treated as immutable,
      */
     public PartitionManagerImpl(Monitor monitor, WorkItemQueue workQueue, Function<WorkItemQueue, Crawler> crawlerGenerator, int numCrawlers, Supplier<List<WorkItem>> workloadSource) {
+        this(monitor, workQueue, crawlerGenerator, numCrawlers, workloadSource, MetricsInstrumentation.NOOP);
+    }
+
+    /**
+     * Instantiates a new PartitionManagerImpl that records how many nodes are enqueued on every run of the execution plan.
+     *
+     * @param metrics The {@link MetricsInstrumentation} receiving the number of runs and of enqueued nodes
+     * @see #PartitionManagerImpl(Monitor, WorkItemQueue, Function, int, Supplier)
+     */
+    public PartitionManagerImpl(Monitor monitor, WorkItemQueue workQueue, Function<WorkItemQueue, Crawler> crawlerGenerator, int numCrawlers, Supplier<List<WorkItem>> workloadSource,
+                                MetricsInstrumentation metrics) {
         this.monitor = monitor;
+        this.metrics = metrics;
         this.workloadSource = workloadSource;
         this.workQueue = workQueue;
         this.crawlerGenerator = crawlerGenerator;
@@ -50,20 +69,23 @@ public class PartitionManagerImpl implements PartitionManager {
     @Override
     public void schedule(ExecutionPlan executionPlan) {
         //todo: should we really discard updates?
-        var currentList = workloadSource.get();
         executionPlan.run(() -> {
-            monitor.debug("Partition manager: execute plan - waiting for queue lock");
-            workQueue.lock();
+            // the workload is read on every run, so that the nodes that joined since the previous one are crawled too
+            var currentList = workloadSource.get();
             monitor.debug("Partition manager: execute plan - adding workload " + currentList.size());
+            // recorded when the workload is enqueued, the crawlers report the outcome of every node separately
+            metrics.counter("edc.catalog.cache.crawl.runs", 1);
+            metrics.summary("edc.catalog.cache.crawl.enqueued.nodes", currentList.size());
             workQueue.addAll(currentList);
-            monitor.debug("Partition manager: execute release queue lock");
-            workQueue.unlock();
         });
     }
 
     @Override
     public void stop() {
         waitForCrawlers();
+        if (crawlerScheduler != null) {
+            crawlerScheduler.shutdownNow();
+        }
     }
 
     private List<Crawler> createCrawlers(int numCrawlers) {
@@ -82,7 +104,7 @@ public class PartitionManagerImpl implements PartitionManager {
             crawlerScheduler.shutdownNow();
         }
 
-        crawlerScheduler = Executors.newScheduledThreadPool(crawlers.size());
+        crawlerScheduler = Executors.newFixedThreadPool(crawlers.size());
         crawlers.forEach(crawlerScheduler::submit);
     }
 }
@@ -11,6 +11,7 @@ import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateRequest;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateResponse;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -33,6 +34,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -188,6 +190,32 @@ class CrawlerImplTest {
         verify(errorHandlerMock).accept(isA(WorkItem.class));
     }
 
+    @Test
+    @DisplayName("Should not query more nodes at the same time than allowed")
+    void shouldBoundConcurrentRequests() throws InterruptedException {
+        crawler = new CrawlerImpl(workQueue, monitorMock, queue, createRetryPolicy(), registry, () -> Duration.ofMillis(10), errorHandlerMock,
+                1, MetricsInstrumentation.NOOP);
+        var pending = new CompletableFuture<UpdateResponse>();
+        var sent = new CountDownLatch(2);
+        when(protocolAdapterMock.sendRequest(isA(UpdateRequest.class))).thenAnswer(i -> {
+            sent.countDown();
+            return sent.getCount() == 1 ? pending : CompletableFuture.completedFuture(new UpdateResponse());
+        });
+        workQueue.put(createWorkItem());
+        workQueue.put(createWorkItem());
+
+        executorService.submit(crawler);
+
+        assertThat(sent.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(workQueue).hasSize(1);
+
+        pending.complete(new UpdateResponse());
+
+        assertThat(sent.await(JOIN_WAIT_TIME, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(crawler.join()).isTrue();
+        verify(protocolAdapterMock, times(2)).sendRequest(isA(UpdateRequest.class));
+    }
+
     private RetryPolicy<Object> createRetryPolicy() {
         return new RetryPolicy<>().withMaxRetries(1);
     }
@@ -17,6 +17,7 @@ import java.util.concurrent.TimeUnit;
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -72,4 +73,22 @@ class LoaderManagerImplTest {
         verify(waitStrategyMock).success();
     }
 
+    @Test
+    @DisplayName("Verify that the LoaderManager loads an incomplete batch once the wait time has elapsed")
+    void batchSizeNotReached_loadsAfterWaitTime() throws InterruptedException {
+        queue.offer(new UpdateResponse());
+        when(waitStrategyMock.retryInMillis()).thenReturn(10L);
+        var completionSignal = new CountDownLatch(1);
+        doAnswer(i -> {
+            completionSignal.countDown();
+            return null;
+        }).when(loaderMock).load(any());
+
+        loaderManager.start(queue);
+
+        assertThat(completionSignal.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(loaderMock).load(argThat(batch -> batch.size() == 1));
+        loaderManager.stop();
+    }
+
 }
@@ -86,13 +86,13 @@ class PartitionManagerImplIntegrationTest {
         doAnswer(i -> {
             latch.countDown();
             return null;
-        }).when(queueListener).unlocked();
+        }).when(queueListener).polled();
         var partitionManager = new PartitionManagerImpl(monitorMock, signallingWorkItemQueue, generatorFunction, crawlerCount, () -> staticWorkLoad);
 
         partitionManager.schedule(new RunOnceExecutionPlan());
 
         assertThat(latch.await(1, TimeUnit.MINUTES)).withFailMessage("latch was expected to be 0 but was: " + latch.getCount()).isTrue();
-        verify(queueListener, atLeastOnce()).unlocked();
+        verify(queueListener, atLeastOnce()).polled();
     }
 
     /**
@@ -114,7 +114,7 @@ class PartitionManagerImplIntegrationTest {
 
     /**
      * A test work item queue that informs a registered listener whenever an
-     * event like poll() or unlock() occurs.
+     * event like unlock() occurs, or an item is polled.
      * The recommended pattern is to supply {@code mock(WorkQueueListener.class)}
      */
     private static class SignalingWorkItemQueue extends DefaultWorkItemQueue {
@@ -146,7 +146,9 @@ class PartitionManagerImplIntegrationTest {
         @Override
         public WorkItem poll(long timeout, TimeUnit unit) throws InterruptedException {
             var polledItem = super.poll(timeout, unit);
-            listener.polled();
+            if (polledItem != null) {
+                listener.polled();
+            }
             return polledItem;
         }
     }
@@ -4,6 +4,7 @@ import org.eclipse.dataspaceconnector.catalog.spi.Crawler;
 import org.eclipse.dataspaceconnector.catalog.spi.WorkItem;
 import org.eclipse.dataspaceconnector.catalog.spi.WorkItemQueue;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.catalog.cache.TestUtil.createWorkItem;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,9 +42,19 @@ public class PartitionManagerImplTest {
     void schedule() {
         partitionManager.schedule(Runnable::run);
 
-        verify(workItemQueueMock).lock();
         verify(workItemQueueMock).addAll(staticWorkload);
-        verify(workItemQueueMock).unlock();
+        verify(workItemQueueMock, never()).lock();
+    }
+
+    @Test
+    void schedule_recordsEnqueuedNodes() {
+        var metrics = mock(MetricsInstrumentation.class);
+        partitionManager = new PartitionManagerImpl(monitorMock, workItemQueueMock, workItems -> mock(Crawler.class), 1, () -> staticWorkload, metrics);
+
+        partitionManager.schedule(Runnable::run);
+
+        verify(metrics).counter("edc.catalog.cache.crawl.runs", 1);
+        verify(metrics).summary("edc.catalog.cache.crawl.enqueued.nodes", 1);
     }
 
     @Test
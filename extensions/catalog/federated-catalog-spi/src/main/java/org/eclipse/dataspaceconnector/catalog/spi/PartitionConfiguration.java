@@ -16,6 +16,7 @@ public class PartitionConfiguration {
 
     private static final String PART_WORK_ITEM_QUEUE_SIZE_SETTING = "edc.catalog.cache.partition.queue-size";
     private static final String PART_NUM_CRAWLER_SETTING = "edc.catalog.cache.partition.num-crawlers";
+    private static final String PART_CRAWLER_MAX_CONCURRENT_REQUESTS_SETTING = "edc.catalog.cache.partition.max-concurrent-requests";
     private static final String PART_LOADER_BATCH_SIZE_SETTING = "edc.catalog.cache.loader.batch-size";
     private static final String PART_LOADER_RETRY_TIMEOUT = "edc.catalog.cache.loader.timeout-millis";
     private static final String PART_EXECUTION_PLAN_PERIOD_MINUTES = "edc.catalog.cache.execution.period-minutes";
@@ -34,6 +35,13 @@ public class PartitionConfiguration {
         return context.getSetting(PART_NUM_CRAWLER_SETTING, defaultValue);
     }
 
+    /**
+     * The maximum number of nodes each crawler queries at the same time.
+     */
+    public int getMaxConcurrentRequests(int defaultValue) {
+        return context.getSetting(PART_CRAWLER_MAX_CONCURRENT_REQUESTS_SETTING, defaultValue);
+    }
+
     public int getLoaderBatchSize(int defaultValue) {
         return context.getSetting(PART_LOADER_BATCH_SIZE_SETTING, defaultValue);
     }
@@ -31,6 +31,12 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @EdcSetting
     private static final String CONTROL_PLANE_VALIDATION_ENDPOINT = "edc.controlplane.validation-endpoint";
 
+    /**
+     * Streams the data between the client and the data source instead of returning it as a string in a JSON object.
+     */
+    @EdcSetting
+    private static final String PUBLIC_API_STREAMING = "edc.dataplane.public.streaming";
+
     private static final String CONTROL = "control";
     private static final String PUBLIC = "public";
 
@@ -53,7 +59,8 @@ public class DataPlaneApiExtension implements ServiceExtension {
         var controlPlaneAddress = context.getSetting(CONTROL_PLANE_VALIDATION_ENDPOINT, "/api/validation");
         var tokenValidationClient = new RemoteTokenValidationService(httpClient, controlPlaneAddress, context.getTypeManager().getMapper());
         webService.registerResource(CONTROL, new DataPlaneTransferController(dataPlaneManager));
-        webService.registerResource(PUBLIC, new DataPlanePublicApiRequestFilter(tokenValidationClient, dataPlaneManager, context.getMonitor(), context.getTypeManager()));
+        var streaming = Boolean.parseBoolean(context.getSetting(PUBLIC_API_STREAMING, "false"));
+        webService.registerResource(PUBLIC, new DataPlanePublicApiRequestFilter(tokenValidationClient, dataPlaneManager, context.getMonitor(), context.getTypeManager(), streaming));
     }
 }
 
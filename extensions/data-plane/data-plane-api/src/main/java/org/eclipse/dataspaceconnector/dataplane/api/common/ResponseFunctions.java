@@ -20,6 +20,7 @@ import java.util.Map;
 
 import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
 import static jakarta.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
+import static jakarta.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
 import static jakarta.ws.rs.core.Response.Status.UNAUTHORIZED;
 import static jakarta.ws.rs.core.Response.status;
 
@@ -49,6 +50,13 @@ public final class ResponseFunctions {
         return status(INTERNAL_SERVER_ERROR).entity(Map.of("errors", errors)).build();
     }
 
+    /**
+     * Returns a response for a collection of errors raised because the service is temporarily overloaded.
+     */
+    public static Response unavailableErrors(List<String> errors) {
+        return status(SERVICE_UNAVAILABLE).entity(Map.of("errors", errors)).build();
+    }
+
     /**
      * Returns a response for a validation error.
      */
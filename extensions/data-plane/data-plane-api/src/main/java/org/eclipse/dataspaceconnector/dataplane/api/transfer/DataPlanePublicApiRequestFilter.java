@@ -17,6 +17,7 @@ package org.eclipse.dataspaceconnector.dataplane.api.transfer;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 import org.eclipse.dataspaceconnector.common.token.TokenValidationService;
@@ -56,23 +57,32 @@ import static org.eclipse.dataspaceconnector.spi.types.domain.edr.EndpointDataRe
  * Filter that intercepts call to public API of the data plane. Note that a request filter is preferred over a Controller here
  * as public API of the data plane is supposed to support any verb (GET,PUT,POST...), while this verb is just forwarded to the data source.
  * Thus, this approach allows to have one single implementation that will process all requests, regardless of the verb, instead of having one endpoint dedicated to each verb.
+ * <p>
+ * In streaming mode the request body is streamed to the data source and the content of the data source is streamed to the
+ * response as an octet stream, instead of being returned as a string in a JSON object.
  */
 @PreMatching
 public class DataPlanePublicApiRequestFilter implements ContainerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
 
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
     private final TokenValidationService tokenValidationService;
     private final DataPlaneManager dataPlaneManager;
     private final Monitor monitor;
     private final TypeManager typeManager;
+    private final boolean streaming;
 
     public DataPlanePublicApiRequestFilter(TokenValidationService tokenValidationService, DataPlaneManager dataPlaneManager, Monitor monitor, TypeManager typeManager) {
+        this(tokenValidationService, dataPlaneManager, monitor, typeManager, false);
+    }
+
+    public DataPlanePublicApiRequestFilter(TokenValidationService tokenValidationService, DataPlaneManager dataPlaneManager, Monitor monitor, TypeManager typeManager, boolean streaming) {
         this.tokenValidationService = tokenValidationService;
         this.dataPlaneManager = dataPlaneManager;
         this.monitor = monitor;
         this.typeManager = typeManager;
+        this.streaming = streaming;
     }
 
     @Override
@@ -100,6 +110,11 @@ public class DataPlanePublicApiRequestFilter implements ContainerRequestFilter {
             return;
         }
 
+        if (streaming) {
+            streamData(requestContext, dataFlowRequest);
+            return;
+        }
+
         // perform the data transfer
         var stream = new ByteArrayOutputStream();
         var sink = new OutputStreamDataSink(stream, executorService, monitor);
@@ -114,12 +129,31 @@ public class DataPlanePublicApiRequestFilter implements ContainerRequestFilter {
         requestContext.abortWith(Response.ok().entity(Map.of("data", stream.toString())).build());
     }
 
+    /**
+     * Streams the request body to the data source and the data source content to the response.
+     */
+    private void streamData(ContainerRequestContext requestContext, DataFlowRequest dataFlowRequest) {
+        var sink = new StreamingDataSink(monitor);
+        var transfer = requestContext.hasEntity() ?
+                dataPlaneManager.transfer(sink, dataFlowRequest, requestContext.getEntityStream()) :
+                dataPlaneManager.transfer(sink, dataFlowRequest);
+        var transferResult = transfer
+                .exceptionally(throwable -> TransferResult.failure(ResponseStatus.FATAL_ERROR, "Unhandled exception: " + throwable.getMessage()))
+                .join();
+        if (transferResult.failed()) {
+            requestContext.abortWith(internalErrors(transferResult.getFailureMessages()));
+            return;
+        }
+
+        requestContext.abortWith(Response.ok(sink.output(), MediaType.APPLICATION_OCTET_STREAM).build());
+    }
+
     /**
      * Create a {@link DataFlowRequest} based on the decoded claim token and the request content.
      */
     private DataFlowRequest createDataFlowRequest(ClaimToken claims, ContainerRequestContext requestContext) throws IOException {
         var dataAddress = typeManager.readValue(claims.getClaims().get(DATA_ADDRESS_CLAIM), DataAddress.class);
-        var requestProperties = createDataFlowRequestProperties(requestContext);
+        var requestProperties = createDataFlowRequestProperties(requestContext, !streaming);
         return DataFlowRequest.Builder.newInstance()
                 .processId(UUID.randomUUID().toString())
                 .sourceDataAddress(dataAddress)
@@ -135,12 +169,14 @@ public class DataPlanePublicApiRequestFilter implements ContainerRequestFilter {
     /**
      * Map relevant information from the container request context to the properties of the {@link DataFlowRequest}.
      */
-    private static Map<String, String> createDataFlowRequestProperties(ContainerRequestContext requestContext) throws IOException {
+    private static Map<String, String> createDataFlowRequestProperties(ContainerRequestContext requestContext, boolean includeBody) throws IOException {
         var requestProperties = new HashMap<String, String>();
         requestProperties.put(METHOD, requestContext.getMethod());
         requestProperties.put(QUERY_PARAMS, convertQueryParamsToString(requestContext.getUriInfo()));
         if (requestContext.hasEntity()) {
             requestProperties.put(MEDIA_TYPE, requestContext.getMediaType().toString());
+        }
+        if (requestContext.hasEntity() && includeBody) {
             try (InputStream in = requestContext.getEntityStream()) {
                 requestProperties.put(BODY, new String(in.readAllBytes()));
             }
@@ -26,8 +26,11 @@ import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 
 import static java.lang.String.format;
+import static org.eclipse.dataspaceconnector.dataplane.api.common.ResponseFunctions.internalErrors;
+import static org.eclipse.dataspaceconnector.dataplane.api.common.ResponseFunctions.unavailableErrors;
 import static org.eclipse.dataspaceconnector.dataplane.api.common.ResponseFunctions.validationError;
 import static org.eclipse.dataspaceconnector.dataplane.api.common.ResponseFunctions.validationErrors;
+import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
 
 /**
  * Handles incoming control requests for the data plane.
@@ -52,7 +55,12 @@ public class DataPlaneTransferController {
         if (result.failed()) {
             return result.getFailureMessages().isEmpty() ? validationError(format("Invalid request: %s", request.getId())) : validationErrors(result.getFailureMessages());
         }
-        dataPlaneManager.initiateTransfer(request);
+        var transferResult = dataPlaneManager.initiateTransfer(request);
+        if (transferResult.failed()) {
+            return transferResult.getFailure().status() == ERROR_RETRY ?
+                    unavailableErrors(transferResult.getFailureMessages()) :
+                    internalErrors(transferResult.getFailureMessages());
+        }
         return Response.ok().build();
     }
 
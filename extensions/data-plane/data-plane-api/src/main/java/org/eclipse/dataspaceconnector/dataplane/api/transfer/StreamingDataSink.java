@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.api.transfer;
+
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DeferredDataSink;
+import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sink that hands the source over to the HTTP response instead of copying it.
+ * <p>
+ * The transfer completes immediately. The source parts are opened and their content copied to the response output stream
+ * by the container thread that writes the {@link #output()}, so that no buffering takes place and a slow client slows down
+ * the reads on the source. Nothing is opened if the output is never written, e.g. because the request is aborted, so no
+ * upstream resource can be left open. The {@link #completion()} completes once the output has been written.
+ */
+class StreamingDataSink implements DeferredDataSink {
+    private final Monitor monitor;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private DataSource source;
+
+    StreamingDataSink(Monitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public CompletableFuture<TransferResult> transfer(DataSource source) {
+        this.source = source;
+        return CompletableFuture.completedFuture(TransferResult.success());
+    }
+
+    @Override
+    public CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    /**
+     * Writes the content of the parts, one after the other, to the response output stream.
+     */
+    StreamingOutput output() {
+        return this::write;
+    }
+
+    private void write(OutputStream output) throws IOException {
+        try (var partStream = source.openPartStream()) {
+            var parts = partStream.iterator();
+            while (parts.hasNext()) {
+                try (var part = parts.next(); var stream = part.openStream()) {
+                    stream.transferTo(output);
+                }
+                output.flush();
+            }
+            completion.complete(null);
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+            throw e;
+        } catch (Exception e) {
+            // raised when closing a part
+            fail(e);
+            throw new IOException(e);
+        }
+    }
+
+    private void fail(Exception e) {
+        monitor.severe("Error processing data transfer request", e);
+        completion.completeExceptionally(e);
+    }
+}
@@ -20,6 +20,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.UriInfo;
 import org.eclipse.dataspaceconnector.common.token.TokenValidationService;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
@@ -40,7 +41,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -118,6 +121,37 @@ class DataPlanePublicApiRequestFilterTest {
                 });
     }
 
+    /**
+     * OK test in streaming mode: check that the request body is streamed to the source and the source content is streamed to the response.
+     */
+    @Test
+    void verifyDataFlowRequest_streaming() throws IOException {
+        filter = new DataPlanePublicApiRequestFilter(tokenValidationService, dataPlaneManager, mock(Monitor.class), typeManager, true);
+        var claims = createClaimToken();
+        var context = createDefaultContext(testQueryParams(), MediaType.valueOf(APPLICATION_JSON), testJsonBody());
+        var dataSource = new InputStreamDataSource("foo", new ByteArrayInputStream("bar".getBytes()));
+
+        when(tokenValidationService.validate(anyString())).thenReturn(Result.success(claims));
+        when(dataPlaneManager.validate(any(DataFlowRequest.class))).thenReturn(Result.success(true));
+        var transferCapture = ArgumentCaptor.forClass(DataFlowRequest.class);
+        when(dataPlaneManager.transfer(any(DataSink.class), transferCapture.capture(), any(InputStream.class)))
+                .then(invocation -> ((DataSink) invocation.getArguments()[0]).transfer(dataSource));
+
+        filter.filter(context);
+
+        var responseCapture = ArgumentCaptor.forClass(Response.class);
+        verify(context, times(1)).abortWith(responseCapture.capture());
+        var response = responseCapture.getValue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getMediaType()).isEqualTo(MediaType.APPLICATION_OCTET_STREAM_TYPE);
+        var output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+        assertThat(output.toString()).isEqualTo("bar");
+        assertThat(transferCapture.getValue().getProperties())
+                .containsEntry(MEDIA_TYPE, APPLICATION_JSON)
+                .doesNotContainKey(BODY);
+    }
+
     /**
      * Check that response with code 401 (not authorized) is returned in case no token is provided.
      */
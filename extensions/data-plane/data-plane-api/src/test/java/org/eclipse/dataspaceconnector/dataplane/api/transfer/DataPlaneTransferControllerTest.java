@@ -14,6 +14,7 @@
 package org.eclipse.dataspaceconnector.dataplane.api.transfer;
 
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
@@ -22,7 +23,9 @@ import org.junit.jupiter.api.Test;
 
 import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
 import static jakarta.ws.rs.core.Response.Status.OK;
+import static jakarta.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -36,6 +39,7 @@ class DataPlaneTransferControllerTest {
     @Test
     void verifyDispatch() {
         when(dataPlaneManager.validate(isA(DataFlowRequest.class))).thenReturn(Result.success(true));
+        when(dataPlaneManager.initiateTransfer(isA(DataFlowRequest.class))).thenReturn(TransferResult.success());
 
         assertThat(controller.initiateRequest(createRequest()).getStatusInfo()).isEqualTo(OK);
 
@@ -49,6 +53,14 @@ class DataPlaneTransferControllerTest {
         assertThat(controller.initiateRequest(createRequest()).getStatusInfo()).isEqualTo(BAD_REQUEST);
     }
 
+    @Test
+    void verifyAtCapacity() {
+        when(dataPlaneManager.validate(isA(DataFlowRequest.class))).thenReturn(Result.success(true));
+        when(dataPlaneManager.initiateTransfer(isA(DataFlowRequest.class))).thenReturn(TransferResult.failure(ERROR_RETRY, "at capacity"));
+
+        assertThat(controller.initiateRequest(createRequest()).getStatusInfo()).isEqualTo(SERVICE_UNAVAILABLE);
+    }
+
     @BeforeEach
     void setUp() {
         dataPlaneManager = mock(DataPlaneManager.class);
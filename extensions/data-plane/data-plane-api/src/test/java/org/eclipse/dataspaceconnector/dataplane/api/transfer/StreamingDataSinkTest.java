@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.api.transfer;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class StreamingDataSinkTest {
+
+    private final List<String> opened = new CopyOnWriteArrayList<>();
+    private final List<String> closed = new CopyOnWriteArrayList<>();
+    private final StreamingDataSink sink = new StreamingDataSink(mock(Monitor.class));
+
+    @Test
+    void transfer_doesNotOpenSourceUntilWritten() {
+        var result = sink.transfer(source(part("foo", "bar"))).join();
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(opened).isEmpty();
+        assertThat(sink.completion()).isNotDone();
+    }
+
+    @Test
+    void output_writesPartsAndClosesThem() throws Exception {
+        sink.transfer(source(part("foo", "bar"), part("baz", "qux"))).join();
+        var output = new ByteArrayOutputStream();
+
+        sink.output().write(output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("barqux");
+        assertThat(opened).containsExactly("foo", "baz");
+        assertThat(closed).containsExactly("foo", "baz");
+        assertThat(sink.completion()).isCompleted();
+    }
+
+    @Test
+    void output_failsCompletionAndClosesPartsIfSourceFails() {
+        var failing = new TestPart("baz", "qux") {
+            @Override
+            public InputStream openStream() {
+                super.openStream();
+                throw new EdcException("unavailable");
+            }
+        };
+        sink.transfer(source(part("foo", "bar"), failing)).join();
+
+        assertThatThrownBy(() -> sink.output().write(new ByteArrayOutputStream())).isInstanceOf(EdcException.class);
+
+        assertThat(closed).containsExactly("foo", "baz");
+        assertThat(sink.completion()).isCompletedExceptionally();
+    }
+
+    private DataSource source(DataSource.Part... parts) {
+        return () -> Stream.of(parts);
+    }
+
+    private TestPart part(String name, String content) {
+        return new TestPart(name, content);
+    }
+
+    private class TestPart implements DataSource.Part {
+        private final String name;
+        private final String content;
+
+        TestPart(String name, String content) {
+            this.name = name;
+            this.content = content;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public InputStream openStream() {
+            opened.add(name);
+            return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+            closed.add(name);
+        }
+    }
+}
@@ -16,8 +16,10 @@ package org.eclipse.dataspaceconnector.dataplane.framework;
 import org.eclipse.dataspaceconnector.dataplane.framework.manager.DataPlaneManagerImpl;
 import org.eclipse.dataspaceconnector.dataplane.framework.pipeline.PipelineServiceImpl;
 import org.eclipse.dataspaceconnector.dataplane.framework.pipeline.PipelineServiceTransferServiceImpl;
+import org.eclipse.dataspaceconnector.dataplane.framework.pipeline.SegmentedTransferEngine;
 import org.eclipse.dataspaceconnector.dataplane.framework.registry.TransferServiceRegistryImpl;
 import org.eclipse.dataspaceconnector.dataplane.framework.registry.TransferServiceSelectionStrategy;
+import org.eclipse.dataspaceconnector.dataplane.framework.store.FileDataPlaneStore;
 import org.eclipse.dataspaceconnector.dataplane.framework.store.InMemoryDataPlaneStore;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.OutputStreamDataSinkFactory;
@@ -27,18 +29,23 @@ import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 /**
  * Provides core services for the Data Plane Framework.
  */
 @Provides({DataPlaneManager.class, PipelineService.class})
 public class DataPlaneFrameworkExtension implements ServiceExtension {
-    private static final int IN_MEMORY_STORE_CAPACITY = 1000;
 
     @EdcSetting
     private static final String QUEUE_CAPACITY = "edc.dataplane.queue.capacity";
@@ -46,20 +53,60 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
 
     @EdcSetting
     private static final String WORKERS = "edc.dataplane.workers";
-    private static final int DEFAULT_WORKERS = 10;
+    private static final int DEFAULT_WORKERS = Math.max(10, 2 * Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Prefix of the settings that limit the number of concurrent transfers per destination type, e.g.
+     * {@code edc.dataplane.concurrency.AzureStorage=4}.
+     */
+    @EdcSetting
+    private static final String CONCURRENCY_LIMITS = "edc.dataplane.concurrency";
 
     @EdcSetting
     private static final String WAIT_TIMEOUT = "edc.dataplane.wait";
     private static final long DEFAULT_WAIT_TIMEOUT = 1000;
 
+    @EdcSetting
+    private static final String SEGMENT_SIZE = "edc.dataplane.segment.size";
+    private static final long DEFAULT_SEGMENT_SIZE = 8 * 1024 * 1024;
+
+    @EdcSetting
+    private static final String SEGMENT_WINDOW = "edc.dataplane.segment.window";
+    private static final int DEFAULT_SEGMENT_WINDOW = 4;
+
+    @EdcSetting
+    private static final String SEGMENT_WORKERS = "edc.dataplane.segment.workers";
+    private static final int DEFAULT_SEGMENT_WORKERS = 10;
+
+    /**
+     * Path of the log file of the persistent store. The store is kept in memory if not set.
+     */
+    @EdcSetting
+    private static final String STORE_PATH = "edc.dataplane.store.path";
+
+    @EdcSetting
+    private static final String STORE_CAPACITY = "edc.dataplane.store.capacity";
+    private static final int DEFAULT_STORE_CAPACITY = 1000;
+
+    /**
+     * Whether the log of the persistent store is synced to the disk after each write.
+     */
+    @EdcSetting
+    private static final String STORE_SYNC = "edc.dataplane.store.sync";
+
     private ServiceExtensionContext context;
 
     private DataPlaneManagerImpl dataPlaneManager;
     private Monitor monitor;
+    private ExecutorService segmentExecutor;
+    private DataPlaneStore store;
 
     @Inject(required = false)
     private TransferServiceSelectionStrategy transferServiceSelectionStrategy;
 
+    @Inject
+    private MetricsInstrumentation metrics;
+
     @Override
     public String name() {
         return "Data Plane Framework";
@@ -68,7 +115,17 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         this.context = context;
-        var pipelineService = new PipelineServiceImpl();
+        monitor = context.getMonitor();
+
+        segmentExecutor = Executors.newFixedThreadPool(context.getSetting(SEGMENT_WORKERS, DEFAULT_SEGMENT_WORKERS));
+        var segmentedTransferEngine = SegmentedTransferEngine.Builder.newInstance()
+                .segmentSize(context.getSetting(SEGMENT_SIZE, DEFAULT_SEGMENT_SIZE))
+                .window(context.getSetting(SEGMENT_WINDOW, DEFAULT_SEGMENT_WINDOW))
+                .executorService(segmentExecutor)
+                .monitor(monitor)
+                .build();
+
+        var pipelineService = new PipelineServiceImpl(segmentedTransferEngine, metrics);
         pipelineService.registerFactory(new OutputStreamDataSinkFactory()); // Added by default to support synchronous data transfer, i.e. pull data
         context.registerService(PipelineService.class, pipelineService);
         var transferService = new PipelineServiceTransferServiceImpl(pipelineService);
@@ -78,18 +135,20 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         transferServiceRegistry.registerTransferService(transferService);
         context.registerService(TransferServiceRegistry.class, transferServiceRegistry);
 
-        monitor = context.getMonitor();
         var queueCapacity = context.getSetting(QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY);
         var workers = context.getSetting(WORKERS, DEFAULT_WORKERS);
         var waitTimeout = context.getSetting(WAIT_TIMEOUT, DEFAULT_WAIT_TIMEOUT);
+        store = createStore(context);
 
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
                 .queueCapacity(queueCapacity)
                 .workers(workers)
                 .waitTimeout(waitTimeout)
+                .concurrencyLimits(concurrencyLimits(context))
+                .metrics(metrics)
                 .pipelineService(pipelineService)
                 .transferServiceRegistry(transferServiceRegistry)
-                .store(new InMemoryDataPlaneStore(IN_MEMORY_STORE_CAPACITY))
+                .store(store)
                 .monitor(monitor).build();
 
         context.registerService(DataPlaneManager.class, dataPlaneManager);
@@ -98,8 +157,7 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Override
     public void start() {
         if (!context.hasService(DataPlaneStore.class)) {
-            monitor.info("Registering in-memory Data Plane store.");
-            context.registerService(DataPlaneStore.class, new InMemoryDataPlaneStore(IN_MEMORY_STORE_CAPACITY));
+            context.registerService(DataPlaneStore.class, store);
         }
         dataPlaneManager.start();
     }
@@ -109,5 +167,27 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         if (dataPlaneManager != null) {
             dataPlaneManager.forceStop();
         }
+        if (store instanceof FileDataPlaneStore) {
+            ((FileDataPlaneStore) store).close();
+        }
+        if (segmentExecutor != null) {
+            segmentExecutor.shutdownNow();
+        }
+    }
+
+    private DataPlaneStore createStore(ServiceExtensionContext context) {
+        var capacity = context.getSetting(STORE_CAPACITY, DEFAULT_STORE_CAPACITY);
+        var path = context.getSetting(STORE_PATH, null);
+        if (path == null) {
+            monitor.info("Using in-memory Data Plane store.");
+            return new InMemoryDataPlaneStore(capacity);
+        }
+        monitor.info("Using file-based Data Plane store: " + path);
+        return new FileDataPlaneStore(Path.of(path), capacity, context.getSetting(STORE_SYNC, false), context.getTypeManager().getMapper(), monitor);
+    }
+
+    private Map<String, Integer> concurrencyLimits(ServiceExtensionContext context) {
+        return context.getConfig(CONCURRENCY_LIMITS).getRelativeEntries().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Integer.parseInt(entry.getValue())));
     }
 }
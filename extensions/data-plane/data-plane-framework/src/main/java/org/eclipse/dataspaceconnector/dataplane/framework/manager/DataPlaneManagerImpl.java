@@ -24,42 +24,64 @@ import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 
-import java.util.Collection;
-import java.util.LinkedHashSet;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.FATAL_ERROR;
 
 /**
  * Default data manager implementation.
  * <p>
- * This implementation uses a simple bounded queue to support backpressure when the system is overloaded. This should support sufficient performance since data transfers
- * generally do not require low-latency. If low-latency operation becomes a requirement, a concurrent queuing mechanism can be used.
+ * Requests are admitted as long as fewer than {@code queueCapacity} of them are waiting to be started, otherwise they are
+ * rejected with a retryable result so that the client can back off. Admitted requests are dispatched by a pool of
+ * workers, which should be sized according to the available cores and to how much of the transfer work is blocking.
+ * <p>
+ * The number of concurrent transfers can additionally be limited per destination type, for example to protect a sink
+ * that only accepts a few connections. Requests that exceed the limit are parked without occupying a worker and are put
+ * back in front of the queue when a transfer of the same type completes.
  */
 public class DataPlaneManagerImpl implements DataPlaneManager {
     private int queueCapacity = 10000;
-    private int workers = 1;
+    private int workers = Runtime.getRuntime().availableProcessors();
     private long waitTimeout = 100;
+    private Map<String, Integer> concurrencyLimits = Map.of();
 
     private PipelineService pipelineService;
     private Monitor monitor;
+    private MetricsInstrumentation metrics;
 
-    private BlockingQueue<DataFlowRequest> queue;
+    private final BlockingDeque<QueuedRequest> queue = new LinkedBlockingDeque<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Map<String, Limiter> limiters = new HashMap<>();
+    private final WaitTime waitTime = new WaitTime();
     private ExecutorService executorService;
 
-    private AtomicBoolean active = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
     private DataPlaneStore store;
     private TransferServiceRegistry transferServiceRegistry;
 
     public void start() {
-        queue = new ArrayBlockingQueue<>(queueCapacity);
-        active.set(true);
+        resumeInFlight();
+        running.set(true);
         executorService = Executors.newFixedThreadPool(workers);
         for (var i = 0; i < workers; i++) {
             executorService.submit(this::run);
@@ -67,14 +89,14 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
     }
 
     public void stop() {
-        active.set(false);
+        running.set(false);
         if (executorService != null) {
             executorService.shutdown();
         }
     }
 
     public void forceStop() {
-        active.set(false);
+        running.set(false);
         if (executorService != null) {
             executorService.shutdownNow();
         }
@@ -88,9 +110,16 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
                 Result.failure("Cannot handle this request");
     }
 
-    public void initiateTransfer(DataFlowRequest dataRequest) {
-        queue.add(dataRequest);
-        store.received(dataRequest.getProcessId());
+    @Override
+    public TransferResult initiateTransfer(DataFlowRequest dataRequest) {
+        if (pending.incrementAndGet() > queueCapacity) {
+            pending.decrementAndGet();
+            monitor.debug("Data plane queue is full, rejecting request: " + dataRequest.getProcessId());
+            return TransferResult.failure(ERROR_RETRY, "Data plane is at capacity, retry later");
+        }
+        store.received(dataRequest);
+        queue.offer(new QueuedRequest(dataRequest));
+        return TransferResult.success();
     }
 
     @Override
@@ -103,50 +132,178 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         return pipelineService.transfer(sink, request);
     }
 
+    @Override
+    public CompletableFuture<TransferResult> transfer(DataSink sink, DataFlowRequest request, InputStream requestBody) {
+        return pipelineService.transfer(sink, request, requestBody);
+    }
+
     @Override
     public State transferState(String processId) {
         return store.getState(processId);
     }
 
     private void run() {
-        while (active.get()) {
-            DataFlowRequest request = null;
+        while (running.get()) {
+            QueuedRequest queued = null;
             try {
-                request = queue.poll(waitTimeout, TimeUnit.MILLISECONDS);
-                if (request == null) {
-                    continue;
-                }
-                final var polledRequest = request;
-
-                var transferService = transferServiceRegistry.resolveTransferService(polledRequest);
-                if (transferService == null) {
-                    // Should not happen since resolving a transferService is part of payload validation
-                    // TODO persist error details
-                    store.completed(polledRequest.getProcessId());
-                } else {
-                    transferService.transfer(request).whenComplete((result, exception) -> {
-                        if (polledRequest.isTrackable()) {
-                            // TODO persist TransferResult or error details
-                            store.completed(polledRequest.getProcessId());
-                        }
-                    });
+                queued = queue.poll(waitTimeout, TimeUnit.MILLISECONDS);
+                if (queued != null) {
+                    dispatch(queued);
                 }
             } catch (InterruptedException e) {
                 Thread.interrupted();
-                active.set(false);
+                running.set(false);
                 break;
             } catch (Exception e) {
-                if (request == null) {
+                if (queued == null) {
                     monitor.severe("Unable to dequeue data request", e);
                 } else {
-                    monitor.severe("Error processing data request: " + request.getProcessId(), e);
-                    // TODO persist error details
-                    store.completed(request.getProcessId());
+                    monitor.severe("Error processing data request: " + queued.request.getProcessId(), e);
                 }
             }
         }
     }
 
+    /**
+     * Starts the transfer, unless the concurrency limit of its type is reached, in which case the request is parked until a
+     * transfer of the same type completes.
+     */
+    private void dispatch(QueuedRequest queued) {
+        var limiter = limiters.get(destinationType(queued.request));
+        if (limiter == null || queued.permitted || limiter.permits.tryAcquire()) {
+            start(queued, limiter);
+            return;
+        }
+        limiter.parked.add(queued);
+        // a transfer may have completed after the permit was denied, in which case nobody would resume the request
+        resume(limiter);
+    }
+
+    private void start(QueuedRequest queued, Limiter limiter) {
+        var request = queued.request;
+        pending.decrementAndGet();
+        active.incrementAndGet();
+        var wait = System.nanoTime() - queued.enqueuedAt;
+        waitTime.record(wait);
+        metrics.timer("edc.dataplane.queue.wait.time", Duration.ofNanos(wait));
+        TransferResult failure;
+        try {
+            var transferService = transferServiceRegistry.resolveTransferService(request);
+            if (transferService != null) {
+                transferService.transfer(request).whenComplete((result, exception) -> {
+                    try {
+                        if (request.isTrackable()) {
+                            store.completed(request.getProcessId(), exception == null ? result :
+                                    TransferResult.failure(FATAL_ERROR, "Unhandled exception raised when transferring data: " + exception.getMessage()));
+                        }
+                    } finally {
+                        release(limiter);
+                    }
+                });
+                return;
+            }
+            // Should not happen since resolving a transferService is part of payload validation
+            failure = TransferResult.failure(FATAL_ERROR, "No transfer service available for request");
+        } catch (Exception e) {
+            monitor.severe("Error processing data request: " + request.getProcessId(), e);
+            failure = TransferResult.failure(FATAL_ERROR, "Error processing data request: " + e.getMessage());
+        }
+        completed(request, failure, limiter);
+    }
+
+    private void completed(DataFlowRequest request, TransferResult result, Limiter limiter) {
+        try {
+            store.completed(request.getProcessId(), result);
+        } finally {
+            release(limiter);
+        }
+    }
+
+    /**
+     * Enqueues again the requests that the store reports as in flight, i.e. that were interrupted by a restart.
+     */
+    private void resumeInFlight() {
+        var inFlight = store.getInFlight();
+        if (inFlight.isEmpty()) {
+            return;
+        }
+        monitor.info("Resuming " + inFlight.size() + " interrupted data transfers");
+        inFlight.forEach(request -> {
+            pending.incrementAndGet();
+            queue.offer(new QueuedRequest(request));
+        });
+    }
+
+    private void release(Limiter limiter) {
+        active.decrementAndGet();
+        if (limiter != null) {
+            limiter.permits.release();
+            resume(limiter);
+        }
+    }
+
+    /**
+     * Hands the permits that are available over to parked requests, which are put back in front of the queue.
+     */
+    private void resume(Limiter limiter) {
+        while (!limiter.parked.isEmpty() && limiter.permits.tryAcquire()) {
+            var parked = limiter.parked.poll();
+            if (parked == null) {
+                limiter.permits.release();
+                return;
+            }
+            parked.permitted = true;
+            queue.offerFirst(parked);
+        }
+    }
+
+    private static String destinationType(DataFlowRequest request) {
+        var type = request.getDestinationDataAddress().getType();
+        return type != null ? type.toLowerCase() : null;
+    }
+
+    private void registerMetrics() {
+        metrics.gauge("edc.dataplane.queue.depth", pending::get);
+        metrics.gauge("edc.dataplane.queue.wait", waitTime::millis);
+        metrics.gauge("edc.dataplane.transfers.active", active::get);
+        limiters.forEach((type, limiter) -> metrics.gauge("edc.dataplane.transfers.limited", limiter.parked::size, "type", type));
+    }
+
+    private static class QueuedRequest {
+        private final DataFlowRequest request;
+        private final long enqueuedAt = System.nanoTime();
+        private volatile boolean permitted;
+
+        QueuedRequest(DataFlowRequest request) {
+            this.request = request;
+        }
+    }
+
+    private static class Limiter {
+        private final Semaphore permits;
+        private final Queue<QueuedRequest> parked = new ConcurrentLinkedQueue<>();
+
+        Limiter(int limit) {
+            permits = new Semaphore(limit);
+        }
+    }
+
+    /**
+     * Exponentially weighted moving average of the time requests wait before being started.
+     */
+    private static class WaitTime {
+        private static final double WEIGHT = 0.2;
+        private double average = -1;
+
+        synchronized void record(long nanos) {
+            average = average < 0 ? nanos : average + WEIGHT * (nanos - average);
+        }
+
+        synchronized double millis() {
+            return Math.max(average, 0) / 1_000_000;
+        }
+    }
+
     public static class Builder {
         private DataPlaneManagerImpl manager;
 
@@ -179,6 +336,19 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        /**
+         * Maximum number of concurrent transfers per destination type. Types without limit are only bounded by the workers.
+         */
+        public Builder concurrencyLimits(Map<String, Integer> concurrencyLimits) {
+            manager.concurrencyLimits = concurrencyLimits;
+            return this;
+        }
+
+        public Builder metrics(MetricsInstrumentation metrics) {
+            manager.metrics = metrics;
+            return this;
+        }
+
         public Builder waitTimeout(long waitTimeout) {
             manager.waitTimeout = waitTimeout;
             return this;
@@ -190,11 +360,16 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         }
 
         public DataPlaneManagerImpl build() {
+            Objects.requireNonNull(manager.concurrencyLimits, "concurrencyLimits");
+            Objects.requireNonNull(manager.metrics, "metrics");
+            manager.concurrencyLimits.forEach((type, limit) -> manager.limiters.put(type.toLowerCase(), new Limiter(limit)));
+            manager.registerMetrics();
             return manager;
         }
 
         private Builder() {
             manager = new DataPlaneManagerImpl();
+            manager.metrics = MetricsInstrumentation.NOOP;
         }
     }
 
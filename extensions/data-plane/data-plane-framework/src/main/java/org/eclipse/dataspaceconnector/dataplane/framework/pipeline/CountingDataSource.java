@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.pipeline;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Decorates a data source to count the parts that are opened and the bytes that are read from them, either sequentially,
+ * with random access or natively by a sink that unwrapped the part.
+ */
+class CountingDataSource implements DataSource {
+    private final DataSource source;
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicInteger parts = new AtomicInteger();
+    private volatile long firstByteAt;
+
+    CountingDataSource(DataSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public Stream<Part> openPartStream() {
+        return source.openPartStream().map(part -> {
+            parts.incrementAndGet();
+            return new CountingPart(part);
+        });
+    }
+
+    /**
+     * The number of bytes read so far.
+     */
+    long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * The number of parts opened so far.
+     */
+    int getParts() {
+        return parts.get();
+    }
+
+    /**
+     * The time the first byte was read, as returned by {@link System#nanoTime()}, or 0 if none was read yet.
+     */
+    long getFirstByteAt() {
+        return firstByteAt;
+    }
+
+    private void count(long read) {
+        if (firstByteAt == 0) {
+            // racing readers may overwrite each other, which only shifts the time by the length of the race
+            firstByteAt = System.nanoTime();
+        }
+        bytes.addAndGet(read);
+    }
+
+    private class CountingPart implements Part {
+        private final Part part;
+
+        CountingPart(Part part) {
+            this.part = part;
+        }
+
+        @Override
+        public String name() {
+            return part.name();
+        }
+
+        @Override
+        public long size() {
+            return part.size();
+        }
+
+        @Override
+        public String mediaType() {
+            return part.mediaType();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new CountingInputStream(part.openStream());
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return part.supportsRandomAccess();
+        }
+
+        @Override
+        public byte[] read(long offset, long length) {
+            var content = part.read(offset, length);
+            count(content.length);
+            return content;
+        }
+
+        @Override
+        public Part unwrap() {
+            return part.unwrap();
+        }
+
+        @Override
+        public void transferred(long bytes) {
+            if (bytes > 0) {
+                count(bytes);
+            }
+            part.transferred(bytes);
+        }
+
+        @Override
+        public void close() throws Exception {
+            part.close();
+        }
+    }
+
+    private class CountingInputStream extends FilterInputStream {
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+    }
+}
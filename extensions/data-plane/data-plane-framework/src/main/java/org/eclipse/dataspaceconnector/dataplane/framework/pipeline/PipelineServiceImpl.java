@@ -17,15 +17,21 @@ import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSourceFactory;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DeferredDataSink;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.SegmentedDataSink;
 import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
 import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -34,10 +40,36 @@ import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.FATAL_E
 
 /**
  * Default pipeline service implementation.
+ * <p>
+ * Records the bytes, parts, duration, throughput (in bytes per second) and time to first byte of every transfer, and the
+ * failed transfers, tagged by source and destination type. The transfers to a {@link DeferredDataSink} are recorded once
+ * the sink has transferred the content, rather than when the transfer completes.
  */
 public class PipelineServiceImpl implements PipelineService {
     private final List<DataSourceFactory> sourceFactories = new ArrayList<>();
     private final List<DataSinkFactory> sinkFactories = new ArrayList<>();
+    private final SegmentedTransferEngine segmentedTransferEngine;
+    private final MetricsInstrumentation metrics;
+
+    public PipelineServiceImpl() {
+        this(null);
+    }
+
+    /**
+     * Creates a pipeline service that transfers large random-access parts to {@link SegmentedDataSink}s in segments, using
+     * the given engine. Segmented transfers are disabled if the engine is null.
+     */
+    public PipelineServiceImpl(@Nullable SegmentedTransferEngine segmentedTransferEngine) {
+        this(segmentedTransferEngine, MetricsInstrumentation.NOOP);
+    }
+
+    /**
+     * Creates a pipeline service that records the transfer metrics with the given instrumentation.
+     */
+    public PipelineServiceImpl(@Nullable SegmentedTransferEngine segmentedTransferEngine, MetricsInstrumentation metrics) {
+        this.segmentedTransferEngine = segmentedTransferEngine;
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
 
     @Override
     public boolean canHandle(DataFlowRequest request) {
@@ -84,7 +116,7 @@ public class PipelineServiceImpl implements PipelineService {
         }
         var source = sourceFactory.createSource(request);
         var sink = sinkFactory.createSink(request);
-        return sink.transfer(source);
+        return transferToSink(request, source, sink);
     }
 
     @Override
@@ -94,7 +126,7 @@ public class PipelineServiceImpl implements PipelineService {
             return noSinkFactory(request);
         }
         var sink = sinkFactory.createSink(request);
-        return sink.transfer(source);
+        return transferToSink(request, source, sink);
     }
 
     @Override
@@ -104,7 +136,17 @@ public class PipelineServiceImpl implements PipelineService {
             return noSourceFactory(request);
         }
         var source = sourceFactory.createSource(request);
-        return sink.transfer(source);
+        return transferToSink(request, source, sink);
+    }
+
+    @Override
+    public CompletableFuture<TransferResult> transfer(DataSink sink, DataFlowRequest request, InputStream requestBody) {
+        var sourceFactory = getSourceFactory(request);
+        if (sourceFactory == null) {
+            return noSourceFactory(request);
+        }
+        var source = sourceFactory.createSource(request, requestBody);
+        return transferToSink(request, source, sink);
     }
 
     @Override
@@ -117,6 +159,48 @@ public class PipelineServiceImpl implements PipelineService {
         sinkFactories.add(factory);
     }
 
+    private CompletableFuture<TransferResult> transferToSink(DataFlowRequest request, DataSource source, DataSink sink) {
+        var startedAt = System.nanoTime();
+        var countingSource = new CountingDataSource(source);
+        var result = segmentedTransferEngine != null && sink instanceof SegmentedDataSink ?
+                segmentedTransferEngine.transfer(countingSource, (SegmentedDataSink) sink) :
+                sink.transfer(countingSource);
+        return result
+                .thenApply(r -> r.withBytesTransferred(countingSource.getBytes()))
+                .whenComplete((r, throwable) -> {
+                    var failed = r == null || r.failed();
+                    if (!failed && sink instanceof DeferredDataSink) {
+                        ((DeferredDataSink) sink).completion()
+                                .whenComplete((v, deferredFailure) -> record(request, countingSource, startedAt, deferredFailure != null));
+                    } else {
+                        record(request, countingSource, startedAt, failed);
+                    }
+                });
+    }
+
+    private void record(DataFlowRequest request, CountingDataSource source, long startedAt, boolean failed) {
+        var tags = new String[]{
+                "source", Objects.toString(request.getSourceDataAddress().getType(), "unknown"),
+                "destination", Objects.toString(request.getDestinationDataAddress().getType(), "unknown")
+        };
+        if (failed) {
+            metrics.counter("edc.dataplane.transfer.failures", 1, tags);
+            return;
+        }
+        var duration = System.nanoTime() - startedAt;
+        var bytes = source.getBytes();
+        metrics.timer("edc.dataplane.transfer.duration", Duration.ofNanos(duration), tags);
+        metrics.summary("edc.dataplane.transfer.bytes", bytes, tags);
+        metrics.summary("edc.dataplane.transfer.parts", source.getParts(), tags);
+        if (duration > 0) {
+            metrics.summary("edc.dataplane.transfer.throughput", bytes * 1e9 / duration, tags);
+        }
+        var firstByteAt = source.getFirstByteAt();
+        if (firstByteAt != 0) {
+            metrics.timer("edc.dataplane.transfer.first.byte", Duration.ofNanos(firstByteAt - startedAt), tags);
+        }
+    }
+
     @Nullable
     private DataSourceFactory getSourceFactory(DataFlowRequest request) {
         return sourceFactories.stream().filter(s -> s.canHandle(request)).findFirst().orElse(null);
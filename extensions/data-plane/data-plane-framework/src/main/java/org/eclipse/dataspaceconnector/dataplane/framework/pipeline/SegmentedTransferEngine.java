@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.pipeline;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.SegmentedDataSink;
+import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.AbstractResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.dataspaceconnector.common.async.AsyncUtils.asyncAllOf;
+import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
+
+/**
+ * Transfers large random-access parts to a {@link SegmentedDataSink} in parallel.
+ * <p>
+ * A part that supports random access and is larger than the segment size is split into ranges of the segment size. The
+ * ranges are read from the part and written to the sink by at most {@code window} concurrent tasks per part, each task
+ * picking the next pending range once it is done with the previous one, so that at most {@code window} segments of a
+ * part are held in memory. Once all the segments have been written they are committed, if one of them fails the written
+ * segments are aborted. The other parts are handed over to the sink as a regular data source.
+ */
+public class SegmentedTransferEngine {
+    private long segmentSize = 8 * 1024 * 1024;
+    private int window = 4;
+    private ExecutorService executorService;
+    private Monitor monitor;
+
+    private SegmentedTransferEngine() {
+    }
+
+    /**
+     * Transfers the parts of the source to the sink.
+     */
+    public CompletableFuture<TransferResult> transfer(DataSource source, SegmentedDataSink sink) {
+        List<DataSource.Part> parts;
+        try (var partStream = source.openPartStream()) {
+            parts = partStream.collect(toList());
+        } catch (Exception e) {
+            monitor.severe("Error opening data source parts", e);
+            return completedFuture(TransferResult.failure(ERROR_RETRY, "Error processing data transfer request"));
+        }
+
+        var futures = new ArrayList<CompletableFuture<TransferResult>>();
+        var sequential = new ArrayList<DataSource.Part>();
+        for (var part : parts) {
+            // the size is resolved once as it may require a call to the storage backend
+            var size = part.supportsRandomAccess() ? part.size() : DataSource.Part.SIZE_UNKNOWN;
+            if (size > segmentSize) {
+                futures.add(transferSegments(part, size, sink));
+            } else {
+                sequential.add(part);
+            }
+        }
+        if (!sequential.isEmpty()) {
+            futures.add(sink.transfer(sequential::stream));
+        }
+
+        return futures.stream()
+                .collect(asyncAllOf())
+                .thenApply(results -> results.stream()
+                        .filter(AbstractResult::failed)
+                        .findFirst()
+                        .orElse(TransferResult.success()))
+                .exceptionally(throwable -> TransferResult.failure(ERROR_RETRY, "Unhandled exception raised when transferring data: " + throwable.getMessage()));
+    }
+
+    private CompletableFuture<TransferResult> transferSegments(DataSource.Part part, long size, SegmentedDataSink sink) {
+        SegmentedDataSink.SegmentWriter writer;
+        try {
+            writer = sink.openSegmentWriter(part);
+        } catch (Exception e) {
+            monitor.severe("Error opening segment writer for part: " + part.name(), e);
+            close(part);
+            return completedFuture(TransferResult.failure(ERROR_RETRY, "Error transferring part: " + part.name()));
+        }
+
+        var count = (int) ((size + segmentSize - 1) / segmentSize);
+        var next = new AtomicInteger();
+        var tasks = IntStream.range(0, Math.min(window, count))
+                .mapToObj(i -> runAsync(() -> writeSegments(part, size, writer, count, next), executorService))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(tasks)
+                .handle((v, throwable) -> {
+                    try {
+                        if (throwable != null) {
+                            writer.abort();
+                            monitor.severe("Error transferring segments of part: " + part.name(), throwable);
+                            return TransferResult.failure(ERROR_RETRY, "Error transferring part: " + part.name());
+                        }
+                        writer.commit(count);
+                        return TransferResult.success();
+                    } catch (Exception e) {
+                        monitor.severe("Error committing segments of part: " + part.name(), e);
+                        return TransferResult.failure(ERROR_RETRY, "Error transferring part: " + part.name());
+                    } finally {
+                        close(part);
+                    }
+                });
+    }
+
+    /**
+     * Reads and writes the pending segments one after the other until there are none left. On failure the pending
+     * segments are skipped, so that the other tasks of the part stop as well.
+     */
+    private void writeSegments(DataSource.Part part, long size, SegmentedDataSink.SegmentWriter writer, int count, AtomicInteger next) {
+        int index;
+        while ((index = next.getAndIncrement()) < count) {
+            var offset = index * segmentSize;
+            var length = Math.min(segmentSize, size - offset);
+            try {
+                writer.write(index, offset, part.read(offset, length));
+            } catch (Exception e) {
+                next.set(count);
+                throw new EdcException(e);
+            }
+        }
+    }
+
+    private void close(DataSource.Part part) {
+        try {
+            part.close();
+        } catch (Exception e) {
+            monitor.warning("Error closing data source part: " + part.name());
+        }
+    }
+
+    public static class Builder {
+        private final SegmentedTransferEngine engine;
+
+        private Builder() {
+            engine = new SegmentedTransferEngine();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * The size in bytes of the segments. Parts up to this size are not segmented.
+         */
+        public Builder segmentSize(long segmentSize) {
+            engine.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * The maximum number of segments of a part that are transferred concurrently.
+         */
+        public Builder window(int window) {
+            engine.window = window;
+            return this;
+        }
+
+        public Builder executorService(ExecutorService executorService) {
+            engine.executorService = executorService;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            engine.monitor = monitor;
+            return this;
+        }
+
+        public SegmentedTransferEngine build() {
+            Objects.requireNonNull(engine.executorService, "executorService");
+            Objects.requireNonNull(engine.monitor, "monitor");
+            if (engine.segmentSize <= 0) {
+                throw new IllegalArgumentException("Segment size must be positive");
+            }
+            if (engine.window <= 0) {
+                throw new IllegalArgumentException("Window must be positive");
+            }
+            return engine;
+        }
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.store;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataFlowRecord;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Implements a persistent store backed by an append-only log file.
+ * <p>
+ * The state of the processes is kept in a concurrent map, updates are applied to the map and then appended to a queue
+ * that a single writer thread drains into the log, so that callers never wait for disk I/O. The log consists of one JSON
+ * record per line, each record holds the latest state of a process so that replaying it is idempotent. When the store is
+ * opened the log is replayed, which recovers the requests that were in flight, and compacted. It is compacted again once
+ * it holds more than twice as many records as there are processes.
+ * <p>
+ * Completed processes beyond the capacity of the store are evicted, oldest first. Processes in flight are never evicted.
+ */
+public class FileDataPlaneStore implements DataPlaneStore, AutoCloseable {
+    private static final int MIN_COMPACTION_RECORDS = 10_000;
+    private static final int MAX_BATCH = 1000;
+    private static final int MAX_RETRIES_ON_CLOSE = 3;
+    private static final long MAX_RETRY_DELAY_MILLIS = 5000;
+    private static final LogRecord STOP = new LogRecord();
+
+    private final Path path;
+    private final int capacity;
+    private final boolean sync;
+    private final ObjectMapper mapper;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final int minCompactionRecords;
+
+    private final Map<String, LogRecord> processes = new ConcurrentHashMap<>();
+    private final Queue<String> completed = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger completedCount = new AtomicInteger();
+    private final BlockingQueue<LogRecord> pending = new LinkedBlockingQueue<>();
+    private final Thread writerThread;
+
+    private FileChannel channel;
+    private Writer writer;
+    private boolean writeFailed;
+    private int records;
+    private int compactAfter;
+
+    public FileDataPlaneStore(Path path, int capacity, boolean sync, ObjectMapper mapper, Monitor monitor) {
+        this(path, capacity, sync, mapper, monitor, Clock.systemUTC(), MIN_COMPACTION_RECORDS);
+    }
+
+    FileDataPlaneStore(Path path, int capacity, boolean sync, ObjectMapper mapper, Monitor monitor, Clock clock, int minCompactionRecords) {
+        this.path = path;
+        this.capacity = capacity;
+        this.sync = sync;
+        this.mapper = mapper;
+        this.monitor = monitor;
+        this.clock = clock;
+        this.minCompactionRecords = minCompactionRecords;
+        compactAfter = minCompactionRecords;
+        try {
+            replay();
+            compact();
+        } catch (IOException e) {
+            throw new EdcException("Error opening data plane store: " + path, e);
+        }
+        writerThread = new Thread(this::write, "data-plane-store-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void received(String processId) {
+        received(processId, null);
+    }
+
+    @Override
+    public void received(DataFlowRequest request) {
+        received(request.getProcessId(), request);
+    }
+
+    @Override
+    public void completed(String processId) {
+        completed(processId, TransferResult.success());
+    }
+
+    @Override
+    public void completed(String processId, TransferResult result) {
+        var now = clock.millis();
+        var transition = new AtomicBoolean();
+        var updated = processes.compute(processId, (id, current) -> {
+            var received = current != null ? current.record : receivedRecord(id, now);
+            if (received.getState() == State.COMPLETED) {
+                return current;
+            }
+            transition.set(true);
+            return new LogRecord(received.completed(now, result), null);
+        });
+        if (transition.get()) {
+            track(processId);
+            append(updated);
+        }
+    }
+
+    @Override
+    public State getState(String processId) {
+        var process = processes.get(processId);
+        return process != null ? process.record.getState() : State.NOT_TRACKED;
+    }
+
+    @Override
+    public @Nullable DataFlowRecord getRecord(String processId) {
+        var process = processes.get(processId);
+        return process != null ? process.record : null;
+    }
+
+    @Override
+    public List<DataFlowRequest> getInFlight() {
+        return processes.values().stream()
+                .filter(process -> process.record.getState() == State.RECEIVED && process.request != null)
+                .map(process -> process.request)
+                .collect(toList());
+    }
+
+    /**
+     * Writes the pending records and closes the log.
+     */
+    @Override
+    public void close() {
+        pending.add(STOP);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void received(String processId, DataFlowRequest request) {
+        var process = new LogRecord(receivedRecord(processId, clock.millis()), request);
+        processes.put(processId, process);
+        append(process);
+    }
+
+    private DataFlowRecord receivedRecord(String processId, long receivedAt) {
+        return DataFlowRecord.Builder.newInstance().processId(processId).state(State.RECEIVED).receivedAt(receivedAt).build();
+    }
+
+    private void append(LogRecord process) {
+        pending.add(process);
+    }
+
+    /**
+     * Keeps track of the completion order and evicts the oldest completed processes beyond capacity.
+     */
+    private void track(String processId) {
+        completed.add(processId);
+        if (completedCount.incrementAndGet() <= capacity) {
+            return;
+        }
+        var evicted = completed.poll();
+        if (evicted != null) {
+            completedCount.decrementAndGet();
+            processes.computeIfPresent(evicted, (id, process) -> process.record.getState() == State.COMPLETED ? null : process);
+        }
+    }
+
+    private void replay() throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (var lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            lines.filter(line -> !line.isBlank()).forEach(line -> {
+                try {
+                    var process = mapper.readValue(line, LogRecord.class);
+                    var processId = process.record.getProcessId();
+                    var previous = processes.put(processId, process);
+                    if (process.record.getState() == State.COMPLETED && (previous == null || previous.record.getState() != State.COMPLETED)) {
+                        track(processId);
+                    }
+                } catch (JsonProcessingException e) {
+                    // a record can only be incomplete if the runtime stopped while writing it, i.e. it is the last one
+                    monitor.warning("Skipping unreadable data plane store record: " + e.getMessage());
+                }
+            });
+        }
+        var inFlight = processes.values().stream().filter(process -> process.record.getState() == State.RECEIVED).count();
+        monitor.info("Data plane store recovered " + processes.size() + " processes, " + inFlight + " in flight");
+    }
+
+    /**
+     * Rewrites the log with the current state of the processes and reopens it for appending. The current log is only
+     * replaced once the compacted one is complete, and is reopened if replacing it fails.
+     */
+    private void compact() throws IOException {
+        var parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        var snapshot = new ArrayList<>(processes.values());
+        var compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try (var out = Files.newBufferedWriter(compacted, StandardCharsets.UTF_8)) {
+            for (var process : snapshot) {
+                out.write(mapper.writeValueAsString(process));
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(compacted);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        closeLog();
+        try {
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            records = snapshot.size();
+        } finally {
+            openLog();
+        }
+    }
+
+    /**
+     * Drains the pending records in batches, so that a single write and flush is performed for all the updates that
+     * accumulated while the previous batch was written.
+     * <p>
+     * A batch that cannot be written is retried, with an increasing delay, before any further record is taken, so
+     * that no update is lost while the log is unavailable. Once the store is closed, it is only retried a few times.
+     */
+    private void write() {
+        var batch = new ArrayList<LogRecord>();
+        var stopping = false;
+        var failures = 0;
+        while (!stopping || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    batch.add(pending.take());
+                }
+                pending.drainTo(batch, Math.max(0, MAX_BATCH - batch.size()));
+                stopping |= batch.remove(STOP) || Thread.currentThread().isInterrupted();
+                writeBatch(batch);
+                batch.clear();
+                failures = 0;
+                if (!stopping && records > compactAfter && records > 2 * processes.size()) {
+                    compactLog();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopping = true;
+            } catch (IOException | RuntimeException e) {
+                failures++;
+                abandonLog();
+                if (stopping && failures >= MAX_RETRIES_ON_CLOSE) {
+                    monitor.severe("Error writing data plane store log, dropping " + batch.size() + " records: " + path, e);
+                    break;
+                }
+                monitor.severe("Error writing data plane store log, retrying " + batch.size() + " records: " + path, e);
+                try {
+                    Thread.sleep(Math.min(MAX_RETRY_DELAY_MILLIS, 100L << Math.min(failures, 6)));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    stopping = true;
+                }
+            }
+        }
+        try {
+            closeLog();
+        } catch (IOException e) {
+            monitor.severe("Error closing data plane store log: " + path, e);
+        }
+    }
+
+    private void writeBatch(List<LogRecord> batch) throws IOException {
+        if (writer == null) {
+            openLog();
+        }
+        if (writeFailed) {
+            // terminates the line a failed write may have left incomplete, blank lines are skipped on replay
+            writer.write('\n');
+            writeFailed = false;
+        }
+        for (var process : batch) {
+            String line;
+            try {
+                line = mapper.writeValueAsString(process);
+            } catch (JsonProcessingException e) {
+                // retrying cannot help, the record would block all the following ones
+                monitor.severe("Skipping data plane store record that cannot be serialized: " + process.record.getProcessId(), e);
+                continue;
+            }
+            writer.write(line);
+            writer.write('\n');
+        }
+        writer.flush();
+        if (sync) {
+            channel.force(false);
+        }
+        records += batch.size();
+    }
+
+    /**
+     * Compacts the log, a failure only postpones the next compaction since the current log is kept.
+     */
+    private void compactLog() {
+        try {
+            compact();
+            compactAfter = minCompactionRecords;
+        } catch (IOException | RuntimeException e) {
+            compactAfter = records + minCompactionRecords;
+            monitor.warning("Error compacting data plane store log, keeping the current one: " + path, e);
+        }
+    }
+
+    private void openLog() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Closes the log after a failed write, the buffered content is discarded and the log reopened by the next write.
+     */
+    private void abandonLog() {
+        writeFailed = true;
+        writer = null;
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            monitor.debug("Error closing data plane store log: " + e.getMessage());
+        }
+    }
+
+    private void closeLog() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    /**
+     * A line of the log, holding the state of a process and, while it is in flight, the request to resume it.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private static class LogRecord {
+        public DataFlowRecord record;
+        public DataFlowRequest request;
+
+        LogRecord() {
+        }
+
+        LogRecord(DataFlowRecord record, DataFlowRequest request) {
+            this.record = record;
+            this.request = request;
+        }
+    }
+}
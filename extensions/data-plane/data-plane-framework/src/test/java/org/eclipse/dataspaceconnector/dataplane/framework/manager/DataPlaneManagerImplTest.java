@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.dataplane.framework.manager;
 import org.eclipse.dataspaceconnector.dataplane.framework.store.InMemoryDataPlaneStore;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.dataspaceconnector.dataplane.spi.registry.TransferServiceRegistry;
+import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.result.Result;
@@ -24,15 +25,20 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -117,11 +123,56 @@ class DataPlaneManagerImplTest {
         doAnswer(i -> {
             latch.countDown();
             return null;
-        }).when(store).completed(request.getProcessId());
+        }).when(store).completed(eq(request.getProcessId()), isA(TransferResult.class));
 
         performTransfer(dataPlaneManager);
     }
 
+    @Test
+    void initiateTransfer_atCapacity_returnsRetryableFailure() {
+        var dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+                .queueCapacity(1)
+                .transferServiceRegistry(registry)
+                .store(store)
+                .monitor(mock(Monitor.class))
+                .build();
+
+        assertThat(dataPlaneManager.initiateTransfer(request).succeeded()).isTrue();
+
+        var result = dataPlaneManager.initiateTransfer(request);
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure().status()).isEqualTo(ERROR_RETRY);
+    }
+
+    @Test
+    void verifyWorkDispatch_concurrencyLimit() {
+        var dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+                .queueCapacity(100)
+                .workers(2)
+                .waitTimeout(10)
+                .concurrencyLimits(Map.of("type", 1))
+                .transferServiceRegistry(registry)
+                .store(store)
+                .monitor(mock(Monitor.class))
+                .build();
+        var firstTransfer = new CompletableFuture<TransferResult>();
+        when(transferService.transfer(request))
+                .thenReturn(firstTransfer)
+                .thenReturn(completedFuture(TransferResult.success()));
+
+        dataPlaneManager.start();
+        dataPlaneManager.initiateTransfer(request);
+        dataPlaneManager.initiateTransfer(request);
+
+        verify(transferService, timeout(1000).times(1)).transfer(request);
+        verify(transferService, after(200).times(1)).transfer(request);
+
+        firstTransfer.complete(TransferResult.success());
+
+        verify(transferService, timeout(1000).times(2)).transfer(request);
+        dataPlaneManager.stop();
+    }
+
     private DataPlaneManagerImpl createDataPlaneManager() {
         return DataPlaneManagerImpl.Builder.newInstance()
                 .queueCapacity(100)
@@ -4,7 +4,11 @@ import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSourceFactory;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.SegmentedDataSink;
 import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
+import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.Test;
@@ -12,13 +16,20 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,11 +57,113 @@ class PipelineServiceImplTest {
         when(sourceFactory.createSource(request)).thenReturn(source);
         when(sinkFactory.canHandle(request)).thenReturn(true);
         when(sinkFactory.createSink(request)).thenReturn(sink);
-        when(sink.transfer(source)).thenReturn(completedFuture(TransferResult.success()));
+        when(source.openPartStream()).thenReturn(Stream.of(new InputStreamDataSource("part", new ByteArrayInputStream("data".getBytes()))));
+        when(sink.transfer(any())).thenAnswer(i -> {
+            var transferred = i.getArgument(0, DataSource.class);
+            transferred.openPartStream().forEach(part -> assertThat(part.openStream()).hasContent("data"));
+            return completedFuture(TransferResult.success());
+        });
 
-        service.transfer(request);
+        var result = service.transfer(request);
 
-        verify(sink).transfer(eq(source));
+        verify(sink).transfer(any());
+        assertThat(result).succeedsWithin(1, TimeUnit.SECONDS)
+                .satisfies(r -> assertThat(r.getBytesTransferred()).isEqualTo(4));
+    }
+
+    @Test
+    void transfer_segmentedSink_usesSegmentedTransferEngine() {
+        var engine = mock(SegmentedTransferEngine.class);
+        var segmentedSink = mock(SegmentedDataSink.class);
+        var segmentedService = new PipelineServiceImpl(engine);
+        segmentedService.registerFactory(sourceFactory);
+        segmentedService.registerFactory(sinkFactory);
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(source);
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(segmentedSink);
+        when(engine.transfer(any(), eq(segmentedSink))).thenReturn(completedFuture(TransferResult.success()));
+
+        segmentedService.transfer(request);
+
+        verify(engine).transfer(any(), eq(segmentedSink));
+        verify(segmentedSink, never()).transfer(any());
+    }
+
+    @Test
+    void transfer_recordsMetrics() {
+        var metrics = mock(MetricsInstrumentation.class);
+        var instrumentedService = new PipelineServiceImpl(null, metrics);
+        instrumentedService.registerFactory(sourceFactory);
+        instrumentedService.registerFactory(sinkFactory);
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(source);
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(sink);
+        when(source.openPartStream()).thenReturn(Stream.of(new InputStreamDataSource("part", new ByteArrayInputStream("data".getBytes()))));
+        when(sink.transfer(any())).thenAnswer(i -> {
+            i.getArgument(0, DataSource.class).openPartStream().forEach(part -> assertThat(part.openStream()).hasContent("data"));
+            return completedFuture(TransferResult.success());
+        });
+
+        assertThat(instrumentedService.transfer(request)).succeedsWithin(1, TimeUnit.SECONDS);
+
+        var tags = new String[]{ "source", "test", "destination", "test" };
+        verify(metrics).summary("edc.dataplane.transfer.bytes", 4, tags);
+        verify(metrics).summary("edc.dataplane.transfer.parts", 1, tags);
+        verify(metrics).timer(eq("edc.dataplane.transfer.duration"), any(), eq("source"), eq("test"), eq("destination"), eq("test"));
+        verify(metrics).timer(eq("edc.dataplane.transfer.first.byte"), any(), eq("source"), eq("test"), eq("destination"), eq("test"));
+        verify(metrics, never()).counter(any(), anyDouble(), any());
+    }
+
+    @Test
+    void transfer_deferredSink_recordsMetricsOnceStreamed() {
+        var metrics = mock(MetricsInstrumentation.class);
+        var instrumentedService = new PipelineServiceImpl(null, metrics);
+        instrumentedService.registerFactory(sourceFactory);
+        instrumentedService.registerFactory(sinkFactory);
+        var deferredSink = mock(DeferredDataSink.class);
+        var completion = new CompletableFuture<Void>();
+        var transferred = new AtomicReference<DataSource>();
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(source);
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(deferredSink);
+        when(source.openPartStream()).thenReturn(Stream.of(new InputStreamDataSource("part", new ByteArrayInputStream("data".getBytes()))));
+        when(deferredSink.completion()).thenReturn(completion);
+        when(deferredSink.transfer(any())).thenAnswer(i -> {
+            transferred.set(i.getArgument(0, DataSource.class));
+            return completedFuture(TransferResult.success());
+        });
+
+        assertThat(instrumentedService.transfer(request)).succeedsWithin(1, TimeUnit.SECONDS);
+        verify(metrics, never()).summary(any(), anyDouble(), any());
+
+        // the content is streamed after the transfer completed, e.g. by the client reading the response
+        transferred.get().openPartStream().forEach(part -> assertThat(part.openStream()).hasContent("data"));
+        completion.complete(null);
+
+        var tags = new String[]{ "source", "test", "destination", "test" };
+        verify(metrics).summary("edc.dataplane.transfer.bytes", 4, tags);
+        verify(metrics).timer(eq("edc.dataplane.transfer.first.byte"), any(), eq("source"), eq("test"), eq("destination"), eq("test"));
+    }
+
+    @Test
+    void transfer_failure_recordsFailure() {
+        var metrics = mock(MetricsInstrumentation.class);
+        var instrumentedService = new PipelineServiceImpl(null, metrics);
+        instrumentedService.registerFactory(sourceFactory);
+        instrumentedService.registerFactory(sinkFactory);
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(source);
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(sink);
+        when(sink.transfer(any())).thenReturn(completedFuture(TransferResult.failure(ResponseStatus.ERROR_RETRY, "error")));
+
+        assertThat(instrumentedService.transfer(request)).succeedsWithin(1, TimeUnit.SECONDS);
+
+        verify(metrics).counter("edc.dataplane.transfer.failures", 1, "source", "test", "destination", "test");
+        verify(metrics, never()).summary(any(), anyDouble(), any());
     }
 
     @ParameterizedTest
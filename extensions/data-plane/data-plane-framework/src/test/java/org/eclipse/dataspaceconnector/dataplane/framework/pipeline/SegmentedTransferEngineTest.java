@@ -0,0 +1,215 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.pipeline;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.SegmentedDataSink;
+import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SegmentedTransferEngineTest {
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    SegmentedTransferEngine engine = SegmentedTransferEngine.Builder.newInstance()
+            .segmentSize(5)
+            .window(2)
+            .executorService(executor)
+            .monitor(mock(Monitor.class))
+            .build();
+    TestSink sink = new TestSink();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void transfer_writesSegmentsAndCommits() {
+        var part = new RandomAccessPart(CONTENT);
+
+        var result = engine.transfer(() -> Stream.of(part), sink);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r.succeeded()).isTrue());
+        assertThat(sink.segments).hasSize(8);
+        assertThat(sink.committed).isEqualTo(CONTENT);
+        assertThat(part.maxConcurrentReads.get()).isLessThanOrEqualTo(2);
+        assertThat(part.closed).isTrue();
+    }
+
+    @Test
+    void transfer_sequentialPartsDelegatedToSink() {
+        var smallPart = new RandomAccessPart("01234");
+        var streamPart = new InputStreamDataSource("stream", new ByteArrayInputStream(CONTENT.getBytes(UTF_8)));
+
+        var result = engine.transfer(() -> Stream.of(smallPart, streamPart), sink);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r.succeeded()).isTrue());
+        assertThat(sink.segments).isEmpty();
+        assertThat(sink.transferred).containsExactly("01234", CONTENT);
+    }
+
+    @Test
+    void transfer_readFails_abortsSegments() {
+        var part = new RandomAccessPart(CONTENT) {
+            @Override
+            public byte[] read(long offset, long bytes) {
+                if (offset == 10) {
+                    throw new IllegalStateException("read failure");
+                }
+                return super.read(offset, bytes);
+            }
+        };
+
+        var result = engine.transfer(() -> Stream.of(part), sink);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r.failed()).isTrue());
+        assertThat(sink.aborted).isTrue();
+        assertThat(sink.committed).isNull();
+        assertThat(part.closed).isTrue();
+    }
+
+    @Test
+    void transfer_commitFails_fails() throws Exception {
+        var writer = mock(SegmentedDataSink.SegmentWriter.class);
+        var failingSink = mock(SegmentedDataSink.class);
+        when(failingSink.openSegmentWriter(any())).thenReturn(writer);
+        doThrow(new IllegalStateException("commit failure")).when(writer).commit(8);
+
+        var result = engine.transfer(() -> Stream.of(new RandomAccessPart(CONTENT)), failingSink);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r.failed()).isTrue());
+        verify(failingSink, never()).transfer(any());
+    }
+
+    private static class RandomAccessPart implements DataSource.Part {
+        private final byte[] content;
+        private final AtomicInteger concurrentReads = new AtomicInteger();
+        private final AtomicInteger maxConcurrentReads = new AtomicInteger();
+        private volatile boolean closed;
+
+        RandomAccessPart(String content) {
+            this.content = content.getBytes(UTF_8);
+        }
+
+        @Override
+        public String name() {
+            return "part";
+        }
+
+        @Override
+        public long size() {
+            return content.length;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return true;
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            maxConcurrentReads.accumulateAndGet(concurrentReads.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+                return Arrays.copyOfRange(content, (int) offset, (int) (offset + bytes));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                concurrentReads.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static class TestSink implements SegmentedDataSink {
+        private final Map<Integer, byte[]> segments = new ConcurrentHashMap<>();
+        private final List<String> transferred = new CopyOnWriteArrayList<>();
+        private volatile String committed;
+        private volatile boolean aborted;
+
+        @Override
+        public CompletableFuture<TransferResult> transfer(DataSource source) {
+            source.openPartStream().forEach(part -> {
+                try (var stream = part.openStream()) {
+                    transferred.add(new String(stream.readAllBytes(), UTF_8));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            return CompletableFuture.completedFuture(TransferResult.success());
+        }
+
+        @Override
+        public SegmentWriter openSegmentWriter(DataSource.Part part) {
+            return new SegmentWriter() {
+                @Override
+                public void write(int index, long offset, byte[] content) {
+                    segments.put(index, content);
+                }
+
+                @Override
+                public void commit(int count) {
+                    var output = new ByteArrayOutputStream();
+                    for (var i = 0; i < count; i++) {
+                        output.writeBytes(segments.get(i));
+                    }
+                    committed = output.toString(UTF_8);
+                }
+
+                @Override
+                public void abort() {
+                    aborted = true;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.dataplane.framework.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State.COMPLETED;
+import static org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State.NOT_TRACKED;
+import static org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State.RECEIVED;
+import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.FATAL_ERROR;
+import static org.mockito.Mockito.mock;
+
+class FileDataPlaneStoreTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Monitor monitor = mock(Monitor.class);
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC);
+
+    @TempDir
+    Path directory;
+
+    private FileDataPlaneStore store;
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void verifyOperations() {
+        store = open(2);
+
+        assertThat(store.getState("1")).isEqualTo(NOT_TRACKED);
+        store.received("1");
+        assertThat(store.getState("1")).isEqualTo(RECEIVED);
+        store.completed("1");
+        assertThat(store.getState("1")).isEqualTo(COMPLETED);
+    }
+
+    @Test
+    void verifyCompletedRecord() {
+        store = open(2);
+
+        store.received(createRequest("1"));
+        store.completed("1", TransferResult.failure(FATAL_ERROR, "error").withBytesTransferred(42));
+
+        var record = store.getRecord("1");
+        assertThat(record).isNotNull();
+        assertThat(record.getState()).isEqualTo(COMPLETED);
+        assertThat(record.getBytesTransferred()).isEqualTo(42);
+        assertThat(record.getDuration()).isEqualTo(0);
+        assertThat(record.isFailed()).isTrue();
+        assertThat(record.getErrorStatus()).isEqualTo(FATAL_ERROR);
+        assertThat(record.getErrors()).containsExactly("error");
+        assertThat(store.getInFlight()).isEmpty();
+    }
+
+    @Test
+    void verifyRecoveryAfterRestart() {
+        store = open(10);
+        store.received(createRequest("1"));
+        store.received(createRequest("2"));
+        store.completed("2", TransferResult.success().withBytesTransferred(10));
+        store.close();
+
+        store = open(10);
+
+        assertThat(store.getState("1")).isEqualTo(RECEIVED);
+        assertThat(store.getState("2")).isEqualTo(COMPLETED);
+        assertThat(store.getRecord("2").getBytesTransferred()).isEqualTo(10);
+        assertThat(store.getInFlight()).hasSize(1).first().satisfies(request -> {
+            assertThat(request.getProcessId()).isEqualTo("1");
+            assertThat(request.getSourceDataAddress().getType()).isEqualTo("source");
+        });
+    }
+
+    @Test
+    void verifyUnreadableRecordSkipped() throws Exception {
+        store = open(10);
+        store.received(createRequest("1"));
+        store.close();
+        Files.writeString(directory.resolve("store.log"), "{\"record\":{\"proc", UTF_8, StandardOpenOption.APPEND);
+
+        store = open(10);
+
+        assertThat(store.getState("1")).isEqualTo(RECEIVED);
+    }
+
+    @Test
+    void verifyCompletedEvicted() {
+        store = open(2);
+        store.received("1");
+        store.completed("2");
+        store.completed("3");
+        store.completed("4");
+
+        assertThat(store.getState("1")).isEqualTo(RECEIVED);
+        assertThat(store.getState("2")).isEqualTo(NOT_TRACKED);
+        assertThat(store.getState("3")).isEqualTo(COMPLETED);
+        assertThat(store.getState("4")).isEqualTo(COMPLETED);
+    }
+
+    @Test
+    void verifyFailedCompactionKeepsLog() throws Exception {
+        var compactionFailed = new CountDownLatch(1);
+        var failureMonitor = new Monitor() {
+            @Override
+            public void warning(String message, Throwable... errors) {
+                compactionFailed.countDown();
+            }
+        };
+        store = new FileDataPlaneStore(directory.resolve("store.log"), 10, true, mapper, failureMonitor, clock, 2);
+        // a non-empty directory in place of the compacted log makes compaction fail
+        var blocker = Files.createDirectory(directory.resolve("store.log.compact")).resolve("blocker");
+        Files.createFile(blocker);
+
+        for (var i = 0; i < 5; i++) {
+            store.received(createRequest("1"));
+            Thread.sleep(10);
+        }
+        assertThat(compactionFailed.await(5, TimeUnit.SECONDS)).isTrue();
+        store.received(createRequest("2"));
+        store.completed("1");
+        store.close();
+
+        Files.delete(blocker);
+        Files.delete(blocker.getParent());
+        store = open(10);
+
+        assertThat(store.getState("1")).isEqualTo(COMPLETED);
+        assertThat(store.getState("2")).isEqualTo(RECEIVED);
+    }
+
+    private FileDataPlaneStore open(int capacity) {
+        return new FileDataPlaneStore(directory.resolve("store.log"), capacity, true, mapper, monitor, clock, 10_000);
+    }
+
+    private DataFlowRequest createRequest(String processId) {
+        return DataFlowRequest.Builder.newInstance()
+                .id("request-" + processId)
+                .processId(processId)
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("source").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("destination").build())
+                .build();
+    }
+}
@@ -14,21 +14,76 @@
 package org.eclipse.dataspaceconnector.dataplane.http;
 
 import net.jodah.failsafe.RetryPolicy;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.eclipse.dataspaceconnector.dataplane.http.pipeline.HttpDataSinkFactory;
 import org.eclipse.dataspaceconnector.dataplane.http.pipeline.HttpDataSourceFactory;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Provides support for reading data from an HTTP endpoint and sending data to an HTTP endpoint.
+ * <p>
+ * Data is transferred with a dedicated HTTP client derived from the shared one, with its own connection pool and limits
+ * on the requests in flight. HTTP/2 is negotiated over TLS, and can be enabled for cleartext endpoints with prior
+ * knowledge.
  */
 public class DataPlaneHttpExtension implements ServiceExtension {
 
+    @EdcSetting
+    private static final String WORKERS = "edc.dataplane.http.sink.workers";
+    private static final int DEFAULT_WORKERS = 10;
+
+    @EdcSetting
+    private static final String PARTITION_SIZE = "edc.dataplane.http.sink.partition.size";
+    private static final int DEFAULT_PARTITION_SIZE = 5;
+
+    /**
+     * Compression of the content sent by the sinks, either "none" or "gzip".
+     */
+    @EdcSetting
+    private static final String COMPRESSION = "edc.dataplane.http.sink.compression";
+
+    /**
+     * Maximum number of idle connections kept in the pool.
+     */
+    @EdcSetting
+    private static final String POOL_SIZE = "edc.dataplane.http.pool.size";
+    private static final int DEFAULT_POOL_SIZE = 32;
+
+    @EdcSetting
+    private static final String POOL_KEEP_ALIVE = "edc.dataplane.http.pool.keep-alive";
+    private static final long DEFAULT_POOL_KEEP_ALIVE_SECONDS = 300;
+
+    @EdcSetting
+    private static final String MAX_REQUESTS = "edc.dataplane.http.requests.max";
+    private static final int DEFAULT_MAX_REQUESTS = 64;
+
+    @EdcSetting
+    private static final String MAX_REQUESTS_PER_HOST = "edc.dataplane.http.requests.max-per-host";
+    private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 16;
+
+    @EdcSetting
+    private static final String TIMEOUT = "edc.dataplane.http.timeout";
+    private static final long DEFAULT_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Whether cleartext endpoints are called with HTTP/2 without upgrade. All the endpoints must then support HTTP/2.
+     */
+    @EdcSetting
+    private static final String H2C = "edc.dataplane.http.h2c";
+
     @Inject
     private OkHttpClient httpClient;
 
@@ -39,6 +94,9 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     @Inject
     private PipelineService pipelineService;
 
+    private OkHttpClient dataPlaneHttpClient;
+    private ExecutorService executorService;
+
     @Override
     public String name() {
         return "Data Plane HTTP";
@@ -46,14 +104,62 @@ public class DataPlaneHttpExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var executorService = Executors.newFixedThreadPool(10); // TODO make configurable
+        executorService = Executors.newFixedThreadPool(context.getSetting(WORKERS, DEFAULT_WORKERS));
+        dataPlaneHttpClient = createHttpClient(context);
 
         var monitor = context.getMonitor();
 
-        @SuppressWarnings("unchecked") var sourceFactory = new HttpDataSourceFactory(httpClient, retryPolicy, monitor);
+        @SuppressWarnings("unchecked") var sourceFactory = new HttpDataSourceFactory(dataPlaneHttpClient, retryPolicy, monitor);
         pipelineService.registerFactory(sourceFactory);
 
-        var sinkFactory = new HttpDataSinkFactory(httpClient, executorService, 5, monitor);
+        var partitionSize = context.getSetting(PARTITION_SIZE, DEFAULT_PARTITION_SIZE);
+        var sinkFactory = new HttpDataSinkFactory(dataPlaneHttpClient, executorService, partitionSize, gzip(context), monitor);
         pipelineService.registerFactory(sinkFactory);
     }
+
+    @Override
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+        if (dataPlaneHttpClient != null) {
+            dataPlaneHttpClient.dispatcher().executorService().shutdown();
+            dataPlaneHttpClient.connectionPool().evictAll();
+        }
+    }
+
+    private OkHttpClient createHttpClient(ServiceExtensionContext context) {
+        var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(context.getSetting(MAX_REQUESTS, DEFAULT_MAX_REQUESTS));
+        dispatcher.setMaxRequestsPerHost(context.getSetting(MAX_REQUESTS_PER_HOST, DEFAULT_MAX_REQUESTS_PER_HOST));
+        var connectionPool = new ConnectionPool(context.getSetting(POOL_SIZE, DEFAULT_POOL_SIZE),
+                context.getSetting(POOL_KEEP_ALIVE, DEFAULT_POOL_KEEP_ALIVE_SECONDS), TimeUnit.SECONDS);
+        var timeout = context.getSetting(TIMEOUT, DEFAULT_TIMEOUT_SECONDS);
+
+        // derived from the shared client to keep its event listener and interceptors
+        var builder = httpClient.newBuilder()
+                .dispatcher(dispatcher)
+                .connectionPool(connectionPool)
+                .connectTimeout(timeout, TimeUnit.SECONDS)
+                .readTimeout(timeout, TimeUnit.SECONDS)
+                .writeTimeout(timeout, TimeUnit.SECONDS);
+        if (context.getSetting(H2C, false)) {
+            builder.protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+        } else {
+            builder.protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1));
+        }
+        return builder.build();
+    }
+
+    private boolean gzip(ServiceExtensionContext context) {
+        var compression = context.getSetting(COMPRESSION, "none");
+        switch (compression) {
+            case "none":
+                return false;
+            case "gzip":
+                return true;
+            default:
+                throw new EdcException("Unsupported HTTP sink compression: " + compression);
+        }
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.dataplane.http.pipeline;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+import java.io.IOException;
+
+/**
+ * Compresses the content of a request body with gzip while it is written. The length of the compressed content is not
+ * known in advance, so the request is sent with chunked encoding.
+ */
+class GzipRequestBody extends RequestBody {
+    static final String CONTENT_ENCODING = "gzip";
+
+    private final RequestBody body;
+
+    GzipRequestBody(RequestBody body) {
+        this.body = body;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return body.contentType();
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isOneShot() {
+        return body.isOneShot();
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        try (var gzipSink = Okio.buffer(new GzipSink(sink))) {
+            body.writeTo(gzipSink);
+        }
+    }
+}
@@ -13,57 +13,132 @@
  */
 package org.eclipse.dataspaceconnector.dataplane.http.pipeline;
 
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.ParallelSink;
 import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
+import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
 
 /**
  * Writes data in a streaming fashion to an HTTP endpoint.
+ * <p>
+ * The parts of a partition are sent concurrently as asynchronous calls, so that the number of requests in flight is
+ * capped by the dispatcher of the HTTP client and, with HTTP/2, they are multiplexed over a shared connection.
  */
 public class HttpDataSink extends ParallelSink {
     private String authKey;
     private String authCode;
     private String endpoint;
     private OkHttpClient httpClient;
+    private boolean gzip;
 
     /**
-     * Sends the parts to the destination endpoint using an HTTP POST.
+     * Sends the parts to the destination endpoint using an HTTP POST. If a part fails, the calls of the other parts are
+     * cancelled.
      */
     @Override
     protected TransferResult transferParts(List<DataSource.Part> parts) {
-        for (DataSource.Part part : parts) {
-            var requestBody = new StreamingRequestBody(part);
-
-            var requestBuilder = new Request.Builder();
-            if (authKey != null) {
-                requestBuilder.header(authKey, authCode);
+        var calls = new ArrayList<Call>(parts.size());
+        var results = new ArrayList<CompletableFuture<TransferResult>>(parts.size());
+        try {
+            for (var part : parts) {
+                var request = createRequest(part);
+                var result = new CompletableFuture<TransferResult>();
+                var call = httpClient.newCall(request);
+                call.enqueue(new PartCallback(part, request, result));
+                calls.add(call);
+                results.add(result);
             }
-
-            var request = requestBuilder.url(endpoint + "/" + part.name()).post(requestBody).build();
-            try (var response = httpClient.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    monitor.severe(format("Error received writing HTTP data %s to endpoint %s for request: %s", part.name(), endpoint, request));
-                    return TransferResult.failure(ERROR_RETRY, "Error writing data");
+            for (var result : results) {
+                var transferResult = result.get();
+                if (transferResult.failed()) {
+                    cancel(calls, results);
+                    return transferResult;
                 }
-            } catch (Exception e) {
-                monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), endpoint, request), e);
-                return TransferResult.failure(ERROR_RETRY, "Error writing data");
             }
+            return TransferResult.success();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(calls, results);
+            return TransferResult.failure(ERROR_RETRY, "Error writing data");
+        } catch (ExecutionException | RuntimeException e) {
+            monitor.severe(format("Error writing HTTP data to endpoint %s for request: %s", endpoint, requestId), e);
+            cancel(calls, results);
+            return TransferResult.failure(ERROR_RETRY, "Error writing data");
+        }
+    }
+
+    private Request createRequest(DataSource.Part part) {
+        RequestBody requestBody = new StreamingRequestBody(part);
+        var requestBuilder = new Request.Builder();
+        if (authKey != null) {
+            requestBuilder.header(authKey, authCode);
         }
-        return TransferResult.success();
+        if (gzip) {
+            requestBody = new GzipRequestBody(requestBody);
+            requestBuilder.header("Content-Encoding", GzipRequestBody.CONTENT_ENCODING);
+        }
+        return requestBuilder.url(endpoint + "/" + part.name()).post(requestBody).build();
+    }
+
+    /**
+     * Cancels the calls and waits for them to complete, so that the parts are no longer read when they are closed.
+     */
+    private void cancel(List<Call> calls, List<CompletableFuture<TransferResult>> results) {
+        calls.forEach(Call::cancel);
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
     }
 
     private HttpDataSink() {
     }
 
+    private class PartCallback implements Callback {
+        private final DataSource.Part part;
+        private final Request request;
+        private final CompletableFuture<TransferResult> result;
+
+        PartCallback(DataSource.Part part, Request request, CompletableFuture<TransferResult> result) {
+            this.part = part;
+            this.request = request;
+            this.result = result;
+        }
+
+        @Override
+        public void onResponse(@NotNull Call call, @NotNull Response response) {
+            try (response) {
+                if (response.isSuccessful()) {
+                    result.complete(TransferResult.success());
+                } else {
+                    monitor.severe(format("Error received writing HTTP data %s to endpoint %s for request: %s", part.name(), endpoint, request));
+                    result.complete(TransferResult.failure(ERROR_RETRY, "Error writing data"));
+                }
+            }
+        }
+
+        @Override
+        public void onFailure(@NotNull Call call, @NotNull IOException e) {
+            if (!call.isCanceled()) {
+                monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), endpoint, request), e);
+            }
+            result.complete(TransferResult.failure(ERROR_RETRY, "Error writing data"));
+        }
+    }
+
     public static class Builder extends ParallelSink.Builder<Builder, HttpDataSink> {
 
         public static Builder newInstance() {
@@ -90,6 +165,14 @@ public class HttpDataSink extends ParallelSink {
             return this;
         }
 
+        /**
+         * Whether the content is compressed with gzip.
+         */
+        public Builder gzip(boolean gzip) {
+            sink.gzip = gzip;
+            return this;
+        }
+
         protected void validate() {
             Objects.requireNonNull(sink.endpoint, "endpoint");
             Objects.requireNonNull(sink.httpClient, "httpClient");
@@ -38,12 +38,21 @@ public class HttpDataSinkFactory implements DataSinkFactory {
     private final OkHttpClient httpClient;
     private final ExecutorService executorService;
     private final int partitionSize;
+    private final boolean gzip;
     private final Monitor monitor;
 
     public HttpDataSinkFactory(OkHttpClient httpClient, ExecutorService executorService, int partitionSize, Monitor monitor) {
+        this(httpClient, executorService, partitionSize, false, monitor);
+    }
+
+    /**
+     * Creates a factory of sinks that compress the content with gzip if requested.
+     */
+    public HttpDataSinkFactory(OkHttpClient httpClient, ExecutorService executorService, int partitionSize, boolean gzip, Monitor monitor) {
         this.httpClient = httpClient;
         this.executorService = executorService;
         this.partitionSize = partitionSize;
+        this.gzip = gzip;
         this.monitor = monitor;
     }
 
@@ -79,6 +88,7 @@ public class HttpDataSinkFactory implements DataSinkFactory {
                 .authKey(authKey)
                 .authCode(authCode)
                 .httpClient(httpClient)
+                .gzip(gzip)
                 .executorService(executorService)
                 .monitor(monitor)
                 .build();
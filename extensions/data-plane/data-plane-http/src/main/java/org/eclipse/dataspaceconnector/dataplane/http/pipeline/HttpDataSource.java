@@ -19,11 +19,14 @@ import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.InputStreamDataSource;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
@@ -37,13 +40,22 @@ import static net.jodah.failsafe.Failsafe.with;
 
 /**
  * Pulls data from a source using an HTTP GET.
+ * <p>
+ * The response is opened when the part stream is opened, so that errors are reported upfront, but its body is not read
+ * until the part content is consumed.
  */
 public class HttpDataSource implements DataSource {
+    private static final RetryPolicy<Object> NO_RETRY = new RetryPolicy<>().withMaxRetries(0);
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String RANGE = "Range";
+    private static final int HTTP_PARTIAL_CONTENT = 206;
+
     private String sourceEndpoint;
     private String name;
     private String queryParams;
     private MediaType mediaType;
     private String body;
+    private InputStream bodyStream;
     private final Map<String, String> headers = new HashMap<>();
     private String method;
     private String requestId;
@@ -68,27 +80,33 @@ public class HttpDataSource implements DataSource {
         return mediaType != null && body != null;
     }
 
+    private RequestBody createRequestBody() {
+        if (mediaType != null && bodyStream != null) {
+            return new StreamingRequestBody(new InputStreamDataSource("body", bodyStream), mediaType);
+        }
+        return hasValidRequestBody() ? RequestBody.create(body, mediaType) : null;
+    }
+
     private HttpPart getPart() {
         var url = createUrl();
-        var requestBody = hasValidRequestBody() ? RequestBody.create(body, mediaType) : null;
+        var requestBody = createRequestBody();
         var requestBuilder = new Request.Builder()
                 .url(url)
                 .method(method, requestBody);
         headers.forEach(requestBuilder::addHeader);
 
-        try (var response = with(retryPolicy).get(() -> httpClient.newCall(requestBuilder.build()).execute())) {
-            if (response.isSuccessful()) {
-                var responseBody = response.body();
-                if (responseBody == null) {
-                    throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
-                }
-                return new HttpPart(name, responseBody.bytes());
-            } else {
-                throw new EdcException(format("Received code transferring HTTP data for request %s: %s", requestId, response.code()));
-            }
-        } catch (IOException e) {
-            throw new EdcException(e);
+        // a streamed request body can be sent only once, so the call cannot be retried
+        var policy = bodyStream != null ? NO_RETRY : retryPolicy;
+        var response = with(policy).get(() -> httpClient.newCall(requestBuilder.build()).execute());
+        if (!response.isSuccessful()) {
+            response.close();
+            throw new EdcException(format("Received code transferring HTTP data for request %s: %s", requestId, response.code()));
         }
+        if (response.body() == null) {
+            response.close();
+            throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
+        }
+        return new HttpPart(response);
     }
 
     private HttpDataSource() {
@@ -127,6 +145,15 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Streams the request body from the supplied input stream, that is read only once.
+         */
+        public Builder requestBody(MediaType mediaType, InputStream body) {
+            dataSource.mediaType = mediaType;
+            dataSource.bodyStream = body;
+            return this;
+        }
+
         public Builder name(String name) {
             dataSource.name = name;
             return this;
@@ -168,13 +195,20 @@ public class HttpDataSource implements DataSource {
         }
     }
 
-    private static class HttpPart implements Part {
-        private final String name;
-        private final byte[] content;
+    /**
+     * Part backed by an open HTTP response, whose body is streamed from the connection as it is read. The response must be
+     * closed by closing the part.
+     * <p>
+     * If the endpoint accepts byte ranges and reports the content length, segments of the content can be read with
+     * additional HTTP range requests.
+     */
+    class HttpPart implements Part {
+        private final Response response;
+        private final ResponseBody responseBody;
 
-        public HttpPart(String name, byte[] content) {
-            this.name = name;
-            this.content = content;
+        HttpPart(Response response) {
+            this.response = response;
+            this.responseBody = Objects.requireNonNull(response.body());
         }
 
         @Override
@@ -184,13 +218,62 @@ public class HttpDataSource implements DataSource {
 
         @Override
         public long size() {
-            return content.length;
+            return responseBody.contentLength();
+        }
+
+        @Override
+        public String mediaType() {
+            var contentType = responseBody.contentType();
+            return contentType != null ? contentType.toString() : null;
         }
 
         @Override
         public InputStream openStream() {
-            return new ByteArrayInputStream(content);
+            return responseBody.byteStream();
+        }
+
+        /**
+         * The source of the response body, which can be written to an Okio sink without intermediate copies.
+         */
+        BufferedSource source() {
+            return responseBody.source();
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return "GET".equalsIgnoreCase(method) && size() >= 0 && "bytes".equalsIgnoreCase(response.header(ACCEPT_RANGES));
         }
 
+        @Override
+        public byte[] read(long offset, long bytes) {
+            if (!supportsRandomAccess()) {
+                throw new UnsupportedOperationException("Random access not supported");
+            }
+            var end = Math.min(offset + bytes, size()) - 1;
+            if (offset < 0 || end < offset) {
+                return new byte[0];
+            }
+
+            var requestBuilder = new Request.Builder()
+                    .url(createUrl())
+                    .get()
+                    .header(RANGE, format("bytes=%s-%s", offset, end));
+            headers.forEach(requestBuilder::addHeader);
+
+            try (var rangeResponse = with(retryPolicy).get(() -> httpClient.newCall(requestBuilder.build()).execute())) {
+                var rangeBody = rangeResponse.body();
+                if (rangeResponse.code() != HTTP_PARTIAL_CONTENT || rangeBody == null) {
+                    throw new EdcException(format("Received code reading range %s-%s of HTTP data for request %s: %s", offset, end, requestId, rangeResponse.code()));
+                }
+                return rangeBody.bytes();
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
     }
 }
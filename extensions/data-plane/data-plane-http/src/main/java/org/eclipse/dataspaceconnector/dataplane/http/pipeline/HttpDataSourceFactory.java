@@ -25,7 +25,9 @@ import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.InputStream;
 import java.util.Optional;
 
 import static org.eclipse.dataspaceconnector.dataplane.spi.schema.DataFlowRequestSchema.BODY;
@@ -65,14 +67,26 @@ public class HttpDataSourceFactory implements DataSourceFactory {
 
     @Override
     public DataSource createSource(DataFlowRequest request) {
-        var result = createDataSource(request);
+        return createSource(request, (InputStream) null);
+    }
+
+    /**
+     * Creates a source that streams the request body to the HTTP endpoint instead of buffering it in the request properties.
+     */
+    @Override
+    public DataSource createSource(DataFlowRequest request, InputStream requestBody) {
+        var result = createDataSource(request, requestBody);
         if (result.failed()) {
             throw new EdcException("Failed to create source: " + String.join(",", result.getFailureMessages()));
         }
-        return createDataSource(request).getContent();
+        return result.getContent();
     }
 
     private Result<HttpDataSource> createDataSource(DataFlowRequest request) {
+        return createDataSource(request, null);
+    }
+
+    private Result<HttpDataSource> createDataSource(DataFlowRequest request, @Nullable InputStream requestBody) {
         var dataAddress = request.getSourceDataAddress();
         var endpoint = dataAddress.getProperty(ENDPOINT);
         if (StringUtils.isNullOrBlank(endpoint)) {
@@ -102,7 +116,11 @@ public class HttpDataSourceFactory implements DataSourceFactory {
                 .method(method)
                 .retryPolicy(retryPolicy)
                 .monitor(monitor);
-        Optional.ofNullable(mediaType).ifPresent(mt -> builder.requestBody(mt, request.getProperties().get(BODY)));
+        if (mediaType != null && requestBody != null) {
+            builder.requestBody(mediaType, requestBody);
+        } else {
+            Optional.ofNullable(mediaType).ifPresent(mt -> builder.requestBody(mt, request.getProperties().get(BODY)));
+        }
         Optional.ofNullable(dataAddress.getProperty(AUTHENTICATION_KEY))
                 .ifPresent(s -> builder.header(s, dataAddress.getProperty(AUTHENTICATION_CODE)));
         Optional.ofNullable(request.getProperties().get(QUERY_PARAMS))
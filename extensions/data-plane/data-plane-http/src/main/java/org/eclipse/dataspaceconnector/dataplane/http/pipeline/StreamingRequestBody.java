@@ -27,18 +27,42 @@ public class StreamingRequestBody extends RequestBody {
     private static final String OCTET_STREAM = "application/octet-stream";
 
     private final DataSource.Part part;
+    private final MediaType mediaType;
 
     public StreamingRequestBody(DataSource.Part part) {
+        this(part, MediaType.parse(OCTET_STREAM));
+    }
+
+    public StreamingRequestBody(DataSource.Part part, MediaType mediaType) {
         this.part = part;
+        this.mediaType = mediaType;
     }
 
     @Override
     public MediaType contentType() {
-        return MediaType.parse(OCTET_STREAM);
+        return mediaType;
+    }
+
+    /**
+     * A source part is streamed, it is not replayable: the body of an HTTP source part can be read only once, and
+     * opening the stream of another part again would count its transferred bytes twice. OK HTTP therefore does not retry
+     * nor follow redirects with this body.
+     */
+    @Override
+    public boolean isOneShot() {
+        return true;
     }
 
     @Override
     public void writeTo(BufferedSink sink) throws IOException {
+        var source = part.unwrap();
+        if (source instanceof HttpDataSource.HttpPart) {
+            // move the buffered segments of the HTTP response directly to the sink
+            var bytes = sink.writeAll(((HttpDataSource.HttpPart) source).source());
+            sink.flush();
+            part.transferred(bytes);
+            return;
+        }
         try (var stream = sink.outputStream()) {
             part.openStream().transferTo(stream);
         }
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.dataplane.http.pipeline;
+
+import okio.Buffer;
+import okio.GzipSource;
+import okio.Okio;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GzipRequestBodyTest {
+    private static final byte[] CONTENT = "123".getBytes();
+
+    @Test
+    void verifyCompressedTransfer() throws IOException {
+        var part = new InputStreamDataSource("test", new ByteArrayInputStream(CONTENT));
+        var body = new GzipRequestBody(new StreamingRequestBody(part));
+
+        var sink = new Buffer();
+        body.writeTo(sink);
+
+        assertThat(body.contentLength()).isEqualTo(-1);
+        assertThat(Okio.buffer(new GzipSource(sink)).readByteArray()).isEqualTo(CONTENT);
+    }
+}
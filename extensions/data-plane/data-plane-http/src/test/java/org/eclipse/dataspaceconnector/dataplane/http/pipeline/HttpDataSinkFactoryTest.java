@@ -14,6 +14,7 @@
 package org.eclipse.dataspaceconnector.dataplane.http.pipeline;
 
 import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.InputStreamDataSource;
@@ -24,7 +25,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
-import java.io.IOException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 
@@ -37,6 +37,7 @@ import static org.eclipse.dataspaceconnector.dataplane.spi.schema.HttpDataSchema
 import static org.eclipse.dataspaceconnector.dataplane.spi.schema.HttpDataSchema.TYPE;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -75,7 +76,7 @@ class HttpDataSinkFactoryTest {
     }
 
     @Test
-    void verifyCreateAuthenticatingSource() throws InterruptedException, ExecutionException, IOException {
+    void verifyCreateAuthenticatingSource() throws InterruptedException, ExecutionException {
         var dataAddress = DataAddress.Builder.newInstance()
                 .type(TYPE)
                 .property(ENDPOINT, "http://example.com")
@@ -86,7 +87,10 @@ class HttpDataSinkFactoryTest {
         var validRequest = createRequest(TYPE).destinationDataAddress(dataAddress).build();
 
         var call = mock(Call.class);
-        when(call.execute()).thenReturn(createHttpResponse().build());
+        doAnswer(i -> {
+            i.getArgument(0, Callback.class).onResponse(call, createHttpResponse().build());
+            return null;
+        }).when(call).enqueue(isA(Callback.class));
 
         when(httpClient.newCall(isA(Request.class))).thenAnswer(r -> {
             assertThat(((Request) r.getArgument(0)).headers("x-api-key").get(0)).isEqualTo("123");  // verify auth header set
@@ -99,7 +103,32 @@ class HttpDataSinkFactoryTest {
 
         assertThat(result.failed()).isFalse();
 
-        verify(call).execute();
+        verify(call).enqueue(isA(Callback.class));
+    }
+
+    @Test
+    void verifyCreateGzipSink() throws InterruptedException, ExecutionException {
+        var gzipFactory = new HttpDataSinkFactory(httpClient, Executors.newFixedThreadPool(1), 5, true, mock(Monitor.class));
+        var dataAddress = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(ENDPOINT, "http://example.com")
+                .build();
+        var validRequest = createRequest(TYPE).destinationDataAddress(dataAddress).build();
+
+        var call = mock(Call.class);
+        doAnswer(i -> {
+            i.getArgument(0, Callback.class).onResponse(call, createHttpResponse().build());
+            return null;
+        }).when(call).enqueue(isA(Callback.class));
+        when(httpClient.newCall(isA(Request.class))).thenAnswer(r -> {
+            assertThat(((Request) r.getArgument(0)).header("Content-Encoding")).isEqualTo("gzip");
+            return call;
+        });
+
+        var result = gzipFactory.createSink(validRequest).transfer(new InputStreamDataSource("test", new ByteArrayInputStream("test".getBytes()))).get();
+
+        assertThat(result.failed()).isFalse();
+        verify(call).enqueue(isA(Callback.class));
     }
 
     @BeforeEach
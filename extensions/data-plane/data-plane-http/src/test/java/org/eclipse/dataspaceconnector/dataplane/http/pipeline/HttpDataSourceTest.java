@@ -6,7 +6,9 @@ import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
 import okio.Okio;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,10 +18,12 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static okhttp3.Protocol.HTTP_1_1;
@@ -98,6 +102,78 @@ class HttpDataSourceTest {
         assertThat(parts.get(0).openStream()).hasContent(JSON_RESPONSE);
     }
 
+    @Test
+    void verifyPart_reportsSizeAndMediaType() throws Exception {
+        var source = defaultBuilder().method("GET").build();
+
+        try (var part = source.openPartStream().findFirst().orElseThrow()) {
+            assertThat(part.size()).isEqualTo(JSON_RESPONSE.length());
+            assertThat(part.mediaType()).startsWith("application/json");
+        }
+    }
+
+    @Test
+    void verifyPart_randomAccess() throws Exception {
+        var source = defaultBuilder().method("GET").name("testfile").build();
+
+        try (var part = source.openPartStream().findFirst().orElseThrow()) {
+            assertThat(part.supportsRandomAccess()).isTrue();
+            assertThat(new String(part.read(2, 5))).isEqualTo(JSON_RESPONSE.substring(2, 7));
+            assertThat(new String(part.read(JSON_RESPONSE.length() - 3, 10))).isEqualTo(JSON_RESPONSE.substring(JSON_RESPONSE.length() - 3));
+        }
+
+        var rangeRequest = interceptor.requests.get(1);
+        assertThat(rangeRequest.url()).hasToString(TEST_ENDPOINT + "/testfile");
+        assertThat(rangeRequest.header("Range")).isEqualTo("bytes=2-6");
+    }
+
+    @Test
+    void verifyStreamingRequestBody_writesDecoratedPartNatively() throws Exception {
+        var source = defaultBuilder().method("GET").build();
+        var transferred = new AtomicLong();
+
+        try (var part = source.openPartStream().findFirst().orElseThrow()) {
+            var decorator = new DataSource.Part() {
+                @Override
+                public String name() {
+                    return part.name();
+                }
+
+                @Override
+                public InputStream openStream() {
+                    throw new AssertionError("the decorated part should be written natively");
+                }
+
+                @Override
+                public DataSource.Part unwrap() {
+                    return part.unwrap();
+                }
+
+                @Override
+                public void transferred(long bytes) {
+                    transferred.addAndGet(bytes);
+                }
+            };
+            var body = new StreamingRequestBody(decorator);
+            var buffer = new Buffer();
+
+            body.writeTo(buffer);
+
+            assertThat(body.isOneShot()).isTrue();
+            assertThat(buffer.readUtf8()).isEqualTo(JSON_RESPONSE);
+            assertThat(transferred).hasValue(JSON_RESPONSE.length());
+        }
+    }
+
+    @Test
+    void verifyPart_noRandomAccessWithRequestBody() throws Exception {
+        var source = defaultBuilder().method("POST").requestBody(MediaType.get("application/json"), "{}").build();
+
+        try (var part = source.openPartStream().findFirst().orElseThrow()) {
+            assertThat(part.supportsRandomAccess()).isFalse();
+        }
+    }
+
     private static String extractRequestBody(Request request) {
         try {
             var sink = Okio.sink(new ByteArrayOutputStream());
@@ -130,10 +206,22 @@ class HttpDataSourceTest {
         @NotNull
         @Override
         public Response intercept(@NotNull Interceptor.Chain chain) throws IOException {
-            requests.add(chain.request());
+            var request = chain.request();
+            requests.add(request);
+            var range = request.header("Range");
+            if (range != null) {
+                var bounds = range.substring("bytes=".length()).split("-");
+                var content = JSON_RESPONSE.substring(Integer.parseInt(bounds[0]), Integer.parseInt(bounds[1]) + 1);
+                return new Response.Builder()
+                        .request(request)
+                        .protocol(HTTP_1_1).code(206)
+                        .body(ResponseBody.create(content, MediaType.get("application/json"))).message("partial content")
+                        .build();
+            }
             return new Response.Builder()
-                    .request(chain.request())
+                    .request(request)
                     .protocol(HTTP_1_1).code(200)
+                    .header("Accept-Ranges", "bytes")
                     .body(ResponseBody.create(JSON_RESPONSE, MediaType.get("application/json"))).message("ok")
                     .build();
         }
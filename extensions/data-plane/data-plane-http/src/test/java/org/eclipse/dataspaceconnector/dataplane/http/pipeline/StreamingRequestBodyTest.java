@@ -30,4 +30,11 @@ class StreamingRequestBodyTest {
 
         assertThat(outputStream.toByteArray()).isEqualTo(CONTENT);
     }
+
+    @Test
+    void verifyStreamingBodyIsNotReplayable() {
+        var body = new StreamingRequestBody(mock(DataSource.Part.class));
+
+        assertThat(body.isOneShot()).isTrue();
+    }
 }
@@ -21,6 +21,7 @@ import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 
+import java.io.InputStream;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -35,8 +36,9 @@ public interface DataPlaneManager {
 
     /**
      * Initiates a transfer for the data flow request. This method is non-blocking with respect to processing the request.
+     * Returns a failure with a retryable status if the request cannot be accepted because the data plane is at capacity.
      */
-    void initiateTransfer(DataFlowRequest dataRequest);
+    TransferResult initiateTransfer(DataFlowRequest dataRequest);
 
     /**
      * Performs a data transfer using the supplied data source.
@@ -48,6 +50,11 @@ public interface DataPlaneManager {
      */
     CompletableFuture<TransferResult> transfer(DataSink sink, DataFlowRequest request);
 
+    /**
+     * Performs a data transfer using the supplied data sink, streaming the request body to the data source.
+     */
+    CompletableFuture<TransferResult> transfer(DataSink sink, DataFlowRequest request, InputStream requestBody);
+
     /**
      * Provides transfer state.
      */
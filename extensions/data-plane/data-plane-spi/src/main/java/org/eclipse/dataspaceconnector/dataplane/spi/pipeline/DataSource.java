@@ -46,6 +46,13 @@ public interface DataSource {
             return SIZE_UNKNOWN;
         }
 
+        /**
+         * The media type of the part content, or null if it is not known.
+         */
+        default String mediaType() {
+            return null;
+        }
+
         /**
          * Opens stream to sequentially read the underlying part content.
          */
@@ -65,6 +72,22 @@ public interface DataSource {
             throw new UnsupportedOperationException("Random access not supported");
         }
 
+        /**
+         * Returns the part decorated by this one, or this part if it is not a decorator. A sink may unwrap a part to
+         * transfer the content of the underlying one natively, e.g. without copying it, in which case it reports the
+         * bytes it transferred with {@link #transferred(long)}.
+         */
+        default Part unwrap() {
+            return this;
+        }
+
+        /**
+         * Notifies a decorating part that bytes were transferred from the part it decorates, see {@link #unwrap()}.
+         */
+        default void transferred(long bytes) {
+            // no-op
+        }
+
         default void close() throws Exception {
             // no-op
         }
@@ -17,6 +17,14 @@ import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.dataspaceconnector.dataplane.spi.schema.DataFlowRequestSchema.BODY;
+
 /**
  * Creates {@link DataSource}s and optimized {@link PipelineService}s.
  */
@@ -42,4 +50,27 @@ public interface DataSourceFactory {
      */
     DataSource createSource(DataFlowRequest request);
 
+    /**
+     * Creates a source to access data to be sent, sending the supplied request body to it.
+     * <p>
+     * Factories that can stream the body to the underlying source should override this method. The default implementation
+     * reads the whole body into the {@link org.eclipse.dataspaceconnector.dataplane.spi.schema.DataFlowRequestSchema#BODY}
+     * property of the request.
+     */
+    default DataSource createSource(DataFlowRequest request, InputStream requestBody) {
+        var properties = new HashMap<>(request.getProperties());
+        try (requestBody) {
+            properties.put(BODY, new String(requestBody.readAllBytes(), UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return createSource(DataFlowRequest.Builder.newInstance()
+                .id(request.getId())
+                .processId(request.getProcessId())
+                .sourceDataAddress(request.getSourceDataAddress())
+                .destinationDataAddress(request.getDestinationDataAddress())
+                .trackable(request.isTrackable())
+                .properties(properties)
+                .build());
+    }
 }
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.spi.pipeline;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A data sink whose transfer completes once the content is ready to be read, before it is actually transferred, for
+ * example a sink handing the source over to an HTTP response that the client reads afterwards.
+ * <p>
+ * The data plane waits for {@link #completion()} before it records the bytes and duration of the transfer.
+ */
+public interface DeferredDataSink extends DataSink {
+
+    /**
+     * Completes once the content has been transferred, exceptionally if the transfer failed.
+     */
+    CompletableFuture<Void> completion();
+}
@@ -57,7 +57,7 @@ public class OutputStreamDataSink implements DataSink {
     }
 
     private Result<Void> transferData(DataSource.Part part) {
-        try (var source = part.openStream()) {
+        try (part; var source = part.openStream()) {
             source.transferTo(stream);
             return Result.success();
         } catch (Exception e) {
@@ -16,40 +16,40 @@ package org.eclipse.dataspaceconnector.dataplane.spi.pipeline;
 import org.eclipse.dataspaceconnector.common.stream.PartitionIterator;
 import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
-import org.eclipse.dataspaceconnector.spi.result.AbstractResult;
 
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
-import static java.util.concurrent.CompletableFuture.supplyAsync;
-import static java.util.stream.Collectors.toList;
-import static org.eclipse.dataspaceconnector.common.async.AsyncUtils.asyncAllOf;
 import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
 
 /**
  * Writes data in parallel.
+ * <p>
+ * The parts of the source are grouped into partitions that are transferred concurrently, within a window bounded by the
+ * number of partitions and, optionally, the number of bytes in flight. Partitions are pulled from the source only as the
+ * window has room for them, so that memory use does not grow with the number of parts. The first failing partition fails
+ * the transfer: the partitions in flight are cancelled and no further parts are pulled.
  */
 public abstract class ParallelSink implements DataSink {
     protected String requestId;
     protected int partitionSize = 5;
+    protected int maxPartitionsInFlight = 10;
+    protected long maxBytesInFlight = Long.MAX_VALUE;
     protected ExecutorService executorService;
     protected Monitor monitor;
 
     @Override
     public CompletableFuture<TransferResult> transfer(DataSource source) {
-        try (var partStream = source.openPartStream()) {
-            var partitioned = PartitionIterator.streamOf(partStream, partitionSize);
-            var futures = partitioned.map(parts -> supplyAsync(() -> transferParts(parts), executorService)).collect(toList());
-            return futures.stream()
-                    .collect(asyncAllOf())
-                    .thenApply(results -> results.stream()
-                            .filter(AbstractResult::failed)
-                            .findFirst()
-                            .map(r -> TransferResult.failure(ERROR_RETRY, String.join(",", r.getFailureMessages())))
-                            .orElse(TransferResult.success()))
-                    .exceptionally(throwable -> TransferResult.failure(ERROR_RETRY, "Unhandled exception raised when transferring data: " + throwable.getMessage()));
+        try {
+            return new Window(source.openPartStream()).start();
         } catch (Exception e) {
             monitor.severe("Error processing data transfer request: " + requestId, e);
             return CompletableFuture.completedFuture(TransferResult.failure(ERROR_RETRY, "Error processing data transfer request"));
@@ -58,6 +58,172 @@ public abstract class ParallelSink implements DataSink {
 
     protected abstract TransferResult transferParts(List<DataSource.Part> parts);
 
+    /**
+     * Transfers the parts and releases the resources they hold, like open connections.
+     */
+    private TransferResult transferAndClose(List<DataSource.Part> parts) {
+        try {
+            return transferParts(parts);
+        } finally {
+            close(parts);
+        }
+    }
+
+    private void close(List<DataSource.Part> parts) {
+        for (var part : parts) {
+            try {
+                part.close();
+            } catch (Exception e) {
+                monitor.warning("Error closing data source part: " + part.name());
+            }
+        }
+    }
+
+    /**
+     * Schedules the partitions of a transfer. The state is guarded by the window itself, as partitions are pulled and
+     * completed from the executor threads.
+     */
+    private class Window {
+        private final Stream<DataSource.Part> partStream;
+        private final Iterator<List<DataSource.Part>> partitions;
+        private final CompletableFuture<TransferResult> result = new CompletableFuture<>();
+        private final Set<Task> running = new HashSet<>();
+        private List<DataSource.Part> next;
+        private long nextBytes;
+        private long bytesInFlight;
+        private boolean closed;
+
+        Window(Stream<DataSource.Part> partStream) {
+            this.partStream = partStream;
+            partitions = new PartitionIterator<>(partStream.iterator(), partitionSize);
+        }
+
+        CompletableFuture<TransferResult> start() {
+            schedule();
+            return result;
+        }
+
+        /**
+         * Submits partitions until the window is full or the source is exhausted. A partition is always submitted when
+         * none is in flight, even if it exceeds the byte limit on its own.
+         */
+        private synchronized void schedule() {
+            try {
+                while (!result.isDone()) {
+                    if (next == null) {
+                        if (!partitions.hasNext()) {
+                            if (running.isEmpty()) {
+                                result.complete(TransferResult.success());
+                                closeStream();
+                            }
+                            return;
+                        }
+                        next = partitions.next();
+                        nextBytes = bytesOf(next);
+                    }
+                    if (!running.isEmpty() && (running.size() >= maxPartitionsInFlight || bytesInFlight + nextBytes > maxBytesInFlight)) {
+                        return;
+                    }
+                    var task = new Task(next, nextBytes);
+                    next = null;
+                    running.add(task);
+                    bytesInFlight += task.bytes;
+                    task.future = executorService.submit(task);
+                }
+            } catch (Exception e) {
+                monitor.severe("Error processing data transfer request: " + requestId, e);
+                fail(TransferResult.failure(ERROR_RETRY, "Error processing data transfer request"));
+            }
+        }
+
+        private synchronized void completed(Task task, TransferResult taskResult) {
+            running.remove(task);
+            bytesInFlight -= task.bytes;
+            if (taskResult.failed()) {
+                fail(TransferResult.failure(ERROR_RETRY, String.join(",", taskResult.getFailureMessages())));
+            } else if (result.isDone()) {
+                closeStream();
+            } else {
+                schedule();
+            }
+        }
+
+        private void fail(TransferResult failure) {
+            if (result.complete(failure)) {
+                running.removeIf(Task::cancel);
+                if (next != null) {
+                    close(next);
+                    next = null;
+                }
+            }
+            closeStream();
+        }
+
+        /**
+         * Closes the part stream once no partition uses its parts anymore.
+         */
+        private void closeStream() {
+            if (closed || !running.isEmpty()) {
+                return;
+            }
+            closed = true;
+            try {
+                partStream.close();
+            } catch (Exception e) {
+                monitor.warning("Error closing data source part stream: " + requestId);
+            }
+        }
+
+        private long bytesOf(List<DataSource.Part> parts) {
+            if (maxBytesInFlight == Long.MAX_VALUE) {
+                // avoid resolving the sizes, which may require calls to the storage backend
+                return 0;
+            }
+            return parts.stream().mapToLong(DataSource.Part::size).filter(size -> size > 0).sum();
+        }
+
+        private class Task implements Runnable {
+            private final List<DataSource.Part> parts;
+            private final long bytes;
+            private final AtomicBoolean started = new AtomicBoolean();
+            private Future<?> future;
+
+            Task(List<DataSource.Part> parts, long bytes) {
+                this.parts = parts;
+                this.bytes = bytes;
+            }
+
+            @Override
+            public void run() {
+                if (!started.compareAndSet(false, true)) {
+                    return;
+                }
+                TransferResult taskResult;
+                try {
+                    taskResult = transferAndClose(parts);
+                } catch (Exception e) {
+                    taskResult = TransferResult.failure(ERROR_RETRY, "Unhandled exception raised when transferring data: " + e);
+                }
+                completed(this, taskResult);
+            }
+
+            /**
+             * Cancels the task, returns true if it had not started, in which case its parts are closed.
+             */
+            boolean cancel() {
+                if (started.compareAndSet(false, true)) {
+                    if (future != null) {
+                        future.cancel(false);
+                    }
+                    close(parts);
+                    return true;
+                }
+                future.cancel(true);
+                return false;
+            }
+        }
+    }
+
     protected abstract static class Builder<B extends Builder<B, T>, T extends ParallelSink> {
         protected T sink;
 
@@ -75,6 +241,22 @@ public abstract class ParallelSink implements DataSink {
             return self();
         }
 
+        /**
+         * The maximum number of partitions transferred concurrently.
+         */
+        public B maxPartitionsInFlight(int maxPartitionsInFlight) {
+            sink.maxPartitionsInFlight = maxPartitionsInFlight;
+            return self();
+        }
+
+        /**
+         * The maximum number of bytes, as reported by the part sizes, transferred concurrently. Not bounded by default.
+         */
+        public B maxBytesInFlight(long maxBytesInFlight) {
+            sink.maxBytesInFlight = maxBytesInFlight;
+            return self();
+        }
+
         public B executorService(ExecutorService executorService) {
             sink.executorService = executorService;
             return self();
@@ -88,6 +270,9 @@ public abstract class ParallelSink implements DataSink {
         public T build() {
             Objects.requireNonNull(sink.requestId, "requestId");
             Objects.requireNonNull(sink.executorService, "executorService");
+            if (sink.maxPartitionsInFlight <= 0 || sink.maxBytesInFlight <= 0) {
+                throw new IllegalArgumentException("Partitions and bytes in flight must be positive");
+            }
             validate();
             return sink;
         }
@@ -17,6 +17,7 @@ import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 
+import java.io.InputStream;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -49,6 +50,11 @@ public interface PipelineService {
      */
     CompletableFuture<TransferResult> transfer(DataSink sink, DataFlowRequest request);
 
+    /**
+     * Transfers data using the supplied data sink, streaming the request body to the data source.
+     */
+    CompletableFuture<TransferResult> transfer(DataSink sink, DataFlowRequest request, InputStream requestBody);
+
     /**
      * Registers a factory for creating data sources.
      */
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.spi.pipeline;
+
+/**
+ * A data sink that can receive the content of a part as separate segments, for example the blocks of an Azure block blob or
+ * the parts of an S3 multipart upload.
+ * <p>
+ * The data plane uses it to transfer large parts that support random access in parallel: the part is split into ranges
+ * that are read with {@link DataSource.Part#read(long, long)} and written concurrently, then the sink is asked to commit
+ * the segments in order. Parts that cannot be segmented are transferred through {@link #transfer(DataSource)}.
+ */
+public interface SegmentedDataSink extends DataSink {
+
+    /**
+     * Opens a writer for the segments of the given part.
+     */
+    SegmentWriter openSegmentWriter(DataSource.Part part);
+
+    /**
+     * Writes the segments of a single part.
+     */
+    interface SegmentWriter {
+
+        /**
+         * Writes a segment. Segments are written concurrently and in any order, the index identifies the position of the
+         * segment in the part and the offset its location in bytes.
+         */
+        void write(int index, long offset, byte[] content) throws Exception;
+
+        /**
+         * Completes the part once all the segments from 0 to count - 1 have been written.
+         */
+        void commit(int count) throws Exception;
+
+        /**
+         * Discards the segments written so far. Invoked when a segment could not be transferred.
+         */
+        default void abort() {
+            // no-op
+        }
+    }
+}
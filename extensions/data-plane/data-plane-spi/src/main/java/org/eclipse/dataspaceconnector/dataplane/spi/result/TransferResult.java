@@ -23,6 +23,9 @@ import java.util.List;
  * The result of a transfer operation.
  */
 public class TransferResult extends AbstractResult<Void, ResponseFailure> {
+    public static final long BYTES_UNKNOWN = -1;
+
+    private final long bytesTransferred;
 
     public static TransferResult success() {
         return new TransferResult(null);
@@ -33,6 +36,25 @@ public class TransferResult extends AbstractResult<Void, ResponseFailure> {
     }
 
     protected TransferResult(ResponseFailure failure) {
+        this(failure, BYTES_UNKNOWN);
+    }
+
+    protected TransferResult(ResponseFailure failure, long bytesTransferred) {
         super(null, failure);
+        this.bytesTransferred = bytesTransferred;
+    }
+
+    /**
+     * The number of bytes read from the data source, or {@link #BYTES_UNKNOWN} if they have not been counted.
+     */
+    public long getBytesTransferred() {
+        return bytesTransferred;
+    }
+
+    /**
+     * Returns a copy of this result that reports the given number of transferred bytes.
+     */
+    public TransferResult withBytesTransferred(long bytesTransferred) {
+        return new TransferResult(getFailure(), bytesTransferred);
     }
 }
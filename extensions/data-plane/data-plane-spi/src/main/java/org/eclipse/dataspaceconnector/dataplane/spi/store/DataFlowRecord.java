@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.spi.store;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
+import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The details of a data flow process tracked by a {@link DataPlaneStore}.
+ */
+@JsonDeserialize(builder = DataFlowRecord.Builder.class)
+public class DataFlowRecord {
+    private String processId;
+    private DataPlaneStore.State state;
+    private long receivedAt;
+    private long completedAt;
+    private long bytesTransferred = TransferResult.BYTES_UNKNOWN;
+    private ResponseStatus errorStatus;
+    private List<String> errors = List.of();
+
+    private DataFlowRecord() {
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public DataPlaneStore.State getState() {
+        return state;
+    }
+
+    /**
+     * The time the process was received, in milliseconds since the epoch.
+     */
+    public long getReceivedAt() {
+        return receivedAt;
+    }
+
+    /**
+     * The time the process completed, in milliseconds since the epoch, or 0 if it has not completed yet.
+     */
+    public long getCompletedAt() {
+        return completedAt;
+    }
+
+    /**
+     * The number of transferred bytes, or {@link TransferResult#BYTES_UNKNOWN} if they are not known.
+     */
+    public long getBytesTransferred() {
+        return bytesTransferred;
+    }
+
+    /**
+     * The status of the failure if the transfer failed, null otherwise.
+     */
+    @Nullable
+    public ResponseStatus getErrorStatus() {
+        return errorStatus;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * The duration of the transfer in milliseconds, or -1 if it has not completed yet.
+     */
+    @JsonIgnore
+    public long getDuration() {
+        return completedAt > 0 ? completedAt - receivedAt : -1;
+    }
+
+    @JsonIgnore
+    public boolean isFailed() {
+        return errorStatus != null;
+    }
+
+    /**
+     * Returns a record of the completion of this process with the given result.
+     */
+    public DataFlowRecord completed(long completedAt, TransferResult result) {
+        var builder = Builder.newInstance()
+                .processId(processId)
+                .state(DataPlaneStore.State.COMPLETED)
+                .receivedAt(receivedAt)
+                .completedAt(completedAt)
+                .bytesTransferred(result.getBytesTransferred());
+        if (result.failed()) {
+            builder.errorStatus(result.getFailure().status()).errors(result.getFailureMessages());
+        }
+        return builder.build();
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static class Builder {
+        private final DataFlowRecord record;
+
+        private Builder() {
+            record = new DataFlowRecord();
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder processId(String processId) {
+            record.processId = processId;
+            return this;
+        }
+
+        public Builder state(DataPlaneStore.State state) {
+            record.state = state;
+            return this;
+        }
+
+        public Builder receivedAt(long receivedAt) {
+            record.receivedAt = receivedAt;
+            return this;
+        }
+
+        public Builder completedAt(long completedAt) {
+            record.completedAt = completedAt;
+            return this;
+        }
+
+        public Builder bytesTransferred(long bytesTransferred) {
+            record.bytesTransferred = bytesTransferred;
+            return this;
+        }
+
+        public Builder errorStatus(ResponseStatus errorStatus) {
+            record.errorStatus = errorStatus;
+            return this;
+        }
+
+        public Builder errors(List<String> errors) {
+            record.errors = errors == null ? List.of() : List.copyOf(errors);
+            return this;
+        }
+
+        public DataFlowRecord build() {
+            Objects.requireNonNull(record.processId, "processId");
+            Objects.requireNonNull(record.state, "state");
+            return record;
+        }
+    }
+}
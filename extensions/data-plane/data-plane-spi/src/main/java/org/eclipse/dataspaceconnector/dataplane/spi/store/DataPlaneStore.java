@@ -13,6 +13,12 @@
  */
 package org.eclipse.dataspaceconnector.dataplane.spi.store;
 
+import org.eclipse.dataspaceconnector.dataplane.spi.result.TransferResult;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
 /**
  * Stores states of data flow requests.
  */
@@ -43,14 +49,45 @@ public interface DataPlaneStore {
      */
     void received(String processId);
 
+    /**
+     * Mark the process as received, keeping the request so that it can be resumed if the runtime stops before the transfer
+     * has completed.
+     */
+    default void received(DataFlowRequest request) {
+        received(request.getProcessId());
+    }
+
     /**
      * Mark the process as completed.
      */
     void completed(String processId);
 
+    /**
+     * Mark the process as completed with the given result of the transfer.
+     */
+    default void completed(String processId, TransferResult result) {
+        completed(processId);
+    }
+
     /**
      * Returns the state of the process. If a process is unknown, returns {@link State#NOT_TRACKED}.
      */
     State getState(String processId);
 
+    /**
+     * Returns the details of the process, or null if the process is unknown or the store does not keep details.
+     */
+    @Nullable
+    default DataFlowRecord getRecord(String processId) {
+        return null;
+    }
+
+    /**
+     * Returns the requests that have been received but not completed. Stores that survive a restart return the transfers
+     * that were interrupted, so that they can be resumed.
+     */
+    default List<DataFlowRequest> getInFlight() {
+        return List.of();
+    }
+
 }
@@ -10,10 +10,13 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -23,7 +26,7 @@ class ParallelSinkTest {
 
     Faker faker = new Faker();
     Monitor monitor = mock(Monitor.class);
-    ExecutorService executor = Executors.newFixedThreadPool(2);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
     String dataSourceName = faker.lorem().word();
     String dataSourceContent = faker.lorem().characters();
     String errorMessage = faker.lorem().sentence();
@@ -89,15 +92,94 @@ class ParallelSinkTest {
         assertThat(fakeSink.parts).containsExactly(dataSource);
     }
 
+    @Test
+    void transfer_limitsPartitionsInFlight() {
+        fakeSink.partitionSize = 1;
+        fakeSink.maxPartitionsInFlight = 2;
+        fakeSink.transferResultSupplier = () -> {
+            sleep();
+            return TransferResult.success();
+        };
+        var pulled = new AtomicInteger();
+        DataSource dataSource = () -> IntStream.range(0, 10).peek(i -> pulled.incrementAndGet()).mapToObj(i -> part(String.valueOf(i)));
+
+        assertThat(fakeSink.transfer(dataSource)).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        assertThat(fakeSink.transferred).hasSize(10);
+        assertThat(fakeSink.maxActive.get()).isEqualTo(2);
+        assertThat(pulled.get()).isEqualTo(10);
+    }
+
+    @Test
+    void transfer_limitsBytesInFlight() {
+        fakeSink.partitionSize = 1;
+        fakeSink.maxBytesInFlight = dataSourceContent.length() * 3L;
+        fakeSink.transferResultSupplier = () -> {
+            sleep();
+            return TransferResult.success();
+        };
+        DataSource dataSource = () -> IntStream.range(0, 10).mapToObj(i -> part(String.valueOf(i)));
+
+        assertThat(fakeSink.transfer(dataSource)).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        assertThat(fakeSink.transferred).hasSize(10);
+        assertThat(fakeSink.maxActive.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void transfer_whenFailureDuringTransfer_stopsPullingParts() {
+        fakeSink.partitionSize = 1;
+        fakeSink.maxPartitionsInFlight = 1;
+        fakeSink.transferResultSupplier = () -> TransferResult.failure(ResponseStatus.FATAL_ERROR, errorMessage);
+        var pulled = new AtomicInteger();
+        DataSource dataSource = () -> IntStream.range(0, 10).peek(i -> pulled.incrementAndGet()).mapToObj(i -> part(String.valueOf(i)));
+
+        assertThat(fakeSink.transfer(dataSource)).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.failed()).isTrue())
+                .satisfies(transferResult -> assertThat(transferResult.getFailureMessages()).containsExactly(errorMessage));
+
+        assertThat(fakeSink.transferred).hasSize(1);
+        // the partition in flight, the next one waiting for room, and the element the stream iterator reads ahead
+        assertThat(pulled.get()).isLessThanOrEqualTo(3);
+    }
+
+    private DataSource.Part part(String name) {
+        return new InputStreamDataSource(name, new ByteArrayInputStream(dataSourceContent.getBytes())) {
+            @Override
+            public long size() {
+                return dataSourceContent.length();
+            }
+        };
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private static class FakeParallelSink extends ParallelSink {
 
         List<DataSource.Part> parts;
+        List<DataSource.Part> transferred = new CopyOnWriteArrayList<>();
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
         Supplier<TransferResult> transferResultSupplier = TransferResult::success;
 
         @Override
         protected TransferResult transferParts(List<DataSource.Part> parts) {
             this.parts = parts;
-            return transferResultSupplier.get();
+            transferred.addAll(parts);
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                return transferResultSupplier.get();
+            } finally {
+                active.decrementAndGet();
+            }
         }
     }
 }
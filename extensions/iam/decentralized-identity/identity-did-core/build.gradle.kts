@@ -8,6 +8,7 @@ val okHttpVersion: String by project
 
 dependencies {
     api(project(":extensions:iam:decentralized-identity:identity-did-spi"))
+    implementation(project(":common:util"))
     implementation(project(":extensions:iam:decentralized-identity:identity-did-crypto"))
 
     implementation("jakarta.ws.rs:jakarta.ws.rs-api:${rsApi}")
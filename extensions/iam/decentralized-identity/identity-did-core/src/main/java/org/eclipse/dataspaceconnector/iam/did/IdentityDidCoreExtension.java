@@ -20,6 +20,7 @@ import org.eclipse.dataspaceconnector.iam.did.crypto.key.EcPrivateKeyWrapper;
 import org.eclipse.dataspaceconnector.iam.did.hub.IdentityHubClientImpl;
 import org.eclipse.dataspaceconnector.iam.did.hub.IdentityHubController;
 import org.eclipse.dataspaceconnector.iam.did.hub.IdentityHubImpl;
+import org.eclipse.dataspaceconnector.iam.did.resolution.CachingDidResolverRegistry;
 import org.eclipse.dataspaceconnector.iam.did.resolution.DidPublicKeyResolverImpl;
 import org.eclipse.dataspaceconnector.iam.did.resolution.DidResolverRegistryImpl;
 import org.eclipse.dataspaceconnector.iam.did.spi.hub.IdentityHub;
@@ -29,6 +30,7 @@ import org.eclipse.dataspaceconnector.iam.did.spi.key.PrivateKeyWrapper;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.WebService;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
@@ -38,17 +40,47 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.system.health.HealthCheckResult;
 import org.eclipse.dataspaceconnector.spi.system.health.HealthCheckService;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 
 @Provides({IdentityHub.class, IdentityHubClient.class, DidResolverRegistry.class, DidPublicKeyResolver.class})
 public class IdentityDidCoreExtension implements ServiceExtension {
 
+    /**
+     * The seconds a resolved DID document is cached if its origin does not advertise a max age, 0 disables the cache.
+     */
+    @EdcSetting
+    private static final String DID_CACHE_TTL = "edc.identity.did.cache.ttl";
+
+    /**
+     * The seconds a stale DID document is served while it is revalidated in the background, or when its origin cannot be
+     * reached. Within that time a key that has been rotated or revoked is still accepted, so it should be kept short;
+     * documents whose origin forbids caching them are never served stale.
+     */
+    @EdcSetting
+    private static final String DID_CACHE_STALE_TTL = "edc.identity.did.cache.stale-ttl";
+
+    /**
+     * The seconds a failed DID resolution is cached.
+     */
+    @EdcSetting
+    private static final String DID_CACHE_NEGATIVE_TTL = "edc.identity.did.cache.negative-ttl";
+
+    @EdcSetting
+    private static final String DID_CACHE_SIZE = "edc.identity.did.cache.size";
+
+    private static final int REVALIDATION_THREADS = 2;
+
     @Inject
     private IdentityHubStore hubStore;
     @Inject
     private WebService webService;
 
+    private ExecutorService revalidationExecutor;
+
     @Override
     public String name() {
         return "Identity Did Core";
@@ -59,7 +91,7 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
         var objectMapper = context.getTypeManager().getMapper();
 
-        var resolverRegistry = new DidResolverRegistryImpl();
+        var resolverRegistry = createResolverRegistry(context);
         context.registerService(DidResolverRegistry.class, resolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(resolverRegistry);
@@ -88,6 +120,31 @@ public class IdentityDidCoreExtension implements ServiceExtension {
         context.registerService(IdentityHubClient.class, hubClient);
     }
 
+    @Override
+    public void shutdown() {
+        if (revalidationExecutor != null) {
+            revalidationExecutor.shutdownNow();
+        }
+    }
+
+    private DidResolverRegistry createResolverRegistry(ServiceExtensionContext context) {
+        var registry = new DidResolverRegistryImpl();
+        var ttl = context.getSetting(DID_CACHE_TTL, 300L);
+        if (ttl <= 0) {
+            return registry;
+        }
+        revalidationExecutor = Executors.newFixedThreadPool(REVALIDATION_THREADS);
+        return CachingDidResolverRegistry.Builder.newInstance()
+                .delegate(registry)
+                .ttl(Duration.ofSeconds(ttl))
+                .staleTtl(Duration.ofSeconds(context.getSetting(DID_CACHE_STALE_TTL, 300L)))
+                .negativeTtl(Duration.ofSeconds(context.getSetting(DID_CACHE_NEGATIVE_TTL, 30L)))
+                .maxEntries(context.getSetting(DID_CACHE_SIZE, 1000))
+                .executor(revalidationExecutor)
+                .monitor(context.getMonitor())
+                .build();
+    }
+
     private void registerParsers(PrivateKeyResolver resolver) {
 
         // add EC-/PEM-Parser
@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.iam.did.resolution;
+
+import org.eclipse.dataspaceconnector.common.collection.LruCache;
+import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolution;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolver;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Decorates a registry to cache the resolved DID documents.
+ * <p>
+ * A document is fresh for the max age advertised by its origin, or for the configured time to live if there is none,
+ * and is served from the cache while it is fresh. Once it is stale it is still served, for at most the configured
+ * stale period, while it is revalidated in the background; after that it is revalidated before being served. The
+ * revalidation sends the entity tag of the cached document, if any, so that the origin can respond that the document
+ * has not been modified without transferring it again. Documents whose origin forbids caching them, i.e. that have a
+ * max age of 0, are never served stale: they are revalidated before every use, and a failed revalidation is a failed
+ * resolution. Failures are cached for a shorter time to live, so that an unavailable origin is not queried on every
+ * request.
+ * <p>
+ * Concurrent lookups of the same DID are deduplicated, only one of them queries the origin and the others wait for its
+ * outcome.
+ */
+public class CachingDidResolverRegistry implements DidResolverRegistry {
+    private static final long MAX_TTL_MILLIS = Duration.ofDays(1).toMillis();
+
+    private final Map<String, CompletableFuture<CacheEntry>> inFlight = new ConcurrentHashMap<>();
+    private DidResolverRegistry delegate;
+    private Duration ttl = Duration.ofMinutes(5);
+    private Duration staleTtl = Duration.ofMinutes(5);
+    private Duration negativeTtl = Duration.ofSeconds(30);
+    private int maxEntries = 1000;
+    private Clock clock = Clock.systemUTC();
+    private Executor executor;
+    private Monitor monitor;
+    private Map<String, CacheEntry> entries;
+
+    private CachingDidResolverRegistry() {
+    }
+
+    @Override
+    public void register(DidResolver resolver) {
+        delegate.register(resolver);
+    }
+
+    @Override
+    public Result<DidDocument> resolve(String didKey) {
+        Objects.requireNonNull(didKey);
+        var entry = entries.get(didKey);
+        var now = clock.millis();
+        if (entry != null) {
+            if (now < entry.freshUntil) {
+                return entry.result;
+            }
+            if (entry.result.succeeded() && now < entry.staleUntil) {
+                revalidate(didKey, entry);
+                return entry.result;
+            }
+        }
+        return load(didKey, entry).join().result;
+    }
+
+    @Override
+    public Result<DidResolution> resolve(String didKey, @Nullable String etag) {
+        // conditional requests are issued by this cache, callers asking for them bypass it
+        return delegate.resolve(didKey, etag);
+    }
+
+    /**
+     * Removes the cached document of the DID, if any.
+     */
+    public void invalidate(String didKey) {
+        entries.remove(didKey);
+    }
+
+    private void revalidate(String didKey, CacheEntry entry) {
+        if (inFlight.containsKey(didKey)) {
+            return;
+        }
+        try {
+            executor.execute(() -> load(didKey, entry));
+        } catch (RejectedExecutionException e) {
+            monitor.debug("DID revalidation rejected: " + didKey);
+        }
+    }
+
+    /**
+     * Resolves the DID unless a resolution of it is already in flight, in which case its outcome is returned.
+     */
+    private CompletableFuture<CacheEntry> load(String didKey, @Nullable CacheEntry previous) {
+        var future = new CompletableFuture<CacheEntry>();
+        var existing = inFlight.putIfAbsent(didKey, future);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            var entry = fetch(didKey, previous);
+            entries.put(didKey, entry);
+            future.complete(entry);
+        } catch (Exception e) {
+            monitor.severe("Error resolving DID: " + didKey, e);
+            future.complete(new CacheEntry(Result.failure("Error resolving DID: " + e.getMessage()), null, 0, 0));
+        } finally {
+            inFlight.remove(didKey, future);
+        }
+        return future;
+    }
+
+    private CacheEntry fetch(String didKey, @Nullable CacheEntry previous) {
+        var cached = previous != null && previous.result.succeeded() ? previous : null;
+        var result = delegate.resolve(didKey, cached != null ? cached.etag : null);
+        var now = clock.millis();
+        if (result.failed()) {
+            // documents that must be revalidated have no stale period, so they are not served after a failure
+            if (cached != null && now < cached.staleUntil) {
+                // keep serving the stale document, but back off from the origin
+                return new CacheEntry(cached.result, cached.etag, now + negativeTtl.toMillis(), cached.staleUntil);
+            }
+            var negativeUntil = now + negativeTtl.toMillis();
+            return new CacheEntry(Result.failure(result.getFailureMessages()), null, negativeUntil, negativeUntil);
+        }
+
+        var resolution = result.getContent();
+        Result<DidDocument> document;
+        if (resolution.isNotModified()) {
+            if (cached == null) {
+                var negativeUntil = now + negativeTtl.toMillis();
+                return new CacheEntry(Result.failure("DID document not modified but not cached: " + didKey), null, negativeUntil, negativeUntil);
+            }
+            // the same document instance is kept, so that what is derived from it can be cached as well
+            document = cached.result;
+        } else {
+            document = Result.success(resolution.getDocument());
+        }
+        var maxAge = resolution.getMaxAge();
+        var ttlMillis = maxAge >= 0 ? Math.min(maxAge * 1000, MAX_TTL_MILLIS) : ttl.toMillis();
+        var freshUntil = now + ttlMillis;
+        var staleUntil = maxAge == 0 ? freshUntil : freshUntil + staleTtl.toMillis();
+        return new CacheEntry(document, resolution.getEtag(), freshUntil, staleUntil);
+    }
+
+    private static class CacheEntry {
+        private final Result<DidDocument> result;
+        private final String etag;
+        private final long freshUntil;
+        private final long staleUntil;
+
+        CacheEntry(Result<DidDocument> result, String etag, long freshUntil, long staleUntil) {
+            this.result = result;
+            this.etag = etag;
+            this.freshUntil = freshUntil;
+            this.staleUntil = staleUntil;
+        }
+    }
+
+    public static class Builder {
+        private final CachingDidResolverRegistry registry;
+
+        private Builder() {
+            registry = new CachingDidResolverRegistry();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder delegate(DidResolverRegistry delegate) {
+            registry.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * The time documents are fresh if their origin does not advertise a max age.
+         */
+        public Builder ttl(Duration ttl) {
+            registry.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * The time stale documents are served while they are revalidated in the background, or when their revalidation
+         * fails. Documents whose origin forbids caching them are never served stale.
+         */
+        public Builder staleTtl(Duration staleTtl) {
+            registry.staleTtl = staleTtl;
+            return this;
+        }
+
+        /**
+         * The time failed resolutions are cached.
+         */
+        public Builder negativeTtl(Duration negativeTtl) {
+            registry.negativeTtl = negativeTtl;
+            return this;
+        }
+
+        /**
+         * The maximum number of cached DIDs, the least recently used ones are evicted beyond it.
+         */
+        public Builder maxEntries(int maxEntries) {
+            registry.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            registry.clock = clock;
+            return this;
+        }
+
+        /**
+         * The executor running the background revalidations.
+         */
+        public Builder executor(Executor executor) {
+            registry.executor = executor;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            registry.monitor = monitor;
+            return this;
+        }
+
+        public CachingDidResolverRegistry build() {
+            Objects.requireNonNull(registry.delegate, "delegate");
+            Objects.requireNonNull(registry.executor, "executor");
+            Objects.requireNonNull(registry.monitor, "monitor");
+            Objects.requireNonNull(registry.clock, "clock");
+            if (registry.ttl.isNegative() || registry.staleTtl.isNegative() || registry.negativeTtl.isNegative()) {
+                throw new IllegalArgumentException("Cache durations must not be negative");
+            }
+            if (registry.maxEntries <= 0) {
+                throw new IllegalArgumentException("Max entries must be positive");
+            }
+            registry.entries = Collections.synchronizedMap(new LruCache<>(registry.maxEntries));
+            return registry;
+        }
+    }
+}
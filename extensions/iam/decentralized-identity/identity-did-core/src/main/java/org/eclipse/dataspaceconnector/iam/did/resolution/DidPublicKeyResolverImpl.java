@@ -13,21 +13,39 @@
  */
 package org.eclipse.dataspaceconnector.iam.did.resolution;
 
+import org.eclipse.dataspaceconnector.common.collection.LruCache;
 import org.eclipse.dataspaceconnector.iam.did.crypto.key.KeyConverter;
+import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
 import org.eclipse.dataspaceconnector.iam.did.spi.key.PublicKeyWrapper;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.eclipse.dataspaceconnector.iam.did.spi.document.DidConstants.ALLOWED_VERIFICATION_TYPES;
 
+/**
+ * Resolves the public key of a DID from its DID document.
+ * <p>
+ * The key converted from a document is cached per DID for as long as the registry returns the same document instance,
+ * i.e. as long as a caching registry serves it from its cache.
+ */
 public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
     private final DidResolverRegistry resolverRegistry;
+    private final Map<String, CachedKey> keys;
 
     public DidPublicKeyResolverImpl(DidResolverRegistry resolverRegistry) {
+        this(resolverRegistry, DEFAULT_CACHE_SIZE);
+    }
+
+    public DidPublicKeyResolverImpl(DidResolverRegistry resolverRegistry, int cacheSize) {
         this.resolverRegistry = resolverRegistry;
+        keys = Collections.synchronizedMap(new LruCache<>(cacheSize));
     }
 
     @Override
@@ -37,6 +55,16 @@ public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
             return Result.failure("Invalid DID: " + String.join(", ", didResult.getFailureMessages()));
         }
         var didDocument = didResult.getContent();
+        var cached = keys.get(didUrl);
+        if (cached != null && cached.document == didDocument) {
+            return cached.key;
+        }
+        var key = toPublicKey(didDocument);
+        keys.put(didUrl, new CachedKey(didDocument, key));
+        return key;
+    }
+
+    private Result<PublicKeyWrapper> toPublicKey(DidDocument didDocument) {
         if (didDocument.getVerificationMethod() == null || didDocument.getVerificationMethod().isEmpty()) {
             return Result.failure("DID does not contain a public key");
         }
@@ -55,4 +83,13 @@ public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
         }
     }
 
+    private static class CachedKey {
+        private final DidDocument document;
+        private final Result<PublicKeyWrapper> key;
+
+        CachedKey(DidDocument document, Result<PublicKeyWrapper> key) {
+            this.document = document;
+            this.key = key;
+        }
+    }
 }
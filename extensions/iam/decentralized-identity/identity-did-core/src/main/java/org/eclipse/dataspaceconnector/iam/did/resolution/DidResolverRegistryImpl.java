@@ -14,9 +14,11 @@
 package org.eclipse.dataspaceconnector.iam.did.resolution;
 
 import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolution;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolver;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -39,6 +41,23 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
 
     @Override
     public Result<DidDocument> resolve(String didKey) {
+        var resolver = getResolver(didKey);
+        if (resolver.failed()) {
+            return Result.failure(resolver.getFailureMessages());
+        }
+        return resolver.getContent().resolve(didKey);
+    }
+
+    @Override
+    public Result<DidResolution> resolve(String didKey, @Nullable String etag) {
+        var resolver = getResolver(didKey);
+        if (resolver.failed()) {
+            return Result.failure(resolver.getFailureMessages());
+        }
+        return resolver.getContent().resolve(didKey, etag);
+    }
+
+    private Result<DidResolver> getResolver(String didKey) {
         Objects.requireNonNull(didKey);
         // for the definition of DID syntax, .cf https://www.w3.org/TR/did-core/#did-syntax
         var tokens = didKey.split(":");
@@ -53,6 +72,6 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
         if (resolver == null) {
             return Result.failure("No resolver registered for DID Method: " + methodName);
         }
-        return resolver.resolve(didKey);
+        return Result.success(resolver);
     }
 }
@@ -0,0 +1,186 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.iam.did.resolution;
+
+import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolution;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDidResolverRegistryTest {
+    private static final String DID = "did:web:foo.com";
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private DidResolverRegistry delegate;
+    private CachingDidResolverRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(DidResolverRegistry.class);
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(i -> now.get());
+        registry = CachingDidResolverRegistry.Builder.newInstance()
+                .delegate(delegate)
+                .ttl(Duration.ofSeconds(60))
+                .staleTtl(Duration.ofSeconds(60))
+                .negativeTtl(Duration.ofSeconds(10))
+                .clock(clock)
+                .executor(Runnable::run)
+                .monitor(mock(Monitor.class))
+                .build();
+    }
+
+    @Test
+    void resolve_freshDocumentIsCached() {
+        var document = document();
+        when(delegate.resolve(DID, null)).thenReturn(Result.success(DidResolution.resolved(document, null, DidResolution.MAX_AGE_UNKNOWN)));
+
+        var first = registry.resolve(DID);
+        now.addAndGet(59_000);
+        var second = registry.resolve(DID);
+
+        assertThat(first.getContent()).isSameAs(document);
+        assertThat(second.getContent()).isSameAs(document);
+        verify(delegate).resolve(DID, null);
+    }
+
+    @Test
+    void resolve_staleDocumentIsServedAndRevalidated() {
+        var document = document();
+        when(delegate.resolve(DID, null)).thenReturn(Result.success(DidResolution.resolved(document, "v1", 5)));
+        when(delegate.resolve(DID, "v1")).thenReturn(Result.success(DidResolution.notModified("v1", 5)));
+
+        registry.resolve(DID);
+        now.addAndGet(6_000);
+        var stale = registry.resolve(DID);
+        var revalidated = registry.resolve(DID);
+
+        assertThat(stale.getContent()).isSameAs(document);
+        assertThat(revalidated.getContent()).isSameAs(document);
+        verify(delegate).resolve(DID, null);
+        verify(delegate).resolve(DID, "v1");
+    }
+
+    @Test
+    void resolve_expiredDocumentIsResolvedAgain() {
+        var document = document();
+        var updated = document();
+        when(delegate.resolve(DID, null)).thenReturn(Result.success(DidResolution.resolved(document, "v1", DidResolution.MAX_AGE_UNKNOWN)));
+        when(delegate.resolve(DID, "v1")).thenReturn(Result.success(DidResolution.resolved(updated, "v2", DidResolution.MAX_AGE_UNKNOWN)));
+
+        registry.resolve(DID);
+        now.addAndGet(121_000);
+        var result = registry.resolve(DID);
+
+        assertThat(result.getContent()).isSameAs(updated);
+    }
+
+    @Test
+    void resolve_failureIsCachedForNegativeTtl() {
+        when(delegate.resolve(DID, null)).thenReturn(Result.failure("not found"));
+
+        registry.resolve(DID);
+        var cached = registry.resolve(DID);
+        now.addAndGet(11_000);
+        registry.resolve(DID);
+
+        assertThat(cached.failed()).isTrue();
+        assertThat(cached.getFailureMessages()).containsExactly("not found");
+        verify(delegate, times(2)).resolve(DID, null);
+    }
+
+    @Test
+    void resolve_failedRevalidationServesStaleDocument() {
+        var document = document();
+        when(delegate.resolve(DID, null)).thenReturn(Result.success(DidResolution.resolved(document, "v1", DidResolution.MAX_AGE_UNKNOWN)));
+        when(delegate.resolve(DID, "v1")).thenReturn(Result.failure("unavailable"));
+
+        registry.resolve(DID);
+        now.addAndGet(61_000);
+        registry.resolve(DID);
+        var result = registry.resolve(DID);
+
+        assertThat(result.getContent()).isSameAs(document);
+        verify(delegate).resolve(DID, "v1");
+    }
+
+    @Test
+    void resolve_notCacheableDocumentIsNotServedStale() {
+        var document = document();
+        var updated = document();
+        when(delegate.resolve(DID, null)).thenReturn(Result.success(DidResolution.resolved(document, "v1", 0)));
+        when(delegate.resolve(DID, "v1")).thenReturn(Result.success(DidResolution.resolved(updated, "v2", 0)));
+
+        registry.resolve(DID);
+        var result = registry.resolve(DID);
+
+        assertThat(result.getContent()).isSameAs(updated);
+        verify(delegate).resolve(DID, "v1");
+    }
+
+    @Test
+    void resolve_failedRevalidationOfNotCacheableDocumentFails() {
+        var document = document();
+        when(delegate.resolve(DID, null)).thenReturn(Result.success(DidResolution.resolved(document, "v1", 0)));
+        when(delegate.resolve(DID, "v1")).thenReturn(Result.failure("unavailable"));
+
+        registry.resolve(DID);
+        now.addAndGet(1_000);
+        var result = registry.resolve(DID);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureMessages()).containsExactly("unavailable");
+    }
+
+    @Test
+    void resolve_concurrentLookupsAreDeduplicated() throws Exception {
+        var document = document();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(delegate.resolve(DID, null)).thenAnswer(i -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Result.success(DidResolution.resolved(document, null, DidResolution.MAX_AGE_UNKNOWN));
+        });
+
+        var first = CompletableFuture.supplyAsync(() -> registry.resolve(DID));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        var second = CompletableFuture.supplyAsync(() -> registry.resolve(DID));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getContent()).isSameAs(document);
+        assertThat(second.get(5, TimeUnit.SECONDS).getContent()).isSameAs(document);
+        verify(delegate).resolve(DID, null);
+    }
+
+    private DidDocument document() {
+        return DidDocument.Builder.newInstance().id(DID).build();
+    }
+}
@@ -52,6 +52,16 @@ class DidPublicKeyResolverImplTest {
         verify(resolverRegistry).resolve(DID_URL);
     }
 
+    @Test
+    void resolve_sameDocumentReusesKey() {
+        when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.success(didDocument));
+
+        var first = resolver.resolvePublicKey(DID_URL);
+        var second = resolver.resolvePublicKey(DID_URL);
+
+        assertThat(second.getContent()).isSameAs(first.getContent());
+    }
+
     @Test
     void resolve_didNotFound() {
         when(resolverRegistry.resolve(DID_URL)).thenReturn(Result.failure("Not found"));
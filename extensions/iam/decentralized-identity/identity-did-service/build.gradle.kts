@@ -5,6 +5,7 @@ plugins {
 
 dependencies {
     api(project(":extensions:iam:decentralized-identity:identity-did-spi"))
+    implementation(project(":common:util"))
     implementation(project(":extensions:iam:decentralized-identity:identity-did-crypto"))
 
     testImplementation(testFixtures(project(":extensions:iam:decentralized-identity:identity-common-test")))
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.identity;
+
+import org.eclipse.dataspaceconnector.common.collection.LruCache;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Caches the claims verified from the Identity Hub of a participant, keyed by the issuer DID and the id of the key that
+ * signed its token.
+ * <p>
+ * Verified claims are served from the cache for the configured time to live. Once most of it has elapsed, the next
+ * lookup triggers a verification in the background, so that the claims of an active participant are renewed before
+ * they expire and the hub round trip is not on the path of its requests. Only successful verifications are cached.
+ */
+class CredentialsCache {
+    private static final double REFRESH_RATIO = 0.8;
+    private static final long REFRESH_RETRY_MILLIS = 5000;
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final MetricsInstrumentation metrics;
+    private final Monitor monitor;
+    private final Map<String, CachedClaims> entries;
+
+    CredentialsCache(Duration ttl, int maxEntries, Clock clock, Executor refreshExecutor, MetricsInstrumentation metrics, Monitor monitor) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.metrics = metrics;
+        this.monitor = monitor;
+        entries = Collections.synchronizedMap(new LruCache<>(maxEntries));
+    }
+
+    /**
+     * Returns the cached claims of the issuer, or verifies them with the given function if there are none or if they
+     * were verified against another hub.
+     */
+    Result<Map<String, String>> get(String issuer, String keyId, String hubUrl, Supplier<Result<Map<String, String>>> verification) {
+        var key = issuer + "#" + keyId;
+        var entry = entries.get(key);
+        var now = clock.millis();
+        if (entry != null && entry.hubUrl.equals(hubUrl) && now < entry.expiresAt) {
+            metrics.counter("edc.identity.credentials.cache.hits", 1);
+            if (now >= entry.refreshAt && entry.refreshing.compareAndSet(false, true)) {
+                refresh(key, entry, verification);
+            }
+            return Result.success(entry.claims);
+        }
+        metrics.counter("edc.identity.credentials.cache.misses", 1);
+        return verify(key, hubUrl, verification);
+    }
+
+    private Result<Map<String, String>> verify(String key, String hubUrl, Supplier<Result<Map<String, String>>> verification) {
+        var start = System.nanoTime();
+        var result = verification.get();
+        metrics.timer("edc.identity.credentials.verification.duration", Duration.ofNanos(System.nanoTime() - start));
+        if (result.succeeded() && result.getContent() != null) {
+            var now = clock.millis();
+            entries.put(key, new CachedClaims(hubUrl, result.getContent(), now + (long) (ttl.toMillis() * REFRESH_RATIO), now + ttl.toMillis()));
+        }
+        return result;
+    }
+
+    private void refresh(String key, CachedClaims entry, Supplier<Result<Map<String, String>>> verification) {
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    metrics.counter("edc.identity.credentials.cache.refreshes", 1);
+                    var result = verify(key, entry.hubUrl, verification);
+                    if (result.failed()) {
+                        refreshFailed(entry);
+                        monitor.warning("Refreshing credentials failed, keeping the cached ones until they expire: " + String.join(", ", result.getFailureMessages()));
+                    }
+                } catch (Exception e) {
+                    refreshFailed(entry);
+                    monitor.warning("Refreshing credentials failed, keeping the cached ones until they expire", e);
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private void refreshFailed(CachedClaims entry) {
+        metrics.counter("edc.identity.credentials.cache.refresh.failures", 1);
+        entry.refreshAt = clock.millis() + REFRESH_RETRY_MILLIS;
+    }
+
+    private static class CachedClaims {
+        private final String hubUrl;
+        private final Map<String, String> claims;
+        private final long expiresAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long refreshAt;
+
+        CachedClaims(String hubUrl, Map<String, String> claims, long refreshAt, long expiresAt) {
+            this.hubUrl = hubUrl;
+            this.claims = claims;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -31,24 +31,49 @@ import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.text.ParseException;
 import java.util.Date;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
+/**
+ * Verifies tokens against the DID documents and Identity Hubs of their issuers.
+ * <p>
+ * As resolving DIDs and verifying hub credentials are blocking remote calls, the asynchronous verification runs them on
+ * a dedicated executor, when one is provided, rather than on the calling thread. A verification the executor rejects,
+ * for example because its queue is full, fails, so that the caller answers with a not-authenticated response instead of
+ * waiting.
+ */
 public class DecentralizedIdentityService implements IdentityService {
     private final Supplier<SignedJWT> verifiableCredentialProvider;
     private final DidResolverRegistry resolverRegistry;
     private final CredentialsVerifier credentialsVerifier;
     private final Monitor monitor;
+    private final CredentialsCache credentialsCache;
+    private final Executor verificationExecutor;
 
     public DecentralizedIdentityService(Supplier<SignedJWT> vcProvider, DidResolverRegistry resolverRegistry, CredentialsVerifier credentialsVerifier, Monitor monitor) {
+        this(vcProvider, resolverRegistry, credentialsVerifier, monitor, null, null);
+    }
+
+    /**
+     * Creates a service that caches the verified credentials of the participants, unless the cache is null, and runs
+     * the asynchronous verifications on the given executor, unless it is null.
+     */
+    DecentralizedIdentityService(Supplier<SignedJWT> vcProvider, DidResolverRegistry resolverRegistry, CredentialsVerifier credentialsVerifier, Monitor monitor,
+                                 @Nullable CredentialsCache credentialsCache, @Nullable Executor verificationExecutor) {
         verifiableCredentialProvider = vcProvider;
         this.resolverRegistry = resolverRegistry;
         this.credentialsVerifier = credentialsVerifier;
         this.monitor = monitor;
+        this.credentialsCache = credentialsCache;
+        this.verificationExecutor = verificationExecutor;
     }
 
     @Override
@@ -90,7 +115,9 @@ public class DecentralizedIdentityService implements IdentityService {
             }
             monitor.debug("verification successful! Fetching data from IdentityHub");
             String hubUrl = getHubUrl(didResult.getContent());
-            var credentialsResult = credentialsVerifier.verifyCredentials(hubUrl, publicKeyWrapper);
+            var credentialsResult = credentialsCache != null ?
+                    credentialsCache.get(jwt.getJWTClaimsSet().getIssuer(), publicKey.get().getId(), hubUrl, () -> credentialsVerifier.verifyCredentials(hubUrl, publicKeyWrapper)) :
+                    credentialsVerifier.verifyCredentials(hubUrl, publicKeyWrapper);
 
             monitor.debug("Building ClaimToken");
             var tokenBuilder = ClaimToken.Builder.newInstance();
@@ -103,6 +130,19 @@ public class DecentralizedIdentityService implements IdentityService {
         }
     }
 
+    @Override
+    public CompletableFuture<Result<ClaimToken>> verifyJwtTokenAsync(TokenRepresentation tokenRepresentation) {
+        if (verificationExecutor == null) {
+            return IdentityService.super.verifyJwtTokenAsync(tokenRepresentation);
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> verifyJwtToken(tokenRepresentation), verificationExecutor);
+        } catch (RejectedExecutionException e) {
+            monitor.warning("Token verification rejected, too many pending verifications");
+            return CompletableFuture.completedFuture(Result.failure("Too many pending token verifications"));
+        }
+    }
+
     String getHubUrl(DidDocument did) {
         return did.getService().stream().filter(service -> service.getType().equals(DidConstants.HUB_URL)).map(Service::getServiceEndpoint).findFirst().orElseThrow();
     }
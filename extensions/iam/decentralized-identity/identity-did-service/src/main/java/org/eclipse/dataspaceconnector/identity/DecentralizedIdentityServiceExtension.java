@@ -6,14 +6,23 @@ import org.eclipse.dataspaceconnector.iam.did.crypto.credentials.VerifiableCrede
 import org.eclipse.dataspaceconnector.iam.did.spi.credentials.CredentialsVerifier;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import static java.lang.String.format;
@@ -22,10 +31,36 @@ import static org.eclipse.dataspaceconnector.iam.did.spi.document.DidConstants.D
 @Provides(IdentityService.class)
 public class DecentralizedIdentityServiceExtension implements ServiceExtension {
 
+    /**
+     * The seconds the verified credentials of a participant are cached, 0 disables the cache.
+     */
+    @EdcSetting
+    private static final String CREDENTIALS_CACHE_TTL = "edc.identity.credentials.cache.ttl";
+
+    @EdcSetting
+    private static final String CREDENTIALS_CACHE_SIZE = "edc.identity.credentials.cache.size";
+
+    /**
+     * The number of threads verifying tokens asynchronously, i.e. resolving DIDs and verifying hub credentials.
+     */
+    @EdcSetting
+    private static final String VERIFICATION_THREADS = "edc.identity.verification.threads";
+
+    /**
+     * The maximum number of token verifications waiting for a thread, the ones beyond it are rejected as not authenticated.
+     */
+    @EdcSetting
+    private static final String VERIFICATION_QUEUE_SIZE = "edc.identity.verification.queue-size";
+
     @Inject
     private DidResolverRegistry resolverRegistry;
     @Inject
     private CredentialsVerifier credentialsVerifier;
+    @Inject
+    private MetricsInstrumentation metrics;
+
+    private ExecutorService refreshExecutor;
+    private ExecutorService verificationExecutor;
 
     @Override
     public String name() {
@@ -35,7 +70,9 @@ public class DecentralizedIdentityServiceExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var vcProvider = createSupplier(context);
-        var identityService = new DecentralizedIdentityService(vcProvider, resolverRegistry, credentialsVerifier, context.getMonitor());
+        var threads = context.getSetting(VERIFICATION_THREADS, 10);
+        verificationExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(context.getSetting(VERIFICATION_QUEUE_SIZE, 1000)));
+        var identityService = new DecentralizedIdentityService(vcProvider, resolverRegistry, credentialsVerifier, context.getMonitor(), createCredentialsCache(context), verificationExecutor);
         context.registerService(IdentityService.class, identityService);
     }
 
@@ -44,6 +81,25 @@ public class DecentralizedIdentityServiceExtension implements ServiceExtension {
         ServiceExtension.super.start();
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+        if (verificationExecutor != null) {
+            verificationExecutor.shutdownNow();
+        }
+    }
+
+    private CredentialsCache createCredentialsCache(ServiceExtensionContext context) {
+        var ttl = context.getSetting(CREDENTIALS_CACHE_TTL, 300L);
+        if (ttl <= 0) {
+            return null;
+        }
+        refreshExecutor = Executors.newSingleThreadExecutor();
+        return new CredentialsCache(Duration.ofSeconds(ttl), context.getSetting(CREDENTIALS_CACHE_SIZE, 1000), Clock.systemUTC(), refreshExecutor, metrics, context.getMonitor());
+    }
+
     Supplier<SignedJWT> createSupplier(ServiceExtensionContext context) {
         var didUrl = context.getSetting(DID_URL_SETTING, null);
         if (didUrl == null) {
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.identity;
+
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CredentialsCacheTest {
+    private static final String ISSUER = "did:web:foo.com";
+    private static final String HUB_URL = "https://hub.foo.com";
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private MetricsInstrumentation metrics;
+    private CredentialsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(i -> now.get());
+        metrics = mock(MetricsInstrumentation.class);
+        cache = new CredentialsCache(Duration.ofSeconds(100), 10, clock, refreshes::add, metrics, mock(Monitor.class));
+    }
+
+    @Test
+    void get_cachesVerifiedClaims() {
+        var first = cache.get(ISSUER, "key", HUB_URL, verification("eu"));
+        var second = cache.get(ISSUER, "key", HUB_URL, verification("us"));
+
+        assertThat(first.getContent()).containsEntry("region", "eu");
+        assertThat(second.getContent()).containsEntry("region", "eu");
+        assertThat(verifications).hasValue(1);
+        verify(metrics).counter(eq("edc.identity.credentials.cache.misses"), anyDouble(), any());
+        verify(metrics).counter(eq("edc.identity.credentials.cache.hits"), anyDouble(), any());
+    }
+
+    @Test
+    void get_otherKeyOrHubIsVerified() {
+        cache.get(ISSUER, "key", HUB_URL, verification("eu"));
+        cache.get(ISSUER, "other-key", HUB_URL, verification("eu"));
+        cache.get(ISSUER, "key", "https://other.foo.com", verification("eu"));
+
+        assertThat(verifications).hasValue(3);
+    }
+
+    @Test
+    void get_failureIsNotCached() {
+        Supplier<Result<Map<String, String>>> failure = () -> {
+            verifications.incrementAndGet();
+            return Result.failure("hub unavailable");
+        };
+
+        cache.get(ISSUER, "key", HUB_URL, failure);
+        var result = cache.get(ISSUER, "key", HUB_URL, failure);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void get_refreshesInBackgroundBeforeExpiry() {
+        cache.get(ISSUER, "key", HUB_URL, verification("eu"));
+        now.addAndGet(85_000);
+
+        var stale = cache.get(ISSUER, "key", HUB_URL, verification("us"));
+        cache.get(ISSUER, "key", HUB_URL, verification("us"));
+
+        assertThat(stale.getContent()).containsEntry("region", "eu");
+        assertThat(refreshes).hasSize(1);
+        refreshes.get(0).run();
+
+        var refreshed = cache.get(ISSUER, "key", HUB_URL, verification("fr"));
+        assertThat(refreshed.getContent()).containsEntry("region", "us");
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void get_expiredClaimsAreVerified() {
+        cache.get(ISSUER, "key", HUB_URL, verification("eu"));
+        now.addAndGet(100_000);
+
+        var result = cache.get(ISSUER, "key", HUB_URL, verification("us"));
+
+        assertThat(result.getContent()).containsEntry("region", "us");
+        assertThat(verifications).hasValue(2);
+        verify(metrics, times(2)).counter(eq("edc.identity.credentials.cache.misses"), anyDouble(), any());
+    }
+
+    private Supplier<Result<Map<String, String>>> verification(String region) {
+        return () -> {
+            verifications.incrementAndGet();
+            return Result.success(Map.of("region", region));
+        };
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.identity;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.jwk.ECKey;
@@ -34,6 +35,7 @@ import org.eclipse.dataspaceconnector.iam.did.spi.key.PrivateKeyWrapper;
 import org.eclipse.dataspaceconnector.iam.did.spi.key.PublicKeyWrapper;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolver;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
@@ -42,11 +44,15 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -56,6 +62,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 abstract class DecentralizedIdentityServiceTest {
     private DecentralizedIdentityService identityService;
+    private DidResolverRegistry didResolver;
+    private CredentialsVerifier verifier;
     private PrivateKeyWrapper privateKey;
     private PublicKeyWrapper publicKey;
 
@@ -100,6 +108,32 @@ abstract class DecentralizedIdentityServiceTest {
         assertEquals("eu", result.getContent().getClaims().get("region"));
     }
 
+    @Test
+    void verifyJwtTokenAsync_runsOnVerificationExecutor() throws Exception {
+        var tasks = new ArrayList<Runnable>();
+        var service = createService(tasks::add);
+
+        var result = service.verifyJwtTokenAsync(TokenRepresentation.Builder.newInstance().token(createToken()).build());
+
+        assertFalse(result.isDone());
+        assertEquals(1, tasks.size());
+        tasks.get(0).run();
+        assertTrue(result.isDone());
+        assertTrue(result.get().succeeded());
+    }
+
+    @Test
+    void verifyJwtTokenAsync_failsWhenExecutorRejects() throws Exception {
+        var service = createService(task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        var result = service.verifyJwtTokenAsync(TokenRepresentation.Builder.newInstance().token(createToken()).build());
+
+        assertTrue(result.isDone());
+        assertTrue(result.get().failed());
+    }
+
     @BeforeEach
     void setUp() throws Exception {
         var keyPair = getKeyPair();
@@ -109,14 +143,30 @@ abstract class DecentralizedIdentityServiceTest {
         var didJson = Thread.currentThread().getContextClassLoader().getResourceAsStream("dids.json");
         var hubUrlDid = new String(didJson.readAllBytes(), StandardCharsets.UTF_8);
 
-        DidResolverRegistry didResolver = new TestResolverRegistry(hubUrlDid, keyPair);
+        didResolver = new TestResolverRegistry(hubUrlDid, keyPair);
 
-        CredentialsVerifier verifier = (document, url) -> Result.success(Map.of("region", "eu"));
+        verifier = (document, url) -> Result.success(Map.of("region", "eu"));
         identityService = new DecentralizedIdentityService(() -> VerifiableCredentialFactory.create(privateKey, Map.of("region", "us"), "test-issuer"), didResolver, verifier, new Monitor() {
         });
 
     }
 
+    private DecentralizedIdentityService createService(Executor verificationExecutor) {
+        return new DecentralizedIdentityService(() -> VerifiableCredentialFactory.create(privateKey, Map.of("region", "us"), "test-issuer"), didResolver, verifier, new Monitor() {
+        }, null, verificationExecutor);
+    }
+
+    private String createToken() throws JOSEException {
+        var claimsSet = new JWTClaimsSet.Builder()
+                .subject("foo")
+                .issuer("did:ion:123abc")
+                .expirationTime(new Date(new Date().getTime() + TimeUnit.MINUTES.toMillis(10)))
+                .build();
+        var jwt = new SignedJWT(new JWSHeader.Builder(getHeaderAlgorithm()).keyID("primary").build(), claimsSet);
+        jwt.sign(privateKey.signer());
+        return jwt.serialize();
+    }
+
     @NotNull
     protected abstract JWK getKeyPair();
 
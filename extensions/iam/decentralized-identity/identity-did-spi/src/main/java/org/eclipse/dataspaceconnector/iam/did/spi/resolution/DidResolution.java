@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.iam.did.spi.resolution;
+
+import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The outcome of a conditional DID resolution, i.e. either the resolved document or the indication that the document
+ * identified by the given entity tag has not been modified, along with the caching directives of the origin.
+ */
+public class DidResolution {
+    public static final long MAX_AGE_UNKNOWN = -1;
+
+    private final DidDocument document;
+    private final String etag;
+    private final long maxAge;
+
+    private DidResolution(DidDocument document, String etag, long maxAge) {
+        this.document = document;
+        this.etag = etag;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * A resolved document.
+     *
+     * @param etag the entity tag of the document, or null if the origin does not provide one
+     * @param maxAge the number of seconds the document may be cached, 0 if it must not be used without revalidating it
+     *         with the origin, or {@link #MAX_AGE_UNKNOWN}
+     */
+    public static DidResolution resolved(DidDocument document, @Nullable String etag, long maxAge) {
+        return new DidResolution(document, etag, maxAge);
+    }
+
+    /**
+     * The document identified by the entity tag has not been modified.
+     */
+    public static DidResolution notModified(String etag, long maxAge) {
+        return new DidResolution(null, etag, maxAge);
+    }
+
+    public boolean isNotModified() {
+        return document == null;
+    }
+
+    /**
+     * The resolved document, null if it has not been modified.
+     */
+    @Nullable
+    public DidDocument getDocument() {
+        return document;
+    }
+
+    @Nullable
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getMaxAge() {
+        return maxAge;
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.iam.did.spi.resolution;
 import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Resolves a DID against an external resolver service.
@@ -34,4 +35,19 @@ public interface DidResolver {
     @NotNull
     Result<DidDocument> resolve(String didKey);
 
+    /**
+     * Resolves the DID document unless the document identified by the entity tag has not been modified. Resolvers that
+     * do not support conditional requests always resolve the document.
+     *
+     * @param etag the entity tag of the cached document, or null if there is none
+     */
+    @NotNull
+    default Result<DidResolution> resolve(String didKey, @Nullable String etag) {
+        var result = resolve(didKey);
+        if (result.failed()) {
+            return Result.failure(result.getFailureMessages());
+        }
+        return Result.success(DidResolution.resolved(result.getContent(), null, DidResolution.MAX_AGE_UNKNOWN));
+    }
+
 }
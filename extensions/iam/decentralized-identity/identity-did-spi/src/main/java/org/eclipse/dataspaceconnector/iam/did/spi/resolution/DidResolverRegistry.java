@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.iam.did.spi.resolution;
 import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.system.Feature;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Delegates to a {@link DidResolver} to resolve a DID document.
@@ -34,4 +35,18 @@ public interface DidResolverRegistry {
      */
     Result<DidDocument> resolve(String didKey);
 
+    /**
+     * Resolves a DID document based on the DID method, unless the document identified by the entity tag has not been
+     * modified.
+     *
+     * @see DidResolver#resolve(String, String)
+     */
+    default Result<DidResolution> resolve(String didKey, @Nullable String etag) {
+        var result = resolve(didKey);
+        if (result.failed()) {
+            return Result.failure(result.getFailureMessages());
+        }
+        return Result.success(DidResolution.resolved(result.getContent(), null, DidResolution.MAX_AGE_UNKNOWN));
+    }
+
 }
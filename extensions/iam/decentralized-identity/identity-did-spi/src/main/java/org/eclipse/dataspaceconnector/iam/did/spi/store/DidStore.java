@@ -26,10 +26,19 @@ public interface DidStore {
     List<DidDocument> getAfter(String continuationToken);
 
     /**
-     * Persists a document.
+     * Persists a document, unless a document with the same id is already stored.
+     *
+     * @return true if the document was persisted, false if its id is already known
      */
     boolean save(DidDocument document);
 
+    /**
+     * Replaces the stored document that has the same id.
+     *
+     * @return true if the document was replaced, false if its id is not known
+     */
+    boolean update(DidDocument document);
+
     /**
      * Persists a collection of documents.
      */
@@ -17,10 +17,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolution;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolver;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 
@@ -54,10 +56,31 @@ public class WebDidResolver implements DidResolver {
     @Override
     @NotNull
     public Result<DidDocument> resolve(String didKey) {
+        var result = resolve(didKey, null);
+        if (result.failed()) {
+            return Result.failure(result.getFailureMessages());
+        }
+        return Result.success(result.getContent().getDocument());
+    }
+
+    /**
+     * Resolves the DID document, sending the entity tag in an {@code If-None-Match} header if there is one.
+     */
+    @Override
+    @NotNull
+    public Result<DidResolution> resolve(String didKey, @Nullable String etag) {
         try {
-            var request = new Request.Builder().url(keyToUrl(didKey)).get().build();
+            var requestBuilder = new Request.Builder().url(keyToUrl(didKey)).get();
+            if (etag != null) {
+                requestBuilder.header("If-None-Match", etag);
+            }
 
-            try (var response = httpClient.newCall(request).execute()) {
+            try (var response = httpClient.newCall(requestBuilder.build()).execute()) {
+                var cacheControl = response.cacheControl();
+                var maxAge = cacheControl.noStore() || cacheControl.noCache() ? 0 : cacheControl.maxAgeSeconds();
+                if (response.code() == 304 && etag != null) {
+                    return Result.success(DidResolution.notModified(etag, maxAge));
+                }
                 if (response.code() != 200) {
                     return Result.failure(format("Error resolving DID: %s. HTTP Code was: %s", didKey, response.code()));
                 }
@@ -66,7 +89,7 @@ public class WebDidResolver implements DidResolver {
                         return Result.failure("DID response contained an empty body: " + didKey);
                     }
                     DidDocument didDocument = mapper.readValue(body.string(), DidDocument.class);
-                    return Result.success(didDocument);
+                    return Result.success(DidResolution.resolved(didDocument, response.header("ETag"), maxAge));
                 }
             } catch (IOException e) {
                 monitor.severe("Error resolving DID: " + didKey, e);
@@ -21,6 +21,8 @@ import okhttp3.ResponseBody;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -69,6 +71,73 @@ class WebDidResolverTest {
         assertThat(result.failed()).isTrue();
     }
 
+    @Test
+    void verifyConditionalResolveReturnsEtagAndMaxAge() {
+        var interceptor = new Interceptor() {
+            @NotNull
+            @Override
+            public Response intercept(@NotNull Interceptor.Chain chain) throws IOException {
+                var didStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("did.json");
+                assert didStream != null;
+                var didDocument = new String(didStream.readAllBytes(), StandardCharsets.UTF_8);
+                var body = ResponseBody.create(didDocument, MediaType.get("application/json"));
+                return new Response.Builder().body(body).protocol(HTTP_1_1).request(chain.request()).code(200).message("ok")
+                        .header("ETag", "\"v1\"").header("Cache-Control", "max-age=60").build();
+            }
+        };
+        var resolver = createResolver(interceptor);
+
+        var result = resolver.resolve("did:web:foo.com:edc:EiDfkaPHt8Yojnh15O7egrj5pA9tTefh_SYtbhF1-XyAeA", null);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getDocument()).isNotNull();
+        assertThat(result.getContent().getEtag()).isEqualTo("\"v1\"");
+        assertThat(result.getContent().getMaxAge()).isEqualTo(60);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "no-store", "no-cache", "no-cache, max-age=60" })
+    void verifyConditionalResolveReturnsNoMaxAgeIfNotCacheable(String cacheControl) {
+        var interceptor = new Interceptor() {
+            @NotNull
+            @Override
+            public Response intercept(@NotNull Interceptor.Chain chain) throws IOException {
+                var didStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("did.json");
+                assert didStream != null;
+                var didDocument = new String(didStream.readAllBytes(), StandardCharsets.UTF_8);
+                var body = ResponseBody.create(didDocument, MediaType.get("application/json"));
+                return new Response.Builder().body(body).protocol(HTTP_1_1).request(chain.request()).code(200).message("ok")
+                        .header("Cache-Control", cacheControl).build();
+            }
+        };
+        var resolver = createResolver(interceptor);
+
+        var result = resolver.resolve("did:web:foo.com:edc:EiDfkaPHt8Yojnh15O7egrj5pA9tTefh_SYtbhF1-XyAeA", null);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getMaxAge()).isZero();
+    }
+
+    @Test
+    void verifyConditionalResolveNotModified() {
+        var interceptor = new Interceptor() {
+            @NotNull
+            @Override
+            public Response intercept(@NotNull Interceptor.Chain chain) {
+                assertThat(chain.request().header("If-None-Match")).isEqualTo("\"v1\"");
+                var body = ResponseBody.create("", MediaType.get("application/json"));
+                return new Response.Builder().body(body).protocol(HTTP_1_1).request(chain.request()).code(304).message("not modified").build();
+            }
+        };
+        var resolver = createResolver(interceptor);
+
+        var result = resolver.resolve("did:web:foo.com:edc:EiDfkaPHt8Yojnh15O7egrj5pA9tTefh_SYtbhF1-XyAeA", "\"v1\"");
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().isNotModified()).isTrue();
+        assertThat(result.getContent().getEtag()).isEqualTo("\"v1\"");
+    }
+
     private WebDidResolver createResolver(Interceptor... interceptors) {
         var builder = testOkHttpClient().newBuilder();
         for (Interceptor interceptor : interceptors) {
@@ -13,15 +13,28 @@
  */
 package org.eclipse.dataspaceconnector.iam.registrationservice.crawler;
 
+import okhttp3.OkHttpClient;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.dataspaceconnector.iam.did.spi.store.DidStore;
 import org.eclipse.dataspaceconnector.iam.registrationservice.events.CrawlerEventPublisher;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Stores parameters (such as the DID Type) and necessary objects (such as the IonClient or the DidStore)
- * for the crawler, so it is essentially a Holder which is passed through to the {@link CrawlerJob} by Quartz
+ * for the crawler, so it is essentially a Holder which is passed through to the {@link CrawlerJob} by Quartz.
+ * <p>
+ * It also keeps the state carried from one run of the job to the next: the newest DID seen on ION, the DIDs whose
+ * resolution failed and the time the known DIDs were last refreshed.
  */
 public class CrawlerContext {
     public static final String KEY = "edc:ion-crawler:config";
@@ -32,6 +45,17 @@ public class CrawlerContext {
     private String didTypes;
     private DidResolverRegistry resolverRegistry;
     private TypeManager typeManager;
+    private ExecutorService executor;
+    private OkHttpClient httpClient;
+    private Clock clock;
+    private double requestsPerSecond;
+    private int limit;
+    private int maxLimit;
+    private Duration refreshInterval;
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private volatile String lastSeen;
+    private volatile Instant lastRefresh;
 
     public DidStore getDidStore() {
         return didStore;
@@ -61,6 +85,80 @@ public class CrawlerContext {
         return typeManager;
     }
 
+    /**
+     * The executor resolving the DIDs, its number of threads bounds the number of concurrent resolutions.
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * The limiter of the requests sent to the given host, created on first use.
+     */
+    public RateLimiter getRateLimiter(String host) {
+        return rateLimiters.computeIfAbsent(host, h -> new RateLimiter(requestsPerSecond));
+    }
+
+    /**
+     * The number of DIDs fetched from ION by the first request of each run.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * The maximum number of DIDs fetched from ION in each run, when looking for the last seen DID.
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * How often the DIDs already in the store are resolved again.
+     */
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * The DIDs whose last resolution failed, which are resolved again on the next run.
+     */
+    public Set<String> getPending() {
+        return pending;
+    }
+
+    /**
+     * The newest DID listed by ION in the previous run, or null if there was none.
+     */
+    @Nullable
+    public String getLastSeen() {
+        return lastSeen;
+    }
+
+    public void setLastSeen(String lastSeen) {
+        this.lastSeen = lastSeen;
+    }
+
+    /**
+     * The time the known DIDs were last resolved again, or null if they were not since the start.
+     */
+    @Nullable
+    public Instant getLastRefresh() {
+        return lastRefresh;
+    }
+
+    public void setLastRefresh(Instant lastRefresh) {
+        this.lastRefresh = lastRefresh;
+    }
+
     public static final class Builder {
         private DidStore didStore;
         private Monitor monitor;
@@ -69,6 +167,13 @@ public class CrawlerContext {
         private String didTypes;
         private DidResolverRegistry resolverRegistry;
         private TypeManager typeManager;
+        private ExecutorService executor;
+        private OkHttpClient httpClient;
+        private Clock clock = Clock.systemUTC();
+        private double requestsPerSecond;
+        private int limit = 50;
+        private int maxLimit = 1000;
+        private Duration refreshInterval = Duration.ofDays(1);
 
         private Builder() {
         }
@@ -112,6 +217,44 @@ public class CrawlerContext {
             return this;
         }
 
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder httpClient(OkHttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * The maximum rate of the requests sent to each host, any rate if it is not positive.
+         */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        public Builder limit(int limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        public Builder refreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+            return this;
+        }
+
         public CrawlerContext build() {
             CrawlerContext crawlerConfig = new CrawlerContext();
             crawlerConfig.didTypes = didTypes;
@@ -121,6 +264,13 @@ public class CrawlerContext {
             crawlerConfig.didStore = didStore;
             crawlerConfig.monitor = monitor;
             crawlerConfig.resolverRegistry = resolverRegistry;
+            crawlerConfig.executor = executor;
+            crawlerConfig.httpClient = httpClient;
+            crawlerConfig.clock = clock;
+            crawlerConfig.requestsPerSecond = requestsPerSecond;
+            crawlerConfig.limit = limit;
+            crawlerConfig.maxLimit = Math.max(limit, maxLimit);
+            crawlerConfig.refreshInterval = refreshInterval;
             return crawlerConfig;
         }
     }
@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.iam.registrationservice.crawler;
 
+import okhttp3.OkHttpClient;
 import org.eclipse.dataspaceconnector.events.azure.AzureEventGridConfig;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.dataspaceconnector.iam.did.spi.store.DidStore;
@@ -31,7 +32,11 @@ import org.quartz.SchedulerException;
 import org.quartz.Trigger;
 import org.quartz.impl.StdSchedulerFactory;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.quartz.JobBuilder.newJob;
 import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
@@ -45,8 +50,19 @@ public class CrawlerExtension implements ServiceExtension {
     private static final String ION_URL_SETTING = "edc.ion.crawler.ion.url";
     @EdcSetting
     private static final String ION_CRAWLER_TYPE_SETTING = "edc.ion.crawler.did-type";
+    @EdcSetting
+    private static final String ION_CRAWLER_LIMIT_SETTING = "edc.ion.crawler.limit";
+    @EdcSetting
+    private static final String ION_CRAWLER_MAX_LIMIT_SETTING = "edc.ion.crawler.max-limit";
+    @EdcSetting
+    private static final String ION_CRAWLER_REFRESH_SETTING = "edc.ion.crawler.refresh-interval-minutes";
+    @EdcSetting
+    private static final String ION_CRAWLER_CONCURRENCY_SETTING = "edc.ion.crawler.concurrency";
+    @EdcSetting
+    private static final String ION_CRAWLER_RATE_SETTING = "edc.ion.crawler.requests-per-second";
     private ServiceExtensionContext context;
     private Scheduler quartzScheduler;
+    private ExecutorService executor;
     @Inject
     private DidStore didStore;
     @Inject
@@ -81,6 +97,9 @@ public class CrawlerExtension implements ServiceExtension {
         try {
             context.getMonitor().info("Stopping ION crawler");
             quartzScheduler.shutdown();
+            if (executor != null) {
+                executor.shutdownNow();
+            }
             context.getMonitor().info("Stopped ION crawler");
             context.getMonitor().info("ION Crawler Extension shutdown");
         } catch (SchedulerException e) {
@@ -91,6 +110,7 @@ public class CrawlerExtension implements ServiceExtension {
     private void scheduleCrawler(int intervalMinutes, ServiceExtensionContext context) throws SchedulerException {
 
         var publisher = new CrawlerEventPublisher(context.getService(Vault.class), new AzureEventGridConfig(context));
+        executor = Executors.newFixedThreadPool(context.getSetting(ION_CRAWLER_CONCURRENCY_SETTING, 4));
 
         var crawlerConfig = CrawlerContext.Builder.create()
                 .didStore(didStore)
@@ -100,6 +120,12 @@ public class CrawlerExtension implements ServiceExtension {
                 .publisher(publisher)
                 .didTypes(context.getSetting(ION_CRAWLER_TYPE_SETTING, "aW9u"))
                 .resolverRegistry(resolverRegistry)
+                .executor(executor)
+                .httpClient(new OkHttpClient.Builder().connectTimeout(30, TimeUnit.SECONDS).readTimeout(30, TimeUnit.SECONDS).build())
+                .requestsPerSecond(context.getSetting(ION_CRAWLER_RATE_SETTING, 10))
+                .limit(context.getSetting(ION_CRAWLER_LIMIT_SETTING, 50))
+                .maxLimit(context.getSetting(ION_CRAWLER_MAX_LIMIT_SETTING, 1000))
+                .refreshInterval(Duration.ofMinutes(context.getSetting(ION_CRAWLER_REFRESH_SETTING, 1440)))
                 .build();
 
         JobDetail job = newJob(CrawlerJob.class)
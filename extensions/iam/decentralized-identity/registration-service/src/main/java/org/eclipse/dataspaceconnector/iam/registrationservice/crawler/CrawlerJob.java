@@ -15,71 +15,136 @@ package org.eclipse.dataspaceconnector.iam.registrationservice.crawler;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import okhttp3.HttpUrl;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
-import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.result.Result;
-import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
 
 import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 
+/**
+ * Browses ION for the DIDs of the configured type and stores the ones that are not known yet.
+ * <p>
+ * ION lists the DIDs newest first and only takes a limit, so the job requests a growing number of DIDs until the list
+ * reaches the newest DID of the previous run, initially the latest document of the
+ * {@link org.eclipse.dataspaceconnector.iam.did.spi.store.DidStore}, or the maximum limit. The DIDs listed before it,
+ * the ones that failed to resolve in the previous runs and, once per refresh interval, all the stored ones are
+ * resolved on the executor of the {@link CrawlerContext}, whose size bounds the number of concurrent resolutions. Every
+ * request goes through the {@link RateLimiter} of its host. Each document is stored as soon as it is resolved, replacing
+ * the stored one if its DID is already known.
+ */
 // has to be "public", otherwise quartz won't be able to access is
+@DisallowConcurrentExecution
 public class CrawlerJob implements Job {
 
     private static final String DIDS_PATH = "dids";
-    private String ionApiUrl;
+    private static final String DID_WEB_PREFIX = "did:web:";
 
     @Override
     public void execute(JobExecutionContext context) {
         JobDataMap jobDataMap = context.getJobDetail().getJobDataMap();
-        var cc = (CrawlerContext) jobDataMap.get(CrawlerContext.KEY);
+        crawl((CrawlerContext) jobDataMap.get(CrawlerContext.KEY));
+    }
 
-        ionApiUrl = Objects.requireNonNull(cc.getIonHost(), "ION Node URL cannot be null!");
+    void crawl(CrawlerContext cc) {
+        Objects.requireNonNull(cc.getIonHost(), "ION Node URL cannot be null!");
         var monitor = cc.getMonitor();
 
         monitor.info("CrawlerJob: browsing ION to obtain GaiaX DIDs");
 
-        var start = Instant.now();
-        var newDidFutures = getDidDocumentsFromBlockchainAsync(cc);
-
-        List<DidDocument> newDids = newDidFutures.parallelStream()
-                .map(CompletableFuture::join)
-                .filter(Objects::nonNull)
-                .filter(Result::succeeded)
-                .map(Result::getContent)
-                .collect(Collectors.toList());
+        var start = Instant.now(cc.getClock());
+        if (cc.getLastSeen() == null) {
+            var latest = cc.getDidStore().getLatest();
+            if (latest != null) {
+                cc.setLastSeen(latest.getId());
+            }
+        }
+        var listed = getDidSuffixesSinceLastSeen(cc);
 
-        monitor.info("CrawlerJob: Found " + newDids.size() + " new DIDs on ION, took " + (Duration.between(start, Instant.now()).toString()
-                .substring(2)
-                .replaceAll("(\\d[HMS])(?!$)", "$1 ")
-                .toLowerCase()));
+        var toResolve = new LinkedHashSet<>(cc.getPending());
+        listed.stream().filter(didId -> cc.getDidStore().forId(didId) == null).forEach(toResolve::add);
+        var refresh = cc.getLastRefresh() == null || !start.isBefore(cc.getLastRefresh().plus(cc.getRefreshInterval()));
+        if (refresh) {
+            cc.getDidStore().getAll(Integer.MAX_VALUE).forEach(document -> toResolve.add(document.getId()));
+        }
 
-        if (newDids.size() > 0) {
-            cc.getPublisher().discoveryFinished(newDids.size());
+        var newDids = new AtomicInteger();
+        var futures = toResolve.stream()
+                .map(didId -> CompletableFuture.runAsync(() -> {
+                    var result = resolveDid(didId, cc);
+                    if (result != null && result.succeeded()) {
+                        cc.getPending().remove(didId);
+                        var document = result.getContent();
+                        if (cc.getDidStore().save(document)) {
+                            newDids.incrementAndGet();
+                        } else {
+                            cc.getDidStore().update(document);
+                        }
+                    } else {
+                        cc.getPending().add(didId);
+                    }
+                }, cc.getExecutor()).exceptionally(e -> {
+                    cc.getPending().add(didId);
+                    monitor.severe("CrawlerJob: could not store " + didId, e);
+                    return null;
+                }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        if (!listed.isEmpty()) {
+            cc.setLastSeen(listed.get(0));
         }
+        if (refresh) {
+            cc.setLastRefresh(start);
+        }
+
+        monitor.info("CrawlerJob: Found " + newDids.get() + " new DIDs on ION (" + toResolve.size() + " resolved, " + cc.getPending().size() + " pending), took " +
+                (Duration.between(start, Instant.now(cc.getClock())).toString()
+                        .substring(2)
+                        .replaceAll("(\\d[HMS])(?!$)", "$1 ")
+                        .toLowerCase()));
 
-        cc.getDidStore().saveAll(newDids);
+        if (newDids.get() > 0) {
+            cc.getPublisher().discoveryFinished(newDids.get());
+        }
     }
 
-    private List<CompletableFuture<Result<DidDocument>>> getDidDocumentsFromBlockchainAsync(CrawlerContext context) {
-        return getDidSuffixesForType(context.getDidTypes(), context.getTypeManager())
-                .stream()
-                .map(didSuffix -> resolveDidAsync(didSuffix, context.getResolverRegistry()))
-                .collect(Collectors.toList());
+    /**
+     * Returns the DIDs listed by ION before the last seen one, all the listed ones up to the maximum limit if it is not
+     * found.
+     */
+    private List<String> getDidSuffixesSinceLastSeen(CrawlerContext context) {
+        var lastSeen = context.getLastSeen();
+        var limit = context.getLimit();
+        while (true) {
+            var suffixes = getDidSuffixesForType(context.getDidTypes(), limit, context);
+            var index = lastSeen == null ? -1 : suffixes.indexOf(lastSeen);
+            if (index >= 0) {
+                return suffixes.subList(0, index);
+            }
+            if (suffixes.size() < limit || limit >= context.getMaxLimit()) {
+                if (lastSeen != null && suffixes.size() >= limit) {
+                    context.getMonitor().warning(format("CrawlerJob: %s is not within the last %s DIDs, older DIDs are skipped", lastSeen, limit));
+                }
+                return suffixes;
+            }
+            limit = (int) Math.min((long) limit * 2, context.getMaxLimit());
+        }
     }
 
     /**
@@ -87,29 +152,29 @@ public class CrawlerJob implements Job {
      * the {@code type} parameter and returns the resulting DID suffixes (=IDs).
      *
      * @param type The type to look up. Should be "Z3hp" for GaiaX
-     * @param typeManager the type manager
-     * @return A list of DID IDs in the form {@code did:ion:.....}
+     * @param limit the maximum number of DIDs to return
+     * @param context the crawler context
+     * @return A list of DID IDs in the form {@code did:ion:.....}, newest first
      */
-    private List<String> getDidSuffixesForType(String type, TypeManager typeManager) {
-        var client = createClient();
-
-        var url = HttpUrl.parse(ionApiUrl)
+    private List<String> getDidSuffixesForType(String type, int limit, CrawlerContext context) {
+        var url = HttpUrl.parse(context.getIonHost())
                 .newBuilder()
                 .addPathSegment(DIDS_PATH)
                 .addQueryParameter("type", type)
-                .addQueryParameter("limit", "50"); //go a maximum of 50 transactions back
-
+                .addQueryParameter("limit", String.valueOf(limit)) //go a maximum of that many transactions back
+                .build();
 
         var request = new Request.Builder()
-                .url(url.build().url())
+                .url(url.url())
                 .get()
                 .build();
 
-        try (var response = client.newCall(request).execute()) {
+        acquirePermit(url.host(), context);
+        try (var response = context.getHttpClient().newCall(request).execute()) {
             if (response.isSuccessful()) {
                 var json = Objects.requireNonNull(response.body()).string();
                 var typeReference = new TypeReference<List<String>>() {};
-                return typeManager.readValue(json, typeReference);
+                return context.getTypeManager().readValue(json, typeReference);
             } else {
                 throw new EdcException(format("Could not get DIDs: error=%s, message=%s", response.code(), response.body().string()));
             }
@@ -122,30 +187,37 @@ public class CrawlerJob implements Job {
      * Attempts to resolve a DID from ION
      *
      * @param didId The canonical ID (="suffix", "short form URI") of the DID. Must be in the form "did:ion:..."
-     * @param resolverRegistry The resolver registry
+     * @param context the crawler context
      * @return A {@link DidDocument} if found, {@code null} otherwise
      */
-    private Result<DidDocument> resolveDid(String didId, DidResolverRegistry resolverRegistry) {
+    private Result<DidDocument> resolveDid(String didId, CrawlerContext context) {
         try {
-            return resolverRegistry.resolve(didId);
+            acquirePermit(hostOf(didId), context);
+            return context.getResolverRegistry().resolve(didId);
         } catch (EdcException ex) {
+            context.getMonitor().debug("CrawlerJob: could not resolve " + didId + ": " + ex.getMessage());
             return null;
         }
     }
 
     /**
-     * Attempts to resolve a DID from ION asynchronously. Basically a wrapper around {@link CrawlerJob#resolveDid(String, DidResolverRegistry)}
-     *
-     * @param didId The canonical ID (="suffix", "short form URI") of the DID. Must be in the form "did:ion:..."
-     * @param resolverRegistry An ION implementation
-     * @return A {@code CompletableFuture<DidDocument>} if found, {@code null} otherwise
+     * The host resolving the DID, that is the domain of a did:web, otherwise the method whose resolver is used.
      */
-    private CompletableFuture<Result<DidDocument>> resolveDidAsync(String didId, DidResolverRegistry resolverRegistry) {
-        return CompletableFuture.supplyAsync(() -> resolveDid(didId, resolverRegistry));
+    static String hostOf(String didId) {
+        if (didId.startsWith(DID_WEB_PREFIX)) {
+            var domain = didId.substring(DID_WEB_PREFIX.length()).split(":", 2)[0];
+            return URLDecoder.decode(domain, StandardCharsets.UTF_8);
+        }
+        var separator = didId.indexOf(':', "did:".length());
+        return separator < 0 ? didId : didId.substring(0, separator);
     }
 
-    private OkHttpClient createClient() {
-        return new OkHttpClient.Builder().connectTimeout(30, TimeUnit.SECONDS).readTimeout(30, TimeUnit.SECONDS).build();
+    private void acquirePermit(String host, CrawlerContext context) {
+        try {
+            context.getRateLimiter(host).acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcException(e);
+        }
     }
-
 }
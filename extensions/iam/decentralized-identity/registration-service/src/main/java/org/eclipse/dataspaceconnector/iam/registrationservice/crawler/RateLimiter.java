@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.iam.registrationservice.crawler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces out the requests the crawler sends to one host, so that they do not exceed the given rate however many
+ * threads send them.
+ */
+public class RateLimiter {
+    private final long intervalNanos;
+    private long nextFreeSlot;
+
+    /**
+     * Creates a limiter letting through the given number of requests per second, or any number if it is not positive.
+     */
+    public RateLimiter(double requestsPerSecond) {
+        intervalNanos = requestsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) : 0;
+    }
+
+    /**
+     * Blocks until a request can be sent without exceeding the rate.
+     */
+    public void acquire() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long wait;
+        synchronized (this) {
+            var now = System.nanoTime();
+            var slot = Math.max(now, nextFreeSlot);
+            nextFreeSlot = slot + intervalNanos;
+            wait = slot - now;
+        }
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
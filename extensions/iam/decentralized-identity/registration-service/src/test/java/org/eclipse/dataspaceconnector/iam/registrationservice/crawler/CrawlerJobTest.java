@@ -0,0 +1,284 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.registrationservice.crawler;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.dataspaceconnector.iam.did.spi.store.DidStore;
+import org.eclipse.dataspaceconnector.iam.registrationservice.events.CrawlerEventPublisher;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static okhttp3.Protocol.HTTP_1_1;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CrawlerJobTest {
+
+    private final TypeManager typeManager = new TypeManager();
+    private final DidResolverRegistry resolverRegistry = mock(DidResolverRegistry.class);
+    private final FakeDidStore didStore = new FakeDidStore();
+    private final List<String> ionDids = new ArrayList<>();
+    private final List<Integer> requestedLimits = new CopyOnWriteArrayList<>();
+    private final List<String> resolved = new CopyOnWriteArrayList<>();
+    private ExecutorService executor;
+    private final Clock clock = mock(Clock.class);
+    private Instant now = Instant.parse("2022-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        when(clock.instant()).thenAnswer(i -> now);
+        when(resolverRegistry.resolve(anyString())).thenAnswer(i -> {
+            String didId = i.getArgument(0);
+            resolved.add(didId);
+            return Result.success(document(didId));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void crawl_storesAllListedDids() {
+        ionDids.addAll(List.of("did:ion:3", "did:ion:2", "did:ion:1"));
+
+        new CrawlerJob().crawl(context(10));
+
+        assertThat(didStore.ids()).containsExactlyInAnyOrder("did:ion:1", "did:ion:2", "did:ion:3");
+    }
+
+    @Test
+    void crawl_pagesUntilLastSeenDid() {
+        ionDids.addAll(dids(10));
+        didStore.save(document("did:ion:1"));
+        var context = context(2);
+
+        new CrawlerJob().crawl(context);
+
+        assertThat(requestedLimits).containsExactly(2, 4, 8, 16);
+        assertThat(resolved).contains("did:ion:10", "did:ion:2").doesNotContain("did:ion:0");
+        assertThat(context.getLastSeen()).isEqualTo("did:ion:10");
+    }
+
+    @Test
+    void crawl_skipsKnownDidsUntilRefreshInterval() {
+        ionDids.addAll(dids(2));
+        var context = context(10);
+        new CrawlerJob().crawl(context);
+        resolved.clear();
+        requestedLimits.clear();
+
+        ionDids.add(0, "did:ion:3");
+        now = now.plus(Duration.ofMinutes(30));
+        new CrawlerJob().crawl(context);
+
+        assertThat(resolved).containsExactly("did:ion:3");
+        assertThat(requestedLimits).containsExactly(10);
+
+        resolved.clear();
+        now = now.plus(Duration.ofHours(1));
+        new CrawlerJob().crawl(context);
+
+        assertThat(resolved).containsExactlyInAnyOrder("did:ion:0", "did:ion:1", "did:ion:2", "did:ion:3");
+    }
+
+    @Test
+    void crawl_replacesRefreshedDocuments() {
+        ionDids.addAll(List.of("did:ion:1"));
+        var context = context(10);
+        new CrawlerJob().crawl(context);
+
+        var changed = DidDocument.Builder.newInstance().id("did:ion:1").service(List.of()).build();
+        when(resolverRegistry.resolve("did:ion:1")).thenReturn(Result.success(changed));
+        now = now.plus(Duration.ofHours(1));
+        new CrawlerJob().crawl(context);
+
+        assertThat(didStore.forId("did:ion:1")).isSameAs(changed);
+        assertThat(didStore.ids()).containsExactly("did:ion:1");
+    }
+
+    @Test
+    void crawl_retriesFailedDids() {
+        ionDids.addAll(List.of("did:ion:1"));
+        when(resolverRegistry.resolve("did:ion:1")).thenReturn(Result.failure("unavailable"));
+        var context = context(10);
+        new CrawlerJob().crawl(context);
+        assertThat(context.getPending()).containsExactly("did:ion:1");
+
+        when(resolverRegistry.resolve("did:ion:1")).thenReturn(Result.success(document("did:ion:1")));
+        new CrawlerJob().crawl(context);
+
+        assertThat(context.getPending()).isEmpty();
+        assertThat(didStore.ids()).containsExactly("did:ion:1");
+    }
+
+    @Test
+    void crawl_boundsConcurrentResolutions() {
+        ionDids.addAll(dids(8));
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        when(resolverRegistry.resolve(anyString())).thenAnswer(i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return Result.success(document(i.getArgument(0)));
+        });
+
+        new CrawlerJob().crawl(context(10));
+
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(didStore.ids()).hasSize(9);
+    }
+
+    @Test
+    void crawl_savesEachDocumentWhenResolved() {
+        ionDids.addAll(List.of("did:ion:2", "did:ion:1"));
+        var firstSaved = new CountDownLatch(1);
+        didStore.onSave = firstSaved::countDown;
+        when(resolverRegistry.resolve("did:ion:1")).thenAnswer(i -> {
+            // only completes if the other document has been saved before all resolutions are done
+            assertThat(firstSaved.await(10, TimeUnit.SECONDS)).isTrue();
+            return Result.success(document("did:ion:1"));
+        });
+
+        new CrawlerJob().crawl(context(10));
+
+        assertThat(didStore.ids()).containsExactlyInAnyOrder("did:ion:1", "did:ion:2");
+    }
+
+    @Test
+    void hostOf() {
+        assertThat(CrawlerJob.hostOf("did:web:example.com%3A8080:user")).isEqualTo("example.com:8080");
+        assertThat(CrawlerJob.hostOf("did:web:example.com")).isEqualTo("example.com");
+        assertThat(CrawlerJob.hostOf("did:ion:EiD...")).isEqualTo("did:ion");
+    }
+
+    private CrawlerContext context(int limit) {
+        var httpClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    var requested = Integer.parseInt(chain.request().url().queryParameter("limit"));
+                    requestedLimits.add(requested);
+                    var json = typeManager.writeValueAsString(ionDids.stream().limit(requested).collect(Collectors.toList()));
+                    return new Response.Builder().body(ResponseBody.create(json, MediaType.get("application/json")))
+                            .protocol(HTTP_1_1).request(chain.request()).code(200).message("ok").build();
+                })
+                .build();
+        return CrawlerContext.Builder.create()
+                .didStore(didStore)
+                .ionHost("http://ion.test/")
+                .monitor(mock(Monitor.class))
+                .typeManager(typeManager)
+                .publisher(mock(CrawlerEventPublisher.class))
+                .didTypes("Z3hp")
+                .resolverRegistry(resolverRegistry)
+                .executor(executor)
+                .httpClient(httpClient)
+                .clock(clock)
+                .limit(limit)
+                .refreshInterval(Duration.ofHours(1))
+                .build();
+    }
+
+    private static List<String> dids(int newest) {
+        return IntStream.iterate(newest, i -> i >= 0, i -> i - 1).mapToObj(i -> "did:ion:" + i).collect(Collectors.toList());
+    }
+
+    private static DidDocument document(String didId) {
+        return DidDocument.Builder.newInstance().id(didId).build();
+    }
+
+    private static class FakeDidStore implements DidStore {
+        private final Map<String, DidDocument> documents = new ConcurrentHashMap<>();
+        private final List<String> order = new CopyOnWriteArrayList<>();
+        private volatile Runnable onSave = () -> { };
+
+        List<String> ids() {
+            return new ArrayList<>(order);
+        }
+
+        @Override
+        public List<DidDocument> getAll(int limit) {
+            return order.stream().limit(limit).map(documents::get).collect(Collectors.toList());
+        }
+
+        @Override
+        public List<DidDocument> getAfter(String continuationToken) {
+            return order.stream().dropWhile(id -> !id.equals(continuationToken)).map(documents::get).collect(Collectors.toList());
+        }
+
+        /**
+         * Like the real stores, does not replace a document whose id is already stored.
+         */
+        @Override
+        public boolean save(DidDocument document) {
+            var added = documents.putIfAbsent(document.getId(), document) == null;
+            if (added) {
+                order.add(document.getId());
+            }
+            onSave.run();
+            return added;
+        }
+
+        @Override
+        public boolean update(DidDocument document) {
+            return documents.replace(document.getId(), document) != null;
+        }
+
+        @Override
+        public void saveAll(Collection<DidDocument> documents) {
+            documents.forEach(this::save);
+        }
+
+        @Override
+        public DidDocument getLatest() {
+            return order.isEmpty() ? null : documents.get(order.get(order.size() - 1));
+        }
+
+        @Override
+        public DidDocument forId(String did) {
+            return documents.get(did);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.registrationservice.crawler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    @Test
+    void acquire_spacesOutRequests() throws InterruptedException {
+        var limiter = new RateLimiter(20);
+        var executor = Executors.newFixedThreadPool(4);
+
+        var start = System.nanoTime();
+        for (var i = 0; i < 5; i++) {
+            executor.submit(() -> {
+                limiter.acquire();
+                return null;
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // the first request goes through immediately, the next ones 50 ms apart
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    void acquire_noLimit() throws InterruptedException {
+        var limiter = new RateLimiter(0);
+
+        var start = System.nanoTime();
+        for (var i = 0; i < 100; i++) {
+            limiter.acquire();
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(100);
+    }
+
+    @Test
+    void contextLimitsEachHostSeparately() {
+        var context = CrawlerContext.Builder.create().requestsPerSecond(10).build();
+
+        assertThat(context.getRateLimiter("ion.test")).isSameAs(context.getRateLimiter("ion.test"));
+        assertThat(context.getRateLimiter("ion.test")).isNotSameAs(context.getRateLimiter("example.com"));
+    }
+}
@@ -41,6 +41,7 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import java.security.PrivateKey;
 import java.security.cert.CertificateEncodingException;
 import java.security.interfaces.ECPrivateKey;
+import java.time.Clock;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -112,7 +113,9 @@ public class Oauth2Extension implements ServiceExtension {
 
         var tokenValidationService = new TokenValidationServiceImpl(configuration.getIdentityProviderKeyResolver(), validationRulesRegistry);
         var tokenSigner = createTokenSigner(configuration);
-        var oauth2Service = new Oauth2ServiceImpl(configuration, tokenSigner, okHttpClient, jwtDecoratorRegistry, context.getTypeManager(), tokenValidationService);
+        // the executor refreshes both the provider keys and the client credential tokens
+        executorService = Executors.newSingleThreadScheduledExecutor();
+        var oauth2Service = new Oauth2ServiceImpl(configuration, tokenSigner, okHttpClient, jwtDecoratorRegistry, context.getTypeManager(), tokenValidationService, Clock.systemUTC(), executorService);
 
         context.registerService(IdentityService.class, oauth2Service);
     }
@@ -120,7 +123,6 @@ public class Oauth2Extension implements ServiceExtension {
     @Override
     public void start() {
         providerKeyResolver.refreshKeys();
-        executorService = Executors.newSingleThreadScheduledExecutor();
         executorService.scheduleWithFixedDelay(() -> providerKeyResolver.refreshKeys(), keyRefreshInterval, keyRefreshInterval, TimeUnit.MINUTES);
     }
 
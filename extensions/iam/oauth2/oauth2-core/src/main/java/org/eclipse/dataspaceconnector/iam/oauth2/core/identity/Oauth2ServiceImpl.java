@@ -22,6 +22,8 @@ import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jose.crypto.ECDSASigner;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.FormBody;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -37,18 +39,37 @@ import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
 import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.time.Clock;
 import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Implements the OAuth2 client credentials flow and bearer token validation.
+ * <p>
+ * Obtained tokens are cached per scope until shortly before they expire. Once a token has used up most of its lifetime it
+ * is still returned, while a new one is requested in the background. Concurrent requests of a token for the same scope
+ * are collapsed into a single call to the token endpoint. The asynchronous variant calls the token endpoint without
+ * blocking the calling thread, the token validation does not perform remote calls.
  */
 public class Oauth2ServiceImpl implements IdentityService {
 
     private static final String GRANT_TYPE = "client_credentials";
     private static final String ASSERTION_TYPE = "urn:ietf:params:oauth:client-assertion-type:jwt-bearer";
     private static final String CONTENT_TYPE = "application/x-www-form-urlencoded";
+    private static final long EXPIRY_LEEWAY_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    private static final double REFRESH_RATIO = 0.8;
+    private static final long REFRESH_RETRY_MILLIS = TimeUnit.SECONDS.toMillis(5);
 
     private final Oauth2Configuration configuration;
     private final OkHttpClient httpClient;
@@ -57,6 +78,9 @@ public class Oauth2ServiceImpl implements IdentityService {
     private final JwtDecoratorRegistry jwtDecoratorRegistry;
     private final JWSAlgorithm jwsAlgorithm;
     private final TokenValidationService tokenValidationService;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
 
     /**
      * Creates a new instance of the OAuth2 Service
@@ -69,12 +93,31 @@ public class Oauth2ServiceImpl implements IdentityService {
      * @param tokenValidationService Service used for token validation
      */
     public Oauth2ServiceImpl(Oauth2Configuration configuration, JWSSigner tokenSigner, OkHttpClient client, JwtDecoratorRegistry jwtDecoratorRegistry, TypeManager typeManager, TokenValidationService tokenValidationService) {
+        this(configuration, tokenSigner, client, jwtDecoratorRegistry, typeManager, tokenValidationService, Clock.systemUTC(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new instance of the OAuth2 Service
+     *
+     * @param configuration          The configuration
+     * @param tokenSigner            A {@link JWSSigner} instance.
+     * @param client                 Http client
+     * @param jwtDecoratorRegistry   Registry containing the decorator for build the JWT
+     * @param typeManager            Type manager
+     * @param tokenValidationService Service used for token validation
+     * @param clock                  Clock used to expire the cached tokens
+     * @param refreshExecutor        Executor of the background token refreshes
+     */
+    public Oauth2ServiceImpl(Oauth2Configuration configuration, JWSSigner tokenSigner, OkHttpClient client, JwtDecoratorRegistry jwtDecoratorRegistry, TypeManager typeManager,
+                             TokenValidationService tokenValidationService, Clock clock, Executor refreshExecutor) {
         this.configuration = configuration;
         this.typeManager = typeManager;
         httpClient = client;
         this.jwtDecoratorRegistry = jwtDecoratorRegistry;
         this.tokenSigner = tokenSigner;
         this.tokenValidationService = tokenValidationService;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
 
         if (tokenSigner instanceof ECDSASigner) {
             jwsAlgorithm = JWSAlgorithm.ES256;
@@ -85,6 +128,28 @@ public class Oauth2ServiceImpl implements IdentityService {
 
     @Override
     public Result<TokenRepresentation> obtainClientCredentials(String scope) {
+        return tokens.computeIfAbsent(scope, CachedToken::new).get();
+    }
+
+    @Override
+    public CompletableFuture<Result<TokenRepresentation>> obtainClientCredentialsAsync(String scope) {
+        return tokens.computeIfAbsent(scope, CachedToken::new).getAsync();
+    }
+
+    @Override
+    public Result<ClaimToken> verifyJwtToken(TokenRepresentation tokenRepresentation) {
+        return tokenValidationService.validate(tokenRepresentation);
+    }
+
+    private Result<TokenRepresentation> requestToken(String scope) {
+        try (Response response = newTokenCall(scope).execute()) {
+            return toTokenRepresentation(response);
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private Call newTokenCall(String scope) {
         String assertion = buildJwt();
 
         RequestBody requestBody = new FormBody.Builder()
@@ -95,34 +160,28 @@ public class Oauth2ServiceImpl implements IdentityService {
                 .build();
 
         Request request = new Request.Builder().url(configuration.getTokenUrl()).addHeader("Content-Type", CONTENT_TYPE).post(requestBody).build();
+        return httpClient.newCall(request);
+    }
 
-        try (Response response = httpClient.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                try (var body = response.body()) {
-                    String message = body == null ? "<empty body>" : body.string();
-                    return Result.failure(message);
-                }
-            }
-
-            ResponseBody responseBody = response.body();
-            if (responseBody == null) {
-                return Result.failure("<empty token body>");
+    private Result<TokenRepresentation> toTokenRepresentation(Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            try (var body = response.body()) {
+                String message = body == null ? "<empty body>" : body.string();
+                return Result.failure(message);
             }
+        }
 
-            String responsePayload = responseBody.string();
-            LinkedHashMap<String, Object> deserialized = typeManager.readValue(responsePayload, LinkedHashMap.class);
-            String token = (String) deserialized.get("access_token");
-            long expiresIn = ((Integer) deserialized.get("expires_in")).longValue();
-            TokenRepresentation tokenRepresentation = TokenRepresentation.Builder.newInstance().token(token).expiresIn(expiresIn).build();
-            return Result.success(tokenRepresentation);
-        } catch (IOException e) {
-            throw new EdcException(e);
+        ResponseBody responseBody = response.body();
+        if (responseBody == null) {
+            return Result.failure("<empty token body>");
         }
-    }
 
-    @Override
-    public Result<ClaimToken> verifyJwtToken(TokenRepresentation tokenRepresentation) {
-        return tokenValidationService.validate(tokenRepresentation);
+        String responsePayload = responseBody.string();
+        LinkedHashMap<String, Object> deserialized = typeManager.readValue(responsePayload, LinkedHashMap.class);
+        String token = (String) deserialized.get("access_token");
+        var expiresIn = deserialized.get("expires_in") instanceof Number ? ((Number) deserialized.get("expires_in")).longValue() : 0;
+        TokenRepresentation tokenRepresentation = TokenRepresentation.Builder.newInstance().token(token).expiresIn(expiresIn).build();
+        return Result.success(tokenRepresentation);
     }
 
     private String buildJwt() {
@@ -137,4 +196,167 @@ public class Oauth2ServiceImpl implements IdentityService {
             throw new EdcException(e);
         }
     }
+
+    /**
+     * The token of a scope. A token without expiration, or expiring within the leeway, is not reused.
+     */
+    private class CachedToken {
+        private final String scope;
+        private volatile Token current;
+        private CompletableFuture<Result<TokenRepresentation>> inFlight;
+
+        CachedToken(String scope) {
+            this.scope = scope;
+        }
+
+        /**
+         * Returns the cached token, or requests a new one in the calling thread.
+         */
+        Result<TokenRepresentation> get() {
+            try {
+                return get(this::request).join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof EdcException ? (EdcException) e.getCause() : new EdcException(e.getCause());
+            }
+        }
+
+        /**
+         * Returns the cached token, or requests a new one without blocking the calling thread.
+         */
+        CompletableFuture<Result<TokenRepresentation>> getAsync() {
+            return get(this::enqueueRequest);
+        }
+
+        private CompletableFuture<Result<TokenRepresentation>> get(Consumer<CompletableFuture<Result<TokenRepresentation>>> requester) {
+            var token = current;
+            var now = clock.millis();
+            if (token != null && now < token.expiresAt) {
+                if (now >= token.refreshAt) {
+                    refresh(this::requestInBackground);
+                }
+                return CompletableFuture.completedFuture(Result.success(token.representation(now)));
+            }
+            return refresh(requester);
+        }
+
+        /**
+         * Requests a new token, unless a request is already in flight, in which case its result is returned.
+         */
+        private CompletableFuture<Result<TokenRepresentation>> refresh(Consumer<CompletableFuture<Result<TokenRepresentation>>> requester) {
+            CompletableFuture<Result<TokenRepresentation>> future;
+            synchronized (this) {
+                if (inFlight != null) {
+                    return inFlight;
+                }
+                future = new CompletableFuture<>();
+                inFlight = future;
+            }
+            requester.accept(future);
+            return future;
+        }
+
+        private void request(CompletableFuture<Result<TokenRepresentation>> future) {
+            var requestedAt = clock.millis();
+            try {
+                received(future, requestToken(scope), requestedAt);
+            } catch (Exception e) {
+                retryLater();
+                complete(future, null, e);
+            }
+        }
+
+        private void requestInBackground(CompletableFuture<Result<TokenRepresentation>> future) {
+            try {
+                refreshExecutor.execute(() -> request(future));
+            } catch (RejectedExecutionException e) {
+                complete(future, null, e);
+            }
+        }
+
+        private void enqueueRequest(CompletableFuture<Result<TokenRepresentation>> future) {
+            var requestedAt = clock.millis();
+            try {
+                newTokenCall(scope).enqueue(new Callback() {
+                    @Override
+                    public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                        retryLater();
+                        complete(future, null, new EdcException(e));
+                    }
+
+                    @Override
+                    public void onResponse(@NotNull Call call, @NotNull Response response) {
+                        try (response) {
+                            received(future, toTokenRepresentation(response), requestedAt);
+                        } catch (IOException e) {
+                            retryLater();
+                            complete(future, null, new EdcException(e));
+                        } catch (Exception e) {
+                            retryLater();
+                            complete(future, null, e);
+                        }
+                    }
+                });
+            } catch (Exception e) {
+                retryLater();
+                complete(future, null, e);
+            }
+        }
+
+        private void received(CompletableFuture<Result<TokenRepresentation>> future, Result<TokenRepresentation> result, long requestedAt) {
+            if (result.succeeded()) {
+                current = new Token(result.getContent(), requestedAt);
+            } else {
+                retryLater();
+            }
+            complete(future, result, null);
+        }
+
+        /**
+         * Delays the next background refresh after a failure, the current token remains valid until it expires.
+         */
+        private void retryLater() {
+            var token = current;
+            if (token != null) {
+                current = token.retryAt(clock.millis() + REFRESH_RETRY_MILLIS);
+            }
+        }
+
+        private void complete(CompletableFuture<Result<TokenRepresentation>> future, Result<TokenRepresentation> result, Exception exception) {
+            synchronized (this) {
+                inFlight = null;
+            }
+            if (exception != null) {
+                future.completeExceptionally(exception);
+            } else {
+                future.complete(result);
+            }
+        }
+    }
+
+    private static class Token {
+        private final String token;
+        private final long expiresAt;
+        private final long refreshAt;
+
+        Token(TokenRepresentation representation, long requestedAt) {
+            var lifetime = TimeUnit.SECONDS.toMillis(representation.expiresIn());
+            token = representation.getToken();
+            expiresAt = requestedAt + lifetime - EXPIRY_LEEWAY_MILLIS;
+            refreshAt = requestedAt + (long) (lifetime * REFRESH_RATIO);
+        }
+
+        private Token(String token, long expiresAt, long refreshAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+
+        Token retryAt(long refreshAt) {
+            return new Token(token, expiresAt, refreshAt);
+        }
+
+        TokenRepresentation representation(long now) {
+            return TokenRepresentation.Builder.newInstance().token(token).expiresIn(TimeUnit.MILLISECONDS.toSeconds(expiresAt + EXPIRY_LEEWAY_MILLIS - now)).build();
+        }
+    }
 }
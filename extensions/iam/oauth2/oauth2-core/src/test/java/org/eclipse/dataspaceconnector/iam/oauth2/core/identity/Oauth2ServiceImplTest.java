@@ -25,6 +25,10 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.eclipse.dataspaceconnector.common.token.TokenValidationServiceImpl;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.Oauth2Configuration;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.jwt.JwtDecoratorRegistryImpl;
@@ -36,9 +40,21 @@ import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.InterruptedIOException;
+import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.common.testfixtures.TestUtils.testOkHttpClient;
@@ -56,6 +72,10 @@ class Oauth2ServiceImplTest {
 
     private Oauth2ServiceImpl authService;
     private JWSSigner jwsSigner;
+    private Oauth2Configuration configuration;
+    private TokenValidationServiceImpl tokenValidationService;
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+    private final AtomicLong now = new AtomicLong(1_000_000);
 
     @BeforeEach
     void setUp() throws JOSEException {
@@ -66,7 +86,7 @@ class Oauth2ServiceImplTest {
         var privateKeyResolverMock = mock(PrivateKeyResolver.class);
         var certificateResolverMock = mock(CertificateResolver.class);
         when(publicKeyResolverMock.resolveKey(anyString())).thenReturn(testKey.toPublicKey());
-        var configuration = Oauth2Configuration.Builder.newInstance()
+        configuration = Oauth2Configuration.Builder.newInstance()
                 .tokenUrl(TOKEN_URL)
                 .clientId(CLIENT_ID)
                 .privateKeyAlias(PRIVATE_KEY_ALIAS)
@@ -78,7 +98,7 @@ class Oauth2ServiceImplTest {
                 .build();
 
         var validationRulesRegistry = new Oauth2ValidationRulesRegistryImpl(configuration);
-        var tokenValidationService = new TokenValidationServiceImpl(publicKeyResolverMock, validationRulesRegistry);
+        tokenValidationService = new TokenValidationServiceImpl(publicKeyResolverMock, validationRulesRegistry);
 
         authService = new Oauth2ServiceImpl(configuration, jwsSigner, testOkHttpClient(), new JwtDecoratorRegistryImpl(), new TypeManager(), tokenValidationService);
     }
@@ -133,6 +153,112 @@ class Oauth2ServiceImplTest {
         assertThat(result.getContent().getClaims()).hasSize(3).containsKeys("aud", "nbf", "exp");
     }
 
+    @Test
+    void obtainClientCredentials_cachesTokenPerScope() {
+        var service = createCachingService(Runnable::run);
+
+        assertThat(service.obtainClientCredentials("scope1").getContent().getToken()).isEqualTo("token-1");
+        assertThat(service.obtainClientCredentials("scope1").getContent().getToken()).isEqualTo("token-1");
+        assertThat(service.obtainClientCredentials("scope2").getContent().getToken()).isEqualTo("token-2");
+        assertThat(tokenRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void obtainClientCredentials_expiredToken_requestsNewToken() {
+        var service = createCachingService(Runnable::run);
+
+        service.obtainClientCredentials("scope");
+        now.addAndGet(TimeUnit.SECONDS.toMillis(100));
+
+        assertThat(service.obtainClientCredentials("scope").getContent().getToken()).isEqualTo("token-2");
+        assertThat(tokenRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void obtainClientCredentials_tokenNearExpiry_refreshesInBackground() {
+        var refreshes = new ArrayList<Runnable>();
+        var service = createCachingService(refreshes::add);
+
+        service.obtainClientCredentials("scope");
+        now.addAndGet(TimeUnit.SECONDS.toMillis(85));
+
+        assertThat(service.obtainClientCredentials("scope").getContent().getToken()).isEqualTo("token-1");
+        assertThat(service.obtainClientCredentials("scope").getContent().getToken()).isEqualTo("token-1");
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).run();
+
+        assertThat(service.obtainClientCredentials("scope").getContent().getToken()).isEqualTo("token-2");
+        assertThat(tokenRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void obtainClientCredentials_concurrentRequests_requestTokenOnce() throws Exception {
+        var latch = new CountDownLatch(1);
+        var service = createCachingService(Runnable::run, latch);
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var results = IntStream.range(0, 4)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> service.obtainClientCredentials("scope"), executor))
+                    .collect(Collectors.toList());
+            Thread.sleep(100);
+            latch.countDown();
+
+            for (var result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getContent().getToken()).isEqualTo("token-1");
+            }
+            assertThat(tokenRequests.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void obtainClientCredentialsAsync_doesNotBlockCaller() throws Exception {
+        var latch = new CountDownLatch(1);
+        var service = createCachingService(Runnable::run, latch);
+
+        var first = service.obtainClientCredentialsAsync("scope");
+        var second = service.obtainClientCredentialsAsync("scope");
+
+        assertThat(first).isNotDone();
+        latch.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getContent().getToken()).isEqualTo("token-1");
+        assertThat(second.get(5, TimeUnit.SECONDS).getContent().getToken()).isEqualTo("token-1");
+        assertThat(service.obtainClientCredentialsAsync("scope")).isCompletedWithValueMatching(r -> r.getContent().getToken().equals("token-1"));
+        assertThat(tokenRequests.get()).isEqualTo(1);
+    }
+
+    private Oauth2ServiceImpl createCachingService(Executor refreshExecutor) {
+        return createCachingService(refreshExecutor, new CountDownLatch(0));
+    }
+
+    /**
+     * Creates a service whose token endpoint issues tokens valid for 100 seconds, once the latch is released.
+     */
+    private Oauth2ServiceImpl createCachingService(Executor refreshExecutor, CountDownLatch latch) {
+        var client = testOkHttpClient().newBuilder()
+                .addInterceptor(chain -> {
+                    try {
+                        latch.await();
+                    } catch (InterruptedException e) {
+                        throw new InterruptedIOException();
+                    }
+                    var body = "{\"access_token\": \"token-" + tokenRequests.incrementAndGet() + "\", \"expires_in\": 100}";
+                    return new Response.Builder()
+                            .request(chain.request())
+                            .protocol(Protocol.HTTP_1_1)
+                            .code(200)
+                            .message("")
+                            .body(ResponseBody.create(body, MediaType.get("application/json")))
+                            .build();
+                })
+                .build();
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(i -> now.get());
+        return new Oauth2ServiceImpl(configuration, jwsSigner, client, new JwtDecoratorRegistryImpl(), new TypeManager(), tokenValidationService, clock, refreshExecutor);
+    }
+
     private RSAKey testKey() throws JOSEException {
         return new RSAKeyGenerator(2048)
                 .keyUse(KeyUse.SIGNATURE) // indicate the intended use of the key
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.metadata.memory;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Secondary index of the {@link InMemoryAssetIndex} that maps the values of an asset property to the ids of the assets
+ * that have them.
+ * <p>
+ * A hash index serves equality lookups only, a sorted index additionally keeps the values in their natural order so that
+ * it can serve queries sorted by the indexed property. Values of different types are ordered by their class name.
+ * <p>
+ * The index is updated by the {@link InMemoryAssetIndex} while holding its write lock, reads are served by concurrent
+ * collections so that the streams returned by the asset index can be consumed after the lock has been released.
+ */
+public class AssetPropertyIndex {
+    private static final Comparator<Object> VALUE_ORDER = AssetPropertyIndex::compareValues;
+
+    private final String property;
+    private final boolean sorted;
+    private final Map<Object, Set<String>> entries;
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+    private AssetPropertyIndex(String property, boolean sorted) {
+        this.property = property;
+        this.sorted = sorted;
+        entries = sorted ? new ConcurrentSkipListMap<>(VALUE_ORDER) : new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates an index that serves equality lookups on the given property.
+     */
+    public static AssetPropertyIndex hash(String property) {
+        return new AssetPropertyIndex(property, false);
+    }
+
+    /**
+     * Creates an index that serves equality lookups and ordering on the given property.
+     */
+    public static AssetPropertyIndex sorted(String property) {
+        return new AssetPropertyIndex(property, true);
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Returns the ids of the assets whose property is equal to the given value.
+     */
+    public Set<String> get(Object value) {
+        var ids = value != null ? entries.get(value) : null;
+        return ids != null ? ids : Set.of();
+    }
+
+    /**
+     * Returns the ids of the assets whose property is equal to one of the given values.
+     */
+    public Set<String> getAny(Collection<?> values) {
+        var result = ConcurrentHashMap.<String>newKeySet();
+        values.forEach(value -> result.addAll(get(value)));
+        return result;
+    }
+
+    /**
+     * Returns the ids of all the indexed assets ordered by the value of the property. Must only be called on sorted indexes.
+     */
+    public Stream<String> ordered(boolean ascending) {
+        if (!sorted) {
+            throw new IllegalStateException("Index on " + property + " is not sorted");
+        }
+        var map = (ConcurrentSkipListMap<Object, Set<String>>) entries;
+        return (ascending ? map : map.descendingMap()).values().stream().flatMap(Set::stream);
+    }
+
+    /**
+     * Returns the number of indexed assets, that are the assets that have the property.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    void add(Asset asset) {
+        var value = asset.getProperty(property);
+        if (value == null) {
+            return;
+        }
+        values.put(asset.getId(), value);
+        entries.computeIfAbsent(value, v -> ConcurrentHashMap.newKeySet()).add(asset.getId());
+    }
+
+    void remove(Asset asset) {
+        var value = values.remove(asset.getId());
+        if (value == null) {
+            return;
+        }
+        entries.computeIfPresent(value, (v, ids) -> {
+            ids.remove(asset.getId());
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compareValues(Object value1, Object value2) {
+        if (value1.getClass() != value2.getClass()) {
+            return value1.getClass().getName().compareTo(value2.getClass().getName());
+        }
+        if (value1 instanceof Comparable) {
+            return ((Comparable) value1).compareTo(value2);
+        }
+        return value1.toString().compareTo(value2.toString());
+    }
+}
@@ -20,16 +20,22 @@ import org.eclipse.dataspaceconnector.dataloading.AssetLoader;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
+import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
@@ -39,16 +45,32 @@ import java.util.stream.Stream;
 import static java.lang.String.format;
 
 /**
- * An ephemeral asset index, that is also a DataAddressResolver and an AssetLoader
+ * An ephemeral asset index, that is also a DataAddressResolver and an AssetLoader.
+ * <p>
+ * Assets are looked up by id directly. Queries use the configured {@link AssetPropertyIndex}es for "=" and "in" criteria
+ * and only scan the whole index when none of the criteria is on an indexed property.
  */
 public class InMemoryAssetIndex implements AssetIndex, DataAddressResolver, AssetLoader {
     private final Map<String, Asset> cache = new ConcurrentHashMap<>();
     private final Map<String, DataAddress> dataAddresses = new ConcurrentHashMap<>();
+    private final Map<String, AssetPropertyIndex> indexes = new HashMap<>();
     private final AssetPredicateConverter predicateFactory;
     private final ReentrantReadWriteLock lock;
 
     public InMemoryAssetIndex(AssetPredicateConverter predicateFactory) {
+        this(predicateFactory, List.of());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param predicateFactory converts the query criteria into predicates.
+     * @param indexes secondary indexes used to serve "=" and "in" criteria, and sorting on sorted indexes. Criteria on
+     *         properties that are not indexed are evaluated by scanning the candidate assets.
+     */
+    public InMemoryAssetIndex(AssetPredicateConverter predicateFactory, List<AssetPropertyIndex> indexes) {
         this.predicateFactory = predicateFactory;
+        indexes.forEach(index -> this.indexes.merge(index.getProperty(), index, (i1, i2) -> i1.isSorted() ? i1 : i2));
         //fair locks guarantee strong consistency since all waiting threads are processed in order of waiting time
         lock = new ReentrantReadWriteLock(true);
     }
@@ -67,23 +89,34 @@ public class InMemoryAssetIndex implements AssetIndex, DataAddressResolver, Asse
 
     @Override
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
-        // first filter...
         var expr = querySpec.getFilterExpression();
-        Stream<Asset> result;
 
         lock.readLock().lock();
         try {
-            if (CollectionUtil.isNotEmpty(expr)) {
-                // convert all the criteria into predicates since we're in memory anyway, collate all predicates into one and
-                // apply it to the stream
-                var rootPredicate = expr.stream().map(predicateFactory::convert).reduce(x -> true, Predicate::and);
-                result = filterByPredicate(cache, rootPredicate);
+            // convert all the criteria into predicates since we're in memory anyway, collate all predicates into one and
+            // apply it to the stream
+            Predicate<Asset> rootPredicate = CollectionUtil.isNotEmpty(expr) ?
+                    expr.stream().map(predicateFactory::convert).reduce(x -> true, Predicate::and) : x -> true;
+            var candidates = CollectionUtil.isNotEmpty(expr) ? lookup(expr) : null;
+
+            var sortField = querySpec.getSortField();
+            var ascending = querySpec.getSortOrder() == SortOrder.ASC;
+            var sortIndex = sortField != null ? indexes.get(sortField) : null;
+
+            // first filter...
+            Stream<Asset> result;
+            if (candidates != null) {
+                // the indexes narrowed down the candidates, only those are checked against the whole filter
+                result = candidates.stream().map(cache::get).filter(Objects::nonNull).filter(rootPredicate);
+            } else if (sortIndex != null && sortIndex.isSorted() && sortIndex.size() == cache.size()) {
+                // every asset has the sort field, so the sorted index can provide them already in order
+                return sortIndex.ordered(ascending).map(cache::get).filter(Objects::nonNull).filter(rootPredicate)
+                        .skip(querySpec.getOffset()).limit(querySpec.getLimit());
             } else {
-                result = cache.values().stream();
+                result = filterByPredicate(cache, rootPredicate);
             }
 
             // ... then sort
-            var sortField = querySpec.getSortField();
             if (sortField != null) {
                 result = result.sorted((asset1, asset2) -> {
                     var f1 = asComparable(asset1.getProperty(sortField));
@@ -91,7 +124,7 @@ public class InMemoryAssetIndex implements AssetIndex, DataAddressResolver, Asse
                     if (f1 == null || f2 == null) {
                         throw new IllegalArgumentException(format("Cannot sort by field %s, it does not exist on one or more Assets", sortField));
                     }
-                    return querySpec.getSortOrder() == SortOrder.ASC ? f1.compareTo(f2) : f2.compareTo(f1);
+                    return ascending ? f1.compareTo(f2) : f2.compareTo(f1);
                 });
             }
 
@@ -104,15 +137,7 @@ public class InMemoryAssetIndex implements AssetIndex, DataAddressResolver, Asse
 
     @Override
     public Asset findById(String assetId) {
-        Predicate<Asset> predicate = (asset) -> asset.getId().equals(assetId);
-        List<Asset> assets;
-        lock.readLock().lock();
-        try {
-            assets = filterByPredicate(cache, predicate).collect(Collectors.toList());
-        } finally {
-            lock.readLock().unlock();
-        }
-        return assets.isEmpty() ? null : assets.get(0);
+        return assetId != null ? cache.get(assetId) : null;
     }
 
     @Override
@@ -164,10 +189,62 @@ public class InMemoryAssetIndex implements AssetIndex, DataAddressResolver, Asse
         String id = asset.getId();
         Objects.requireNonNull(asset, "asset");
         Objects.requireNonNull(id, "asset.getId()");
-        cache.put(id, asset);
+        var previous = cache.put(id, asset);
+        if (previous != null) {
+            indexes.values().forEach(index -> index.remove(previous));
+        }
+        indexes.values().forEach(index -> index.add(asset));
         dataAddresses.put(id, address);
     }
 
+    /**
+     * Returns the ids of the assets that satisfy all the criteria that can be served by an index, or null if no criterion
+     * can be served by an index. Criteria on the asset id are served by the primary map.
+     */
+    private @Nullable Set<String> lookup(List<Criterion> criteria) {
+        var lookups = criteria.stream()
+                .map(this::lookup)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingInt(Set::size))
+                .collect(Collectors.toList());
+        if (lookups.isEmpty()) {
+            return null;
+        }
+
+        var result = new LinkedHashSet<>(lookups.get(0));
+        for (int i = 1; i < lookups.size() && !result.isEmpty(); i++) {
+            result.retainAll(lookups.get(i));
+        }
+        return result;
+    }
+
+    private @Nullable Set<String> lookup(Criterion criterion) {
+        if (!(criterion.getOperandLeft() instanceof String)) {
+            return null;
+        }
+        var property = (String) criterion.getOperandLeft();
+        var index = indexes.get(property);
+        if (index == null && !Asset.PROPERTY_ID.equals(property)) {
+            return null;
+        }
+
+        Collection<?> values;
+        if ("=".equals(criterion.getOperator())) {
+            values = criterion.getOperandRight() != null ? List.of(criterion.getOperandRight()) : List.of();
+        } else if ("in".equalsIgnoreCase(criterion.getOperator()) && criterion.getOperandRight() instanceof String) {
+            // same parsing as the predicate converter
+            var list = ((String) criterion.getOperandRight()).replace("(", "").replace(")", "").replace(" ", "");
+            values = List.of(list.split(","));
+        } else {
+            return null;
+        }
+
+        if (index != null) {
+            return index.getAny(values);
+        }
+        return values.stream().filter(cache::containsKey).map(String.class::cast).collect(Collectors.toSet());
+    }
+
     private Stream<Asset> filterByPredicate(Map<String, Asset> assets, Predicate<Asset> predicate) {
         return assets.values().stream().filter(predicate);
     }
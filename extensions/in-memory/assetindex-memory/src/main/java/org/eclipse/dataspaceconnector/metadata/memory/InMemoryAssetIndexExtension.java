@@ -15,15 +15,34 @@
 package org.eclipse.dataspaceconnector.metadata.memory;
 
 import org.eclipse.dataspaceconnector.dataloading.AssetLoader;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Provides({ AssetIndex.class, DataAddressResolver.class, AssetLoader.class })
 public class InMemoryAssetIndexExtension implements ServiceExtension {
 
+    /**
+     * Comma separated list of the asset properties that get a hash index.
+     */
+    @EdcSetting
+    static final String HASH_INDEXES_SETTING = "edc.assetindex.memory.indexes.hash";
+
+    /**
+     * Comma separated list of the asset properties that get a sorted index.
+     */
+    @EdcSetting
+    static final String SORTED_INDEXES_SETTING = "edc.assetindex.memory.indexes.sorted";
+
     @Override
     public String name() {
         return "In-Memory Asset Index";
@@ -31,9 +50,22 @@ public class InMemoryAssetIndexExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var service = new InMemoryAssetIndex(new AssetPredicateConverter());
+        var indexes = new ArrayList<AssetPropertyIndex>();
+        indexes.addAll(indexes(context, HASH_INDEXES_SETTING, AssetPropertyIndex::hash));
+        indexes.addAll(indexes(context, SORTED_INDEXES_SETTING, AssetPropertyIndex::sorted));
+
+        var service = new InMemoryAssetIndex(new AssetPredicateConverter(), indexes);
         context.registerService(AssetIndex.class, service);
         context.registerService(AssetLoader.class, service);
         context.registerService(DataAddressResolver.class, service);
     }
+
+    private List<AssetPropertyIndex> indexes(ServiceExtensionContext context, String setting, Function<String, AssetPropertyIndex> factory) {
+        var properties = context.getSetting(setting, "");
+        return Arrays.stream(properties.split(","))
+                .map(String::trim)
+                .filter(property -> !property.isEmpty())
+                .map(factory)
+                .collect(Collectors.toList());
+    }
 }
@@ -253,6 +253,67 @@ class InMemoryAssetIndexTest {
         assertThat(index.queryAssets(spec)).containsAll(assets);
     }
 
+    @Test
+    void queryAssets_withHashIndex() {
+        index = new InMemoryAssetIndex(new AssetPredicateConverter(), List.of(AssetPropertyIndex.hash(Asset.PROPERTY_NAME)));
+        var testAsset1 = createAsset("foobar");
+        var testAsset2 = createAsset("barbaz", "id2", "contentType");
+        var testAsset3 = createAsset("barbaz", "id3", "otherType");
+        index.accept(testAsset1, createDataAddress(testAsset1));
+        index.accept(testAsset2, createDataAddress(testAsset2));
+        index.accept(testAsset3, createDataAddress(testAsset3));
+
+        var assets = index.queryAssets(AssetSelectorExpression.Builder.newInstance()
+                .whenEquals(Asset.PROPERTY_NAME, "barbaz")
+                .whenEquals(Asset.PROPERTY_CONTENT_TYPE, "contentType")
+                .build());
+        assertThat(assets).containsExactly(testAsset2);
+
+        var inAssets = index.queryAssets(AssetSelectorExpression.Builder.newInstance()
+                .constraint(Asset.PROPERTY_NAME, "IN", "(foobar, unknown)")
+                .build());
+        assertThat(inAssets).containsExactly(testAsset1);
+    }
+
+    @Test
+    void queryAssets_withHashIndex_shouldReflectReplacedAsset() {
+        index = new InMemoryAssetIndex(new AssetPredicateConverter(), List.of(AssetPropertyIndex.hash(Asset.PROPERTY_NAME)));
+        var testAsset = createAsset("foobar", "id1");
+        index.accept(testAsset, createDataAddress(testAsset));
+        var replacement = createAsset("barbaz", "id1");
+        index.accept(replacement, createDataAddress(replacement));
+
+        assertThat(index.queryAssets(AssetSelectorExpression.Builder.newInstance().whenEquals(Asset.PROPERTY_NAME, "foobar").build())).isEmpty();
+        assertThat(index.queryAssets(AssetSelectorExpression.Builder.newInstance().whenEquals(Asset.PROPERTY_NAME, "barbaz").build()))
+                .containsExactly(replacement);
+    }
+
+    @Test
+    void queryAssets_byId() {
+        var testAsset1 = createAsset("foobar", "id1");
+        var testAsset2 = createAsset("foobar", "id2");
+        index.accept(testAsset1, createDataAddress(testAsset1));
+        index.accept(testAsset2, createDataAddress(testAsset2));
+
+        var assets = index.queryAssets(AssetSelectorExpression.Builder.newInstance()
+                .constraint(Asset.PROPERTY_ID, "in", "(id2, id3)")
+                .build());
+
+        assertThat(assets).containsExactly(testAsset2);
+    }
+
+    @Test
+    void findAll_withSortedIndex() {
+        index = new InMemoryAssetIndex(new AssetPredicateConverter(), List.of(AssetPropertyIndex.sorted(Asset.PROPERTY_NAME)));
+        IntStream.range(0, 10)
+                .mapToObj(i -> createAsset("test-asset" + i, "id" + i))
+                .forEach(a -> index.accept(a, createDataAddress(a)));
+
+        var spec = QuerySpec.Builder.newInstance().sortField(Asset.PROPERTY_NAME).sortOrder(SortOrder.DESC).offset(2).limit(3).build();
+
+        assertThat(index.queryAssets(spec)).extracting(Asset::getName).containsExactly("test-asset7", "test-asset6", "test-asset5");
+    }
+
     @NotNull
     private Asset createAsset(String name) {
         return createAsset(name, UUID.randomUUID().toString());
@@ -38,7 +38,7 @@ public class InMemoryDidDocumentStore implements DidStore {
     }
 
     @Override
-    public boolean save(DidDocument entity) {
+    public synchronized boolean save(DidDocument entity) {
         if (memoryDb.stream().noneMatch(e -> e.getPayload().getId().equals(entity.getId()))) {
             memoryDb.add(new Entity<>(entity));
             return true;
@@ -46,6 +46,19 @@ public class InMemoryDidDocumentStore implements DidStore {
         return false;
     }
 
+    @Override
+    public synchronized boolean update(DidDocument document) {
+        for (int i = 0; i < memoryDb.size(); i++) {
+            var entity = memoryDb.get(i);
+            if (entity.getPayload().getId().equals(document.getId())) {
+                // keeps the creation time, so that the position of the document does not change
+                memoryDb.set(i, new Entity<>(document, entity.getCreateTime()));
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public DidDocument getLatest() {
         if (memoryDb.isEmpty()) {
@@ -70,11 +83,16 @@ public class InMemoryDidDocumentStore implements DidStore {
     }
 
     private static class Entity<T> implements Comparable<Entity<T>> {
-        private final Instant createTime = Instant.now();
+        private final Instant createTime;
         private final T payload;
 
         public Entity(T payload) {
+            this(payload, Instant.now());
+        }
+
+        public Entity(T payload, Instant createTime) {
             this.payload = payload;
+            this.createTime = createTime;
         }
 
         public T getPayload() {
@@ -86,6 +86,32 @@ class InMemoryDidDocumentStoreTest {
         assertThat(store.getAll(100)).hasSize(1).containsOnly(did);
     }
 
+    @Test
+    void update() {
+        var did = createDidDocument();
+        var other = createDidDocument();
+        store.save(did);
+        store.save(other);
+        var updated = DidDocument.Builder.newInstance()
+                .id(did.getId())
+                .verificationMethod(Collections.singletonList(createVerificationMethod()))
+                .build();
+
+        assertThat(store.update(updated)).isTrue();
+
+        assertThat(store.forId(did.getId())).isSameAs(updated);
+        assertThat(store.getAll(100)).containsExactly(updated, other);
+        assertThat(store.getLatest()).isEqualTo(other);
+    }
+
+    @Test
+    void update_whenNotExist() {
+        var did = createDidDocument();
+
+        assertThat(store.update(did)).isFalse();
+        assertThat(store.getAll(100)).isEmpty();
+    }
+
     @Test
     void getLatest() throws InterruptedException {
         var did1 = createDidDocument();
@@ -14,7 +14,7 @@
 
 package org.eclipse.dataspaceconnector.negotiation.store.memory;
 
-import org.eclipse.dataspaceconnector.common.concurrency.LockManager;
+import org.eclipse.dataspaceconnector.common.collection.StateIndex;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
@@ -24,15 +24,10 @@ import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.Cont
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
@@ -40,105 +35,117 @@ import static org.eclipse.dataspaceconnector.common.reflection.ReflectionUtil.pr
 
 /**
  * An in-memory, threadsafe process store.
+ * Negotiations are indexed by state and state timestamp in a {@link StateIndex}, so that state transitions and
+ * {@link #nextForState(int, int)} do not need to scan or sort all the stored negotiations, and reads never block on writes.
+ * The stored entities are snapshots that are never modified: every write stores a copy and every read hands out a copy.
+ * Copies are shallow, since the nested state of an entity is replaced rather than modified in place, so they are cheap.
  * This implementation is intended for testing purposes only.
  */
 public class InMemoryContractNegotiationStore implements ContractNegotiationStore {
-    private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
-    private final Map<String, ContractNegotiation> processesById = new HashMap<>();
-    private final Map<String, ContractNegotiation> processesByCorrelationId = new HashMap<>();
-    private final Map<String, ContractNegotiation> contractAgreements = new HashMap<>();
-    private final Map<Integer, List<ContractNegotiation>> stateCache = new HashMap<>();
+    private final StateIndex<ContractNegotiation> negotiations = new StateIndex<>(ContractNegotiation::getId, ContractNegotiation::getState, ContractNegotiation::getStateTimestamp);
+    private final Map<String, String> negotiationIdsByCorrelationId = new ConcurrentHashMap<>();
+    private final Map<String, String> negotiationIdsByAgreementId = new ConcurrentHashMap<>();
 
     @Override
     public ContractNegotiation find(String id) {
-        return lockManager.readLock(() -> processesById.get(id));
+        var negotiation = negotiations.get(id);
+        return negotiation != null ? negotiation.copy() : null;
     }
 
     @Override
     public @Nullable ContractNegotiation findForCorrelationId(String correlationId) {
-        var process = processesByCorrelationId.get(correlationId);
-        var processId = process != null ? process.getId() : null;
-        return find(processId);
+        var negotiationId = negotiationIdsByCorrelationId.get(correlationId);
+        return negotiationId != null ? find(negotiationId) : null;
     }
 
     @Override
     public @Nullable ContractAgreement findContractAgreement(String contractId) {
-        var negotiation = contractAgreements.get(contractId);
+        var negotiationId = negotiationIdsByAgreementId.get(contractId);
+        var negotiation = negotiationId != null ? negotiations.get(negotiationId) : null;
         return negotiation != null ? negotiation.getContractAgreement() : null;
     }
 
     @Override
     public void save(ContractNegotiation negotiation) {
-        lockManager.writeLock(() -> {
-            negotiation.updateStateTimestamp();
-            delete(negotiation.getId());
-            ContractNegotiation internalCopy = negotiation.copy();
-            processesById.put(negotiation.getId(), internalCopy);
-            processesByCorrelationId.put(negotiation.getCorrelationId(), internalCopy);
-            var agreement = internalCopy.getContractAgreement();
-            if (agreement != null) {
-                contractAgreements.put(agreement.getId(), internalCopy);
+        negotiation.updateStateTimestamp();
+        var internalCopy = negotiation.copy();
+        var previous = negotiations.put(internalCopy);
+        var correlationId = internalCopy.getCorrelationId();
+        if (correlationId != null) {
+            negotiationIdsByCorrelationId.put(correlationId, internalCopy.getId());
+        }
+        var agreementId = agreementId(internalCopy);
+        if (agreementId != null) {
+            negotiationIdsByAgreementId.put(agreementId, internalCopy.getId());
+        }
+        if (previous != null) {
+            if (previous.getCorrelationId() != null && !previous.getCorrelationId().equals(correlationId)) {
+                negotiationIdsByCorrelationId.remove(previous.getCorrelationId(), previous.getId());
             }
-            stateCache.computeIfAbsent(negotiation.getState(), k -> new ArrayList<>()).add(internalCopy);
-            return null;
-        });
+            var previousAgreementId = agreementId(previous);
+            if (previousAgreementId != null && !previousAgreementId.equals(agreementId)) {
+                negotiationIdsByAgreementId.remove(previousAgreementId, previous.getId());
+            }
+        }
     }
 
     @Override
     public void delete(String processId) {
-        lockManager.writeLock(() -> {
-            ContractNegotiation process = processesById.remove(processId);
-            if (process != null) {
-                var tempCache = new HashMap<Integer, List<ContractNegotiation>>();
-                stateCache.forEach((key, value) -> {
-                    var list = value.stream().filter(p -> !p.getId().equals(processId)).collect(Collectors.toCollection(ArrayList::new));
-                    tempCache.put(key, list);
-                });
-                stateCache.clear();
-                stateCache.putAll(tempCache);
-                processesByCorrelationId.remove(process.getCorrelationId());
-
-                if (process.getContractAgreement() != null) {
-                    contractAgreements.remove(process.getContractAgreement().getId());
-                }
-            }
-            return null;
-        });
+        var negotiation = negotiations.remove(processId);
+        if (negotiation != null) {
+            removeSecondaryIndexes(negotiation);
+        }
     }
 
     @Override
     public @NotNull List<ContractNegotiation> nextForState(int state, int max) {
-        return lockManager.readLock(() -> {
-            var set = stateCache.get(state);
-            return set == null ? Collections.emptyList() : set.stream()
-                    .sorted(Comparator.comparingLong(ContractNegotiation::getStateTimestamp)) //order by state timestamp, oldest first
-                    .limit(max)
-                    .map(ContractNegotiation::copy)
-                    .collect(toList());
-        });
+        return negotiations.nextForState(state, max).stream()
+                .map(ContractNegotiation::copy)
+                .collect(toList());
+    }
+
+    @Override
+    public @NotNull List<ContractNegotiation> nextForState(int state, int max, int partition, int partitions) {
+        return negotiations.nextForState(state, max, id -> Math.floorMod(id.hashCode(), partitions) == partition).stream()
+                .map(ContractNegotiation::copy)
+                .collect(toList());
     }
 
     @Override
     public Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec) {
-        return lockManager.readLock(() -> {
-            Stream<ContractNegotiation> negotiationStream = processesById.values().stream();
-            // filter
-            var andPredicate = querySpec.getFilterExpression().stream().map(this::toPredicate).reduce(x -> true, Predicate::and);
-            negotiationStream = negotiationStream.filter(andPredicate);
-
-            // sort
-            var sortField = querySpec.getSortField();
-
-            if (sortField != null) {
-                var comparator = propertyComparator(querySpec.getSortOrder() == SortOrder.ASC, sortField);
-                negotiationStream = negotiationStream.sorted(comparator);
-            }
+        Stream<ContractNegotiation> negotiationStream = negotiations.values();
+        // filter
+        var andPredicate = querySpec.getFilterExpression().stream().map(this::toPredicate).reduce(x -> true, Predicate::and);
+        negotiationStream = negotiationStream.filter(andPredicate);
 
-            //limit
-            negotiationStream = negotiationStream.skip(querySpec.getOffset()).limit(querySpec.getLimit());
+        // sort
+        var sortField = querySpec.getSortField();
+
+        if (sortField != null) {
+            var comparator = propertyComparator(querySpec.getSortOrder() == SortOrder.ASC, sortField);
+            negotiationStream = negotiationStream.sorted(comparator);
+        }
+
+        //limit
+        negotiationStream = negotiationStream.skip(querySpec.getOffset()).limit(querySpec.getLimit());
+
+        return negotiationStream.map(ContractNegotiation::copy);
+    }
+
+    private void removeSecondaryIndexes(ContractNegotiation negotiation) {
+        if (negotiation.getCorrelationId() != null) {
+            negotiationIdsByCorrelationId.remove(negotiation.getCorrelationId(), negotiation.getId());
+        }
+        var agreementId = agreementId(negotiation);
+        if (agreementId != null) {
+            negotiationIdsByAgreementId.remove(agreementId, negotiation.getId());
+        }
+    }
 
-            return negotiationStream;
-        });
+    @Nullable
+    private String agreementId(ContractNegotiation negotiation) {
+        var agreement = negotiation.getContractAgreement();
+        return agreement != null ? agreement.getId() : null;
     }
 
     private Predicate<ContractNegotiation> toPredicate(Criterion criterion) {
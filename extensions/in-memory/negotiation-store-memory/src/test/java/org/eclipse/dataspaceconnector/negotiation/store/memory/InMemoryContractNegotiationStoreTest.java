@@ -151,6 +151,22 @@ class InMemoryContractNegotiationStoreTest {
         assertThat(processes).allMatch(p -> p.getStateTimestamp() > 0);
     }
 
+    @Test
+    void verifyNextForState_returnsNegotiationsOfPartition() {
+        for (int i = 0; i < 20; i++) {
+            ContractNegotiation negotiation = createNegotiation("test-negotiation-" + i);
+            negotiation.transitionInitial();
+            store.save(negotiation);
+        }
+
+        var partition0 = store.nextForState(ContractNegotiationStates.INITIAL.code(), 20, 0, 2);
+        var partition1 = store.nextForState(ContractNegotiationStates.INITIAL.code(), 20, 1, 2);
+
+        assertThat(partition0).isNotEmpty().allMatch(n -> Math.floorMod(n.getId().hashCode(), 2) == 0);
+        assertThat(partition1).isNotEmpty().allMatch(n -> Math.floorMod(n.getId().hashCode(), 2) == 1);
+        assertThat(partition0.size() + partition1.size()).isEqualTo(20);
+    }
+
     @Test
     void verifyNextForState_avoidsStarvation() throws InterruptedException {
         for (int i = 0; i < 10; i++) {
@@ -14,7 +14,7 @@
 
 package org.eclipse.dataspaceconnector.transfer.store.memory;
 
-import org.eclipse.dataspaceconnector.common.concurrency.LockManager;
+import org.eclipse.dataspaceconnector.common.collection.StateIndex;
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.query.SortOrder;
@@ -23,15 +23,10 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
@@ -39,102 +34,89 @@ import static org.eclipse.dataspaceconnector.common.reflection.ReflectionUtil.pr
 
 /**
  * An in-memory, threadsafe process store.
+ * Processes are indexed by state and state timestamp in a {@link StateIndex}, so that state transitions and
+ * {@link #nextForState(int, int)} do not need to scan or sort all the stored processes, and reads never block on writes.
+ * The stored entities are snapshots that are never modified: every write stores a copy and every read hands out a copy.
+ * Copies are shallow, since the nested state of an entity is replaced rather than modified in place, so they are cheap.
  * This implementation is intended for testing purposes only.
  */
 public class InMemoryTransferProcessStore implements TransferProcessStore {
-    private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
-    private final Map<String, TransferProcess> processesById = new HashMap<>();
-    private final Map<String, TransferProcess> processesByExternalId = new HashMap<>();
-    private final Map<Integer, List<TransferProcess>> stateCache = new HashMap<>();
+    private final StateIndex<TransferProcess> processes = new StateIndex<>(TransferProcess::getId, TransferProcess::getState, TransferProcess::getStateTimestamp);
+    private final Map<String, String> processIdsByExternalId = new ConcurrentHashMap<>();
 
     @Override
     public TransferProcess find(String id) {
-        return lockManager.readLock(() -> processesById.get(id));
+        var process = processes.get(id);
+        return process != null ? process.copy() : null;
     }
 
     @Override
     @Nullable
     public String processIdForTransferId(String id) {
-        var process = processesByExternalId.get(id);
-        return process != null ? process.getId() : null;
+        return processIdsByExternalId.get(id);
     }
 
     @Override
     public @NotNull List<TransferProcess> nextForState(int state, int max) {
-        return lockManager.readLock(() -> {
-            var set = stateCache.get(state);
-            return set == null ? Collections.emptyList() : set.stream()
-                    .sorted(Comparator.comparingLong(TransferProcess::getStateTimestamp)) //order by state timestamp, oldest first
-                    .limit(max)
-                    .map(TransferProcess::copy)
-                    .collect(toList());
-        });
+        return processes.nextForState(state, max).stream()
+                .map(TransferProcess::copy)
+                .collect(toList());
+    }
+
+    @Override
+    public @NotNull List<TransferProcess> nextForState(int state, int max, int partition, int partitions) {
+        return processes.nextForState(state, max, id -> Math.floorMod(id.hashCode(), partitions) == partition).stream()
+                .map(TransferProcess::copy)
+                .collect(toList());
     }
 
     @Override
     public void create(TransferProcess process) {
-        lockManager.writeLock(() -> {
-            delete(process.getId());
-            TransferProcess internalCopy = process.copy();
-            processesById.put(process.getId(), internalCopy);
-            processesByExternalId.put(process.getDataRequest().getId(), internalCopy);
-            stateCache.computeIfAbsent(process.getState(), k -> new ArrayList<>()).add(internalCopy);
-            return null;
-        });
+        save(process.copy());
     }
 
     @Override
     public void update(TransferProcess process) {
-        lockManager.writeLock(() -> {
-            process.updateStateTimestamp();
-            delete(process.getId());
-            TransferProcess internalCopy = process.copy();
-            processesByExternalId.put(process.getDataRequest().getId(), internalCopy);
-            processesById.put(process.getId(), internalCopy);
-            stateCache.computeIfAbsent(process.getState(), k -> new ArrayList<>()).add(internalCopy);
-            return null;
-        });
+        process.updateStateTimestamp();
+        save(process.copy());
     }
 
     @Override
     public void delete(String processId) {
-        lockManager.writeLock(() -> {
-            TransferProcess process = processesById.remove(processId);
-            if (process != null) {
-                var tempCache = new HashMap<Integer, List<TransferProcess>>();
-                stateCache.forEach((key, value) -> {
-                    var list = value.stream().filter(p -> !p.getId().equals(processId)).collect(Collectors.toCollection(ArrayList::new));
-                    tempCache.put(key, list);
-                });
-                stateCache.clear();
-                stateCache.putAll(tempCache);
-                processesByExternalId.remove(process.getDataRequest().getId());
-            }
-            return null;
-        });
+        var process = processes.remove(processId);
+        if (process != null) {
+            processIdsByExternalId.remove(process.getDataRequest().getId(), processId);
+        }
     }
 
     @Override
     public Stream<TransferProcess> findAll(QuerySpec querySpec) {
-        return lockManager.readLock(() -> {
-            Stream<TransferProcess> transferProcessStream = processesById.values().stream();
-            // filter
-            var andPredicate = querySpec.getFilterExpression().stream().map(this::toPredicate).reduce(x -> true, Predicate::and);
-            transferProcessStream = transferProcessStream.filter(andPredicate);
+        Stream<TransferProcess> transferProcessStream = processes.values();
+        // filter
+        var andPredicate = querySpec.getFilterExpression().stream().map(this::toPredicate).reduce(x -> true, Predicate::and);
+        transferProcessStream = transferProcessStream.filter(andPredicate);
 
-            // sort
-            var sortField = querySpec.getSortField();
+        // sort
+        var sortField = querySpec.getSortField();
 
-            if (sortField != null) {
-                var comparator = propertyComparator(querySpec.getSortOrder() == SortOrder.ASC, sortField);
-                transferProcessStream = transferProcessStream.sorted(comparator);
-            }
+        if (sortField != null) {
+            var comparator = propertyComparator(querySpec.getSortOrder() == SortOrder.ASC, sortField);
+            transferProcessStream = transferProcessStream.sorted(comparator);
+        }
 
-            //limit
-            transferProcessStream = transferProcessStream.skip(querySpec.getOffset()).limit(querySpec.getLimit());
+        //limit
+        transferProcessStream = transferProcessStream.skip(querySpec.getOffset()).limit(querySpec.getLimit());
+
+        return transferProcessStream.map(TransferProcess::copy);
+    }
 
-            return transferProcessStream;
-        });
+    private void save(TransferProcess internalCopy) {
+        var previous = processes.put(internalCopy);
+        var externalId = internalCopy.getDataRequest().getId();
+        if (previous != null && !previous.getDataRequest().getId().equals(externalId)) {
+            processIdsByExternalId.remove(previous.getDataRequest().getId(), internalCopy.getId());
+        }
+        processIdsByExternalId.put(externalId, internalCopy.getId());
     }
 
     private Predicate<TransferProcess> toPredicate(Criterion criterion) {
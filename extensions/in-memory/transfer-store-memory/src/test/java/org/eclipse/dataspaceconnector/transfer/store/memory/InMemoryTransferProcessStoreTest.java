@@ -144,6 +144,23 @@ class InMemoryTransferProcessStoreTest {
         assertThat(processes).allMatch(p -> p.getStateTimestamp() > 0);
     }
 
+    @Test
+    void verifyNextForState_returnsProcessesOfPartition() {
+        for (int i = 0; i < 20; i++) {
+            TransferProcess process = createProcess("test-process-" + i);
+            process.transitionInitial();
+            store.create(process);
+        }
+
+        var partition0 = store.nextForState(TransferProcessStates.INITIAL.code(), 20, 0, 3);
+        var partition1 = store.nextForState(TransferProcessStates.INITIAL.code(), 20, 1, 3);
+        var partition2 = store.nextForState(TransferProcessStates.INITIAL.code(), 2, 2, 3);
+
+        assertThat(partition0).isNotEmpty().allMatch(p -> Math.floorMod(p.getId().hashCode(), 3) == 0);
+        assertThat(partition1).isNotEmpty().allMatch(p -> Math.floorMod(p.getId().hashCode(), 3) == 1);
+        assertThat(partition2).hasSize(2).allMatch(p -> Math.floorMod(p.getId().hashCode(), 3) == 2);
+    }
+
     @Test
     void verifyNextForState_avoidsStarvation() throws InterruptedException {
         for (int i = 0; i < 10; i++) {
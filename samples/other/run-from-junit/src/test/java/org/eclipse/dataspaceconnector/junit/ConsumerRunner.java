@@ -228,6 +228,7 @@ public class ConsumerRunner {
     void before(EdcExtension extension) {
         IdentityService identityService = mock(IdentityService.class);
         when(identityService.obtainClientCredentials(isA(String.class))).thenReturn(Result.success(US_TOKEN));
+        when(identityService.obtainClientCredentialsAsync(isA(String.class))).thenReturn(CompletableFuture.completedFuture(Result.success(US_TOKEN)));
 
         latch = new CountDownLatch(1);
 
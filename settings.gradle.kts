@@ -192,3 +192,4 @@ include(":system-tests:e2e-transfer-test:data-plane")
 include(":system-tests:runtimes:file-transfer-provider")
 include(":system-tests:runtimes:file-transfer-consumer")
 include(":system-tests:tests")
+include(":system-tests:benchmarks")
@@ -21,6 +21,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -66,6 +67,24 @@ public interface ContractNegotiationStore {
     @NotNull
     List<ContractNegotiation> nextForState(int state, int max);
 
+    /**
+     * Returns the next batch of contract negotiations for the given state that belong to a partition, i.e. whose id
+     * satisfies {@code Math.floorMod(id.hashCode(), partitions) == partition}.
+     * <p>
+     * The default implementation filters the result of {@link #nextForState(int, int)}. Implementations that lease the
+     * returned negotiations must override it, so that the negotiations of the other partitions are not leased.
+     */
+    @NotNull
+    default List<ContractNegotiation> nextForState(int state, int max, int partition, int partitions) {
+        var negotiations = nextForState(state, max);
+        if (partitions == 1) {
+            return negotiations;
+        }
+        return negotiations.stream()
+                .filter(negotiation -> Math.floorMod(negotiation.getId().hashCode(), partitions) == partition)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Finds all contract negotiations that are covered by a specific {@link QuerySpec}. If no {@link QuerySpec#getSortField()}
      * is specified, results are not explicitly sorted.
@@ -149,12 +149,16 @@ public class ContractNegotiation implements TraceCarrier {
     }
 
     /**
-     * Adds a new contract offer to this negotiation.
+     * Adds a new contract offer to this negotiation. The list of offers is replaced instead of being modified in place,
+     * since it may be shared with copies of this negotiation (see {@link #copy()}).
      *
      * @param offer The offer to add.
      */
     public void addContractOffer(ContractOffer offer) {
-        contractOffers.add(offer);
+        var offers = new ArrayList<ContractOffer>(contractOffers.size() + 1);
+        offers.addAll(contractOffers);
+        offers.add(offer);
+        contractOffers = offers;
     }
 
     /**
@@ -346,15 +350,27 @@ public class ContractNegotiation implements TraceCarrier {
     }
 
     /**
-     * Create a copy of this negotiation.
+     * Create a copy of this negotiation. The contract offers, the agreement and the trace context are shared with the
+     * copy, since they are never modified in place by the negotiation itself.
      *
      * @return The copy.
      */
     public ContractNegotiation copy() {
-        return Builder.newInstance().id(id).correlationId(correlationId).counterPartyId(counterPartyId)
-                .counterPartyAddress(counterPartyAddress).protocol(protocol).type(type).state(state).stateCount(stateCount)
-                .stateTimestamp(stateTimestamp).errorDetail(errorDetail).contractAgreement(contractAgreement)
-                .contractOffers(contractOffers).traceContext(traceContext).build();
+        var copy = new ContractNegotiation();
+        copy.id = id;
+        copy.correlationId = correlationId;
+        copy.counterPartyId = counterPartyId;
+        copy.counterPartyAddress = counterPartyAddress;
+        copy.protocol = protocol;
+        copy.type = type;
+        copy.state = state;
+        copy.stateCount = stateCount;
+        copy.stateTimestamp = stateTimestamp;
+        copy.errorDetail = errorDetail;
+        copy.contractAgreement = contractAgreement;
+        copy.contractOffers = contractOffers;
+        copy.traceContext = traceContext;
+        return copy;
     }
 
     /**
@@ -18,9 +18,15 @@ package org.eclipse.dataspaceconnector.spi.iam;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.system.Feature;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Obtains client security tokens from an identity provider.
  * Providers may implement different authorization protocols such as OAuth2.
+ * <p>
+ * The asynchronous variants should be preferred on request threads, as obtaining and verifying tokens may require
+ * calls to remote services. Their default implementations delegate to the synchronous ones in the calling thread,
+ * providers performing remote calls should override them.
  */
 @Feature(IdentityService.FEATURE)
 public interface IdentityService {
@@ -53,4 +59,29 @@ public interface IdentityService {
 
         return verifyJwtToken(tokenRepresentation);
     }
+
+    /**
+     * Obtains a client token encoded as a JWT, without blocking the calling thread on remote calls.
+     */
+    default CompletableFuture<Result<TokenRepresentation>> obtainClientCredentialsAsync(String scope) {
+        try {
+            return CompletableFuture.completedFuture(obtainClientCredentials(scope));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Verifies a JWT bearer token, without blocking the calling thread on remote calls.
+     *
+     * @param tokenRepresentation A token representation including the token to verify.
+     * @return Result of the validation.
+     */
+    default CompletableFuture<Result<ClaimToken>> verifyJwtTokenAsync(TokenRepresentation tokenRepresentation) {
+        try {
+            return CompletableFuture.completedFuture(verifyJwtToken(tokenRepresentation));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
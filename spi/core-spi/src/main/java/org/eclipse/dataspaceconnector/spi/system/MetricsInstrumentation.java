@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.system;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Services for recording application metrics, when available.
+ * <p>
+ * The default implementation does not record anything. Extension
+ * modules can provide implementations, such as for collecting metrics.
+ */
+public interface MetricsInstrumentation {
+
+    /**
+     * Instrumentation that does not record anything, for components created without one.
+     */
+    MetricsInstrumentation NOOP = new MetricsInstrumentation() { };
+
+    /**
+     * Register a gauge that reports the value returned by the supplier every time it is sampled.
+     *
+     * @param name  name of the metric.
+     * @param value supplier of the current value.
+     * @param tags  tags of the metric, as key/value pairs.
+     */
+    default void gauge(String name, Supplier<Number> value, String... tags) {
+    }
+
+    /**
+     * Increment a counter.
+     *
+     * @param name   name of the metric.
+     * @param amount amount to add to the counter.
+     * @param tags   tags of the metric, as key/value pairs.
+     */
+    default void counter(String name, double amount, String... tags) {
+    }
+
+    /**
+     * Record the duration of an event, such as a request or a transfer.
+     *
+     * @param name     name of the metric.
+     * @param duration duration of the event.
+     * @param tags     tags of the metric, as key/value pairs.
+     */
+    default void timer(String name, Duration duration, String... tags) {
+    }
+
+    /**
+     * Record a sample of a distribution, such as the size of a payload.
+     *
+     * @param name   name of the metric.
+     * @param amount value of the sample.
+     * @param tags   tags of the metric, as key/value pairs.
+     */
+    default void summary(String name, double amount, String... tags) {
+    }
+}
@@ -21,6 +21,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -59,6 +60,31 @@ public interface TransferProcessStore {
     @NotNull
     List<TransferProcess> nextForState(int state, int max);
 
+    /**
+     * Returns a list of TransferProcesses that are in a specific state and belong to a partition, i.e. whose id
+     * satisfies {@code Math.floorMod(id.hashCode(), partitions) == partition}, so that every partition of a state
+     * machine can fetch its own processes.
+     * <br/>
+     * The default implementation filters the result of {@link #nextForState(int, int)}. Implementors that lease the
+     * returned processes MUST override it, so that the processes of the other partitions are not leased.
+     *
+     * @param state      The state that the processes of interest should be in.
+     * @param max        The maximum amount of result items.
+     * @param partition  The partition of the processes of interest, between 0 and {@code partitions - 1}.
+     * @param partitions The number of partitions.
+     * @return A list of TransferProcesses (at most _max_) that are in the desired state and partition.
+     */
+    @NotNull
+    default List<TransferProcess> nextForState(int state, int max, int partition, int partitions) {
+        var processes = nextForState(state, max);
+        if (partitions == 1) {
+            return processes;
+        }
+        return processes.stream()
+                .filter(process -> Math.floorMod(process.getId().hashCode(), partitions) == partition)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Creates a transfer process.
      */
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import org.eclipse.dataspaceconnector.spi.telemetry.TraceCarrier;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Instant;
@@ -141,11 +142,28 @@ public class TransferProcess implements TraceCarrier {
         resourceManifest.setTransferProcessId(id);
     }
 
+    /**
+     * Adds a provisioned resource. The resource set is replaced instead of being modified in place, since it may be shared
+     * with copies of this process (see {@link #copy()}).
+     */
     public void addProvisionedResource(ProvisionedResource resource) {
-        if (provisionedResourceSet == null) {
-            provisionedResourceSet = ProvisionedResourceSet.Builder.newInstance().transferProcessId(id).build();
+        var builder = ProvisionedResourceSet.Builder.newInstance().transferProcessId(id);
+        if (provisionedResourceSet != null) {
+            builder.resources(provisionedResourceSet.getResources());
         }
-        provisionedResourceSet.addResource(resource);
+        var resourceSet = builder.build();
+        resourceSet.addResource(resource);
+        provisionedResourceSet = resourceSet;
+    }
+
+    /**
+     * Sets the destination of the data request. The data request is replaced instead of being modified in place, since
+     * it may be shared with copies of this process (see {@link #copy()}).
+     */
+    public void updateDestination(DataAddress destination) {
+        var request = dataRequest.copy(dataRequest.getId());
+        request.updateDestination(destination);
+        dataRequest = request;
     }
 
     public boolean provisioningComplete() {
@@ -267,9 +285,24 @@ public class TransferProcess implements TraceCarrier {
         updateStateTimestamp();
     }
 
+    /**
+     * Creates a snapshot of this process. The snapshot shares the data request, resource manifest, provisioned resource set
+     * and trace context with this process: they are never modified in place by the process itself, so copying them is not
+     * needed and a copy only costs one allocation.
+     */
     public TransferProcess copy() {
-        return Builder.newInstance().id(id).state(state).stateTimestamp(stateTimestamp).stateCount(stateCount).resourceManifest(resourceManifest).dataRequest(dataRequest)
-                .provisionedResourceSet(provisionedResourceSet).traceContext(traceContext).type(type).errorDetail(errorDetail).build();
+        var copy = new TransferProcess();
+        copy.id = id;
+        copy.type = type;
+        copy.state = state;
+        copy.stateCount = stateCount;
+        copy.stateTimestamp = stateTimestamp;
+        copy.traceContext = traceContext;
+        copy.errorDetail = errorDetail;
+        copy.dataRequest = dataRequest;
+        copy.resourceManifest = resourceManifest;
+        copy.provisionedResourceSet = provisionedResourceSet;
+        return copy;
     }
 
     public Builder toBuilder() {
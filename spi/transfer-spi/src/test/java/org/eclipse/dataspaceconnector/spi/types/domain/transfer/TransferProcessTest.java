@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.spi.types.domain.transfer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -64,6 +65,37 @@ class TransferProcessTest {
         assertEquals(process, copy);
     }
 
+    @Test
+    void verifyCopyIsNotAffectedByChangesOnTheOriginal() {
+        TransferProcess process = TransferProcess.Builder.newInstance().id(UUID.randomUUID().toString()).build();
+        process.addProvisionedResource(TestProvisionedResource.Builder.newInstance().id("1").transferProcessId("1").resourceDefinitionId("1").build());
+        TransferProcess copy = process.copy();
+
+        process.addProvisionedResource(TestProvisionedResource.Builder.newInstance().id("2").transferProcessId("1").resourceDefinitionId("2").build());
+        process.transitionInitial();
+
+        assertThat(copy.getState()).isEqualTo(TransferProcessStates.UNSAVED.code());
+        assertThat(copy.getProvisionedResourceSet().getResources()).hasSize(1);
+        assertThat(process.getProvisionedResourceSet().getResources()).hasSize(2);
+        assertThat(copy.getDataRequest()).isSameAs(process.getDataRequest());
+    }
+
+    @Test
+    void verifyCopyIsNotAffectedByDestinationUpdate() {
+        var destination = DataAddress.Builder.newInstance().type("test").build();
+        var dataRequest = DataRequest.Builder.newInstance().id("request").dataDestination(destination).build();
+        TransferProcess process = TransferProcess.Builder.newInstance().id(UUID.randomUUID().toString()).dataRequest(dataRequest).build();
+        TransferProcess copy = process.copy();
+
+        var provisioned = DataAddress.Builder.newInstance().type("provisioned").build();
+        process.updateDestination(provisioned);
+
+        assertThat(process.getDataRequest().getDataDestination()).isSameAs(provisioned);
+        assertThat(process.getDataRequest().getId()).isEqualTo("request");
+        assertThat(process.getDataRequest().getProcessId()).isEqualTo(process.getId());
+        assertThat(copy.getDataRequest().getDataDestination()).isSameAs(destination);
+    }
+
     @Test
     void verifyConsumerTransitions() {
         TransferProcess process = TransferProcess.Builder.newInstance().id(UUID.randomUUID().toString()).type(TransferProcess.Type.CONSUMER).build();
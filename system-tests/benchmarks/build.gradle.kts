@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+import groovy.json.JsonSlurper
+
+plugins {
+    `java-library`
+    id("me.champeau.jmh") version "0.6.6"
+}
+
+val nimbusVersion: String by project
+
+dependencies {
+    jmh(project(":core:contract"))
+    jmh(project(":common:token-validation-lib"))
+    jmh(project(":data-protocols:ids:ids-core"))
+    jmh(project(":data-protocols:ids:ids-transform-v1"))
+    jmh(project(":extensions:in-memory:assetindex-memory"))
+    jmh(project(":extensions:in-memory:contractdefinition-store-memory"))
+    jmh(project(":extensions:in-memory:transfer-store-memory"))
+
+    jmh("com.nimbusds:nimbus-jose-jwt:${nimbusVersion}")
+}
+
+val jmhResults = file("${buildDir}/reports/jmh/results.json")
+val jmhBaseline = file("baseline/results.json")
+
+jmh {
+    jmhVersion.set(project.property("jmhVersion") as String)
+    resultFormat.set("JSON")
+    resultsFile.set(jmhResults)
+    profilers.add("gc")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    // e.g. -PjmhIncludes=PolicyEngineBenchmark to run a subset of the benchmarks
+    if (project.hasProperty("jmhIncludes")) {
+        includes.add(project.property("jmhIncludes") as String)
+    }
+}
+
+// Compares the last JMH run with the baseline results, failing if the average time of a benchmark increased by more than
+// the tolerated ratio (10% by default, see -PjmhTolerance), or if there is no baseline to compare with.
+tasks.register("jmhCompare") {
+    group = "verification"
+    description = "Compares the JMH results with the baseline results."
+    doLast {
+        if (!jmhBaseline.exists()) {
+            throw GradleException("No JMH baseline found at ${jmhBaseline}, run the jmhBaseline task to create one")
+        }
+        if (!jmhResults.exists()) {
+            throw GradleException("No JMH results found at ${jmhResults}, run the jmh task first")
+        }
+        val tolerance = (project.findProperty("jmhTolerance") as String? ?: "0.1").toDouble()
+        val baseline = scores(jmhBaseline)
+        val results = scores(jmhResults)
+        val missing = results.keys - baseline.keys
+        if (missing.isNotEmpty()) {
+            logger.warn("Benchmarks missing from the baseline, not compared:\n" + missing.joinToString("\n"))
+        }
+        val regressions = results.filter { (benchmark, score) ->
+            val previous = baseline[benchmark]
+            previous != null && score > previous * (1 + tolerance)
+        }.map { (benchmark, score) -> "$benchmark: ${baseline[benchmark]} -> $score" }
+
+        if (regressions.isNotEmpty()) {
+            throw GradleException("Benchmark regressions detected:\n" + regressions.joinToString("\n"))
+        }
+    }
+}
+
+tasks.register<Copy>("jmhBaseline") {
+    group = "verification"
+    description = "Replaces the baseline with the JMH results."
+    from(jmhResults)
+    into(jmhBaseline.parentFile)
+}
+
+@Suppress("UNCHECKED_CAST")
+fun scores(file: File): Map<String, Double> {
+    val results = JsonSlurper().parse(file) as List<Map<String, Any>>
+    return results.associate { result ->
+        val benchmark = "${result["benchmark"]}${result["params"] ?: ""}"
+        val primaryMetric = result["primaryMetric"] as Map<String, Any>
+        benchmark to (primaryMetric["score"] as Number).toDouble()
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import org.eclipse.dataspaceconnector.metadata.memory.AssetPredicateConverter;
+import org.eclipse.dataspaceconnector.metadata.memory.InMemoryAssetIndex;
+import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queries the in-memory asset index by id, by a property shared by a group of assets and with a multi-valued criterion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AssetIndexBenchmark {
+
+    private static final int GROUPS = 10;
+
+    @Param({ "100", "1000", "10000" })
+    private int assets;
+
+    private InMemoryAssetIndex assetIndex;
+    private AssetSelectorExpression byId;
+    private AssetSelectorExpression byGroup;
+    private AssetSelectorExpression byGroups;
+
+    @Setup
+    public void setUp() {
+        assetIndex = new InMemoryAssetIndex(new AssetPredicateConverter());
+        for (int i = 0; i < assets; i++) {
+            var asset = Asset.Builder.newInstance().id("asset-" + i).property("group", "group-" + i % GROUPS).build();
+            assetIndex.accept(asset, DataAddress.Builder.newInstance().type("test").build());
+        }
+
+        byId = AssetSelectorExpression.Builder.newInstance().whenEquals(Asset.PROPERTY_ID, "asset-" + assets / 2).build();
+        byGroup = AssetSelectorExpression.Builder.newInstance().whenEquals("group", "group-1").build();
+        byGroups = AssetSelectorExpression.Builder.newInstance().constraint("group", "in", "(group-1, group-2)").build();
+    }
+
+    @Benchmark
+    public long queryById() {
+        return assetIndex.queryAssets(byId).count();
+    }
+
+    @Benchmark
+    public long queryByProperty() {
+        return assetIndex.queryAssets(byGroup).count();
+    }
+
+    @Benchmark
+    public long queryByPropertyIn() {
+        return assetIndex.queryAssets(byGroups).count();
+    }
+}
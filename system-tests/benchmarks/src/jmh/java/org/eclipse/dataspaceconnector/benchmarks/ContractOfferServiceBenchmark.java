@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import org.eclipse.dataspaceconnector.contract.agent.ParticipantAgentServiceImpl;
+import org.eclipse.dataspaceconnector.contract.offer.ContractDefinitionServiceImpl;
+import org.eclipse.dataspaceconnector.contract.offer.ContractOfferServiceImpl;
+import org.eclipse.dataspaceconnector.contract.policy.PolicyEngineImpl;
+import org.eclipse.dataspaceconnector.contractdefinition.store.memory.InMemoryContractDefinitionStore;
+import org.eclipse.dataspaceconnector.metadata.memory.AssetPredicateConverter;
+import org.eclipse.dataspaceconnector.metadata.memory.InMemoryAssetIndex;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferQuery;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the contract offers of the catalog: every contract definition selects a group of assets out of the asset index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContractOfferServiceBenchmark {
+
+    @Param({ "100", "1000", "10000" })
+    private int assets;
+
+    @Param({ "1", "10" })
+    private int definitions;
+
+    private ContractOfferServiceImpl contractOfferService;
+    private ContractOfferQuery query;
+
+    @Setup
+    public void setUp() {
+        var assetIndex = new InMemoryAssetIndex(new AssetPredicateConverter());
+        for (int i = 0; i < assets; i++) {
+            var asset = Asset.Builder.newInstance().id("asset-" + i).property("group", "group-" + i % definitions).build();
+            assetIndex.accept(asset, DataAddress.Builder.newInstance().type("test").build());
+        }
+
+        var definitionStore = new InMemoryContractDefinitionStore();
+        for (int i = 0; i < definitions; i++) {
+            definitionStore.save(ContractDefinition.Builder.newInstance()
+                    .id("definition-" + i)
+                    .accessPolicy(Policy.Builder.newInstance().build())
+                    .contractPolicy(Policy.Builder.newInstance().build())
+                    .selectorExpression(AssetSelectorExpression.Builder.newInstance().whenEquals("group", "group-" + i).build())
+                    .build());
+        }
+
+        var definitionService = new ContractDefinitionServiceImpl(new Monitor() { }, definitionStore, new PolicyEngineImpl());
+        contractOfferService = new ContractOfferServiceImpl(new ParticipantAgentServiceImpl(), definitionService, assetIndex);
+        query = ContractOfferQuery.Builder.newInstance().claimToken(ClaimToken.Builder.newInstance().claim("region", "eu").build()).build();
+    }
+
+    @Benchmark
+    public long queryContractOffers() {
+        return contractOfferService.queryContractOffers(query).count();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import org.eclipse.dataspaceconnector.contract.policy.PolicyEngineImpl;
+import org.eclipse.dataspaceconnector.policy.model.Action;
+import org.eclipse.dataspaceconnector.policy.model.AtomicConstraint;
+import org.eclipse.dataspaceconnector.policy.model.LiteralExpression;
+import org.eclipse.dataspaceconnector.policy.model.Permission;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgent;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.dataspaceconnector.policy.model.Operator.EQ;
+
+/**
+ * Evaluates a policy made of permissions constrained on the region of the participant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PolicyEngineBenchmark {
+
+    @Param({ "1", "10", "100" })
+    private int permissions;
+
+    @Param({ "1", "10" })
+    private int functions;
+
+    private PolicyEngineImpl policyEngine;
+    private Policy policy;
+    private ParticipantAgent agent;
+
+    @Setup
+    public void setUp() {
+        policyEngine = new PolicyEngineImpl();
+        for (int i = 0; i < functions; i++) {
+            policyEngine.registerFunction(Permission.class, "region-" + i, (operator, value, permission, context) ->
+                    value.equals(context.getParticipantAgent().getClaims().get("region")));
+        }
+
+        var builder = Policy.Builder.newInstance();
+        for (int i = 0; i < permissions; i++) {
+            var constraint = AtomicConstraint.Builder.newInstance()
+                    .leftExpression(new LiteralExpression("region-" + i % functions))
+                    .operator(EQ)
+                    .rightExpression(new LiteralExpression("eu"))
+                    .build();
+            builder.permission(Permission.Builder.newInstance()
+                    .target("asset-" + i)
+                    .action(Action.Builder.newInstance().type("USE").build())
+                    .constraint(constraint)
+                    .build());
+        }
+        policy = builder.build();
+        agent = new ParticipantAgent(Map.of("region", "eu"), Map.of());
+    }
+
+    @Benchmark
+    public Result<Policy> evaluate() {
+        return policyEngine.evaluate(policy, agent);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.dataspaceconnector.common.token.TokenValidationRulesRegistryImpl;
+import org.eclipse.dataspaceconnector.common.token.TokenValidationServiceImpl;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates the same signed JWT over and over, as it happens when a participant sends several requests with one token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenValidationServiceBenchmark {
+
+    private static final String KEY_ID = "benchmark-key";
+
+    @Param({ "1", "20" })
+    private int claims;
+
+    private TokenValidationServiceImpl tokenValidationService;
+    private TokenRepresentation token;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        var key = new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+        var publicKey = key.toRSAPublicKey();
+
+        var rulesRegistry = new TokenValidationRulesRegistryImpl();
+        rulesRegistry.addRule((jwt, additional) -> {
+            try {
+                var expiration = jwt.getJWTClaimsSet().getExpirationTime();
+                return expiration != null && expiration.after(new Date()) ? Result.success(jwt) : Result.failure("Token expired");
+            } catch (ParseException e) {
+                return Result.failure("Cannot parse claims");
+            }
+        });
+        tokenValidationService = new TokenValidationServiceImpl(id -> KEY_ID.equals(id) ? publicKey : null, rulesRegistry);
+
+        var claimsSet = new JWTClaimsSet.Builder().expirationTime(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)));
+        for (int i = 0; i < claims; i++) {
+            claimsSet.claim("claim-" + i, "value-" + i);
+        }
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(KEY_ID).build(), claimsSet.build());
+        jwt.sign(new RSASSASigner(key.toPrivateKey()));
+        token = TokenRepresentation.Builder.newInstance().token(jwt.serialize()).build();
+    }
+
+    @Benchmark
+    public Result<ClaimToken> validate() {
+        return tokenValidationService.validate(token);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.transfer.store.memory.InMemoryTransferProcessStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.INITIAL;
+import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.PROVISIONING;
+
+/**
+ * Fetches and updates transfer processes in the in-memory store, as the transfer process state machine does.
+ * Half of the processes are in the state that is fetched, the others in a different one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransferProcessStoreBenchmark {
+
+    @Param({ "100", "10000", "100000" })
+    private int processes;
+
+    @Param({ "5", "100" })
+    private int batchSize;
+
+    private InMemoryTransferProcessStore store;
+    private TransferProcess[] updates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        store = new InMemoryTransferProcessStore();
+        updates = new TransferProcess[processes];
+        for (int i = 0; i < processes; i++) {
+            var dataRequest = DataRequest.Builder.newInstance().id("request-" + i).destinationType("test").build();
+            var process = TransferProcess.Builder.newInstance()
+                    .id("process-" + i)
+                    .state(i % 2 == 0 ? INITIAL.code() : PROVISIONING.code())
+                    .stateTimestamp(i)
+                    .dataRequest(dataRequest)
+                    .build();
+            store.create(process);
+            updates[i] = process;
+        }
+    }
+
+    @Benchmark
+    public List<TransferProcess> nextForState() {
+        return store.nextForState(INITIAL.code(), batchSize);
+    }
+
+    @Benchmark
+    public void update() {
+        store.update(updates[next++ % processes]);
+    }
+}
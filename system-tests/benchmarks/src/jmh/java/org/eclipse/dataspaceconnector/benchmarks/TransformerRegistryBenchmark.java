@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import org.eclipse.dataspaceconnector.ids.core.transform.TransformerRegistryImpl;
+import org.eclipse.dataspaceconnector.ids.transform.ActionToIdsActionTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.AssetToIdsArtifactTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.AssetToIdsRepresentationTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.AssetToIdsResourceTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.CatalogToIdsResourceCatalogTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.ConstraintToIdsConstraintTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.ConstraintToIdsLogicalConstraintTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.ContractOfferToIdsContractOfferTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.DutyToIdsDutyTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.ExpressionToIdsLeftOperandTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.ExpressionToIdsRdfResourceTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.OfferedAssetToIdsResourceTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.OperatorToIdsBinaryOperatorTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.PermissionToIdsPermissionTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.ProhibitionToIdsProhibitionTransformer;
+import org.eclipse.dataspaceconnector.policy.model.Action;
+import org.eclipse.dataspaceconnector.policy.model.Permission;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transforms a catalog into its IDS representation, which is done on every IDS description request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransformerRegistryBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int offers;
+
+    private TransformerRegistryImpl registry;
+    private Catalog catalog;
+
+    @Setup
+    public void setUp() {
+        registry = new TransformerRegistryImpl();
+        List.of(
+                new ActionToIdsActionTransformer(),
+                new AssetToIdsArtifactTransformer(),
+                new AssetToIdsRepresentationTransformer(),
+                new AssetToIdsResourceTransformer(),
+                new CatalogToIdsResourceCatalogTransformer(),
+                new ConstraintToIdsConstraintTransformer(),
+                new ConstraintToIdsLogicalConstraintTransformer(),
+                new ContractOfferToIdsContractOfferTransformer(),
+                new DutyToIdsDutyTransformer(),
+                new ExpressionToIdsLeftOperandTransformer(),
+                new ExpressionToIdsRdfResourceTransformer(),
+                new OfferedAssetToIdsResourceTransformer(),
+                new OperatorToIdsBinaryOperatorTransformer(),
+                new PermissionToIdsPermissionTransformer(),
+                new ProhibitionToIdsProhibitionTransformer()
+        ).forEach(registry::register);
+
+        var contractOffers = new ArrayList<ContractOffer>(offers);
+        for (int i = 0; i < offers; i++) {
+            var asset = Asset.Builder.newInstance().id("asset-" + i).contentType("application/json").build();
+            var permission = Permission.Builder.newInstance()
+                    .target(asset.getId())
+                    .action(Action.Builder.newInstance().type("USE").build())
+                    .build();
+            contractOffers.add(ContractOffer.Builder.newInstance()
+                    .id("offer-" + i)
+                    .asset(asset)
+                    .policy(Policy.Builder.newInstance().permission(permission).build())
+                    .provider(URI.create("urn:connector:provider"))
+                    .consumer(URI.create("urn:connector:consumer"))
+                    .build());
+        }
+        catalog = Catalog.Builder.newInstance().id("catalog").contractOffers(contractOffers).build();
+    }
+
+    @Benchmark
+    public Result<ResourceCatalog> transform() {
+        return registry.transform(catalog, ResourceCatalog.class);
+    }
+}